@@ -0,0 +1,137 @@
+package SantoriniGame.god.baseline;
+
+import SantoriniGame.CommandLineOptions;
+import SantoriniGame.controller.GameController;
+import SantoriniGame.god.Artemis;
+import SantoriniGame.god.Demeter;
+import SantoriniGame.god.God;
+import SantoriniGame.god.PowerStatus;
+import SantoriniGame.god.Triton;
+import SantoriniGame.model.board.Board;
+import SantoriniGame.model.board.BoardTile;
+import SantoriniGame.model.game.GameModel;
+import SantoriniGame.model.game.TurnState;
+import SantoriniGame.model.player.Worker;
+
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * GodRuleBenchmark class - Times the rule-based gods against the hand-written gods they replaced.
+ * Each iteration is what a turn asks of a god after a step: checkActivation, then the move and build tiles
+ * with the power active. Both gods of a pair are timed on the same turn state, in alternating rounds,
+ * and the fastest round of each is reported.
+ *
+ * Run with: java -cp out:bench-out SantoriniGame.god.baseline.GodRuleBenchmark [--iterations=N] [--rounds=N]
+ */
+public class GodRuleBenchmark {
+    private final int iterations;
+    private final int rounds;
+
+    // Kept so the JIT cannot drop the work being timed
+    private long sink;
+
+    /**
+     * Creates a benchmark.
+     *
+     * @param iterations calls of each god per round
+     * @param rounds timed rounds per god
+     */
+    public GodRuleBenchmark(int iterations, int rounds) {
+        this.iterations = iterations;
+        this.rounds = rounds;
+    }
+
+    /**
+     * Times a pair of gods on the same turn state.
+     *
+     * @param handWritten the hand-written god
+     * @param ruleBased the rule-based god
+     * @param turnState the turn state, right after the step the gods' power repeats
+     * @return the fastest round of each, in nanoseconds per iteration, hand-written first
+     */
+    public double[] compare(God handWritten, God ruleBased, TurnState turnState) {
+        // Warm up both, so neither is timed before it is compiled
+        time(handWritten, turnState, iterations / 10);
+        time(ruleBased, turnState, iterations / 10);
+
+        double[] best = {Double.MAX_VALUE, Double.MAX_VALUE};
+        for (int round = 0; round < rounds; round++) {
+            best[0] = Math.min(best[0], time(handWritten, turnState, iterations));
+            best[1] = Math.min(best[1], time(ruleBased, turnState, iterations));
+        }
+        return best;
+    }
+
+    /**
+     * Runs a round of calls to a god.
+     *
+     * @return nanoseconds per iteration
+     */
+    private double time(God god, TurnState turnState, int count) {
+        Worker worker = turnState.getCurrWorker();
+        Board board = turnState.getBoard();
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            god.checkActivation(turnState);
+            sink += god.getPowerStatus().ordinal();
+            sink += god.getValidMoveLocations(worker, board, turnState, PowerStatus.ACTIVE).size();
+            sink += god.getValidBuildLocations(worker, board, turnState, PowerStatus.ACTIVE).size();
+        }
+        return (double) (System.nanoTime() - start) / count;
+    }
+
+    /**
+     * Plays the first player's move in a game, onto the perimeter if possible so Triton's power is offered.
+     *
+     * @param controller the game's controller, at the start of a turn
+     */
+    private static void playMove(GameController controller) {
+        for (Worker worker : controller.getCurrentPlayer().getWorkers()) {
+            controller.handleTileClick(worker.getX(), worker.getY());
+            List<BoardTile> moves = controller.getValidMoves();
+            if (moves.isEmpty()) {
+                controller.deselectWorker();
+                continue;
+            }
+            BoardTile target = moves.get(0);
+            for (BoardTile tile : moves) {
+                if (controller.getModel().getBoard().getGeometry().isPerimeter(tile.getX(), tile.getY())) {
+                    target = tile;
+                }
+            }
+            controller.handleTileClick(target.getX(), target.getY());
+            return;
+        }
+        throw new IllegalStateException("The first player has no legal move.");
+    }
+
+    /**
+     * Runs the benchmark from the command line.
+     *
+     * @param args options of the form --name=value
+     */
+    public static void main(String[] args) {
+        Properties options = CommandLineOptions.parse(args);
+        int iterations = Integer.parseInt(options.getProperty("iterations", "2000000"));
+        int rounds = Integer.parseInt(options.getProperty("rounds", "5"));
+        GodRuleBenchmark benchmark = new GodRuleBenchmark(iterations, rounds);
+
+        // The gods being timed are not part of the game, they only read its turn state
+        GameModel model = new GameModel(new God[] {new Artemis(), new Demeter()}, 5);
+        GameController controller = new GameController(model);
+        playMove(controller);
+        TurnState afterMove = model.getTurnState();
+        report("Artemis", benchmark.compare(new HandWrittenArtemis(), new Artemis(), afterMove));
+        report("Triton", benchmark.compare(new HandWrittenTriton(), new Triton(), afterMove));
+
+        BoardTile build = controller.getValidBuilds().get(0);
+        controller.handleTileClick(build.getX(), build.getY());
+        report("Demeter", benchmark.compare(new HandWrittenDemeter(), new Demeter(), model.getTurnState()));
+        System.out.println("(checksum " + benchmark.sink + ")");
+    }
+
+    private static void report(String god, double[] nanos) {
+        System.out.printf("%-8s hand-written %6.1f ns, rule-based %6.1f ns per iteration%n", god, nanos[0], nanos[1]);
+    }
+}
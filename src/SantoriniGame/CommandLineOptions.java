@@ -0,0 +1,33 @@
+package SantoriniGame;
+
+import java.util.Properties;
+
+/**
+ * CommandLineOptions class - Parses the --name=value options every command-line tool takes.
+ */
+public final class CommandLineOptions {
+
+    /**
+     * Not instantiable.
+     */
+    private CommandLineOptions() { }
+
+    /**
+     * Parses options of the form --name=value. A later option replaces an earlier one of the same name.
+     *
+     * @param args the command-line arguments
+     * @return the value of each option, by name
+     * @throws IllegalArgumentException if an argument is not of the form --name=value
+     */
+    public static Properties parse(String[] args) {
+        Properties options = new Properties();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.setProperty(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        return options;
+    }
+}
@@ -1,12 +1,16 @@
 package SantoriniGame;
 
+import SantoriniGame.metrics.MetricsRegistry;
+import SantoriniGame.metrics.MetricsServer;
 import SantoriniGame.ui.SantoriniMainMenu;
 
 import javax.swing.*;
+import java.io.IOException;
 
 /**
  * Main entry point for Santorini game.
  * Launches the main menu from which players can begin the game.
+ * Set the santorini.metrics.port system property to serve game metrics at http://localhost:port/metrics.
  */
 public class SantoriniGameLauncher {
 
@@ -23,6 +27,17 @@ public class SantoriniGameLauncher {
             System.out.println("Failed to set look and feel: " + e.getMessage());
         }
 
+        // Serve metrics for local scraping if asked to
+        String metricsPort = System.getProperty("santorini.metrics.port");
+        if (metricsPort != null) {
+            try {
+                MetricsServer server = new MetricsServer(MetricsRegistry.global(), Integer.parseInt(metricsPort));
+                System.out.println("Serving metrics at http://localhost:" + server.getPort() + "/metrics");
+            } catch (IOException | NumberFormatException e) {
+                System.out.println("Failed to serve metrics: " + e.getMessage());
+            }
+        }
+
         // Launch the main menu on the Swing Event Dispatch Thread
         SwingUtilities.invokeLater(() -> {
             new SantoriniMainMenu();
@@ -0,0 +1,156 @@
+package SantoriniGame.ai;
+
+import SantoriniGame.controller.GameController;
+import SantoriniGame.model.board.Board;
+import SantoriniGame.model.board.BoardGeometry;
+import SantoriniGame.model.game.GameModel;
+import SantoriniGame.model.game.TurnPlan;
+import SantoriniGame.model.player.Player;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * BotPlayer class - Chooses and plays whole turns for a computer player.
+ * Turns are taken from the opening book when it has the position, so early turns are answered instantly,
+ * and otherwise found by a fixed depth search. Not thread-safe: each bot must be used by one thread at a time.
+ */
+public class BotPlayer {
+    private final SearchEngine engine;
+    private final int depth;
+    private final OpeningBook book;
+
+    private int bookHits;
+    private int searches;
+
+    /**
+     * Creates a bot.
+     *
+     * @param engine search used when the book has no turn
+     * @param depth search depth, in turns
+     * @param book opening book to consult first, or null for none
+     */
+    public BotPlayer(SearchEngine engine, int depth, OpeningBook book) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Search depth must be at least 1.");
+        }
+        this.engine = engine;
+        this.depth = depth;
+        this.book = book;
+    }
+
+    /**
+     * Chooses a turn for the current player. Must be called on the thread that owns the model.
+     *
+     * @param model the game, at the start of a turn
+     * @param random breaks ties between equally good turns
+     * @return the chosen turn, encoded as by Position
+     */
+    public int chooseTurn(GameModel model, Random random) {
+        Position position = Position.capture(model);
+        int[] buffer = new int[position.getMaxTurns()];
+        int[] turns = Arrays.copyOf(buffer, position.generateTurns(buffer));
+        if (turns.length == 0) {
+            throw new IllegalStateException("The current player has no legal turns.");
+        }
+
+        if (book != null) {
+            OpeningBook.Entry entry = book.probe(position, getGodPair(model));
+            // A hash collision could give a turn from another position, so only trust legal turns
+            int bookTurn = entry != null ? findTurn(turns, entry.turn()) : -1;
+            if (bookTurn >= 0) {
+                bookHits++;
+                return bookTurn;
+            }
+        }
+
+        // Shuffled first, so equally good turns are picked at random
+        for (int i = turns.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = turns[i];
+            turns[i] = turns[j];
+            turns[j] = swap;
+        }
+        searches++;
+        engine.setGameId(model.getGameId());
+        return engine.search(position, turns, Position::turnTo, depth, () -> false, result -> { }).bestTurn();
+    }
+
+    /**
+     * Plays a turn in one go through the controller, then ends the turn unless the move won.
+     *
+     * @param controller the game's controller, at the start of a turn
+     * @param turn the turn to play, encoded as by Position
+     */
+    public static void playTurn(GameController controller, int turn) {
+        controller.playTurn(toPlan(controller.getModel().getBoard(), turn));
+    }
+
+    /**
+     * Converts a turn encoded by Position to a plan, dropping the build if the move wins.
+     *
+     * @param board the game's board
+     * @param turn the turn, encoded as by Position
+     * @return the plan
+     */
+    public static TurnPlan toPlan(Board board, int turn) {
+        BoardGeometry geometry = board.getGeometry();
+        int from = Position.turnFrom(turn);
+        int to = Position.turnTo(turn);
+        int fromLevel = board.getTile(geometry.getX(from), geometry.getY(from)).getLevel();
+        int toLevel = board.getTile(geometry.getX(to), geometry.getY(to)).getLevel();
+        if (toLevel == Position.VICTORY_LEVEL && fromLevel < Position.VICTORY_LEVEL) {
+            return TurnPlan.winning(from, to);
+        }
+        return TurnPlan.standard(from, to, Position.turnBuild(turn));
+    }
+
+    /**
+     * Gets the book key of a game's god matchup.
+     *
+     * @param model the game
+     * @return god pair key, or OpeningBook.ANY_GODS if the game does not have exactly two players
+     */
+    public static long getGodPair(GameModel model) {
+        Player[] players = model.getPlayers();
+        if (players.length != 2 || !players[0].hasSelectedGod() || !players[1].hasSelectedGod()) {
+            return OpeningBook.ANY_GODS;
+        }
+        Player team0 = players[0].getTeam().getTeamId() == 0 ? players[0] : players[1];
+        Player team1 = team0 == players[0] ? players[1] : players[0];
+        return OpeningBook.godPair(team0.getSelectedGod().getName(), team1.getSelectedGod().getName());
+    }
+
+    /**
+     * Gets the number of turns taken from the book.
+     *
+     * @return book hit count
+     */
+    public int getBookHits() {
+        return bookHits;
+    }
+
+    /**
+     * Gets the number of turns found by searching.
+     *
+     * @return search count
+     */
+    public int getSearches() {
+        return searches;
+    }
+
+    /**
+     * Finds the legal turn with the same tiles as a book turn.
+     * Teammates are interchangeable, so the book's worker index may name the other worker on the same tile.
+     */
+    private static int findTurn(int[] turns, int bookTurn) {
+        for (int candidate : turns) {
+            if (Position.turnFrom(candidate) == Position.turnFrom(bookTurn)
+                    && Position.turnTo(candidate) == Position.turnTo(bookTurn)
+                    && Position.turnBuild(candidate) == Position.turnBuild(bookTurn)) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+}
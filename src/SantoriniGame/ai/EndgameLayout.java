@@ -0,0 +1,244 @@
+package SantoriniGame.ai;
+
+/**
+ * EndgameLayout class - Numbering of the endgame positions with a given set of undomed tiles.
+ * Domes are never removed, so a position can only reach positions with the same or fewer undomed tiles.
+ * A state is the height of each undomed tile, the pair of tiles of the team to move, and the pair of tiles of
+ * the other team, numbered densely so a tablebase needs no space for impossible worker placements.
+ */
+final class EndgameLayout {
+    /**
+     * Most undomed tiles a layout may have. At 11 a table's 2-bit values take just under 2GB, the most
+     * FileChannel.map can map and an int byte offset can address; at 12 they would take 12GB.
+     */
+    static final int MAX_OPEN_TILES = 11;
+
+    private final int boardSize;
+    private final long mask;
+    private final int openTiles;
+    private final int[] boardTiles;
+    private final int[] localTiles;
+    private final int[][] neighbours;
+    private final int[] powers;
+    private final int moverPairs;
+    private final int otherPairs;
+    private final int[][] moverPairTiles;
+    private final int[][] otherPairTiles;
+
+    /**
+     * Creates the layout for a set of undomed tiles.
+     *
+     * @param boardSize board side
+     * @param mask bit set of undomed tiles, indexed y * size + x
+     */
+    EndgameLayout(int boardSize, long mask) {
+        this.boardSize = boardSize;
+        this.mask = mask;
+        this.openTiles = Long.bitCount(mask);
+        if (openTiles < 4 || openTiles > MAX_OPEN_TILES) {
+            throw new IllegalArgumentException("Endgames need between 4 and " + MAX_OPEN_TILES
+                    + " undomed tiles, not " + openTiles + ".");
+        }
+
+        boardTiles = new int[openTiles];
+        localTiles = new int[boardSize * boardSize];
+        java.util.Arrays.fill(localTiles, -1);
+        int next = 0;
+        for (int tile = 0; tile < boardSize * boardSize; tile++) {
+            if ((mask >>> tile & 1) != 0) {
+                localTiles[tile] = next;
+                boardTiles[next++] = tile;
+            }
+        }
+
+        neighbours = new int[openTiles][];
+        for (int i = 0; i < openTiles; i++) {
+            int x = boardTiles[i] % boardSize;
+            int y = boardTiles[i] / boardSize;
+            int[] found = new int[8];
+            int count = 0;
+            for (int j = 0; j < openTiles; j++) {
+                int dx = Math.abs(boardTiles[j] % boardSize - x);
+                int dy = Math.abs(boardTiles[j] / boardSize - y);
+                if (j != i && dx <= 1 && dy <= 1) {
+                    found[count++] = j;
+                }
+            }
+            neighbours[i] = java.util.Arrays.copyOf(found, count);
+        }
+
+        powers = new int[openTiles + 1];
+        powers[0] = 1;
+        for (int i = 1; i <= openTiles; i++) {
+            powers[i] = powers[i - 1] * 4;
+        }
+
+        moverPairs = openTiles * (openTiles - 1) / 2;
+        otherPairs = (openTiles - 2) * (openTiles - 3) / 2;
+        moverPairTiles = unrankTable(openTiles);
+        otherPairTiles = unrankTable(openTiles - 2);
+    }
+
+    /**
+     * Gets the set of undomed tiles.
+     */
+    long getMask() {
+        return mask;
+    }
+
+    /**
+     * Gets the board side.
+     */
+    int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Gets the number of undomed tiles.
+     */
+    int getOpenTiles() {
+        return openTiles;
+    }
+
+    /**
+     * Gets the number of height combinations, four heights per undomed tile.
+     */
+    int getHeightCount() {
+        return powers[openTiles];
+    }
+
+    /**
+     * Gets the number of states.
+     */
+    long getStateCount() {
+        return (long) getHeightCount() * moverPairs * otherPairs;
+    }
+
+    /**
+     * Gets the number of tile pairs the team to move can stand on.
+     */
+    int getMoverPairs() {
+        return moverPairs;
+    }
+
+    /**
+     * Gets the number of tile pairs the other team can stand on, given the team to move's pair.
+     */
+    int getOtherPairs() {
+        return otherPairs;
+    }
+
+    /**
+     * Gets 4 to the power of n, the weight of local tile n in a height index.
+     */
+    int power(int n) {
+        return powers[n];
+    }
+
+    /**
+     * Gets the undomed neighbours of a local tile.
+     */
+    int[] getNeighbours(int local) {
+        return neighbours[local];
+    }
+
+    /**
+     * Gets the board tile of a local tile.
+     */
+    int getBoardTile(int local) {
+        return boardTiles[local];
+    }
+
+    /**
+     * Gets the local tile of a board tile, or -1 if it is domed.
+     */
+    int getLocalTile(int boardTile) {
+        return localTiles[boardTile];
+    }
+
+    /**
+     * Gets the lower tile of the team to move's pair with the given rank.
+     */
+    int moverLow(int rank) {
+        return moverPairTiles[0][rank];
+    }
+
+    /**
+     * Gets the higher tile of the team to move's pair with the given rank.
+     */
+    int moverHigh(int rank) {
+        return moverPairTiles[1][rank];
+    }
+
+    /**
+     * Gets the lower tile of the other team's pair, skipping the tiles of the team to move.
+     */
+    int otherLow(int rank, int moverLow, int moverHigh) {
+        return expand(otherPairTiles[0][rank], moverLow, moverHigh);
+    }
+
+    /**
+     * Gets the higher tile of the other team's pair, skipping the tiles of the team to move.
+     */
+    int otherHigh(int rank, int moverLow, int moverHigh) {
+        return expand(otherPairTiles[1][rank], moverLow, moverHigh);
+    }
+
+    /**
+     * Numbers a state. Workers of a team may be given in either order.
+     *
+     * @param heights height index, the sum of each local tile's height times power(tile)
+     * @param mover0 a local tile of the team to move
+     * @param mover1 the other local tile of the team to move
+     * @param other0 a local tile of the other team
+     * @param other1 the other local tile of the other team
+     * @return state index
+     */
+    long index(int heights, int mover0, int mover1, int other0, int other1) {
+        int moverLow = Math.min(mover0, mover1);
+        int moverHigh = Math.max(mover0, mover1);
+        int otherLow = compress(Math.min(other0, other1), moverLow, moverHigh);
+        int otherHigh = compress(Math.max(other0, other1), moverLow, moverHigh);
+        return ((long) heights * moverPairs + rank(moverLow, moverHigh, openTiles)) * otherPairs
+                + rank(otherLow, otherHigh, openTiles - 2);
+    }
+
+    /**
+     * Numbers a pair of distinct tiles, low before high, among n tiles.
+     */
+    private static int rank(int low, int high, int n) {
+        return low * (2 * n - low - 1) / 2 + (high - low - 1);
+    }
+
+    /**
+     * Lists the pairs of n tiles in rank order.
+     */
+    private static int[][] unrankTable(int n) {
+        int count = n * (n - 1) / 2;
+        int[][] table = new int[2][count];
+        for (int low = 0; low < n; low++) {
+            for (int high = low + 1; high < n; high++) {
+                int r = rank(low, high, n);
+                table[0][r] = low;
+                table[1][r] = high;
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Numbers a tile among the tiles left once two are taken.
+     */
+    private static int compress(int tile, int takenLow, int takenHigh) {
+        return tile - (tile > takenLow ? 1 : 0) - (tile > takenHigh ? 1 : 0);
+    }
+
+    /**
+     * Reverses compress.
+     */
+    private static int expand(int tile, int takenLow, int takenHigh) {
+        if (tile >= takenLow) tile++;
+        if (tile >= takenHigh) tile++;
+        return tile;
+    }
+}
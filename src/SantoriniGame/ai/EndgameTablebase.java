@@ -0,0 +1,395 @@
+package SantoriniGame.ai;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * EndgameTablebase class - Solved win/loss values of endgames with few undomed tiles, read from disk.
+ * Each set of undomed tiles has its own table of 2 bit values, packed into longs, in a data file.
+ * An index file lists each table's tile set and offset. Tables are appended whole and indexed only once written,
+ * so a generator that is stopped loses at most the table it was writing.
+ * Tables are memory mapped when first probed, and probing only reads them, so any number of threads can probe.
+ *
+ * Values are from the point of view of the team to move, for two teams taking turns under the standard rules.
+ */
+public class EndgameTablebase {
+    /**
+     * Directory tablebases are loaded from by default, in the working directory.
+     */
+    public static final Path DEFAULT_DIRECTORY = Path.of("tablebase");
+
+    /**
+     * Value of a state that is not in the tablebase.
+     */
+    public static final int UNKNOWN = 0;
+
+    /**
+     * Value of a state the team to move wins.
+     */
+    public static final int WIN = 1;
+
+    /**
+     * Value of a state the team to move loses.
+     */
+    public static final int LOSS = 2;
+
+    private static final String INDEX_FILE = "tablebase.idx";
+    private static final String DATA_FILE = "tablebase.dat";
+    private static final int MAGIC = 0x53544231; // "STB1"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 12;
+    private static final int RECORD_SIZE = 24;
+
+    /**
+     * A solved table of 2 bit values, one per state of a layout.
+     */
+    interface Table {
+        /**
+         * Gets a state's value.
+         *
+         * @param index state index from the layout
+         * @return WIN, LOSS or UNKNOWN
+         */
+        int get(long index);
+    }
+
+    /**
+     * Table being solved, held in memory and written to by many threads.
+     */
+    static final class SolvingTable implements Table {
+        private final AtomicLongArray words;
+
+        SolvingTable(long states) {
+            words = new AtomicLongArray((int) ((states + 31) / 32));
+        }
+
+        @Override
+        public int get(long index) {
+            return (int) (words.get((int) (index >>> 5)) >>> ((index & 31) << 1)) & 3;
+        }
+
+        /**
+         * Sets a state's value. States sharing a word may be set by other threads at the same time.
+         */
+        void set(long index, int value) {
+            int word = (int) (index >>> 5);
+            long bits = (long) value << ((index & 31) << 1);
+            long previous;
+            do {
+                previous = words.get(word);
+            } while (!words.compareAndSet(word, previous, previous | bits));
+        }
+
+        int wordCount() {
+            return words.length();
+        }
+
+        long word(int i) {
+            return words.get(i);
+        }
+    }
+
+    /**
+     * Table read from the data file.
+     */
+    private static final class MappedTable implements Table {
+        private final ByteBuffer buffer;
+
+        MappedTable(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int get(long index) {
+            return (int) (buffer.getLong((int) (index >>> 5) << 3) >>> ((index & 31) << 1)) & 3;
+        }
+    }
+
+    /**
+     * Where a table is in the data file.
+     */
+    private record TableLocation(long offset, long states) {
+    }
+
+    private final Path directory;
+    private final int boardSize;
+    private final Map<Long, TableLocation> locations = new ConcurrentHashMap<>();
+    private final Map<Long, Table> tables = new ConcurrentHashMap<>();
+    private final Map<Long, EndgameLayout> layouts = new ConcurrentHashMap<>();
+    private final FileChannel data;
+    private volatile int maxOpenTiles;
+
+    private EndgameTablebase(Path directory, int boardSize, FileChannel data) {
+        this.directory = directory;
+        this.boardSize = boardSize;
+        this.data = data;
+    }
+
+    /**
+     * Opens a tablebase directory, creating it if needed. Anything written after the last indexed table, left by
+     * a generator that was stopped, is discarded.
+     *
+     * @param directory the tablebase directory
+     * @param boardSize board side the tablebase is for, checked against an existing tablebase
+     * @return the tablebase
+     * @throws IOException if the files cannot be read or created
+     */
+    public static EndgameTablebase open(Path directory, int boardSize) throws IOException {
+        Files.createDirectories(directory);
+        Path indexFile = directory.resolve(INDEX_FILE);
+        if (!Files.exists(indexFile)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).putInt(boardSize).flip();
+            try (FileChannel index = FileChannel.open(indexFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                index.write(header);
+                index.force(true);
+            }
+        }
+
+        FileChannel data = FileChannel.open(directory.resolve(DATA_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try (FileChannel index = FileChannel.open(indexFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            index.read(header, 0);
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IllegalArgumentException(indexFile + " is not a tablebase index.");
+            }
+            int storedSize = header.getInt();
+            if (storedSize != boardSize) {
+                throw new IllegalArgumentException(directory + " holds a " + storedSize + "x" + storedSize + " tablebase.");
+            }
+
+            EndgameTablebase tablebase = new EndgameTablebase(directory, boardSize, data);
+            long records = (index.size() - HEADER_SIZE) / RECORD_SIZE;
+            ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+            long dataEnd = 0;
+            for (long i = 0; i < records; i++) {
+                record.clear();
+                index.read(record, HEADER_SIZE + i * RECORD_SIZE);
+                record.flip();
+                long mask = record.getLong();
+                long offset = record.getLong();
+                long states = record.getLong();
+                long end = offset + wordsFor(states) * 8L;
+                if (end > data.size()) {
+                    records = i;
+                    break;
+                }
+                tablebase.addLocation(mask, new TableLocation(offset, states));
+                dataEnd = Math.max(dataEnd, end);
+            }
+
+            // Drop a partly written record or table
+            index.truncate(HEADER_SIZE + records * RECORD_SIZE);
+            data.truncate(dataEnd);
+            return tablebase;
+        }
+    }
+
+    /**
+     * Opens DEFAULT_DIRECTORY for 5x5 boards if it exists.
+     *
+     * @return the tablebase, or null if there is no usable tablebase
+     */
+    public static EndgameTablebase openDefault() {
+        if (!Files.isRegularFile(DEFAULT_DIRECTORY.resolve(INDEX_FILE))) {
+            return null;
+        }
+        try {
+            return open(DEFAULT_DIRECTORY, 5);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Could not open " + DEFAULT_DIRECTORY + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Looks up a position.
+     *
+     * @param position the position, with the team to move
+     * @return WIN or LOSS for the team to move, or UNKNOWN if the position is not in the tablebase
+     */
+    public int probe(Position position) {
+        if (!position.getGeometry().isSquare() || position.getWidth() != boardSize || position.getWorkerCount() != 4 || !position.isAlternating()) {
+            return UNKNOWN;
+        }
+
+        // Quick rejection before building the mask, as most positions have too many undomed tiles
+        int tiles = boardSize * boardSize;
+        int domes = 0;
+        for (int tile = 0; tile < tiles; tile++) {
+            if (position.getHeight(tile) == Position.DOME) domes++;
+        }
+        if (tiles - domes > maxOpenTiles) {
+            return UNKNOWN;
+        }
+
+        long mask = 0;
+        for (int tile = 0; tile < tiles; tile++) {
+            if (position.getHeight(tile) != Position.DOME) mask |= 1L << tile;
+        }
+        Table table = getTable(mask);
+        if (table == null) {
+            return UNKNOWN;
+        }
+
+        EndgameLayout layout = getLayout(mask);
+        int heights = 0;
+        for (int local = 0; local < layout.getOpenTiles(); local++) {
+            heights += position.getHeight(layout.getBoardTile(local)) * layout.power(local);
+        }
+        int moverTeam = position.getTeamToMove();
+        int[] mover = new int[2];
+        int[] other = new int[2];
+        int moverCount = 0;
+        int otherCount = 0;
+        for (int w = 0; w < 4; w++) {
+            int local = layout.getLocalTile(position.getWorkerTile(w));
+            if (position.getWorkerTeam(w) == moverTeam) {
+                if (moverCount == 2) return UNKNOWN;
+                mover[moverCount++] = local;
+            } else {
+                if (otherCount == 2) return UNKNOWN;
+                other[otherCount++] = local;
+            }
+        }
+        return table.get(layout.index(heights, mover[0], mover[1], other[0], other[1]));
+    }
+
+    /**
+     * Checks if a set of undomed tiles has been solved.
+     *
+     * @param mask bit set of undomed tiles
+     * @return true if its table is stored
+     */
+    public boolean contains(long mask) {
+        return locations.containsKey(mask);
+    }
+
+    /**
+     * Gets the number of solved tables.
+     *
+     * @return table count
+     */
+    public int getTableCount() {
+        return locations.size();
+    }
+
+    /**
+     * Gets the board side the tablebase is for.
+     *
+     * @return board size
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Gets the directory the tablebase is stored in.
+     *
+     * @return directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Gets a stored table, mapping it on first use.
+     *
+     * @param mask bit set of undomed tiles
+     * @return the table, or null if it is not stored
+     */
+    Table getTable(long mask) {
+        Table table = tables.get(mask);
+        if (table != null || !locations.containsKey(mask)) {
+            return table;
+        }
+        return tables.computeIfAbsent(mask, m -> {
+            TableLocation location = locations.get(m);
+            try {
+                return new MappedTable(data.map(FileChannel.MapMode.READ_ONLY, location.offset(),
+                        wordsFor(location.states()) * 8L));
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not map tablebase table " + Long.toHexString(m) + ".", e);
+            }
+        });
+    }
+
+    /**
+     * Gets the layout of a set of undomed tiles.
+     *
+     * @param mask bit set of undomed tiles
+     * @return the layout
+     */
+    EndgameLayout getLayout(long mask) {
+        return layouts.computeIfAbsent(mask, m -> new EndgameLayout(boardSize, m));
+    }
+
+    /**
+     * Appends a solved table and indexes it.
+     *
+     * @param mask bit set of undomed tiles
+     * @param table the solved values
+     * @param states number of states in the table
+     * @throws IOException if the table cannot be written
+     */
+    synchronized void append(long mask, SolvingTable table, long states) throws IOException {
+        if (contains(mask)) {
+            return;
+        }
+        long offset = data.size();
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        long position = offset;
+        for (int i = 0; i < table.wordCount(); i++) {
+            if (!buffer.hasRemaining()) {
+                position += writeFully(buffer.flip(), position);
+                buffer.clear();
+            }
+            buffer.putLong(table.word(i));
+        }
+        writeFully(buffer.flip(), position);
+        data.force(false);
+
+        // Only indexed once the data is safely written
+        try (FileChannel index = FileChannel.open(directory.resolve(INDEX_FILE), StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            index.write(ByteBuffer.allocate(RECORD_SIZE).putLong(mask).putLong(offset).putLong(states).flip());
+            index.force(false);
+        }
+        addLocation(mask, new TableLocation(offset, states));
+        tables.put(mask, table);
+    }
+
+    /**
+     * Records where a table is and widens the quick rejection check.
+     */
+    private void addLocation(long mask, TableLocation location) {
+        locations.put(mask, location);
+        maxOpenTiles = Math.max(maxOpenTiles, Long.bitCount(mask));
+    }
+
+    /**
+     * Writes a whole buffer to the data file.
+     */
+    private long writeFully(ByteBuffer buffer, long position) throws IOException {
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written += data.write(buffer, position + written);
+        }
+        return written;
+    }
+
+    /**
+     * Gets the number of longs holding a table's values, 32 per long.
+     */
+    private static long wordsFor(long states) {
+        return (states + 31) / 32;
+    }
+}
@@ -0,0 +1,39 @@
+package SantoriniGame.ai;
+
+/**
+ * EvaluationFeature enumeration. Measures the evaluation weighs, each counted per worker and scored as the
+ * team's total less the opponents'.
+ */
+public enum EvaluationFeature {
+    HEIGHT("height", 100),              // Level the worker stands on
+    MOBILITY("mobility", 8),            // Tiles the worker can move to
+    CLIMB_THREAT("climbThreat", 150),   // Free level 3 tiles next to a worker on level 2
+    DOME_CONTROL("domeControl", -12),   // Domes next to the worker, hemming it in
+    CENTRE("centre", 10);               // Closeness to the centre of the board
+
+    private final String key;
+    private final int defaultWeight;
+
+    EvaluationFeature(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    /**
+     * Gets the name used for this feature in weight files.
+     *
+     * @return property key suffix
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Gets the weight used when none is configured.
+     *
+     * @return default weight
+     */
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+}
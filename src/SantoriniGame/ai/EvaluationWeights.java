@@ -0,0 +1,168 @@
+package SantoriniGame.ai;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * EvaluationWeights class - Immutable weight for each EvaluationFeature.
+ * Weights are read from and written to properties files, one "weight.feature" key per feature,
+ * so they can be tuned outside the game and loaded without rebuilding.
+ */
+public final class EvaluationWeights {
+    /**
+     * File weights are loaded from by default, in the working directory.
+     */
+    public static final Path DEFAULT_FILE = Path.of("evaluation.properties");
+
+    private static final String KEY_PREFIX = "weight.";
+
+    private static final EvaluationWeights DEFAULTS = new EvaluationWeights(Arrays.stream(EvaluationFeature.values())
+            .mapToInt(EvaluationFeature::getDefaultWeight)
+            .toArray());
+
+    private final int[] weights;
+
+    private EvaluationWeights(int[] weights) {
+        this.weights = weights;
+    }
+
+    /**
+     * Gets the built in weights.
+     *
+     * @return default weights
+     */
+    public static EvaluationWeights defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Creates weights from an array ordered like EvaluationFeature.values().
+     *
+     * @param weights one weight per feature
+     * @return the weights
+     */
+    public static EvaluationWeights of(int[] weights) {
+        if (weights.length != EvaluationFeature.values().length) {
+            throw new IllegalArgumentException("Expected " + EvaluationFeature.values().length + " weights.");
+        }
+        return new EvaluationWeights(weights.clone());
+    }
+
+    /**
+     * Loads weights from a properties file. Features missing from the file keep their default weight.
+     *
+     * @param file the file to read
+     * @return the weights
+     * @throws IOException if the file cannot be read
+     */
+    public static EvaluationWeights load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        int[] weights = DEFAULTS.toArray();
+        for (EvaluationFeature feature : EvaluationFeature.values()) {
+            String value = properties.getProperty(KEY_PREFIX + feature.getKey());
+            if (value == null) continue;
+            try {
+                weights[feature.ordinal()] = Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid weight for " + feature.getKey() + ": " + value);
+            }
+        }
+        return new EvaluationWeights(weights);
+    }
+
+    /**
+     * Loads weights from DEFAULT_FILE if it exists, otherwise uses the defaults.
+     *
+     * @return the weights
+     */
+    public static EvaluationWeights loadDefault() {
+        if (!Files.isRegularFile(DEFAULT_FILE)) {
+            return DEFAULTS;
+        }
+        try {
+            return load(DEFAULT_FILE);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Could not load " + DEFAULT_FILE + ", using default weights: " + e.getMessage());
+            return DEFAULTS;
+        }
+    }
+
+    /**
+     * Saves these weights to a properties file.
+     *
+     * @param file the file to write
+     * @param comment comment written at the top of the file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file, String comment) throws IOException {
+        Properties properties = new Properties();
+        for (EvaluationFeature feature : EvaluationFeature.values()) {
+            properties.setProperty(KEY_PREFIX + feature.getKey(), String.valueOf(get(feature)));
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            properties.store(writer, comment);
+        }
+    }
+
+    /**
+     * Gets a feature's weight.
+     *
+     * @param feature the feature
+     * @return its weight
+     */
+    public int get(EvaluationFeature feature) {
+        return weights[feature.ordinal()];
+    }
+
+    /**
+     * Creates a copy with one weight changed.
+     *
+     * @param feature the feature to change
+     * @param weight its new weight
+     * @return the new weights
+     */
+    public EvaluationWeights with(EvaluationFeature feature, int weight) {
+        int[] copy = weights.clone();
+        copy[feature.ordinal()] = weight;
+        return new EvaluationWeights(copy);
+    }
+
+    /**
+     * Gets the weights as an array ordered like EvaluationFeature.values().
+     *
+     * @return a copy of the weights
+     */
+    public int[] toArray() {
+        return weights.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof EvaluationWeights other && Arrays.equals(weights, other.weights);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(weights);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (EvaluationFeature feature : EvaluationFeature.values()) {
+            if (builder.length() > 0) builder.append(", ");
+            builder.append(feature.getKey()).append('=').append(get(feature));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,45 @@
+package SantoriniGame.ai;
+
+/**
+ * Evaluator interface - Scores positions for the search.
+ * Following the Strategy pattern, the search can be given any evaluation.
+ * Evaluators that keep scores up to date as turns are made and unmade override the notification methods,
+ * which the search calls around every turn it plays.
+ */
+public interface Evaluator {
+    /**
+     * Scores a position from one team's point of view.
+     * Scores must stay well inside SearchEngine.WIN_SCORE, which is reserved for won games.
+     *
+     * @param position the position to score
+     * @param teamId the team to score for
+     * @return positive if the team is better off, negative if worse
+     */
+    int evaluate(Position position, int teamId);
+
+    /**
+     * Called when a search starts on a position.
+     *
+     * @param position the position about to be searched
+     */
+    default void reset(Position position) {
+    }
+
+    /**
+     * Called after a turn is made on the searched position.
+     *
+     * @param position the position, with the turn made
+     * @param turn the turn made
+     */
+    default void turnMade(Position position, int turn) {
+    }
+
+    /**
+     * Called after a turn is unmade on the searched position.
+     *
+     * @param position the position, with the turn taken back
+     * @param turn the turn taken back
+     */
+    default void turnUnmade(Position position, int turn) {
+    }
+}
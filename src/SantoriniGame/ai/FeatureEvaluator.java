@@ -0,0 +1,183 @@
+package SantoriniGame.ai;
+
+import SantoriniGame.model.board.BoardGeometry;
+
+/**
+ * FeatureEvaluator class - Scores positions by a weighted sum of EvaluationFeatures.
+ * Every feature only depends on a worker's tile and its neighbours, so each worker's terms are cached and only the
+ * workers next to a changed tile are rescored. Making or unmaking a turn costs a few neighbourhood scans,
+ * and scoring a position just sums the cached terms, however big the board is.
+ * Not thread-safe: each search thread needs its own evaluator.
+ */
+public class FeatureEvaluator implements Evaluator {
+    private static final int FEATURE_COUNT = EvaluationFeature.values().length;
+
+    private final EvaluationWeights weights;
+    private final int[] weightArray;
+
+    // Position the cached terms belong to, and each worker's raw features and weighted score
+    private Position position;
+    private int[][] workerFeatures = new int[0][];
+    private int[] workerScores = new int[0];
+
+    /**
+     * Creates an evaluator with the built in weights.
+     */
+    public FeatureEvaluator() {
+        this(EvaluationWeights.defaults());
+    }
+
+    /**
+     * Creates an evaluator.
+     *
+     * @param weights weight of each feature
+     */
+    public FeatureEvaluator(EvaluationWeights weights) {
+        this.weights = weights;
+        this.weightArray = weights.toArray();
+    }
+
+    /**
+     * Gets the weights this evaluator scores with.
+     *
+     * @return the weights
+     */
+    public EvaluationWeights getWeights() {
+        return weights;
+    }
+
+    @Override
+    public int evaluate(Position position, int teamId) {
+        if (position != this.position) {
+            reset(position);
+        }
+        int score = 0;
+        for (int w = 0; w < workerScores.length; w++) {
+            score += position.getWorkerTeam(w) == teamId ? workerScores[w] : -workerScores[w];
+        }
+        return score;
+    }
+
+    /**
+     * Gets the unweighted feature totals of a position, the team's less the opponents', for tuning weights.
+     *
+     * @param position the position to measure
+     * @param teamId the team to measure for
+     * @return one total per feature, ordered like EvaluationFeature.values()
+     */
+    public int[] getFeatureTotals(Position position, int teamId) {
+        if (position != this.position) {
+            reset(position);
+        }
+        int[] totals = new int[FEATURE_COUNT];
+        for (int w = 0; w < workerFeatures.length; w++) {
+            int sign = position.getWorkerTeam(w) == teamId ? 1 : -1;
+            for (int f = 0; f < FEATURE_COUNT; f++) {
+                totals[f] += sign * workerFeatures[w][f];
+            }
+        }
+        return totals;
+    }
+
+    @Override
+    public void reset(Position position) {
+        this.position = position;
+        int workers = position.getWorkerCount();
+        if (workerScores.length != workers) {
+            workerFeatures = new int[workers][FEATURE_COUNT];
+            workerScores = new int[workers];
+        }
+        for (int w = 0; w < workers; w++) {
+            scoreWorker(w);
+        }
+    }
+
+    @Override
+    public void turnMade(Position position, int turn) {
+        tilesChanged(position, Position.turnFrom(turn), Position.turnTo(turn), Position.turnBuild(turn));
+    }
+
+    @Override
+    public void turnUnmade(Position position, int turn) {
+        tilesChanged(position, Position.turnFrom(turn), Position.turnTo(turn), Position.turnBuild(turn));
+    }
+
+    /**
+     * Rescores the workers on or next to changed tiles.
+     *
+     * @param position the position, after the change
+     * @param a a changed tile
+     * @param b a changed tile, or -1
+     * @param c a changed tile, or -1
+     */
+    public void tilesChanged(Position position, int a, int b, int c) {
+        if (position != this.position) {
+            reset(position);
+            return;
+        }
+        int width = position.getWidth();
+        for (int w = 0; w < workerScores.length; w++) {
+            int tile = position.getWorkerTile(w);
+            if (tile >= 0 && (isNear(tile, a, width) || isNear(tile, b, width) || isNear(tile, c, width))) {
+                scoreWorker(w);
+            }
+        }
+    }
+
+    /**
+     * Measures a worker's features and caches its weighted score.
+     */
+    private void scoreWorker(int worker) {
+        int[] features = workerFeatures[worker];
+        int tile = position.getWorkerTile(worker);
+        if (tile < 0) {
+            java.util.Arrays.fill(features, 0);
+            workerScores[worker] = 0;
+            return;
+        }
+
+        int height = position.getHeight(tile);
+        int mobility = 0;
+        int threats = 0;
+        int domes = 0;
+        for (int neighbour : position.getNeighbours(tile)) {
+            if (neighbour < 0) continue;
+            int neighbourHeight = position.getHeight(neighbour);
+            if (neighbourHeight == Position.DOME) {
+                domes++;
+            } else if (position.getOccupant(neighbour) < 0 && neighbourHeight <= height + 1) {
+                mobility++;
+                if (height == Position.VICTORY_LEVEL - 1 && neighbourHeight == Position.VICTORY_LEVEL) {
+                    threats++;
+                }
+            }
+        }
+
+        // Distance from the centre in half tiles, so even sized boards have a centre too
+        BoardGeometry geometry = position.getGeometry();
+        int columns = geometry.getWidth();
+        int rows = geometry.getHeight();
+        int distance = Math.max(Math.abs(2 * geometry.getX(tile) - (columns - 1)),
+                Math.abs(2 * geometry.getY(tile) - (rows - 1)));
+
+        features[EvaluationFeature.HEIGHT.ordinal()] = height;
+        features[EvaluationFeature.MOBILITY.ordinal()] = mobility;
+        features[EvaluationFeature.CLIMB_THREAT.ordinal()] = threats;
+        features[EvaluationFeature.DOME_CONTROL.ordinal()] = domes;
+        features[EvaluationFeature.CENTRE.ordinal()] = (Math.max(columns, rows) - 1) - distance;
+
+        int score = 0;
+        for (int f = 0; f < FEATURE_COUNT; f++) {
+            score += weightArray[f] * features[f];
+        }
+        workerScores[worker] = score;
+    }
+
+    /**
+     * Checks if a worker's tile is on or next to a changed tile.
+     */
+    private static boolean isNear(int tile, int changed, int width) {
+        if (changed < 0) return false;
+        return Math.abs(tile % width - changed % width) <= 1 && Math.abs(tile / width - changed / width) <= 1;
+    }
+}
@@ -0,0 +1,111 @@
+package SantoriniGame.ai;
+
+import SantoriniGame.model.action.Action;
+import SantoriniGame.model.action.BuildAction;
+import SantoriniGame.model.action.MoveAction;
+import SantoriniGame.model.board.BoardTile;
+import SantoriniGame.model.game.GameModel;
+import SantoriniGame.model.game.TurnStateListener;
+import SantoriniGame.model.player.Team;
+
+/**
+ * GameEvaluation class - Keeps a running evaluation of a live game.
+ * Listens to applied actions and passes each MoveAction and BuildAction on to a FeatureEvaluator,
+ * so only the workers next to the changed tiles are rescored rather than the whole board.
+ * Must be used on the thread that owns the model.
+ */
+public class GameEvaluation implements TurnStateListener {
+    private final GameModel model;
+    private final FeatureEvaluator evaluator;
+    private Position position;
+
+    // Set when a team is removed, as the position is then captured again
+    private boolean stale;
+
+    /**
+     * Creates an evaluation of a game and starts listening to its actions.
+     *
+     * @param model the game to evaluate
+     * @param evaluator the evaluator to score with
+     */
+    public GameEvaluation(GameModel model, FeatureEvaluator evaluator) {
+        this.model = model;
+        this.evaluator = evaluator;
+        this.position = Position.capture(model);
+        evaluator.reset(position);
+        model.getTurnState().addListener(this);
+    }
+
+    /**
+     * Gets the current score of the game.
+     *
+     * @param teamId the team to score for
+     * @return positive if the team is better off, negative if worse
+     */
+    public int getScore(int teamId) {
+        return evaluator.evaluate(getPosition(), teamId);
+    }
+
+    /**
+     * Gets the current unweighted feature totals of the game.
+     *
+     * @param teamId the team to measure for
+     * @return one total per feature, ordered like EvaluationFeature.values()
+     */
+    public int[] getFeatureTotals(int teamId) {
+        return evaluator.getFeatureTotals(getPosition(), teamId);
+    }
+
+    /**
+     * Gets the position being evaluated. Only the board is kept up to date, not whose turn it is.
+     *
+     * @return the position
+     */
+    public Position getPosition() {
+        if (stale) {
+            position = Position.capture(model);
+            evaluator.reset(position);
+            stale = false;
+        }
+        return position;
+    }
+
+    /**
+     * Stops listening to the game.
+     */
+    public void detach() {
+        model.getTurnState().removeListener(this);
+    }
+
+    @Override
+    public void onActionApplied(Action action) {
+        if (stale) {
+            return;
+        }
+        int width = position.getWidth();
+        if (action instanceof MoveAction moveAction) {
+            int from = tileIndex(moveAction.getStart(), width);
+            int to = tileIndex(moveAction.getDestination(), width);
+            position.moveWorker(from, to);
+            evaluator.tilesChanged(position, from, to, -1);
+        } else if (action instanceof BuildAction buildAction) {
+            BoardTile tile = buildAction.getBuildLocation();
+            int index = tileIndex(tile, width);
+            position.setHeight(index, tile.hasDome() ? Position.DOME : tile.getLevel());
+            evaluator.tilesChanged(position, index, -1, -1);
+        }
+    }
+
+    @Override
+    public void onTeamRemoved(Team team) {
+        // Workers leave the board after this call, so capture the board again when next asked
+        stale = true;
+    }
+
+    /**
+     * Gets the position's index for a board tile.
+     */
+    private static int tileIndex(BoardTile tile, int width) {
+        return tile.getY() * width + tile.getX();
+    }
+}
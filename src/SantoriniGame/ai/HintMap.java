@@ -0,0 +1,161 @@
+package SantoriniGame.ai;
+
+import SantoriniGame.model.board.BoardGeometry;
+
+import java.util.Arrays;
+
+/**
+ * HintMap class - Heat map of how good each candidate tile is, from one completed search depth.
+ * Heat runs from 0 for the worst candidate to 1 for the best. Tiles that win are always 1 and tiles that lose are
+ * always 0, with everything else spread between.
+ */
+public class HintMap {
+    // Range used for candidates that neither win nor lose
+    private static final float MIN_OPEN_HEAT = 0.2f;
+    private static final float MAX_OPEN_HEAT = 0.8f;
+
+    private final float[][] heat;
+    private final int depth;
+    private final int bestX;
+    private final int bestY;
+    private final boolean winning;
+    private final long nodes;
+
+    private HintMap(float[][] heat, int depth, int bestX, int bestY, boolean winning, long nodes) {
+        this.heat = heat;
+        this.depth = depth;
+        this.bestX = bestX;
+        this.bestY = bestY;
+        this.winning = winning;
+        this.nodes = nodes;
+    }
+
+    /**
+     * Builds a heat map from a search result, scoring each tile by its best turn.
+     *
+     * @param request the request searched
+     * @param result a completed search depth
+     * @return the heat map
+     */
+    public static HintMap of(HintRequest request, SearchResult result) {
+        BoardGeometry geometry = request.position().getGeometry();
+        int[] tileScores = new int[geometry.getTileCount()];
+        boolean[] candidate = new boolean[geometry.getTileCount()];
+        Arrays.fill(tileScores, Integer.MIN_VALUE);
+
+        // Turns are sorted best first, so the first turn seen for each tile is its best
+        for (int i = 0; i < result.turns().length; i++) {
+            int tile = request.hintTile(result.turns()[i]);
+            if (!candidate[tile]) {
+                candidate[tile] = true;
+                tileScores[tile] = result.scores()[i];
+            }
+        }
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int tile = 0; tile < tileScores.length; tile++) {
+            int score = tileScores[tile];
+            if (candidate[tile] && !SearchResult.isWin(score) && !SearchResult.isLoss(score)) {
+                min = Math.min(min, score);
+                max = Math.max(max, score);
+            }
+        }
+
+        float[][] heat = new float[geometry.getWidth()][geometry.getHeight()];
+        for (int tile = 0; tile < tileScores.length; tile++) {
+            int score = tileScores[tile];
+            float value;
+            if (!candidate[tile]) {
+                value = Float.NaN;
+            } else if (SearchResult.isWin(score)) {
+                value = 1f;
+            } else if (SearchResult.isLoss(score)) {
+                value = 0f;
+            } else if (max == min) {
+                value = MAX_OPEN_HEAT;
+            } else {
+                value = MIN_OPEN_HEAT + (MAX_OPEN_HEAT - MIN_OPEN_HEAT) * (score - min) / (float) (max - min);
+            }
+            heat[geometry.getX(tile)][geometry.getY(tile)] = value;
+        }
+
+        int bestTile = request.hintTile(result.bestTurn());
+        return new HintMap(heat, result.depth(), geometry.getX(bestTile), geometry.getY(bestTile),
+                SearchResult.isWin(result.bestScore()), result.nodes());
+    }
+
+    /**
+     * Gets the heat of a tile.
+     *
+     * @param x X-coordinate
+     * @param y Y-coordinate
+     * @return heat from 0 to 1, or NaN if the tile is not a candidate
+     */
+    public float getHeat(int x, int y) {
+        return heat[x][y];
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return board width
+     */
+    public int getWidth() {
+        return heat.length;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return board height
+     */
+    public int getHeight() {
+        return heat[0].length;
+    }
+
+    /**
+     * Gets the depth searched.
+     *
+     * @return depth in turns
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Gets the X-coordinate of the best tile.
+     *
+     * @return X-coordinate
+     */
+    public int getBestX() {
+        return bestX;
+    }
+
+    /**
+     * Gets the Y-coordinate of the best tile.
+     *
+     * @return Y-coordinate
+     */
+    public int getBestY() {
+        return bestY;
+    }
+
+    /**
+     * Checks if the best tile leads to a forced win.
+     *
+     * @return true if the player can force a win
+     */
+    public boolean isWinning() {
+        return winning;
+    }
+
+    /**
+     * Gets the number of positions searched.
+     *
+     * @return node count
+     */
+    public long getNodes() {
+        return nodes;
+    }
+}
@@ -0,0 +1,74 @@
+package SantoriniGame.ai;
+
+import SantoriniGame.model.game.GameModel;
+import SantoriniGame.model.game.TurnPhase;
+import SantoriniGame.model.game.TurnState;
+import SantoriniGame.model.player.Worker;
+
+import java.util.Arrays;
+
+/**
+ * HintRequest record - What the player is choosing, captured so it can be searched off the model's thread.
+ * While selecting a worker or moving, hints score the tiles the player could move to.
+ * While building, hints score the tiles the selected worker could build on.
+ *
+ * @param position the captured position, with the current player to move
+ * @param phase the phase the player is in
+ * @param worker the selected worker's index in the position, or -1 if none is selected
+ * @param gameId id of the game the position came from
+ */
+public record HintRequest(Position position, TurnPhase phase, int worker, long gameId) {
+    /**
+     * Captures what the current player is choosing. Must be called on the thread that owns the model.
+     *
+     * @param model the game to capture
+     * @return the request, or null if the current phase has nothing to hint
+     */
+    public static HintRequest capture(GameModel model) {
+        TurnState turnState = model.getTurnState();
+        TurnPhase phase = turnState.getCurrPhase();
+        if (turnState.getSatisfiedCondition() != null || turnState.getRemainingTeamCount() < 2) {
+            return null;
+        }
+        if (phase != TurnPhase.SELECT_WORKER && phase != TurnPhase.MOVE && phase != TurnPhase.BUILD) {
+            return null;
+        }
+
+        Position position = Position.capture(model);
+        Worker selected = turnState.getCurrWorker();
+        int worker = selected == null || phase == TurnPhase.SELECT_WORKER
+                ? -1 : position.findWorker(selected.getX(), selected.getY());
+        if (phase != TurnPhase.SELECT_WORKER && worker < 0) {
+            return null;
+        }
+        return new HintRequest(position, phase, worker, model.getGameId());
+    }
+
+    /**
+     * Generates the turns the player is choosing between.
+     *
+     * @return legal turns, possibly none
+     */
+    public int[] rootTurns() {
+        int[] turns = new int[position.getMaxTurns()];
+        int count;
+        if (phase == TurnPhase.BUILD) {
+            count = position.generateBuilds(worker, turns);
+        } else if (worker >= 0) {
+            count = position.generateTurns(worker, turns, 0);
+        } else {
+            count = position.generateTurns(turns);
+        }
+        return Arrays.copyOf(turns, count);
+    }
+
+    /**
+     * Gets the tile a turn is hinted on.
+     *
+     * @param turn an encoded turn
+     * @return the build tile while building, otherwise the move tile
+     */
+    public int hintTile(int turn) {
+        return phase == TurnPhase.BUILD ? Position.turnBuild(turn) : Position.turnTo(turn);
+    }
+}
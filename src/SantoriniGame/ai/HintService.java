@@ -0,0 +1,98 @@
+package SantoriniGame.ai;
+
+import javax.swing.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * HintService class - Searches for hints on a background thread, refining them one depth at a time.
+ * Each completed depth is handed to the Event Dispatch Thread, so hints appear quickly and improve while the player
+ * thinks. A new request or a cancel stops the running search within a few thousand positions, and results from a
+ * cancelled search are never shown.
+ */
+public class HintService {
+    // Transposition table size, kept between requests
+    private static final int TABLE_SIZE_BITS = 20;
+
+    private final SearchEngine engine;
+    private final int maxDepth;
+    private final ExecutorService searchThread;
+
+    // Bumped by every request and cancel, so older searches know to stop
+    private final AtomicInteger generation = new AtomicInteger();
+
+    /**
+     * Creates a hint service.
+     *
+     * @param evaluator scores positions at the search horizon
+     * @param maxDepth deepest search, in turns
+     * @param tablebase solved endgames to stop searching at, or null for none
+     */
+    public HintService(Evaluator evaluator, int maxDepth, EndgameTablebase tablebase) {
+        this.engine = new SearchEngine(evaluator, TABLE_SIZE_BITS);
+        this.engine.setTablebase(tablebase);
+        this.maxDepth = maxDepth;
+        this.searchThread = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hint-search");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts searching for hints, cancelling any earlier search.
+     *
+     * @param request what the player is choosing, or null to just cancel
+     * @param onEdt given each refined heat map on the Event Dispatch Thread
+     */
+    public void request(HintRequest request, Consumer<HintMap> onEdt) {
+        int requestGeneration = generation.incrementAndGet();
+        if (request == null) {
+            return;
+        }
+
+        try {
+            searchThread.execute(() -> {
+                if (generation.get() != requestGeneration) {
+                    return;
+                }
+                int[] turns = request.rootTurns();
+                if (turns.length == 0) {
+                    return;
+                }
+                engine.setGameId(request.gameId());
+                engine.search(request.position(), turns, request::hintTile, maxDepth,
+                        () -> generation.get() != requestGeneration,
+                        result -> {
+                            HintMap hints = HintMap.of(request, result);
+                            SwingUtilities.invokeLater(() -> {
+                                if (generation.get() == requestGeneration) {
+                                    onEdt.accept(hints);
+                                }
+                            });
+                        });
+            });
+        } catch (RejectedExecutionException e) {
+            // Shut down, so there is nothing to hint
+        }
+    }
+
+    /**
+     * Stops the running search. Results it already produced but not yet shown are discarded.
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Stops the search thread.
+     */
+    public void shutdown() {
+        cancel();
+        searchThread.shutdownNow();
+    }
+}
@@ -0,0 +1,219 @@
+package SantoriniGame.ai;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.BufferedOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * OpeningBook class - Precomputed best turns for early positions, read from a memory mapped file.
+ * Entries are keyed by position hash and god pair, sorted by key, and found by binary search,
+ * so opening a book costs nothing up front and each lookup touches only a few pages.
+ * Lookups only read the mapping, so one book can be shared by any number of threads.
+ *
+ * File layout, big-endian: magic, version, hash check and entry count, then sorted entries of
+ * key (8 bytes), turn (4 bytes) and score (4 bytes).
+ */
+public class OpeningBook {
+    /**
+     * File books are loaded from by default, in the working directory.
+     */
+    public static final Path DEFAULT_FILE = Path.of("opening-book.bin");
+
+    /**
+     * God pair key for entries that hold whatever the gods are.
+     */
+    public static final long ANY_GODS = 0;
+
+    private static final int MAGIC = 0x53424B31; // "SBK1"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 4;
+    private static final int ENTRY_SIZE = 8 + 4 + 4;
+
+    private final ByteBuffer entries;
+    private final int entryCount;
+
+    /**
+     * Entry found in a book.
+     *
+     * @param turn the book turn, encoded as by Position
+     * @param score search score of the turn, for the team to move
+     */
+    public record Entry(int turn, int score) {
+    }
+
+    private OpeningBook(ByteBuffer entries, int entryCount) {
+        this.entries = entries;
+        this.entryCount = entryCount;
+    }
+
+    /**
+     * Opens a book file by memory mapping it.
+     *
+     * @param file the book file
+     * @return the book
+     * @throws IOException if the file cannot be read
+     */
+    public static OpeningBook open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IllegalArgumentException(file + " is not an opening book.");
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IllegalArgumentException(file + " has unsupported book version " + buffer.getInt(4) + ".");
+            }
+            if (buffer.getLong(8) != hashCheck()) {
+                throw new IllegalArgumentException(file + " was built with different position hashes.");
+            }
+            int count = buffer.getInt(16);
+            if ((long) HEADER_SIZE + (long) count * ENTRY_SIZE > buffer.capacity()) {
+                throw new IllegalArgumentException(file + " is truncated.");
+            }
+            return new OpeningBook(buffer.slice(HEADER_SIZE, count * ENTRY_SIZE), count);
+        }
+    }
+
+    /**
+     * Opens DEFAULT_FILE if it exists.
+     *
+     * @return the book, or null if there is no usable book
+     */
+    public static OpeningBook openDefault() {
+        if (!Files.isRegularFile(DEFAULT_FILE)) {
+            return null;
+        }
+        try {
+            return open(DEFAULT_FILE);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Could not open " + DEFAULT_FILE + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes a book file.
+     *
+     * @param file the file to write
+     * @param keys entry keys, from key()
+     * @param turns turn of each entry
+     * @param scores score of each entry
+     * @param count number of entries
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path file, long[] keys, int[] turns, int[] scores, int count) throws IOException {
+        // Sort an index rather than the arrays, keeping each entry's fields together
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Long.compare(keys[a], keys[b]));
+
+        try (OutputStream stream = Files.newOutputStream(file);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(hashCheck());
+            out.writeInt(count);
+            long previous = 0;
+            for (int i = 0; i < count; i++) {
+                int index = order[i];
+                if (i > 0 && keys[index] == previous) {
+                    throw new IllegalArgumentException("Duplicate book key " + Long.toHexString(previous) + ".");
+                }
+                out.writeLong(keys[index]);
+                out.writeInt(turns[index]);
+                out.writeInt(scores[index]);
+                previous = keys[index];
+            }
+        }
+    }
+
+    /**
+     * Computes the key of a position under a god pair.
+     *
+     * @param position the position
+     * @param godPair key from godPair(), or ANY_GODS
+     * @return book key
+     */
+    public static long key(Position position, long godPair) {
+        return position.getHash() ^ godPair;
+    }
+
+    /**
+     * Computes the key of a two player god matchup.
+     *
+     * @param team0God name of team 0's god
+     * @param team1God name of team 1's god
+     * @return god pair key, never ANY_GODS
+     */
+    public static long godPair(String team0God, String team1God) {
+        long pair = mix(((long) team0God.hashCode() << 32) ^ (team1God.hashCode() & 0xFFFFFFFFL));
+        return pair == ANY_GODS ? 1 : pair;
+    }
+
+    /**
+     * Looks up a position, preferring an entry for the god pair over one for any gods.
+     *
+     * @param position the position, with the player to move
+     * @param godPair key from godPair(), or ANY_GODS
+     * @return the entry, or null if the book has no turn for the position
+     */
+    public Entry probe(Position position, long godPair) {
+        Entry entry = godPair != ANY_GODS ? find(key(position, godPair)) : null;
+        return entry != null ? entry : find(key(position, ANY_GODS));
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return entry count
+     */
+    public int size() {
+        return entryCount;
+    }
+
+    /**
+     * Binary searches the entries for a key.
+     */
+    private Entry find(long key) {
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int offset = middle * ENTRY_SIZE;
+            long middleKey = entries.getLong(offset);
+            if (middleKey < key) {
+                low = middle + 1;
+            } else if (middleKey > key) {
+                high = middle - 1;
+            } else {
+                return new Entry(entries.getInt(offset + 8), entries.getInt(offset + 12));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Hashes a fixed position, so books built with other Zobrist keys are rejected.
+     */
+    private static long hashCheck() {
+        int size = 5;
+        return new Position(size, new byte[size * size], new int[] {0, 1, 2, 3}, new int[] {0, 0, 1, 1},
+                new int[] {0, 1}, 0).getHash();
+    }
+
+    /**
+     * Mixes bits of a long, as in SplitMix64.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
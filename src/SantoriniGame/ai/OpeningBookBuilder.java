@@ -0,0 +1,233 @@
+package SantoriniGame.ai;
+
+import SantoriniGame.CommandLineOptions;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OpeningBookBuilder class - Builds an OpeningBook by searching the first turns after worker placement.
+ * From each starting placement, the best few turns are followed for a number of turns, and the best turn of
+ * every position reached is stored. Placements are searched in parallel, one per core.
+ * The search does not model god powers, so entries are stored for any god pair.
+ *
+ * Run with: java -cp out SantoriniGame.ai.OpeningBookBuilder [--placements=N|all] [--plies=N] [--breadth=N]
+ * [--depth=N] [--board=N] [--threads=N] [--output=file]
+ */
+public class OpeningBookBuilder {
+    // Transposition table size for each building thread
+    private static final int TABLE_SIZE_BITS = 20;
+
+    private final int boardSize;
+    private final int plies;
+    private final int breadth;
+    private final int depth;
+    private final EvaluationWeights weights;
+
+    // Best turn and score of each position found, packed into one long
+    private final Map<Long, Long> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger positionsSearched = new AtomicInteger();
+
+    /**
+     * Creates a builder.
+     *
+     * @param boardSize board side
+     * @param plies turns from placement to store
+     * @param breadth best turns followed from each position
+     * @param depth search depth for each position, in turns
+     * @param weights evaluation weights to search with
+     */
+    public OpeningBookBuilder(int boardSize, int plies, int breadth, int depth, EvaluationWeights weights) {
+        if (plies < 1 || breadth < 1 || depth < 1) {
+            throw new IllegalArgumentException("Plies, breadth and depth must be at least 1.");
+        }
+        this.boardSize = boardSize;
+        this.plies = plies;
+        this.breadth = breadth;
+        this.depth = depth;
+        this.weights = weights;
+    }
+
+    /**
+     * Searches every placement and writes the book.
+     *
+     * @param placements starting placements to search
+     * @param threads placements searched at once
+     * @param output file to write the book to
+     * @return number of entries written
+     * @throws IOException if the book cannot be written
+     * @throws InterruptedException if interrupted while searching
+     */
+    public int build(List<Position> placements, int threads, Path output) throws IOException, InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        ThreadLocal<SearchEngine> engines = ThreadLocal.withInitial(
+                () -> new SearchEngine(new FeatureEvaluator(weights), TABLE_SIZE_BITS));
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Position placement : placements) {
+                futures.add(pool.submit(() -> expand(engines.get(), placement, plies)));
+            }
+            int done = 0;
+            for (Future<?> future : futures) {
+                future.get();
+                if (++done % 100 == 0 || done == futures.size()) {
+                    double seconds = (System.nanoTime() - start) / 1e9;
+                    System.out.printf("%d/%d placements, %d positions, %.1f positions/s%n",
+                            done, futures.size(), positionsSearched.get(), positionsSearched.get() / seconds);
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Opening book search failed.", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        int count = entries.size();
+        long[] keys = new long[count];
+        int[] turns = new int[count];
+        int[] scores = new int[count];
+        int i = 0;
+        for (Map.Entry<Long, Long> entry : entries.entrySet()) {
+            keys[i] = entry.getKey();
+            turns[i] = (int) (entry.getValue() >>> 32);
+            scores[i] = (int) (long) entry.getValue();
+            i++;
+        }
+        OpeningBook.write(output, keys, turns, scores, count);
+        return count;
+    }
+
+    /**
+     * Creates random starting placements, two workers per team on an unbuilt board with team 0 to move.
+     *
+     * @param count number of placements
+     * @param random source of placements
+     * @return the placements
+     */
+    public List<Position> randomPlacements(int count, Random random) {
+        List<Position> placements = new ArrayList<>();
+        int tiles = boardSize * boardSize;
+        for (int p = 0; p < count; p++) {
+            int[] workerTiles = new int[4];
+            for (int w = 0; w < workerTiles.length; w++) {
+                int tile;
+                do {
+                    tile = random.nextInt(tiles);
+                } while (contains(workerTiles, w, tile));
+                workerTiles[w] = tile;
+            }
+            placements.add(placement(workerTiles));
+        }
+        return placements;
+    }
+
+    /**
+     * Creates every starting placement. Workers of the same team are interchangeable, so each pair is used once.
+     *
+     * @return the placements
+     */
+    public List<Position> allPlacements() {
+        List<Position> placements = new ArrayList<>();
+        int tiles = boardSize * boardSize;
+        for (int a = 0; a < tiles; a++) {
+            for (int b = a + 1; b < tiles; b++) {
+                for (int c = 0; c < tiles; c++) {
+                    if (c == a || c == b) continue;
+                    for (int d = c + 1; d < tiles; d++) {
+                        if (d == a || d == b) continue;
+                        placements.add(placement(new int[] {a, b, c, d}));
+                    }
+                }
+            }
+        }
+        return placements;
+    }
+
+    /**
+     * Searches a position, stores its best turn, and follows its best turns.
+     */
+    private void expand(SearchEngine engine, Position position, int remaining) {
+        long key = OpeningBook.key(position, OpeningBook.ANY_GODS);
+        if (entries.containsKey(key)) {
+            return;
+        }
+
+        int[] buffer = new int[position.getMaxTurns()];
+        int count = position.generateTurns(buffer);
+        if (count == 0) {
+            return;
+        }
+        int[] turns = java.util.Arrays.copyOf(buffer, count);
+        SearchResult result = engine.search(position, turns, Position::turnTo, depth, () -> false, r -> { });
+        positionsSearched.incrementAndGet();
+        if (entries.putIfAbsent(key, (long) result.bestTurn() << 32 | (result.bestScore() & 0xFFFFFFFFL)) != null
+                || remaining <= 1) {
+            return;
+        }
+
+        for (int i = 0; i < Math.min(breadth, result.turns().length); i++) {
+            int turn = result.turns()[i];
+            if (position.isWinningTurn(turn)) continue;
+            Position next = new Position(position);
+            next.makeTurn(turn);
+            expand(engine, next, remaining - 1);
+        }
+    }
+
+    /**
+     * Creates a starting position from worker tiles, team 0's first.
+     */
+    private Position placement(int[] workerTiles) {
+        return new Position(boardSize, new byte[boardSize * boardSize], workerTiles, new int[] {0, 0, 1, 1},
+                new int[] {0, 1}, 0);
+    }
+
+    /**
+     * Checks if the first n tiles include a tile.
+     */
+    private static boolean contains(int[] tiles, int n, int tile) {
+        for (int i = 0; i < n; i++) {
+            if (tiles[i] == tile) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Builds a book from the command line.
+     *
+     * @param args options of the form --name=value
+     */
+    public static void main(String[] args) throws Exception {
+        Properties options = CommandLineOptions.parse(args);
+
+        int board = Integer.parseInt(options.getProperty("board", "5"));
+        int plies = Integer.parseInt(options.getProperty("plies", "3"));
+        int breadth = Integer.parseInt(options.getProperty("breadth", "3"));
+        int depth = Integer.parseInt(options.getProperty("depth", "3"));
+        int threads = Integer.parseInt(options.getProperty("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        String placementOption = options.getProperty("placements", "2000");
+        Path output = Path.of(options.getProperty("output", OpeningBook.DEFAULT_FILE.toString()));
+
+        OpeningBookBuilder builder = new OpeningBookBuilder(board, plies, breadth, depth, EvaluationWeights.loadDefault());
+        List<Position> placements = placementOption.equals("all")
+                ? builder.allPlacements()
+                : builder.randomPlacements(Integer.parseInt(placementOption), new Random());
+
+        long start = System.nanoTime();
+        int count = builder.build(placements, threads, output);
+        System.out.printf("Wrote %d entries to %s in %.1fs%n", count, output, (System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,577 @@
+package SantoriniGame.ai;
+
+import SantoriniGame.model.board.Board;
+import SantoriniGame.model.board.BoardGeometry;
+import SantoriniGame.model.board.BoardTile;
+import SantoriniGame.model.game.GameModel;
+import SantoriniGame.model.player.Player;
+import SantoriniGame.model.player.Team;
+import SantoriniGame.model.player.Worker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Position class - Compact copy of a game position for searching.
+ * Heights and worker tiles are kept in flat arrays, and whole turns (a move then a build) are made and unmade in place,
+ * so searching allocates nothing per node. A Zobrist hash is kept up to date for the transposition table.
+ *
+ * Only the standard rules are modelled: god powers are not searched.
+ */
+public class Position {
+    /**
+     * Largest supported board side.
+     */
+    public static final int MAX_SIZE = BoardGeometry.MAX_SIDE;
+
+    /**
+     * Height of a domed tile.
+     */
+    public static final int DOME = 4;
+
+    /**
+     * Height a worker must climb to, to win.
+     */
+    public static final int VICTORY_LEVEL = 3;
+
+    // Largest number of workers and players a position can hold
+    private static final int MAX_WORKERS = 16;
+    private static final int MAX_PLAYERS = 16;
+    private static final int MAX_TEAMS = 8;
+
+    // Turn encoding: worker, start tile, move tile and build tile, 8 bits each
+    private static final int TILE_MASK = 0xFF;
+
+    // Zobrist keys, shared by every position so hashes can be compared across searches
+    // Workers are keyed by team, as teammates are interchangeable, so swapping them gives the same hash
+    private static final long[][] HEIGHT_KEYS = new long[MAX_SIZE * MAX_SIZE][DOME + 1];
+    private static final long[][] WORKER_KEYS = new long[MAX_TEAMS][MAX_SIZE * MAX_SIZE];
+    private static final long[] PLAYER_KEYS = new long[MAX_PLAYERS];
+
+    // Board shape keys, so the same tiles on differently shaped boards hash apart
+    private static final long[][] SHAPE_KEYS = new long[MAX_SIZE + 1][MAX_SIZE + 1];
+
+    static {
+        Random random = new Random(0x5A470121L);
+        for (long[] keys : HEIGHT_KEYS) {
+            for (int i = 0; i < keys.length; i++) keys[i] = random.nextLong();
+        }
+        for (long[] keys : WORKER_KEYS) {
+            for (int i = 0; i < keys.length; i++) keys[i] = random.nextLong();
+        }
+        for (int i = 0; i < PLAYER_KEYS.length; i++) PLAYER_KEYS[i] = random.nextLong();
+        for (long[] keys : SHAPE_KEYS) {
+            for (int i = 0; i < keys.length; i++) keys[i] = random.nextLong();
+        }
+    }
+
+    private final BoardGeometry geometry;
+    private final byte[] heights;
+    private final int[] workerTiles;
+    private final int[] workerTeams;
+    private final int[] playerTeams;
+    private int playerIndex;
+    private long hash;
+
+    // True if play passes between two teams turn by turn
+    private final boolean alternating;
+
+    // Workers each tile holds, or -1, so occupancy checks are O(1)
+    private final byte[] occupants;
+
+    /**
+     * Creates a position on a square board.
+     *
+     * @param size board side
+     * @param heights height of each tile, indexed y * size + x, with DOME for domed tiles
+     * @param workerTiles tile of each worker
+     * @param workerTeams team ID of each worker
+     * @param playerTeams team ID of each player, in turn order
+     * @param playerIndex index of the player to move
+     */
+    public Position(int size, byte[] heights, int[] workerTiles, int[] workerTeams, int[] playerTeams, int playerIndex) {
+        this(BoardGeometry.square(size), heights, workerTiles, workerTeams, playerTeams, playerIndex);
+    }
+
+    /**
+     * Creates a position on a board of any supported shape.
+     *
+     * @param geometry shape of the board
+     * @param heights height of each tile, indexed y * width + x, with DOME for domed tiles
+     * @param workerTiles tile of each worker
+     * @param workerTeams team ID of each worker
+     * @param playerTeams team ID of each player, in turn order
+     * @param playerIndex index of the player to move
+     */
+    public Position(BoardGeometry geometry, byte[] heights, int[] workerTiles, int[] workerTeams, int[] playerTeams,
+                    int playerIndex) {
+        if (heights.length != geometry.getTileCount() || workerTiles.length != workerTeams.length
+                || workerTiles.length > MAX_WORKERS || playerTeams.length > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Position arrays do not match the board size.");
+        }
+        for (int team : workerTeams) {
+            if (team < 0 || team >= MAX_TEAMS) {
+                throw new IllegalArgumentException("Team IDs must be between 0 and " + (MAX_TEAMS - 1) + ".");
+            }
+        }
+
+        this.geometry = geometry;
+        this.heights = heights.clone();
+        this.workerTiles = workerTiles.clone();
+        this.workerTeams = workerTeams.clone();
+        this.playerTeams = playerTeams.clone();
+        this.playerIndex = playerIndex;
+        this.alternating = checkAlternating(playerTeams);
+
+        this.occupants = new byte[geometry.getTileCount()];
+        java.util.Arrays.fill(occupants, (byte) -1);
+        for (int w = 0; w < workerTiles.length; w++) {
+            occupants[workerTiles[w]] = (byte) w;
+        }
+
+        this.hash = computeHash();
+    }
+
+    /**
+     * Copies a position, so it can be searched without affecting the original.
+     *
+     * @param other the position to copy
+     */
+    public Position(Position other) {
+        this.geometry = other.geometry;
+        this.heights = other.heights.clone();
+        this.workerTiles = other.workerTiles.clone();
+        this.workerTeams = other.workerTeams;
+        this.playerTeams = other.playerTeams;
+        this.playerIndex = other.playerIndex;
+        this.alternating = other.alternating;
+        this.occupants = other.occupants.clone();
+        this.hash = other.hash;
+    }
+
+    /**
+     * Captures the current position of a game. Must be called on the thread that owns the model.
+     *
+     * @param model the game to capture
+     * @return the position, with the current player to move
+     */
+    public static Position capture(GameModel model) {
+        Board board = model.getBoard();
+        BoardGeometry geometry = board.getGeometry();
+
+        byte[] heights = new byte[geometry.getTileCount()];
+        for (int y = 0; y < geometry.getHeight(); y++) {
+            for (int x = 0; x < geometry.getWidth(); x++) {
+                BoardTile tile = board.getTile(x, y);
+                heights[geometry.index(x, y)] = (byte) (tile.hasDome() ? DOME : tile.getLevel());
+            }
+        }
+
+        // Each team's workers are added once, even when several players share the team
+        Player[] players = model.getPlayers();
+        List<Team> teams = new ArrayList<>();
+        List<Integer> tiles = new ArrayList<>();
+        List<Integer> teamIds = new ArrayList<>();
+        int[] playerTeams = new int[players.length];
+        int playerIndex = 0;
+
+        for (int i = 0; i < players.length; i++) {
+            Team team = players[i].getTeam();
+            playerTeams[i] = team.getTeamId();
+            if (players[i] == model.getCurrentPlayer()) {
+                playerIndex = i;
+            }
+            if (!teams.contains(team)) {
+                teams.add(team);
+                for (Worker worker : team.getWorkers()) {
+                    if (worker == null) continue;
+                    tiles.add(geometry.index(worker.getX(), worker.getY()));
+                    teamIds.add(team.getTeamId());
+                }
+            }
+        }
+
+        return new Position(geometry, heights,
+                tiles.stream().mapToInt(Integer::intValue).toArray(),
+                teamIds.stream().mapToInt(Integer::intValue).toArray(),
+                playerTeams, playerIndex);
+    }
+
+    /**
+     * Encodes a turn.
+     *
+     * @param worker worker index
+     * @param from tile the worker starts on
+     * @param to tile the worker moves to, equal to from if the worker has already moved
+     * @param build tile built on
+     * @return the encoded turn
+     */
+    public static int encodeTurn(int worker, int from, int to, int build) {
+        return worker << 24 | from << 16 | to << 8 | build;
+    }
+
+    /**
+     * Gets the worker index of a turn.
+     *
+     * @param turn an encoded turn
+     * @return worker index
+     */
+    public static int turnWorker(int turn) {
+        return turn >>> 24;
+    }
+
+    /**
+     * Gets the start tile of a turn.
+     *
+     * @param turn an encoded turn
+     * @return tile index
+     */
+    public static int turnFrom(int turn) {
+        return turn >>> 16 & TILE_MASK;
+    }
+
+    /**
+     * Gets the move tile of a turn.
+     *
+     * @param turn an encoded turn
+     * @return tile index
+     */
+    public static int turnTo(int turn) {
+        return turn >>> 8 & TILE_MASK;
+    }
+
+    /**
+     * Gets the build tile of a turn.
+     *
+     * @param turn an encoded turn
+     * @return tile index
+     */
+    public static int turnBuild(int turn) {
+        return turn & TILE_MASK;
+    }
+
+    /**
+     * Generates every legal turn for the player to move.
+     * A winning move is generated once, with any legal build, as the build no longer matters.
+     *
+     * @param out array to write turns into, at least getMaxTurns() long
+     * @return number of turns written
+     */
+    public int generateTurns(int[] out) {
+        int count = 0;
+        int team = getTeamToMove();
+        for (int w = 0; w < workerTiles.length; w++) {
+            if (workerTeams[w] == team) {
+                count = generateTurns(w, out, count);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Generates every legal turn for one worker.
+     *
+     * @param worker worker index
+     * @param out array to write turns into
+     * @param count number of turns already in the array
+     * @return new number of turns in the array
+     */
+    public int generateTurns(int worker, int[] out, int count) {
+        int from = workerTiles[worker];
+        int fromHeight = heights[from];
+
+        for (int to : geometry.getNeighbours(from)) {
+            if (to < 0 || !canMove(fromHeight, to)) continue;
+
+            // Moving up onto the victory level ends the game, so one build is enough
+            boolean winning = heights[to] == VICTORY_LEVEL && fromHeight < VICTORY_LEVEL;
+
+            occupants[from] = -1;
+            for (int build : geometry.getNeighbours(to)) {
+                if (build >= 0 && heights[build] != DOME && occupants[build] < 0 && build != to) {
+                    out[count++] = encodeTurn(worker, from, to, build);
+                    if (winning) break;
+                }
+            }
+            occupants[from] = (byte) worker;
+        }
+        return count;
+    }
+
+    /**
+     * Generates every legal build for a worker that has already moved this turn.
+     *
+     * @param worker worker index
+     * @param out array to write turns into
+     * @return number of turns written
+     */
+    public int generateBuilds(int worker, int[] out) {
+        int count = 0;
+        int tile = workerTiles[worker];
+        for (int build : geometry.getNeighbours(tile)) {
+            if (build >= 0 && heights[build] != DOME && occupants[build] < 0) {
+                out[count++] = encodeTurn(worker, tile, tile, build);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks if a turn's move wins the game.
+     *
+     * @param turn an encoded turn, legal in this position
+     * @return true if the worker climbs onto the victory level
+     */
+    public boolean isWinningTurn(int turn) {
+        int from = turnFrom(turn);
+        int to = turnTo(turn);
+        return from != to && heights[to] == VICTORY_LEVEL && heights[from] < VICTORY_LEVEL;
+    }
+
+    /**
+     * Plays a turn, passing play to the next player.
+     *
+     * @param turn an encoded turn, legal in this position
+     */
+    public void makeTurn(int turn) {
+        int worker = turnWorker(turn);
+        int from = turnFrom(turn);
+        int to = turnTo(turn);
+        int build = turnBuild(turn);
+
+        hash ^= WORKER_KEYS[workerTeams[worker]][from] ^ WORKER_KEYS[workerTeams[worker]][to];
+        occupants[from] = -1;
+        occupants[to] = (byte) worker;
+        workerTiles[worker] = to;
+
+        hash ^= HEIGHT_KEYS[build][heights[build]] ^ HEIGHT_KEYS[build][heights[build] + 1];
+        heights[build]++;
+
+        hash ^= PLAYER_KEYS[playerIndex];
+        playerIndex = (playerIndex + 1) % playerTeams.length;
+        hash ^= PLAYER_KEYS[playerIndex];
+    }
+
+    /**
+     * Takes back a turn made with makeTurn.
+     *
+     * @param turn the turn to take back
+     */
+    public void unmakeTurn(int turn) {
+        int worker = turnWorker(turn);
+        int from = turnFrom(turn);
+        int to = turnTo(turn);
+        int build = turnBuild(turn);
+
+        hash ^= PLAYER_KEYS[playerIndex];
+        playerIndex = (playerIndex - 1 + playerTeams.length) % playerTeams.length;
+        hash ^= PLAYER_KEYS[playerIndex];
+
+        heights[build]--;
+        hash ^= HEIGHT_KEYS[build][heights[build]] ^ HEIGHT_KEYS[build][heights[build] + 1];
+
+        workerTiles[worker] = from;
+        occupants[to] = -1;
+        occupants[from] = (byte) worker;
+        hash ^= WORKER_KEYS[workerTeams[worker]][from] ^ WORKER_KEYS[workerTeams[worker]][to];
+    }
+
+    /**
+     * Moves whichever worker is on a tile, to follow a move made outside the search.
+     *
+     * @param from tile the worker is on
+     * @param to tile the worker moves to
+     */
+    void moveWorker(int from, int to) {
+        int worker = occupants[from];
+        if (worker < 0) {
+            throw new IllegalStateException("No worker to move at tile " + from + ".");
+        }
+        hash ^= WORKER_KEYS[workerTeams[worker]][from] ^ WORKER_KEYS[workerTeams[worker]][to];
+        occupants[from] = -1;
+        occupants[to] = (byte) worker;
+        workerTiles[worker] = to;
+    }
+
+    /**
+     * Sets a tile's height, to follow a build made outside the search.
+     *
+     * @param tile tile index
+     * @param height new height, or DOME
+     */
+    void setHeight(int tile, int height) {
+        hash ^= HEIGHT_KEYS[tile][heights[tile]] ^ HEIGHT_KEYS[tile][height];
+        heights[tile] = (byte) height;
+    }
+
+    /**
+     * Gets the largest number of turns a player can have, for sizing turn arrays.
+     *
+     * @return upper bound on generated turns
+     */
+    public int getMaxTurns() {
+        return workerTiles.length * 8 * 8;
+    }
+
+    /**
+     * Gets the shape of the board.
+     *
+     * @return the board's geometry
+     */
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return board width
+     */
+    public int getWidth() {
+        return geometry.getWidth();
+    }
+
+    /**
+     * Gets the number of tiles.
+     *
+     * @return tile count
+     */
+    public int getTileCount() {
+        return geometry.getTileCount();
+    }
+
+    /**
+     * Gets a tile's height.
+     *
+     * @param tile tile index
+     * @return height, or DOME
+     */
+    public int getHeight(int tile) {
+        return heights[tile];
+    }
+
+    /**
+     * Gets the worker on a tile.
+     *
+     * @param tile tile index
+     * @return worker index, or -1 if empty
+     */
+    public int getOccupant(int tile) {
+        return occupants[tile];
+    }
+
+    /**
+     * Gets the neighbours of a tile.
+     *
+     * @param tile tile index
+     * @return the eight neighbouring tile indexes, -1 past the edge. Must not be modified.
+     */
+    public int[] getNeighbours(int tile) {
+        return geometry.getNeighbours(tile);
+    }
+
+    /**
+     * Gets the number of workers.
+     *
+     * @return worker count
+     */
+    public int getWorkerCount() {
+        return workerTiles.length;
+    }
+
+    /**
+     * Gets the tile a worker stands on.
+     *
+     * @param worker worker index
+     * @return tile index
+     */
+    public int getWorkerTile(int worker) {
+        return workerTiles[worker];
+    }
+
+    /**
+     * Gets a worker's team.
+     *
+     * @param worker worker index
+     * @return team ID
+     */
+    public int getWorkerTeam(int worker) {
+        return workerTeams[worker];
+    }
+
+    /**
+     * Finds the worker standing on the given coordinates.
+     *
+     * @param x X-coordinate
+     * @param y Y-coordinate
+     * @return worker index, or -1 if none
+     */
+    public int findWorker(int x, int y) {
+        return occupants[geometry.index(x, y)];
+    }
+
+    /**
+     * Gets the team of the player to move.
+     *
+     * @return team ID
+     */
+    public int getTeamToMove() {
+        return playerTeams[playerIndex];
+    }
+
+    /**
+     * Checks if play passes between two teams turn by turn, as in two and four player games.
+     *
+     * @return true if every player is followed by a player of the other team
+     */
+    public boolean isAlternating() {
+        return alternating;
+    }
+
+    /**
+     * Gets the Zobrist hash of this position.
+     *
+     * @return hash
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Checks if a worker standing at the given height could move onto a tile.
+     */
+    private boolean canMove(int fromHeight, int to) {
+        int toHeight = heights[to];
+        return toHeight != DOME && occupants[to] < 0 && toHeight <= fromHeight + 1;
+    }
+
+    /**
+     * Checks if each player is followed by a player of another team, with two teams in all.
+     */
+    private static boolean checkAlternating(int[] playerTeams) {
+        if (playerTeams.length < 2 || playerTeams.length % 2 != 0) {
+            return false;
+        }
+        for (int i = 0; i < playerTeams.length; i++) {
+            if (playerTeams[i] != playerTeams[i % 2]) {
+                return false;
+            }
+        }
+        return playerTeams[0] != playerTeams[1];
+    }
+
+    /**
+     * Computes the hash from scratch.
+     */
+    private long computeHash() {
+        long h = PLAYER_KEYS[playerIndex] ^ SHAPE_KEYS[geometry.getWidth()][geometry.getHeight()];
+        for (int tile = 0; tile < heights.length; tile++) {
+            h ^= HEIGHT_KEYS[tile][heights[tile]];
+        }
+        for (int w = 0; w < workerTiles.length; w++) {
+            h ^= WORKER_KEYS[workerTeams[w]][workerTiles[w]];
+        }
+        return h;
+    }
+}
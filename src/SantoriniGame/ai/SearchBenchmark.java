@@ -0,0 +1,137 @@
+package SantoriniGame.ai;
+
+import SantoriniGame.CommandLineOptions;
+
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * SearchBenchmark class - Measures how many nodes the search needs to reach a fixed depth,
+ * with killer turns, the history table and aspiration windows off and then on.
+ * Positions are made by random play from random worker placements, the same ones for both runs,
+ * and each is searched by a fresh engine so nothing is carried over from the position before.
+ * Best scores are compared too, as the heuristics should change how fast the search is, never what it finds.
+ *
+ * Run with: java -cp out SantoriniGame.ai.SearchBenchmark [--positions=N] [--depth=N] [--board=N] [--seed=N]
+ */
+public class SearchBenchmark {
+    // Transposition table size for each search
+    private static final int TABLE_SIZE_BITS = 18;
+
+    // Random turns played from the placement before a position is searched
+    private static final int MIN_OPENING_TURNS = 4;
+    private static final int MAX_OPENING_TURNS = 18;
+
+    private final Position[] positions;
+    private final int depth;
+
+    /**
+     * Creates a benchmark over random positions.
+     *
+     * @param positionCount number of positions
+     * @param depth search depth, in turns
+     * @param boardSize board side
+     * @param seed seed for the positions
+     */
+    public SearchBenchmark(int positionCount, int depth, int boardSize, long seed) {
+        this.positions = randomPositions(positionCount, boardSize, new Random(seed));
+        this.depth = depth;
+    }
+
+    /**
+     * Searches every position.
+     *
+     * @param heuristics true to use killer turns, the history table and aspiration windows
+     * @return the best score of each position, then the total node count, then the time taken in nanoseconds
+     */
+    public long[] run(boolean heuristics) {
+        long[] results = new long[positions.length + 2];
+        long start = System.nanoTime();
+        for (int i = 0; i < positions.length; i++) {
+            Position position = positions[i];
+            int[] buffer = new int[position.getMaxTurns()];
+            int[] turns = Arrays.copyOf(buffer, position.generateTurns(buffer));
+
+            SearchEngine engine = new SearchEngine(new FeatureEvaluator(), TABLE_SIZE_BITS);
+            engine.setHeuristics(heuristics);
+            SearchResult result = engine.search(position, turns, Position::turnTo, depth, () -> false, r -> { });
+            results[i] = result.bestScore();
+            results[positions.length] += result.nodes();
+        }
+        results[positions.length + 1] = System.nanoTime() - start;
+        return results;
+    }
+
+    /**
+     * Plays random turns from random placements until enough positions are found that are not already decided.
+     */
+    private static Position[] randomPositions(int count, int boardSize, Random random) {
+        Position[] positions = new Position[count];
+        int tileCount = boardSize * boardSize;
+        int found = 0;
+        while (found < count) {
+            int[] workerTiles = new int[4];
+            for (int w = 0; w < workerTiles.length; w++) {
+                boolean taken;
+                do {
+                    workerTiles[w] = random.nextInt(tileCount);
+                    taken = false;
+                    for (int other = 0; other < w; other++) {
+                        taken |= workerTiles[other] == workerTiles[w];
+                    }
+                } while (taken);
+            }
+            Position position = new Position(boardSize, new byte[tileCount], workerTiles, new int[] {0, 0, 1, 1},
+                    new int[] {0, 1}, 0);
+
+            int[] buffer = new int[position.getMaxTurns()];
+            int turnsToPlay = MIN_OPENING_TURNS + random.nextInt(MAX_OPENING_TURNS - MIN_OPENING_TURNS + 1);
+            boolean open = true;
+            for (int t = 0; t <= turnsToPlay && open; t++) {
+                int turnCount = position.generateTurns(buffer);
+                open = turnCount > 0;
+                for (int i = 0; i < turnCount && open; i++) {
+                    open = !position.isWinningTurn(buffer[i]);
+                }
+                if (open && t < turnsToPlay) {
+                    position.makeTurn(buffer[random.nextInt(turnCount)]);
+                }
+            }
+            if (open) {
+                positions[found++] = position;
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Runs the benchmark from the command line.
+     *
+     * @param args options of the form --name=value
+     */
+    public static void main(String[] args) {
+        Properties options = CommandLineOptions.parse(args);
+
+        int positionCount = Integer.parseInt(options.getProperty("positions", "100"));
+        int depth = Integer.parseInt(options.getProperty("depth", "4"));
+        int board = Integer.parseInt(options.getProperty("board", "5"));
+        long seed = Long.parseLong(options.getProperty("seed", "42"));
+
+        SearchBenchmark benchmark = new SearchBenchmark(positionCount, depth, board, seed);
+        long[] before = benchmark.run(false);
+        long[] after = benchmark.run(true);
+
+        int differences = 0;
+        for (int i = 0; i < positionCount; i++) {
+            if (before[i] != after[i]) differences++;
+        }
+        long nodesBefore = before[positionCount];
+        long nodesAfter = after[positionCount];
+        System.out.printf("%d positions at depth %d on a %dx%d board%n", positionCount, depth, board, board);
+        System.out.printf("Without heuristics: %,d nodes in %,d ms%n", nodesBefore, before[positionCount + 1] / 1_000_000);
+        System.out.printf("With heuristics:    %,d nodes in %,d ms%n", nodesAfter, after[positionCount + 1] / 1_000_000);
+        System.out.printf("Nodes saved: %.1f%%, best scores that differ: %d%n",
+                100.0 * (nodesBefore - nodesAfter) / nodesBefore, differences);
+    }
+}
@@ -0,0 +1,539 @@
+package SantoriniGame.ai;
+
+import SantoriniGame.metrics.SearchDepthEvent;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * SearchEngine class - Iterative deepening alpha-beta search over whole turns.
+ * Depth is counted in turns, each a move and a build. A game has up to eight teams: players of the team to move
+ * at the root maximise the score, and every other team minimises it, as if all of them played together against it.
+ * Each depth reorders the root turns by the scores of the last, and the transposition table is kept between depths
+ * and between searches, so refining a search repeats little work.
+ * Below the root, turns are ordered by the transposition table's best turn, then the killer turns of the ply
+ * (the last turns there to cause a cutoff), then the history table and a static score.
+ * Each root turn is first searched in an aspiration window around its score at the last depth,
+ * and searched again with a wider window if its score falls outside.
+ * Each depth is recorded as a flight recorder event when recording is on.
+ * Not thread-safe: a search must be run by one thread at a time.
+ */
+public class SearchEngine {
+    /**
+     * Score of a won game, less the number of turns taken to win it.
+     */
+    public static final int WIN_SCORE = 1_000_000;
+
+    /**
+     * Scores beyond this are won or lost games.
+     */
+    public static final int WIN_THRESHOLD = WIN_SCORE - 1000;
+
+    private static final int INFINITY = WIN_SCORE + 1;
+
+    // Deepest search supported, in turns
+    private static final int MAX_PLY = 64;
+
+    // Number of nodes between checks for cancellation
+    private static final int CANCEL_CHECK_INTERVAL = 1024;
+
+    // Bonus ordering the transposition table's best turn first
+    private static final int HASH_TURN_ORDER = 1 << 30;
+
+    // Bonus ordering killer turns after the hash turn and ahead of every other turn
+    private static final int KILLER_ORDER = 1 << 29;
+
+    // Killer turns kept per ply, most recent first
+    private static final int KILLERS_PER_PLY = 2;
+
+    // History scores are halved when one passes this, so recent cutoffs count for more than old ones
+    private static final int HISTORY_LIMIT = 1 << 20;
+
+    // History entries per tile: a move in one of 9 directions (including none), then a build in one of 9
+    private static final int HISTORY_PER_TILE = 81;
+
+    // Weight of the static order score against history scores, so it still settles turns with little history
+    private static final int STATIC_ORDER_WEIGHT = 64;
+
+    // Half-width of the first aspiration window, which grows fourfold each time a score falls outside it.
+    // About two levels of height, as narrower windows failed often enough to cost more than they saved
+    private static final int ASPIRATION_WINDOW = 200;
+
+    // Tablebase results don't say how many turns a win takes, so they rank below any win found by search
+    private static final int TABLEBASE_WIN_SCORE = WIN_SCORE - MAX_PLY - 100;
+
+    private final Evaluator evaluator;
+    private final TranspositionTable table;
+    private EndgameTablebase tablebase;
+    private long gameId;
+    private boolean heuristics = true;
+
+    // Cutoff counts weighted by depth, per team to move, start tile, move direction and build direction.
+    // Kept between searches like the transposition table, and halved at the start of each
+    private int[] history = new int[0];
+
+    // Search state, reset by each search
+    private Position position;
+    private int rootTeam;
+    private long rootTeamKey;
+    private BooleanSupplier cancelled;
+    private long nodes;
+    private long tablebaseHits;
+    private int[][] turnBuffers = new int[0][];
+    private int[][] orderBuffers = new int[0][];
+    private final int[][] killers = new int[MAX_PLY][KILLERS_PER_PLY];
+
+    /**
+     * Thrown to unwind the search when it is cancelled.
+     */
+    private static final class SearchCancelledException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        SearchCancelledException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Creates a search engine.
+     *
+     * @param evaluator scores positions at the search horizon
+     * @param tableSizeBits log2 of the number of transposition table entries
+     */
+    public SearchEngine(Evaluator evaluator, int tableSizeBits) {
+        this.evaluator = evaluator;
+        this.table = new TranspositionTable(tableSizeBits);
+    }
+
+    /**
+     * Searches the given root turns, deepening one turn at a time until the maximum depth or cancellation.
+     * Turns are put in groups, such as by destination tile, and the best turn of each group is scored exactly.
+     *
+     * @param root position to search, which is not modified
+     * @param rootTurns turns to consider, legal in the root position
+     * @param groupOf maps each turn to its group, from 0 to the number of board tiles
+     * @param maxDepth deepest search, in turns
+     * @param cancelled checked regularly, stopping the search once it returns true
+     * @param onDepthCompleted called with the scores after each completed depth
+     * @return the result of the deepest completed depth, or null if cancelled before the first depth completed
+     */
+    public SearchResult search(Position root, int[] rootTurns, IntUnaryOperator groupOf, int maxDepth,
+                               BooleanSupplier cancelled, Consumer<SearchResult> onDepthCompleted) {
+        if (rootTurns.length == 0) {
+            throw new IllegalArgumentException("There are no turns to search.");
+        }
+        if (maxDepth < 1 || maxDepth >= MAX_PLY) {
+            throw new IllegalArgumentException("Search depth must be between 1 and " + (MAX_PLY - 1) + ".");
+        }
+
+        this.position = new Position(root);
+        this.rootTeam = position.getTeamToMove();
+        this.rootTeamKey = rootTeam * 0x9E3779B97F4A7C15L;
+        this.cancelled = cancelled;
+        this.nodes = 0;
+        this.tablebaseHits = 0;
+        allocateBuffers(position.getMaxTurns());
+        resetHeuristics(position.getTileCount());
+        evaluator.reset(position);
+
+        long start = System.nanoTime();
+        int[] turns = rootTurns.clone();
+        int[] scores = new int[turns.length];
+        int[] groupBest = new int[position.getTileCount()];
+        SearchResult result = null;
+        SearchDepthEvent event = null;
+        long depthStartNodes = 0;
+
+        try {
+            for (int depth = 1; depth <= maxDepth; depth++) {
+                event = new SearchDepthEvent();
+                event.begin();
+                depthStartNodes = nodes;
+                java.util.Arrays.fill(groupBest, -INFINITY);
+                for (int i = 0; i < turns.length; i++) {
+                    int group = groupOf.applyAsInt(turns[i]);
+                    scores[i] = depth > 1 && heuristics
+                            ? aspirationSearch(turns[i], depth, groupBest[group], scores[i])
+                            : searchRootTurn(turns[i], depth, groupBest[group], INFINITY);
+                    groupBest[group] = Math.max(groupBest[group], scores[i]);
+                }
+
+                // Best turns first, so the next depth searches them first and narrows each window sooner
+                sortByScore(turns, scores);
+                result = new SearchResult(depth, turns.clone(), scores.clone(), nodes, System.nanoTime() - start);
+                commitDepthEvent(event, depth, turns.length, nodes - depthStartNodes, scores[0], true);
+                onDepthCompleted.accept(result);
+
+                if (SearchResult.isWin(scores[0]) || SearchResult.isLoss(scores[0])) {
+                    break;
+                }
+            }
+        } catch (SearchCancelledException e) {
+            // Keep the deepest completed result
+            int depth = result == null ? 1 : result.depth() + 1;
+            commitDepthEvent(event, depth, turns.length, nodes - depthStartNodes, 0, false);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of positions searched by the last search.
+     *
+     * @return node count
+     */
+    public long getNodeCount() {
+        return nodes;
+    }
+
+    /**
+     * Gets the number of positions the last search found in the endgame tablebase.
+     *
+     * @return tablebase hits
+     */
+    public long getTablebaseHits() {
+        return tablebaseHits;
+    }
+
+    /**
+     * Sets an endgame tablebase, which ends the search of any position it has solved.
+     *
+     * @param tablebase the tablebase, or null to search without one
+     */
+    public void setTablebase(EndgameTablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    /**
+     * Turns killer turns, the history table and aspiration windows on or off, so what they save can be measured.
+     * They are on by default.
+     *
+     * @param heuristics true to use them
+     */
+    public void setHeuristics(boolean heuristics) {
+        this.heuristics = heuristics;
+    }
+
+    /**
+     * Sets the game reported in flight recorder events for later searches.
+     *
+     * @param gameId the game's id, or 0 if not known
+     */
+    public void setGameId(long gameId) {
+        this.gameId = gameId;
+    }
+
+    /**
+     * Empties the transposition table, for example before starting a new game.
+     */
+    public void clearTable() {
+        table.clear();
+    }
+
+    /**
+     * Records a search depth, if the flight recorder wants it.
+     */
+    private void commitDepthEvent(SearchDepthEvent event, int depth, int rootTurns, long depthNodes, int bestScore,
+                                  boolean completed) {
+        if (event != null && event.shouldCommit()) {
+            event.gameId = gameId;
+            event.depth = depth;
+            event.rootTurns = rootTurns;
+            event.nodes = depthNodes;
+            event.bestScore = bestScore;
+            event.completed = completed;
+            event.commit();
+        }
+    }
+
+    /**
+     * Scores a root turn in a window around its score at the last depth, widening the window until the score is
+     * inside it. The score of the best turn in its group stays the lower bound, as without a window.
+     */
+    private int aspirationSearch(int turn, int depth, int alpha, int guess) {
+        if (guess > WIN_THRESHOLD || guess < -WIN_THRESHOLD) {
+            return searchRootTurn(turn, depth, alpha, INFINITY);
+        }
+        int window = ASPIRATION_WINDOW;
+        int low = Math.max(alpha, guess - window);
+        int high = Math.max(guess + window, low + 1);
+        while (true) {
+            int score = searchRootTurn(turn, depth, low, high);
+            if (score <= low && low > alpha) {
+                window *= 4;
+                low = Math.max(alpha, score - window);
+            } else if (score >= high && high < INFINITY) {
+                window *= 4;
+                high = window > WIN_SCORE ? INFINITY : score + window;
+            } else {
+                return score;
+            }
+        }
+    }
+
+    /**
+     * Scores a root turn with the given bounds.
+     */
+    private int searchRootTurn(int turn, int depth, int alpha, int beta) {
+        if (position.isWinningTurn(turn)) {
+            return WIN_SCORE - 1;
+        }
+        makeTurn(turn);
+        try {
+            return alphaBeta(depth - 1, 1, alpha, beta);
+        } finally {
+            unmakeTurn(turn);
+        }
+    }
+
+    /**
+     * Searches a position, returning its score from the root team's point of view.
+     */
+    private int alphaBeta(int depth, int ply, int alpha, int beta) {
+        if (++nodes % CANCEL_CHECK_INTERVAL == 0 && cancelled.getAsBoolean()) {
+            throw new SearchCancelledException();
+        }
+
+        boolean maximising = position.getTeamToMove() == rootTeam;
+        int[] turns = turnBuffers[ply];
+        int count = position.generateTurns(turns);
+
+        // A player who cannot move loses, and winning moves end the game before the horizon matters
+        if (count == 0) {
+            return maximising ? -(WIN_SCORE - ply) : WIN_SCORE - ply;
+        }
+        for (int i = 0; i < count; i++) {
+            if (position.isWinningTurn(turns[i])) {
+                return maximising ? WIN_SCORE - ply - 1 : -(WIN_SCORE - ply - 1);
+            }
+        }
+        if (tablebase != null) {
+            int value = tablebase.probe(position);
+            if (value != EndgameTablebase.UNKNOWN) {
+                tablebaseHits++;
+                boolean moverWins = value == EndgameTablebase.WIN;
+                return moverWins == maximising ? TABLEBASE_WIN_SCORE - ply : -(TABLEBASE_WIN_SCORE - ply);
+            }
+        }
+
+        if (depth == 0) {
+            return evaluator.evaluate(position, rootTeam);
+        }
+
+        long key = position.getHash() ^ rootTeamKey;
+        long entry = table.probe(key);
+        int hashTurn = TranspositionTable.NO_TURN;
+        if (entry != 0) {
+            hashTurn = TranspositionTable.turnOf(entry);
+            if (TranspositionTable.depthOf(entry) >= depth) {
+                int score = fromTable(TranspositionTable.scoreOf(entry), ply);
+                int bound = TranspositionTable.boundOf(entry);
+                if (bound == TranspositionTable.EXACT
+                        || bound == TranspositionTable.LOWER_BOUND && score >= beta
+                        || bound == TranspositionTable.UPPER_BOUND && score <= alpha) {
+                    return score;
+                }
+            }
+        }
+
+        int[] order = orderBuffers[ply];
+        int[] plyKillers = killers[ply];
+        int historyBase = maximising ? 0 : history.length / 2;
+        for (int i = 0; i < count; i++) {
+            int turn = turns[i];
+            if (turn == hashTurn) {
+                order[i] = HASH_TURN_ORDER;
+            } else if (heuristics && turn == plyKillers[0]) {
+                order[i] = KILLER_ORDER + 1;
+            } else if (heuristics && turn == plyKillers[1]) {
+                order[i] = KILLER_ORDER;
+            } else {
+                order[i] = heuristics
+                        ? history[historyBase + historyIndex(turn)] + orderScore(turn) * STATIC_ORDER_WEIGHT
+                        : orderScore(turn);
+            }
+        }
+
+        int originalAlpha = alpha;
+        int originalBeta = beta;
+        int best = maximising ? -INFINITY : INFINITY;
+        int bestTurn = TranspositionTable.NO_TURN;
+
+        for (int i = 0; i < count; i++) {
+            int turn = nextTurn(turns, order, i, count);
+            makeTurn(turn);
+            int score;
+            try {
+                score = alphaBeta(depth - 1, ply + 1, alpha, beta);
+            } finally {
+                unmakeTurn(turn);
+            }
+
+            if (maximising ? score > best : score < best) {
+                best = score;
+                bestTurn = turn;
+            }
+            if (maximising) {
+                alpha = Math.max(alpha, score);
+            } else {
+                beta = Math.min(beta, score);
+            }
+            if (alpha >= beta) {
+                if (heuristics) {
+                    recordCutoff(turn, ply, depth, historyBase);
+                }
+                break;
+            }
+        }
+
+        int bound = best <= originalAlpha ? TranspositionTable.UPPER_BOUND
+                : best >= originalBeta ? TranspositionTable.LOWER_BOUND
+                : TranspositionTable.EXACT;
+        table.store(key, depth, toTable(best, ply), bound, bestTurn);
+        return best;
+    }
+
+    /**
+     * Makes a turn on the searched position, keeping the evaluator up to date.
+     */
+    private void makeTurn(int turn) {
+        position.makeTurn(turn);
+        evaluator.turnMade(position, turn);
+    }
+
+    /**
+     * Takes back a turn on the searched position, keeping the evaluator up to date.
+     */
+    private void unmakeTurn(int turn) {
+        position.unmakeTurn(turn);
+        evaluator.turnUnmade(position, turn);
+    }
+
+    /**
+     * Remembers a turn that caused a cutoff as a killer of its ply and in the history table.
+     */
+    private void recordCutoff(int turn, int ply, int depth, int historyBase) {
+        int[] plyKillers = killers[ply];
+        if (plyKillers[0] != turn) {
+            plyKillers[1] = plyKillers[0];
+            plyKillers[0] = turn;
+        }
+
+        int index = historyBase + historyIndex(turn);
+        history[index] += depth * depth;
+        if (history[index] > HISTORY_LIMIT) {
+            ageHistory();
+        }
+    }
+
+    /**
+     * Gets a turn's entry in the history table, for one team: its start tile, then the directions of its move and build.
+     */
+    private int historyIndex(int turn) {
+        int width = position.getWidth();
+        int from = Position.turnFrom(turn);
+        int to = Position.turnTo(turn);
+        int build = Position.turnBuild(turn);
+        int move = (to / width - from / width + 1) * 3 + to % width - from % width + 1;
+        int buildDirection = (build / width - to / width + 1) * 3 + build % width - to % width + 1;
+        return from * HISTORY_PER_TILE + move * 9 + buildDirection;
+    }
+
+    /**
+     * Halves every history score.
+     */
+    private void ageHistory() {
+        for (int i = 0; i < history.length; i++) {
+            history[i] >>= 1;
+        }
+    }
+
+    /**
+     * Forgets the killer turns of the last search, which were found at other plies, and ages the history table,
+     * resizing it if the board has changed.
+     */
+    private void resetHeuristics(int tileCount) {
+        for (int[] plyKillers : killers) {
+            java.util.Arrays.fill(plyKillers, TranspositionTable.NO_TURN);
+        }
+        if (history.length != 2 * tileCount * HISTORY_PER_TILE) {
+            history = new int[2 * tileCount * HISTORY_PER_TILE];
+        } else {
+            ageHistory();
+        }
+    }
+
+    /**
+     * Scores a turn for move ordering: climbing first, then building next to the moved worker's level.
+     */
+    private int orderScore(int turn) {
+        int to = Position.turnTo(turn);
+        int build = Position.turnBuild(turn);
+        int climb = position.getHeight(to) - position.getHeight(Position.turnFrom(turn));
+        int buildHeight = position.getHeight(build);
+        return climb * 16 + position.getHeight(to) * 4 + (buildHeight == position.getHeight(to) ? 2 : 0);
+    }
+
+    /**
+     * Swaps the best remaining turn into position i and returns it, so turns are only sorted as far as searched.
+     */
+    private static int nextTurn(int[] turns, int[] order, int i, int count) {
+        int best = i;
+        for (int j = i + 1; j < count; j++) {
+            if (order[j] > order[best]) best = j;
+        }
+        int turn = turns[best];
+        turns[best] = turns[i];
+        turns[i] = turn;
+        int score = order[best];
+        order[best] = order[i];
+        order[i] = score;
+        return turn;
+    }
+
+    /**
+     * Sorts turns by descending score, keeping the order of equal scores.
+     */
+    private static void sortByScore(int[] turns, int[] scores) {
+        for (int i = 1; i < turns.length; i++) {
+            int turn = turns[i];
+            int score = scores[i];
+            int j = i - 1;
+            while (j >= 0 && scores[j] < score) {
+                turns[j + 1] = turns[j];
+                scores[j + 1] = scores[j];
+                j--;
+            }
+            turns[j + 1] = turn;
+            scores[j + 1] = score;
+        }
+    }
+
+    /**
+     * Stores won and lost scores as turns from this position rather than from the root.
+     */
+    private static int toTable(int score, int ply) {
+        if (score > WIN_THRESHOLD) return score + ply;
+        if (score < -WIN_THRESHOLD) return score - ply;
+        return score;
+    }
+
+    /**
+     * Converts a stored score back to turns from the root.
+     */
+    private static int fromTable(int score, int ply) {
+        if (score > WIN_THRESHOLD) return score - ply;
+        if (score < -WIN_THRESHOLD) return score + ply;
+        return score;
+    }
+
+    /**
+     * Sizes the per-ply turn buffers for the current position.
+     */
+    private void allocateBuffers(int maxTurns) {
+        if (turnBuffers.length == 0 || turnBuffers[0].length < maxTurns) {
+            turnBuffers = new int[MAX_PLY][maxTurns];
+            orderBuffers = new int[MAX_PLY][maxTurns];
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package SantoriniGame.ai;
+
+/**
+ * SearchResult record - Scores of the root turns after one completed search depth.
+ * The best turn of each group is scored exactly; other turns may only have an upper bound.
+ *
+ * @param depth depth completed, in turns
+ * @param turns root turns, best first
+ * @param scores score of each root turn, from the point of view of the team to move
+ * @param nodes positions searched so far
+ * @param nanos time taken so far in nanoseconds
+ */
+public record SearchResult(int depth, int[] turns, int[] scores, long nodes, long nanos) {
+    /**
+     * Gets the best root turn.
+     *
+     * @return encoded turn
+     */
+    public int bestTurn() {
+        return turns[0];
+    }
+
+    /**
+     * Gets the score of the best root turn.
+     *
+     * @return score
+     */
+    public int bestScore() {
+        return scores[0];
+    }
+
+    /**
+     * Checks if a score means a won game.
+     *
+     * @param score a search score
+     * @return true if the team to move can force a win
+     */
+    public static boolean isWin(int score) {
+        return score > SearchEngine.WIN_THRESHOLD;
+    }
+
+    /**
+     * Checks if a score means a lost game.
+     *
+     * @param score a search score
+     * @return true if the opponents can force a win
+     */
+    public static boolean isLoss(int score) {
+        return score < -SearchEngine.WIN_THRESHOLD;
+    }
+}
@@ -0,0 +1,198 @@
+package SantoriniGame.ai;
+
+import SantoriniGame.analytics.GameArchive;
+import SantoriniGame.analytics.GameRecord;
+import SantoriniGame.analytics.PositionDatabase;
+import SantoriniGame.analytics.StoredPosition;
+import SantoriniGame.controller.GameController;
+import SantoriniGame.god.God;
+import SantoriniGame.god.GodFactory;
+import SantoriniGame.model.game.GameModel;
+import SantoriniGame.model.game.TurnPhase;
+import SantoriniGame.model.player.Player;
+import SantoriniGame.model.player.Team;
+import SantoriniGame.model.rating.MatchResult;
+import SantoriniGame.model.rating.RatingService;
+import SantoriniGame.model.victory.VictoryCondition;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * SelfPlay class - Plays a headless two player game between two sets of evaluation weights.
+ * Turns are chosen by BotPlayers and played through a GameController,
+ * so games follow the real rules, including trapped players losing. Bots never use god powers.
+ */
+public class SelfPlay {
+    /**
+     * Result returned when neither team has won within the turn limit.
+     */
+    public static final int DRAW = -1;
+
+    // Transposition table size for each bot, kept small as every game creates its own
+    private static final int TABLE_SIZE_BITS = 14;
+
+    private final int depth;
+    private final int boardSize;
+    private final int maxTurns;
+    private final OpeningBook book;
+    private final GameArchive archive;
+    private final PositionDatabase positions;
+    private final RatingService ratings;
+
+    /**
+     * Creates a self-play runner without an opening book, so every game is searched and varied.
+     *
+     * @param depth search depth of both bots, in turns
+     * @param boardSize board side
+     * @param maxTurns turns after which the game is a draw
+     */
+    public SelfPlay(int depth, int boardSize, int maxTurns) {
+        this(depth, boardSize, maxTurns, null);
+    }
+
+    /**
+     * Creates a self-play runner.
+     *
+     * @param depth search depth of both bots, in turns
+     * @param boardSize board side
+     * @param maxTurns turns after which the game is a draw
+     * @param book opening book both bots consult, or null for none
+     */
+    public SelfPlay(int depth, int boardSize, int maxTurns, OpeningBook book) {
+        this(depth, boardSize, maxTurns, book, null);
+    }
+
+    /**
+     * Creates a self-play runner that archives every game it plays.
+     *
+     * @param depth search depth of both bots, in turns
+     * @param boardSize board side
+     * @param maxTurns turns after which the game is a draw
+     * @param book opening book both bots consult, or null for none
+     * @param archive archive finished games are appended to, or null for none
+     */
+    public SelfPlay(int depth, int boardSize, int maxTurns, OpeningBook book, GameArchive archive) {
+        this(depth, boardSize, maxTurns, book, archive, null);
+    }
+
+    /**
+     * Creates a self-play runner that archives every game it plays along with the position before each turn.
+     *
+     * @param depth search depth of both bots, in turns
+     * @param boardSize board side, at most StoredPosition.MAX_SIZE if positions are stored
+     * @param maxTurns turns after which the game is a draw
+     * @param book opening book both bots consult, or null for none
+     * @param archive archive finished games are appended to, or null for none
+     * @param positions database the games' positions are appended to, or null for none
+     */
+    public SelfPlay(int depth, int boardSize, int maxTurns, OpeningBook book, GameArchive archive,
+                    PositionDatabase positions) {
+        this(depth, boardSize, maxTurns, book, archive, positions, null);
+    }
+
+    /**
+     * Creates a self-play runner that archives its games and rates its bots on a ladder.
+     * Each bot's ladder name is its weights, as written by EvaluationWeights.toString().
+     *
+     * @param depth search depth of both bots, in turns
+     * @param boardSize board side, at most StoredPosition.MAX_SIZE if positions are stored
+     * @param maxTurns turns after which the game is a draw
+     * @param book opening book both bots consult, or null for none
+     * @param archive archive finished games are appended to, or null for none
+     * @param positions database the games' positions are appended to, or null for none
+     * @param ratings ladder every finished game is submitted to, or null for none
+     */
+    public SelfPlay(int depth, int boardSize, int maxTurns, OpeningBook book, GameArchive archive,
+                    PositionDatabase positions, RatingService ratings) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Search depth must be at least 1.");
+        }
+        if (positions != null && (archive == null || boardSize > StoredPosition.MAX_SIZE)) {
+            throw new IllegalArgumentException("Positions can only be stored for archived games on boards up to "
+                    + StoredPosition.MAX_SIZE + " tiles wide.");
+        }
+        this.depth = depth;
+        this.boardSize = boardSize;
+        this.maxTurns = maxTurns;
+        this.book = book;
+        this.archive = archive;
+        this.positions = positions;
+        this.ratings = ratings;
+    }
+
+    /**
+     * Plays one game. Team 0 moves first.
+     *
+     * @param team0 weights of the bot playing team 0
+     * @param team1 weights of the bot playing team 1
+     * @param random source of god choices and tie breaks
+     * @return the winning team ID, or DRAW
+     */
+    public int play(EvaluationWeights team0, EvaluationWeights team1, Random random) {
+        List<String> godNames = GodFactory.getInstance().getGodNames();
+        God[] gods = new God[2];
+        for (int i = 0; i < gods.length; i++) {
+            gods[i] = GodFactory.getInstance().createGod(godNames.get(random.nextInt(godNames.size())));
+        }
+
+        GameModel model = new GameModel(gods, boardSize);
+        GameController controller = new GameController(model);
+        Player[] players = model.getPlayers().clone();
+        Team[] teams = model.getTeams();
+        String[] ladderNames = {team0.toString(), team1.toString()};
+        BotPlayer[] bots = new BotPlayer[] {
+                new BotPlayer(new SearchEngine(new FeatureEvaluator(team0), TABLE_SIZE_BITS), depth, book),
+                new BotPlayer(new SearchEngine(new FeatureEvaluator(team1), TABLE_SIZE_BITS), depth, book),
+        };
+        List<Position> history = new ArrayList<>();
+
+        for (int turn = 0; turn < maxTurns; turn++) {
+            VictoryCondition winner = controller.checkForWinner();
+            if (winner != null) {
+                return finish(model, players, teams, ladderNames, winner, history);
+            }
+            if (controller.getCurrentPhase() != TurnPhase.SELECT_WORKER) {
+                throw new IllegalStateException("Self-play turn started in phase " + controller.getCurrentPhase() + ".");
+            }
+
+            if (positions != null) {
+                history.add(Position.capture(model));
+            }
+            BotPlayer bot = bots[model.getCurrentPlayer().getTeam().getTeamId()];
+            BotPlayer.playTurn(controller, bot.chooseTurn(model, random));
+        }
+
+        return finish(model, players, teams, ladderNames, controller.checkForWinner(), history);
+    }
+
+    /**
+     * Archives a finished game and its positions, if archiving, and submits it to the ladder, if rating.
+     *
+     * @return the winning team ID, or DRAW
+     */
+    private int finish(GameModel model, Player[] players, Team[] teams, String[] ladderNames, VictoryCondition winner,
+                       List<Position> history) {
+        if (ratings != null) {
+            ratings.submitAll(MatchResult.of(teams, winner, player -> ladderNames[player.getTeam().getTeamId()]));
+        }
+        if (archive != null) {
+            try {
+                long gameId = archive.append(GameRecord.of(players, boardSize, winner, model.getTurnCount()));
+                if (positions != null) {
+                    List<StoredPosition> stored = new ArrayList<>();
+                    for (int turn = 0; turn < history.size(); turn++) {
+                        stored.add(StoredPosition.of(gameId, turn, history.get(turn)));
+                    }
+                    positions.appendGame(stored);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return winner != null ? winner.getTeam().getTeamId() : DRAW;
+    }
+}
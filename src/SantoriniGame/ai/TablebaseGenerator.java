@@ -0,0 +1,295 @@
+package SantoriniGame.ai;
+
+import SantoriniGame.CommandLineOptions;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * TablebaseGenerator class - Solves endgames with few undomed tiles into an EndgameTablebase.
+ * Every standard turn builds once, so the total height of the undomed tiles rises each turn and play can never
+ * repeat. Positions are solved layer by layer from the greatest total height down, each layer only needing the
+ * layers above it and the tables for fewer undomed tiles, so the states of a layer are solved in parallel.
+ * Tables are stored as they are finished, so a stopped generator carries on from the next unsolved table.
+ *
+ * Run with: java -cp out SantoriniGame.ai.TablebaseGenerator [--masks=hex,hex|--random=N] [--max-open=N]
+ * [--board=N] [--threads=N] [--directory=dir]
+ */
+public class TablebaseGenerator {
+    private final EndgameTablebase tablebase;
+    private final ForkJoinPool pool;
+
+    // Measurements across all tables solved by this generator
+    private final LongAdder statesSolved = new LongAdder();
+    private final LongAdder wins = new LongAdder();
+    private long solveNanos;
+    private int tablesSolved;
+
+    /**
+     * Creates a generator.
+     *
+     * @param tablebase the tablebase to add tables to
+     * @param threads states solved at once
+     */
+    public TablebaseGenerator(EndgameTablebase tablebase, int threads) {
+        this.tablebase = tablebase;
+        this.pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * Solves a set of undomed tiles, after every smaller set its positions can reach.
+     *
+     * @param mask bit set of undomed tiles, indexed y * size + x
+     * @throws IOException if a table cannot be stored
+     */
+    public void generate(long mask) throws IOException {
+        if (tablebase.contains(mask)) {
+            return;
+        }
+
+        // Doming any free tile leads to a smaller set, which must be solved first
+        if (Long.bitCount(mask) > 4) {
+            for (long rest = mask; rest != 0; rest &= rest - 1) {
+                generate(mask & ~Long.lowestOneBit(rest));
+            }
+        }
+        solve(tablebase.getLayout(mask));
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Gets a summary of the work done.
+     *
+     * @return tables, states, speed and share of wins
+     */
+    public String getSummary() {
+        long states = statesSolved.sum();
+        return String.format("%d tables, %d states in %.1fs, %.2fM states/s, %.1f%% wins for the side to move",
+                tablesSolved, states, solveNanos / 1e9, states / Math.max(1e-9, solveNanos / 1e9) / 1e6,
+                states == 0 ? 0.0 : 100.0 * wins.sum() / states);
+    }
+
+    /**
+     * Solves one table, layer by layer, and stores it.
+     */
+    private void solve(EndgameLayout layout) throws IOException {
+        long start = System.nanoTime();
+        long states = layout.getStateCount();
+        EndgameTablebase.SolvingTable table = new EndgameTablebase.SolvingTable(states);
+        long winsBefore = wins.sum();
+
+        for (int[] layer : layersByTotalHeight(layout)) {
+            try {
+                pool.submit(() -> IntStream.range(0, layer.length).parallel()
+                        .forEach(i -> solveHeights(layout, table, layer[i]))).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Tablebase generation was interrupted.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Tablebase generation failed.", e.getCause());
+            }
+        }
+        tablebase.append(layout.getMask(), table, states);
+
+        long nanos = System.nanoTime() - start;
+        solveNanos += nanos;
+        tablesSolved++;
+        statesSolved.add(states);
+        System.out.printf("Solved %s: %d tiles, %d states in %.2fs (%.2fM states/s), %.1f%% wins%n",
+                Long.toHexString(layout.getMask()), layout.getOpenTiles(), states, nanos / 1e9,
+                states / (nanos / 1e9) / 1e6, 100.0 * (wins.sum() - winsBefore) / states);
+    }
+
+    /**
+     * Groups height indexes by total height, greatest first.
+     */
+    private static List<int[]> layersByTotalHeight(EndgameLayout layout) {
+        int tiles = layout.getOpenTiles();
+        int[] counts = new int[3 * tiles + 1];
+        int[] totals = new int[layout.getHeightCount()];
+        for (int heights = 0; heights < totals.length; heights++) {
+            int total = 0;
+            for (int rest = heights; rest != 0; rest >>>= 2) {
+                total += rest & 3;
+            }
+            totals[heights] = total;
+            counts[total]++;
+        }
+
+        List<int[]> layers = new ArrayList<>();
+        for (int total = counts.length - 1; total >= 0; total--) {
+            int[] layer = new int[counts[total]];
+            int next = 0;
+            for (int heights = 0; heights < totals.length; heights++) {
+                if (totals[heights] == total) layer[next++] = heights;
+            }
+            layers.add(layer);
+        }
+        return layers;
+    }
+
+    /**
+     * Solves every worker placement for one combination of heights.
+     */
+    private void solveHeights(EndgameLayout layout, EndgameTablebase.SolvingTable table, int heights) {
+        int tiles = layout.getOpenTiles();
+        int[] height = new int[tiles];
+        for (int local = 0; local < tiles; local++) {
+            height[local] = heights / layout.power(local) & 3;
+        }
+
+        int moverPairs = layout.getMoverPairs();
+        int otherPairs = layout.getOtherPairs();
+        int localWins = 0;
+        for (int moverRank = 0; moverRank < moverPairs; moverRank++) {
+            int mover0 = layout.moverLow(moverRank);
+            int mover1 = layout.moverHigh(moverRank);
+            for (int otherRank = 0; otherRank < otherPairs; otherRank++) {
+                int other0 = layout.otherLow(otherRank, mover0, mover1);
+                int other1 = layout.otherHigh(otherRank, mover0, mover1);
+                int value = solveState(layout, table, heights, height, mover0, mover1, other0, other1);
+                table.set(((long) heights * moverPairs + moverRank) * otherPairs + otherRank, value);
+                if (value == EndgameTablebase.WIN) localWins++;
+            }
+        }
+        wins.add(localWins);
+    }
+
+    /**
+     * Solves one state: a win if the team to move can climb to level 3 or leave the other team lost, otherwise a loss,
+     * including when it has no turn at all.
+     */
+    private int solveState(EndgameLayout layout, EndgameTablebase.SolvingTable table, int heights, int[] height,
+                           int mover0, int mover1, int other0, int other1) {
+        // Climbing to level 3 wins at once, so check every move for it before looking deeper
+        for (int w = 0; w < 2; w++) {
+            int from = w == 0 ? mover0 : mover1;
+            for (int to : layout.getNeighbours(from)) {
+                if (height[to] == Position.VICTORY_LEVEL && height[from] == Position.VICTORY_LEVEL - 1
+                        && isFree(to, mover0, mover1, other0, other1)) {
+                    return EndgameTablebase.WIN;
+                }
+            }
+        }
+
+        for (int w = 0; w < 2; w++) {
+            int from = w == 0 ? mover0 : mover1;
+            int mate = w == 0 ? mover1 : mover0;
+            for (int to : layout.getNeighbours(from)) {
+                if (height[to] > height[from] + 1 || !isFree(to, mover0, mover1, other0, other1)) continue;
+                for (int build : layout.getNeighbours(to)) {
+                    // The tile just left is free to build on
+                    if (build == mate || build == other0 || build == other1) continue;
+                    int result = successorValue(layout, table, heights, height, build, other0, other1, to, mate);
+                    if (result == EndgameTablebase.LOSS) {
+                        return EndgameTablebase.WIN;
+                    }
+                }
+            }
+        }
+        return EndgameTablebase.LOSS;
+    }
+
+    /**
+     * Gets the value of the position after a build, for the other team, who moves next.
+     */
+    private int successorValue(EndgameLayout layout, EndgameTablebase.SolvingTable table, int heights, int[] height,
+                               int build, int mover0, int mover1, int other0, int other1) {
+        int result;
+        if (height[build] < Position.VICTORY_LEVEL) {
+            result = table.get(layout.index(heights + layout.power(build), mover0, mover1, other0, other1));
+        } else {
+            // Building on level 3 places a dome, leaving a smaller set of undomed tiles
+            long subMask = layout.getMask() & ~(1L << layout.getBoardTile(build));
+            EndgameLayout sub = tablebase.getLayout(subMask);
+            int subHeights = heights % layout.power(build) + heights / layout.power(build + 1) * layout.power(build);
+            result = tablebase.getTable(subMask).get(sub.index(subHeights,
+                    skip(mover0, build), skip(mover1, build), skip(other0, build), skip(other1, build)));
+        }
+        if (result == EndgameTablebase.UNKNOWN) {
+            throw new IllegalStateException("Tablebase successor was not solved before its predecessor.");
+        }
+        return result;
+    }
+
+    /**
+     * Checks if no worker stands on a tile.
+     */
+    private static boolean isFree(int tile, int a, int b, int c, int d) {
+        return tile != a && tile != b && tile != c && tile != d;
+    }
+
+    /**
+     * Renumbers a local tile once another tile has been domed.
+     */
+    private static int skip(int tile, int domed) {
+        return tile > domed ? tile - 1 : tile;
+    }
+
+    /**
+     * Generates tables from the command line.
+     *
+     * @param args options of the form --name=value
+     */
+    public static void main(String[] args) throws Exception {
+        Properties options = CommandLineOptions.parse(args);
+
+        int board = Integer.parseInt(options.getProperty("board", "5"));
+        int maxOpen = Integer.parseInt(options.getProperty("max-open", "7"));
+        if (maxOpen > EndgameLayout.MAX_OPEN_TILES) {
+            throw new IllegalArgumentException("Tables hold at most " + EndgameLayout.MAX_OPEN_TILES
+                    + " undomed tiles, not " + maxOpen + ".");
+        }
+        int threads = Integer.parseInt(options.getProperty("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        Path directory = Path.of(options.getProperty("directory", EndgameTablebase.DEFAULT_DIRECTORY.toString()));
+
+        List<Long> masks = new ArrayList<>();
+        if (options.containsKey("masks")) {
+            for (String mask : options.getProperty("masks").split(",")) {
+                masks.add(Long.parseLong(mask.trim(), 16));
+            }
+        } else {
+            // Random sets of undomed tiles of the largest size asked for
+            Random random = new Random();
+            int count = Integer.parseInt(options.getProperty("random", "1"));
+            for (int i = 0; i < count; i++) {
+                long mask = 0;
+                while (Long.bitCount(mask) < maxOpen) {
+                    mask |= 1L << random.nextInt(board * board);
+                }
+                masks.add(mask);
+            }
+        }
+
+        EndgameTablebase tablebase = EndgameTablebase.open(directory, board);
+        System.out.println("Resuming with " + tablebase.getTableCount() + " tables in " + directory);
+        TablebaseGenerator generator = new TablebaseGenerator(tablebase, threads);
+        try {
+            for (long mask : masks) {
+                if (Long.bitCount(mask) > maxOpen) {
+                    throw new IllegalArgumentException("Mask " + Long.toHexString(mask) + " has more than "
+                            + maxOpen + " undomed tiles.");
+                }
+                generator.generate(mask);
+            }
+        } finally {
+            generator.shutdown();
+        }
+        System.out.println(generator.getSummary());
+    }
+}
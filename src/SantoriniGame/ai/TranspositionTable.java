@@ -0,0 +1,137 @@
+package SantoriniGame.ai;
+
+import java.util.Arrays;
+
+/**
+ * TranspositionTable class - Remembers scores of searched positions, keyed by Zobrist hash.
+ * Each entry is packed into a single long beside its key, so the table is two flat arrays.
+ * Kept across iterations and searches, so each deeper search starts from the work of the last.
+ * Not thread-safe: each SearchEngine owns its own table.
+ */
+public class TranspositionTable {
+    /**
+     * Score is exact.
+     */
+    public static final int EXACT = 0;
+
+    /**
+     * Score is at least the stored value.
+     */
+    public static final int LOWER_BOUND = 1;
+
+    /**
+     * Score is at most the stored value.
+     */
+    public static final int UPPER_BOUND = 2;
+
+    /**
+     * Turn stored when no best turn is known.
+     */
+    public static final int NO_TURN = -1;
+
+    // Entry layout: turn in the low 32 bits, then 24 bit score, 6 bit depth and 2 bit bound type
+    private static final int SCORE_SHIFT = 32;
+    private static final int DEPTH_SHIFT = 56;
+    private static final int BOUND_SHIFT = 62;
+    private static final long SCORE_MASK = 0xFFFFFFL;
+    private static final int DEPTH_MASK = 0x3F;
+
+    private final long[] keys;
+    private final long[] entries;
+    private final int mask;
+
+    /**
+     * Creates a table.
+     *
+     * @param sizeBits log2 of the number of entries
+     */
+    public TranspositionTable(int sizeBits) {
+        if (sizeBits < 4 || sizeBits > 28) {
+            throw new IllegalArgumentException("Table size must be between 2^4 and 2^28 entries.");
+        }
+        keys = new long[1 << sizeBits];
+        entries = new long[1 << sizeBits];
+        mask = (1 << sizeBits) - 1;
+    }
+
+    /**
+     * Looks up a position.
+     *
+     * @param key position key
+     * @return the packed entry, or 0 if the position is not stored
+     */
+    public long probe(long key) {
+        int index = (int) key & mask;
+        return keys[index] == key ? entries[index] : 0;
+    }
+
+    /**
+     * Stores a position, replacing an entry only if it was searched less deeply or is for another position.
+     *
+     * @param key position key
+     * @param depth depth searched, in turns
+     * @param score score found
+     * @param bound EXACT, LOWER_BOUND or UPPER_BOUND
+     * @param turn best turn found, or NO_TURN
+     */
+    public void store(long key, int depth, int score, int bound, int turn) {
+        int index = (int) key & mask;
+        if (keys[index] == key && depthOf(entries[index]) > depth) {
+            return;
+        }
+        keys[index] = key;
+        entries[index] = (turn & 0xFFFFFFFFL)
+                | (score & SCORE_MASK) << SCORE_SHIFT
+                | (long) Math.min(depth, DEPTH_MASK) << DEPTH_SHIFT
+                | (long) bound << BOUND_SHIFT;
+    }
+
+    /**
+     * Empties the table.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(entries, 0);
+    }
+
+    /**
+     * Gets the best turn of an entry.
+     *
+     * @param entry a packed entry
+     * @return turn, or NO_TURN
+     */
+    public static int turnOf(long entry) {
+        return (int) entry;
+    }
+
+    /**
+     * Gets the score of an entry.
+     *
+     * @param entry a packed entry
+     * @return score
+     */
+    public static int scoreOf(long entry) {
+        // Shift up then down to sign extend the 24 bit score
+        return (int) (entry << (64 - SCORE_SHIFT - 24) >> (64 - 24));
+    }
+
+    /**
+     * Gets the depth of an entry.
+     *
+     * @param entry a packed entry
+     * @return depth searched, in turns
+     */
+    public static int depthOf(long entry) {
+        return (int) (entry >>> DEPTH_SHIFT) & DEPTH_MASK;
+    }
+
+    /**
+     * Gets the bound type of an entry.
+     *
+     * @param entry a packed entry
+     * @return EXACT, LOWER_BOUND or UPPER_BOUND
+     */
+    public static int boundOf(long entry) {
+        return (int) (entry >>> BOUND_SHIFT);
+    }
+}
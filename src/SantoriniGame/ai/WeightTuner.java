@@ -0,0 +1,380 @@
+package SantoriniGame.ai;
+
+import SantoriniGame.CommandLineOptions;
+import SantoriniGame.analytics.GameArchive;
+import SantoriniGame.analytics.PositionDatabase;
+import SantoriniGame.model.rating.Rating;
+import SantoriniGame.model.rating.RatingService;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * WeightTuner class - Tunes evaluation weights by SPSA over parallel self-play.
+ * Each iteration nudges every weight up or down at random, plays the nudged weights against their mirror image
+ * in game pairs with sides swapped, and moves the weights towards whichever side scored better.
+ * Games run on one thread per core. Progress is checkpointed after every iteration, so a stopped run resumes
+ * where it left off, and the current weights are written where EvaluationWeights.loadDefault() reads them.
+ * Both sides play their opening from the default opening book if there is one, or from the book given by --book,
+ * or search from the first turn with --book=none. With --ratings, every game is rated on a ladder saved to that file,
+ * each side named by its weights.
+ *
+ * Run with: java -cp out SantoriniGame.ai.WeightTuner [--iterations=N] [--pairs=N] [--depth=N] [--board=N]
+ * [--threads=N] [--checkpoint=file] [--output=file] [--archive=file] [--book=file|none]
+ * [--ratings=file]
+ */
+public class WeightTuner {
+    /**
+     * File progress is checkpointed to by default.
+     */
+    public static final Path DEFAULT_CHECKPOINT = Path.of("tuning-checkpoint.properties");
+
+    // SPSA decay exponents and stability constant, as recommended by Spall
+    private static final double STEP_DECAY = 0.602;
+    private static final double PERTURBATION_DECAY = 0.101;
+    private static final int STABILITY = 10;
+
+    // Learning rate, in perturbation sizes per unit of score difference
+    private static final double LEARNING_RATE = 2.0;
+
+    // Number of iterations convergence is measured over
+    private static final int DRIFT_WINDOW = 10;
+
+    // Games longer than this are draws
+    private static final int MAX_TURNS = 200;
+
+    private final SelfPlay selfPlay;
+    private final int gamePairs;
+    private final int threads;
+    private final Path checkpoint;
+    private final Path output;
+
+    // Tuning state, saved in the checkpoint
+    private double[] theta;
+    private final double[] perturbation;
+    private int iteration;
+    private long totalGames;
+    private long seed;
+
+    // Weights at recent iterations, to measure how far they are still moving
+    private final List<double[]> history = new ArrayList<>();
+
+    /**
+     * Result of one iteration.
+     *
+     * @param iteration iteration number, from 1
+     * @param games games played
+     * @param plusScore score of the nudged up weights, from 0 to 1
+     * @param draws games drawn
+     * @param errors games abandoned because a turn was rejected
+     * @param gamesPerSecond games played per second of wall clock time
+     * @param drift average movement of the weights over recent iterations, in perturbation sizes per iteration
+     * @param weights the weights after the iteration
+     */
+    public record IterationResult(int iteration, int games, double plusScore, int draws, int errors,
+                                  double gamesPerSecond, double drift, EvaluationWeights weights) {
+        @Override
+        public String toString() {
+            return String.format("iteration %d: %d games, %.1f games/s, plus score %.3f, %d draws, %d errors, "
+                            + "drift %.3f, weights %s",
+                    iteration, games, gamesPerSecond, plusScore, draws, errors, drift, weights);
+        }
+    }
+
+    /**
+     * Creates a tuner, resuming from the checkpoint if it exists.
+     *
+     * @param selfPlay plays the tuning games
+     * @param gamePairs game pairs per iteration
+     * @param threads games played at once
+     * @param checkpoint file to save progress to
+     * @param output file to write the current weights to
+     * @throws IOException if the checkpoint exists but cannot be read
+     */
+    public WeightTuner(SelfPlay selfPlay, int gamePairs, int threads, Path checkpoint, Path output) throws IOException {
+        if (gamePairs < 1 || threads < 1) {
+            throw new IllegalArgumentException("Game pairs and threads must be at least 1.");
+        }
+        this.selfPlay = selfPlay;
+        this.gamePairs = gamePairs;
+        this.threads = threads;
+        this.checkpoint = checkpoint;
+        this.output = output;
+
+        // Weights are nudged by a tenth of their built in size, but always by at least 2
+        int[] start = EvaluationWeights.loadDefault().toArray();
+        int[] defaults = EvaluationWeights.defaults().toArray();
+        this.theta = new double[start.length];
+        this.perturbation = new double[start.length];
+        for (int i = 0; i < start.length; i++) {
+            theta[i] = start[i];
+            perturbation[i] = Math.max(2.0, Math.abs(defaults[i]) / 10.0);
+        }
+        this.seed = new Random().nextLong();
+
+        if (Files.isRegularFile(checkpoint)) {
+            loadCheckpoint();
+        }
+    }
+
+    /**
+     * Runs tuning iterations, checkpointing after each.
+     *
+     * @param iterations number of iterations to run
+     * @return the weights after the last iteration
+     * @throws IOException if the checkpoint or weights cannot be written
+     * @throws InterruptedException if interrupted while games are running
+     * @throws IllegalStateException if every game of an iteration fails
+     */
+    public EvaluationWeights run(int iterations) throws IOException, InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "self-play");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (int i = 0; i < iterations; i++) {
+                IterationResult result = runIteration(pool);
+                saveCheckpoint();
+                System.out.println(result);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return getWeights();
+    }
+
+    /**
+     * Gets the current weights, rounded to whole numbers.
+     *
+     * @return the weights
+     */
+    public EvaluationWeights getWeights() {
+        int[] rounded = new int[theta.length];
+        for (int i = 0; i < theta.length; i++) {
+            rounded[i] = (int) Math.round(theta[i]);
+        }
+        return EvaluationWeights.of(rounded);
+    }
+
+    /**
+     * Plays one iteration's games and updates the weights.
+     */
+    private IterationResult runIteration(ExecutorService pool) throws InterruptedException {
+        int k = iteration;
+        double stepSize = LEARNING_RATE / Math.pow(k + 1 + STABILITY, STEP_DECAY);
+        double perturbationScale = 1.0 / Math.pow(k + 1, PERTURBATION_DECAY);
+
+        // Nudge every weight up or down at random
+        Random random = new Random(seed ^ (k * 0x9E3779B97F4A7C15L));
+        int[] delta = new int[theta.length];
+        int[] plus = new int[theta.length];
+        int[] minus = new int[theta.length];
+        for (int i = 0; i < theta.length; i++) {
+            delta[i] = random.nextBoolean() ? 1 : -1;
+            double nudge = perturbation[i] * perturbationScale * delta[i];
+            plus[i] = (int) Math.round(theta[i] + nudge);
+            minus[i] = (int) Math.round(theta[i] - nudge);
+        }
+        EvaluationWeights plusWeights = EvaluationWeights.of(plus);
+        EvaluationWeights minusWeights = EvaluationWeights.of(minus);
+
+        // Each pair plays both ways round, so moving first favours neither side
+        List<Callable<Integer>> games = new ArrayList<>();
+        for (int g = 0; g < gamePairs * 2; g++) {
+            boolean plusFirst = g % 2 == 0;
+            long gameSeed = random.nextLong();
+            games.add(() -> {
+                int winner = selfPlay.play(plusFirst ? plusWeights : minusWeights,
+                        plusFirst ? minusWeights : plusWeights, new Random(gameSeed));
+                if (winner == SelfPlay.DRAW) return 0;
+                return (winner == 0) == plusFirst ? 1 : -1;
+            });
+        }
+
+        long start = System.nanoTime();
+        double plusPoints = 0;
+        int scored = 0;
+        int draws = 0;
+        int errors = 0;
+        Throwable firstError = null;
+        for (Future<Integer> future : pool.invokeAll(games)) {
+            try {
+                int outcome = future.get();
+                plusPoints += outcome > 0 ? 1 : outcome == 0 ? 0.5 : 0;
+                draws += outcome == 0 ? 1 : 0;
+                scored++;
+            } catch (ExecutionException e) {
+                errors++;
+                if (firstError == null) {
+                    firstError = e.getCause();
+                }
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        // A failing game is reported once per iteration, and the run stops if no game could be scored
+        if (scored == 0) {
+            throw new IllegalStateException("Every game of iteration " + (k + 1) + " failed.", firstError);
+        }
+        if (firstError != null) {
+            System.err.println(errors + " of " + games.size() + " games of iteration " + (k + 1)
+                    + " failed, the first with:");
+            firstError.printStackTrace();
+        }
+
+        // Move towards the better side, in proportion to how much better it scored
+        double plusScore = plusPoints / scored;
+        double difference = 2 * plusScore - 1;
+        for (int i = 0; i < theta.length; i++) {
+            theta[i] += stepSize * perturbation[i] * perturbationScale * difference * delta[i];
+        }
+
+        iteration++;
+        totalGames += games.size();
+        history.add(theta.clone());
+        if (history.size() > DRIFT_WINDOW + 1) {
+            history.remove(0);
+        }
+
+        return new IterationResult(iteration, games.size(), plusScore, draws, errors,
+                games.size() / seconds, getDrift(), getWeights());
+    }
+
+    /**
+     * Measures how far the weights moved over recent iterations, scaled by their perturbation sizes.
+     * Falls towards zero as tuning converges.
+     */
+    private double getDrift() {
+        if (history.size() < 2) {
+            return Double.NaN;
+        }
+        double[] first = history.get(0);
+        double[] last = history.get(history.size() - 1);
+        double total = 0;
+        for (int i = 0; i < theta.length; i++) {
+            total += Math.abs(last[i] - first[i]) / perturbation[i];
+        }
+        return total / theta.length / (history.size() - 1);
+    }
+
+    /**
+     * Saves progress and the current weights, replacing the old checkpoint in one step.
+     */
+    private void saveCheckpoint() throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("spsa.iteration", String.valueOf(iteration));
+        properties.setProperty("spsa.games", String.valueOf(totalGames));
+        properties.setProperty("spsa.seed", String.valueOf(seed));
+        EvaluationFeature[] features = EvaluationFeature.values();
+        for (int i = 0; i < features.length; i++) {
+            properties.setProperty("theta." + features[i].getKey(), String.valueOf(theta[i]));
+        }
+
+        Path temp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            properties.store(writer, "SPSA tuning checkpoint");
+        }
+        try {
+            Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        getWeights().save(output, "Tuned by SPSA self-play, iteration " + iteration + ", " + totalGames + " games");
+    }
+
+    /**
+     * Restores progress from the checkpoint.
+     */
+    private void loadCheckpoint() throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(checkpoint, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        try {
+            iteration = Integer.parseInt(properties.getProperty("spsa.iteration", "0"));
+            totalGames = Long.parseLong(properties.getProperty("spsa.games", "0"));
+            seed = Long.parseLong(properties.getProperty("spsa.seed", String.valueOf(seed)));
+            EvaluationFeature[] features = EvaluationFeature.values();
+            for (int i = 0; i < features.length; i++) {
+                String value = properties.getProperty("theta." + features[i].getKey());
+                if (value != null) {
+                    theta[i] = Double.parseDouble(value);
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Checkpoint " + checkpoint + " is corrupt: " + e.getMessage());
+        }
+        history.add(theta.clone());
+        System.out.println("Resumed from iteration " + iteration + " after " + totalGames + " games");
+    }
+
+    /**
+     * Runs the tuner from the command line.
+     *
+     * @param args options of the form --name=value
+     */
+    public static void main(String[] args) throws Exception {
+        Properties options = CommandLineOptions.parse(args);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        int iterations = Integer.parseInt(options.getProperty("iterations", "100"));
+        int threads = Integer.parseInt(options.getProperty("threads", String.valueOf(cores)));
+        int pairs = Integer.parseInt(options.getProperty("pairs", String.valueOf(threads * 4)));
+        int depth = Integer.parseInt(options.getProperty("depth", "2"));
+        int board = Integer.parseInt(options.getProperty("board", "5"));
+        Path checkpoint = Path.of(options.getProperty("checkpoint", DEFAULT_CHECKPOINT.toString()));
+        Path output = Path.of(options.getProperty("output", EvaluationWeights.DEFAULT_FILE.toString()));
+
+        // Archived games keep the position before each turn beside them, for searching by pattern
+        GameArchive archive = null;
+        PositionDatabase positions = null;
+        if (options.containsKey("archive")) {
+            archive = GameArchive.open(Path.of(options.getProperty("archive")));
+            positions = PositionDatabase.open(Path.of(options.getProperty("archive") + ".positions"));
+        }
+
+        // Both sides read the same book, so it shortens games without favouring either
+        String bookOption = options.getProperty("book");
+        OpeningBook book = bookOption == null ? OpeningBook.openDefault()
+                : bookOption.equals("none") ? null : OpeningBook.open(Path.of(bookOption));
+
+        RatingService ratings = options.containsKey("ratings")
+                ? new RatingService(Path.of(options.getProperty("ratings"))) : null;
+
+        SelfPlay selfPlay = new SelfPlay(depth, board, MAX_TURNS, book, archive, positions, ratings);
+        WeightTuner tuner = new WeightTuner(selfPlay, pairs, threads, checkpoint, output);
+        System.out.println("Tuning on " + threads + " threads, " + pairs * 2 + " games per iteration, "
+                + (book == null ? "without an opening book" : "with an opening book of " + book.size() + " turns"));
+        try {
+            System.out.println("Final weights: " + tuner.run(iterations));
+        } finally {
+            if (ratings != null) {
+                ratings.close();
+            }
+        }
+        if (ratings != null) {
+            System.out.println("Top rated weights:");
+            for (Rating rating : ratings.getTopRatings(5)) {
+                System.out.printf("  %4.0f +/- %3.0f after %d games: %s%n", rating.rating(), 2 * rating.deviation(),
+                        rating.games(), rating.player());
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package SantoriniGame.analytics;
+
+/**
+ * Bitboards class - Tile sets of a board of up to 8x8 tiles, one bit per tile, numbered y * size + x.
+ */
+final class Bitboards {
+    /**
+     * Largest board side a bitboard can hold.
+     */
+    static final int MAX_SIZE = 8;
+
+    // Every tile, and every tile but the first or last column, by board size
+    private static final long[] BOARD = new long[MAX_SIZE + 1];
+    private static final long[] NOT_FIRST_COLUMN = new long[MAX_SIZE + 1];
+    private static final long[] NOT_LAST_COLUMN = new long[MAX_SIZE + 1];
+
+    static {
+        for (int size = 1; size <= MAX_SIZE; size++) {
+            for (int y = 0; y < size; y++) {
+                for (int x = 0; x < size; x++) {
+                    long bit = 1L << (y * size + x);
+                    BOARD[size] |= bit;
+                    if (x > 0) NOT_FIRST_COLUMN[size] |= bit;
+                    if (x < size - 1) NOT_LAST_COLUMN[size] |= bit;
+                }
+            }
+        }
+    }
+
+    private Bitboards() {
+    }
+
+    /**
+     * Gets the tiles next to any of the given tiles, diagonals included.
+     * The given tiles themselves are only included if they are next to another given tile.
+     *
+     * @param tiles the tiles
+     * @param size board side
+     * @return the neighbouring tiles
+     */
+    static long neighbours(long tiles, int size) {
+        // Tiles stepping right must not be in the last column, or they would wrap to the next row, and so on
+        long left = tiles & NOT_FIRST_COLUMN[size];
+        long right = tiles & NOT_LAST_COLUMN[size];
+        long row = (left >>> 1) | (right << 1);
+        long sideways = row | tiles;
+        return (row | (sideways << size) | (sideways >>> size)) & BOARD[size];
+    }
+
+    /**
+     * Gets the bit of a tile.
+     *
+     * @param x tile column
+     * @param y tile row
+     * @param size board side
+     * @return the tile's bit
+     */
+    static long bit(int x, int y, int size) {
+        return 1L << (y * size + x);
+    }
+}
@@ -0,0 +1,266 @@
+package SantoriniGame.analytics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GameArchive class - An append-only file of GameRecords, stored as fixed size binary records.
+ * God and victory type names are stored once, in a names file beside the archive, and records refer to them by
+ * index, so records stay small and any range of them can be read directly, in parallel chunks.
+ * Names are always written before the records that use them, and a partly written record left by a crash is
+ * dropped on open, so readers only ever see whole records.
+ *
+ * Record layout, little-endian: end time (8), turn count (4), board size (1), player count (1), winning team (1),
+ * team of each player as bits (1), victory type name (2), god name of each player (2 x 4), unused (6).
+ */
+public class GameArchive implements AutoCloseable {
+    /**
+     * Size of the header before the first record.
+     */
+    static final int HEADER_SIZE = 16;
+
+    /**
+     * Size of each record.
+     */
+    static final int RECORD_SIZE = 32;
+
+    /**
+     * Name index of an empty player slot.
+     */
+    static final short NO_NAME = -1;
+
+    // Offsets within a record
+    static final int END_TIME = 0;
+    static final int TURN_COUNT = 8;
+    static final int BOARD_SIZE = 12;
+    static final int PLAYER_COUNT = 13;
+    static final int WINNING_TEAM = 14;
+    static final int TEAM_BITS = 15;
+    static final int VICTORY_TYPE = 16;
+    static final int GODS = 18;
+
+    private static final int MAGIC = 0x53474131; // "SGA1"
+    private static final int VERSION = 1;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final List<String> names;
+    private final Map<String, Short> nameIndexes = new HashMap<>();
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private long recordCount;
+
+    private GameArchive(Path file, FileChannel channel, List<String> names, long recordCount) {
+        this.file = file;
+        this.channel = channel;
+        this.names = names;
+        this.recordCount = recordCount;
+        for (int i = 0; i < names.size(); i++) {
+            nameIndexes.put(names.get(i), (short) i);
+        }
+    }
+
+    /**
+     * Opens an archive for appending, creating it if it does not exist.
+     *
+     * @param file the archive file
+     * @return the archive
+     * @throws IOException if the file cannot be opened or is not an archive
+     */
+    public static GameArchive open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putInt(VERSION).position(HEADER_SIZE).flip();
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+            }
+            long recordCount = countRecords(channel, file);
+
+            // A crash can leave part of a record or name at the end
+            channel.truncate(HEADER_SIZE + recordCount * RECORD_SIZE);
+            List<String> names = readNames(file);
+            if (Files.exists(namesFile(file))) {
+                long wholeLines = 0;
+                for (String name : names) {
+                    wholeLines += name.getBytes(StandardCharsets.UTF_8).length + 1;
+                }
+                try (FileChannel namesChannel = FileChannel.open(namesFile(file), StandardOpenOption.WRITE)) {
+                    namesChannel.truncate(wholeLines);
+                }
+            }
+            return new GameArchive(file, channel, names, recordCount);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends a game. Safe to call from several threads.
+     *
+     * @param game the finished game
+     * @return index of the game in the archive
+     * @throws IOException if the archive cannot be written
+     */
+    public synchronized long append(GameRecord game) throws IOException {
+        short victoryType = nameIndex(game.victoryType());
+        short[] gods = new short[GameRecord.MAX_PLAYERS];
+        int teamBits = 0;
+        for (int i = 0; i < GameRecord.MAX_PLAYERS; i++) {
+            gods[i] = i < game.playerCount() ? nameIndex(game.gods().get(i)) : NO_NAME;
+            if (i < game.playerCount() && game.teams().get(i) == 1) teamBits |= 1 << i;
+        }
+
+        record.clear();
+        record.putLong(game.endedAtMillis())
+                .putInt(game.turnCount())
+                .put((byte) game.boardSize())
+                .put((byte) game.playerCount())
+                .put((byte) game.winningTeam())
+                .put((byte) teamBits)
+                .putShort(victoryType);
+        for (short god : gods) {
+            record.putShort(god);
+        }
+        record.position(RECORD_SIZE).flip();
+        long position = HEADER_SIZE + recordCount * RECORD_SIZE;
+        while (record.hasRemaining()) {
+            position += channel.write(record, position);
+        }
+        return recordCount++;
+    }
+
+    /**
+     * Gets the number of games in the archive.
+     *
+     * @return record count
+     */
+    public synchronized long size() {
+        return recordCount;
+    }
+
+    /**
+     * Writes appended games to the disk.
+     *
+     * @throws IOException if the archive cannot be written
+     */
+    public void force() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Counts the whole records in an archive file.
+     *
+     * @param file the archive file
+     * @return record count
+     * @throws IOException if the file cannot be read or is not an archive
+     */
+    public static long countRecords(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return countRecords(channel, file);
+        }
+    }
+
+    /**
+     * Reads the names records refer to. Names of any record counted before this call are included.
+     *
+     * @param file the archive file
+     * @return names by index
+     * @throws IOException if the names file exists but cannot be read
+     */
+    public static List<String> readNames(Path file) throws IOException {
+        Path namesFile = namesFile(file);
+        if (!Files.exists(namesFile)) {
+            return new ArrayList<>();
+        }
+        String text = Files.readString(namesFile, StandardCharsets.UTF_8);
+
+        // Only whole lines count, as a crash can leave a partly written last name that no record refers to yet
+        List<String> names = new ArrayList<>();
+        int start = 0;
+        for (int end = text.indexOf('\n'); end >= 0; end = text.indexOf('\n', start)) {
+            names.add(text.substring(start, end));
+            start = end + 1;
+        }
+        return names;
+    }
+
+    /**
+     * Maps a range of records for reading.
+     *
+     * @param file the archive file
+     * @param first index of the first record
+     * @param count number of records, small enough to map at once
+     * @return the records, little-endian, one every RECORD_SIZE bytes
+     * @throws IOException if the file cannot be read
+     */
+    static MappedByteBuffer mapRecords(Path file, long first, int count) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * RECORD_SIZE,
+                    (long) count * RECORD_SIZE);
+            records.order(ByteOrder.LITTLE_ENDIAN);
+            return records;
+        }
+    }
+
+    /**
+     * Gets the index of a name, adding it to the names file if it is new.
+     */
+    private short nameIndex(String name) throws IOException {
+        Short index = nameIndexes.get(name);
+        if (index != null) {
+            return index;
+        }
+        if (name.indexOf('\n') >= 0 || name.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("Archived names cannot contain line breaks: " + name);
+        }
+        if (names.size() >= Short.MAX_VALUE) {
+            throw new IllegalStateException("The archive has too many names.");
+        }
+
+        // Written and forced before any record refers to it
+        try (FileChannel namesChannel = FileChannel.open(namesFile(file), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            namesChannel.write(ByteBuffer.wrap((name + "\n").getBytes(StandardCharsets.UTF_8)));
+            namesChannel.force(false);
+        }
+        short added = (short) names.size();
+        names.add(name);
+        nameIndexes.put(name, added);
+        return added;
+    }
+
+    private static long countRecords(FileChannel channel, Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        if (channel.read(header, 0) != HEADER_SIZE || header.getInt(0) != MAGIC) {
+            throw new IOException(file + " is not a game archive.");
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IOException(file + " is archive version " + header.getInt(4) + ", expected " + VERSION + ".");
+        }
+        return (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+    }
+
+    private static Path namesFile(Path file) {
+        return file.resolveSibling(file.getFileName() + ".names");
+    }
+}
@@ -0,0 +1,91 @@
+package SantoriniGame.analytics;
+
+import SantoriniGame.model.player.Player;
+import SantoriniGame.model.victory.VictoryCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GameRecord record - The summary of one finished game kept in a GameArchive.
+ *
+ * @param gods god name of each player, in turn order
+ * @param teams team ID of each player, 0 or 1
+ * @param boardSize board side
+ * @param winningTeam team ID of the winners, or DRAW
+ * @param victoryType simple class name of the satisfied victory condition, or NO_VICTORY for a draw
+ * @param turnCount turns played
+ * @param endedAtMillis when the game ended, in milliseconds since the epoch
+ */
+public record GameRecord(List<String> gods, List<Integer> teams, int boardSize, int winningTeam, String victoryType,
+                         int turnCount, long endedAtMillis) {
+    /**
+     * Winning team of a game neither team won.
+     */
+    public static final int DRAW = -1;
+
+    /**
+     * Victory type of a game neither team won.
+     */
+    public static final String NO_VICTORY = "None";
+
+    /**
+     * Most players a record can hold.
+     */
+    public static final int MAX_PLAYERS = 4;
+
+    /**
+     * Creates a game record, checking it can be archived.
+     */
+    public GameRecord {
+        gods = List.copyOf(gods);
+        teams = List.copyOf(teams);
+        if (gods.size() < 2 || gods.size() > MAX_PLAYERS || teams.size() != gods.size()) {
+            throw new IllegalArgumentException("A game record needs a god and team for each of 2 to "
+                    + MAX_PLAYERS + " players.");
+        }
+        for (int team : teams) {
+            if (team != 0 && team != 1) {
+                throw new IllegalArgumentException("Team IDs must be 0 or 1.");
+            }
+        }
+        if (winningTeam != DRAW && winningTeam != 0 && winningTeam != 1) {
+            throw new IllegalArgumentException("Winning team must be 0, 1 or DRAW.");
+        }
+        if (boardSize < 1 || boardSize > Byte.MAX_VALUE || turnCount < 0) {
+            throw new IllegalArgumentException("Invalid board size or turn count.");
+        }
+    }
+
+    /**
+     * Creates the record of a finished game.
+     * Players must be taken before the game starts, as the game drops removed players.
+     *
+     * @param players the game's players as they started, in turn order
+     * @param boardSize board side
+     * @param winner the satisfied victory condition, or null for a draw
+     * @param turnCount turns played
+     * @return the record
+     */
+    public static GameRecord of(Player[] players, int boardSize, VictoryCondition winner, int turnCount) {
+        List<String> gods = new ArrayList<>();
+        List<Integer> teams = new ArrayList<>();
+        for (Player player : players) {
+            gods.add(player.getSelectedGod().getName());
+            teams.add(player.getTeam().getTeamId());
+        }
+        return new GameRecord(gods, teams, boardSize,
+                winner == null ? DRAW : winner.getTeam().getTeamId(),
+                winner == null ? NO_VICTORY : winner.getClass().getSimpleName(),
+                turnCount, System.currentTimeMillis());
+    }
+
+    /**
+     * Gets the number of players.
+     *
+     * @return player count
+     */
+    public int playerCount() {
+        return gods.size();
+    }
+}
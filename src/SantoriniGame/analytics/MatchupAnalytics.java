@@ -0,0 +1,153 @@
+package SantoriniGame.analytics;
+
+import SantoriniGame.CommandLineOptions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+/**
+ * MatchupAnalytics class - Totals an archive's games into MatchupStats, reading the archive in parallel chunks.
+ * Each thread totals the chunks it reads into its own MatchupStats, and these are merged at the end.
+ * Totals are saved to a checkpoint with the number of records they cover, so each run only reads the games
+ * archived since the last.
+ *
+ * Run with: java -cp out SantoriniGame.analytics.MatchupAnalytics --archive=games.archive [--min-games=N]
+ * [--threads=N] [--full=true]
+ */
+public class MatchupAnalytics {
+    // Records read by one task, 2MB of archive
+    private static final int CHUNK_RECORDS = 1 << 16;
+
+    private final Path archive;
+    private final Path checkpoint;
+    private final int threads;
+
+    // Measurements of the last run
+    private long recordsRead;
+    private long runNanos;
+
+    /**
+     * Creates an analytics job.
+     *
+     * @param archive the game archive to read
+     * @param checkpoint file totals are kept in between runs
+     * @param threads chunks read at once
+     */
+    public MatchupAnalytics(Path archive, Path checkpoint, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed.");
+        }
+        this.archive = archive;
+        this.checkpoint = checkpoint;
+        this.threads = threads;
+    }
+
+    /**
+     * Reads the games archived since the last run and adds them to the saved totals.
+     *
+     * @return totals over every game in the archive
+     * @throws IOException if the archive cannot be read or the checkpoint cannot be written
+     */
+    public MatchupStats run() throws IOException {
+        long start = System.nanoTime();
+        MatchupStats stats = new MatchupStats();
+        long first = MatchupStats.load(checkpoint, stats);
+        long end = GameArchive.countRecords(archive);
+        if (end < first) {
+            throw new IllegalStateException("The archive has " + end + " games but the checkpoint covers " + first
+                    + "; delete " + checkpoint + " to start again.");
+        }
+
+        long chunks = (end - first + CHUNK_RECORDS - 1) / CHUNK_RECORDS;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            MatchupStats read = pool.submit(() -> LongStream.range(0, chunks).parallel().collect(
+                    MatchupStats::new,
+                    (totals, chunk) -> readChunk(totals, first + chunk * CHUNK_RECORDS, end),
+                    MatchupStats::merge)).get();
+            stats.merge(read);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading the archive.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw new IllegalStateException("Reading the archive failed.", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        stats.save(checkpoint, end);
+        recordsRead = end - first;
+        runNanos = System.nanoTime() - start;
+        return stats;
+    }
+
+    /**
+     * Gets the number of games read by the last run.
+     *
+     * @return games read, excluding those already in the checkpoint
+     */
+    public long getRecordsRead() {
+        return recordsRead;
+    }
+
+    /**
+     * Gets the time taken by the last run.
+     *
+     * @return time in nanoseconds
+     */
+    public long getRunNanos() {
+        return runNanos;
+    }
+
+    /**
+     * Totals one chunk of records.
+     */
+    private void readChunk(MatchupStats totals, long first, long end) {
+        int count = (int) Math.min(CHUNK_RECORDS, end - first);
+        try {
+            MappedByteBuffer records = GameArchive.mapRecords(archive, first, count);
+            for (int i = 0; i < count; i++) {
+                totals.add(records, i * GameArchive.RECORD_SIZE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Runs the analytics from the command line and prints the report.
+     *
+     * @param args options of the form --name=value
+     */
+    public static void main(String[] args) throws IOException {
+        Properties options = CommandLineOptions.parse(args);
+
+        Path archive = Path.of(options.getProperty("archive", "games.archive"));
+        Path checkpoint = Path.of(options.getProperty("checkpoint", archive + ".analytics"));
+        int threads = Integer.parseInt(options.getProperty("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        int minGames = Integer.parseInt(options.getProperty("min-games", "20"));
+        if (Boolean.parseBoolean(options.getProperty("full", "false"))) {
+            Files.deleteIfExists(checkpoint);
+        }
+
+        MatchupAnalytics analytics = new MatchupAnalytics(archive, checkpoint, threads);
+        MatchupStats stats = analytics.run();
+        List<String> names = GameArchive.readNames(archive);
+        System.out.print(stats.report(names, minGames));
+        double seconds = analytics.getRunNanos() / 1e9;
+        System.out.printf("%nRead %d new games in %.2fs (%.1fM games/s)%n", analytics.getRecordsRead(), seconds,
+                analytics.getRecordsRead() / Math.max(1e-9, seconds) / 1e6);
+    }
+}
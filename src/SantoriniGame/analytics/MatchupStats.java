@@ -0,0 +1,283 @@
+package SantoriniGame.analytics;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MatchupStats class - Totals over archived games, by god pair, board size and player count.
+ * Each game counts once for every pair of opposing gods in it, so a four player game adds four pairings.
+ * Totals are kept by name index, as the names of an archive never change, so totals from separate runs and
+ * separate threads can simply be added together.
+ * Not thread-safe: each thread fills its own and they are merged.
+ */
+public class MatchupStats {
+    // Totals per pairing of a lower and higher indexed god: games, wins for the lower god's team, draws, turns
+    private static final int PAIR_GAMES = 0;
+    private static final int PAIR_LOW_WINS = 1;
+    private static final int PAIR_DRAWS = 2;
+    private static final int PAIR_TURNS = 3;
+
+    // Totals per board size and player count: games, draws, turns
+    private static final int GROUP_GAMES = 0;
+    private static final int GROUP_DRAWS = 1;
+    private static final int GROUP_TURNS = 2;
+
+    private static final String CHECKPOINT_HEADER = "# Santorini matchup analytics checkpoint";
+
+    private final Map<Long, long[]> pairs = new HashMap<>();
+    private final Map<Long, long[]> groups = new HashMap<>();
+    private final Map<Long, long[]> victories = new HashMap<>();
+    private long games;
+
+    /**
+     * Adds one archived game.
+     *
+     * @param records mapped records
+     * @param offset offset of the record
+     */
+    void add(ByteBuffer records, int offset) {
+        int turns = records.getInt(offset + GameArchive.TURN_COUNT);
+        int boardSize = records.get(offset + GameArchive.BOARD_SIZE);
+        int playerCount = records.get(offset + GameArchive.PLAYER_COUNT);
+        int winningTeam = records.get(offset + GameArchive.WINNING_TEAM);
+        int teamBits = records.get(offset + GameArchive.TEAM_BITS);
+        int victoryType = records.getShort(offset + GameArchive.VICTORY_TYPE);
+        boolean draw = winningTeam < 0;
+        games++;
+
+        long[] group = groups.computeIfAbsent(groupKey(boardSize, playerCount), k -> new long[3]);
+        group[GROUP_GAMES]++;
+        group[GROUP_TURNS] += turns;
+        if (draw) group[GROUP_DRAWS]++;
+        victories.computeIfAbsent(victoryKey(victoryType, boardSize, playerCount), k -> new long[1])[0]++;
+
+        for (int i = 0; i < playerCount; i++) {
+            if ((teamBits >> i & 1) != 0) continue;
+            int god0 = records.getShort(offset + GameArchive.GODS + 2 * i);
+            for (int j = 0; j < playerCount; j++) {
+                if ((teamBits >> j & 1) == 0) continue;
+                int god1 = records.getShort(offset + GameArchive.GODS + 2 * j);
+
+                // Pairings are kept once, from the lower indexed god's side
+                boolean team0Low = god0 <= god1;
+                long[] pair = pairs.computeIfAbsent(pairKey(Math.min(god0, god1), Math.max(god0, god1), boardSize,
+                        playerCount), k -> new long[4]);
+                pair[PAIR_GAMES]++;
+                pair[PAIR_TURNS] += turns;
+                if (draw) {
+                    pair[PAIR_DRAWS]++;
+                } else if ((winningTeam == 0) == team0Low) {
+                    pair[PAIR_LOW_WINS]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds another set of totals into this one.
+     *
+     * @param other totals to add
+     * @return this
+     */
+    public MatchupStats merge(MatchupStats other) {
+        games += other.games;
+        mergeInto(pairs, other.pairs);
+        mergeInto(groups, other.groups);
+        mergeInto(victories, other.victories);
+        return this;
+    }
+
+    /**
+     * Gets the number of games counted.
+     *
+     * @return game count
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the share of pairings a god won against another, on a board size with a player count.
+     *
+     * @param god index of the god's name
+     * @param opponent index of the opposing god's name
+     * @param boardSize board side
+     * @param playerCount players per game
+     * @return share of pairings won, or NaN if the gods never met
+     */
+    public double getWinRate(int god, int opponent, int boardSize, int playerCount) {
+        long[] pair = pairs.get(pairKey(Math.min(god, opponent), Math.max(god, opponent), boardSize, playerCount));
+        if (pair == null) {
+            return Double.NaN;
+        }
+        long lowWins = pair[PAIR_LOW_WINS];
+        long wins = god <= opponent ? lowWins : pair[PAIR_GAMES] - pair[PAIR_DRAWS] - lowWins;
+        return (double) wins / pair[PAIR_GAMES];
+    }
+
+    /**
+     * Writes a report of every board size and player count, and the god pairings played at least minGames times.
+     *
+     * @param names names by index, from the archive
+     * @param minGames fewest games for a pairing to be listed
+     * @return the report
+     */
+    public String report(List<String> names, int minGames) {
+        StringBuilder text = new StringBuilder();
+        text.append(games).append(" games\n");
+
+        List<Long> groupKeys = new ArrayList<>(groups.keySet());
+        groupKeys.sort(null);
+        for (long key : groupKeys) {
+            int boardSize = (int) (key >>> 8);
+            int playerCount = (int) (key & 0xFF);
+            long[] group = groups.get(key);
+            text.append(String.format("%n%dx%d board, %d players: %d games, %.1f turns on average, %.1f%% draws%n",
+                    boardSize, boardSize, playerCount, group[GROUP_GAMES],
+                    (double) group[GROUP_TURNS] / group[GROUP_GAMES], 100.0 * group[GROUP_DRAWS] / group[GROUP_GAMES]));
+
+            // Victory types, most common first
+            List<Map.Entry<Long, long[]>> types = new ArrayList<>();
+            for (Map.Entry<Long, long[]> entry : victories.entrySet()) {
+                if ((entry.getKey() & 0xFFFF) == key) types.add(entry);
+            }
+            types.sort(Comparator.comparingLong((Map.Entry<Long, long[]> entry) -> entry.getValue()[0]).reversed());
+            for (Map.Entry<Long, long[]> entry : types) {
+                text.append(String.format("  %-28s %6.1f%%%n", name(names, (int) (entry.getKey() >>> 16)),
+                        100.0 * entry.getValue()[0] / group[GROUP_GAMES]));
+            }
+
+            // Pairings, most played first
+            List<Map.Entry<Long, long[]>> groupPairs = new ArrayList<>();
+            for (Map.Entry<Long, long[]> entry : pairs.entrySet()) {
+                if ((entry.getKey() & 0xFFFF) == key && entry.getValue()[PAIR_GAMES] >= minGames) {
+                    groupPairs.add(entry);
+                }
+            }
+            groupPairs.sort(Comparator.comparingLong((Map.Entry<Long, long[]> entry) -> entry.getValue()[PAIR_GAMES])
+                    .reversed().thenComparingLong(Map.Entry::getKey));
+            for (Map.Entry<Long, long[]> entry : groupPairs) {
+                long[] pair = entry.getValue();
+                long lowWins = pair[PAIR_LOW_WINS];
+                long highWins = pair[PAIR_GAMES] - pair[PAIR_DRAWS] - lowWins;
+                String matchup = name(names, (int) (entry.getKey() >>> 32)) + " vs "
+                        + name(names, (int) (entry.getKey() >>> 16 & 0xFFFF));
+                text.append(String.format("  %-28s %7d games %6.1f%% %6.1f%% %6.1f turns%n", matchup,
+                        pair[PAIR_GAMES], 100.0 * lowWins / pair[PAIR_GAMES], 100.0 * highWins / pair[PAIR_GAMES],
+                        (double) pair[PAIR_TURNS] / pair[PAIR_GAMES]));
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Saves the totals with the number of records they cover, replacing the file atomically.
+     *
+     * @param file checkpoint file
+     * @param records archive records covered
+     * @throws IOException if the file cannot be written
+     */
+    void save(Path file, long records) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(CHECKPOINT_HEADER + "\nrecords " + records + "\ngames " + games + "\n");
+            writeTotals(writer, "pair", pairs);
+            writeTotals(writer, "group", groups);
+            writeTotals(writer, "victory", victories);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Loads totals saved by save.
+     *
+     * @param file checkpoint file
+     * @param stats totals to add the saved totals to
+     * @return the number of archive records the totals cover, or 0 if there is no checkpoint
+     * @throws IOException if the file exists but cannot be read
+     */
+    static long load(Path file, MatchupStats stats) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return 0;
+        }
+        long records = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                String[] fields = line.split(" ");
+                try {
+                    switch (fields[0]) {
+                        case "records" -> records = Long.parseLong(fields[1]);
+                        case "games" -> stats.games = Long.parseLong(fields[1]);
+                        case "pair" -> stats.pairs.put(Long.parseLong(fields[1]), parseTotals(fields));
+                        case "group" -> stats.groups.put(Long.parseLong(fields[1]), parseTotals(fields));
+                        case "victory" -> stats.victories.put(Long.parseLong(fields[1]), parseTotals(fields));
+                        default -> throw new IOException("Unknown checkpoint line in " + file + ": " + line);
+                    }
+                } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                    throw new IOException("Malformed checkpoint line in " + file + ": " + line, e);
+                }
+            }
+        }
+        return records;
+    }
+
+    private static long[] parseTotals(String[] fields) {
+        long[] totals = new long[fields.length - 2];
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = Long.parseLong(fields[i + 2]);
+        }
+        return totals;
+    }
+
+    private static void writeTotals(BufferedWriter writer, String kind, Map<Long, long[]> totals) throws IOException {
+        for (Map.Entry<Long, long[]> entry : totals.entrySet()) {
+            writer.write(kind + " " + entry.getKey());
+            for (long total : entry.getValue()) {
+                writer.write(" " + total);
+            }
+            writer.newLine();
+        }
+    }
+
+    private static void mergeInto(Map<Long, long[]> into, Map<Long, long[]> from) {
+        for (Map.Entry<Long, long[]> entry : from.entrySet()) {
+            long[] totals = into.get(entry.getKey());
+            if (totals == null) {
+                into.put(entry.getKey(), entry.getValue().clone());
+            } else {
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += entry.getValue()[i];
+                }
+            }
+        }
+    }
+
+    private static String name(List<String> names, int index) {
+        return index >= 0 && index < names.size() ? names.get(index) : "#" + index;
+    }
+
+    private static long groupKey(int boardSize, int playerCount) {
+        return (long) boardSize << 8 | playerCount;
+    }
+
+    private static long victoryKey(int victoryType, int boardSize, int playerCount) {
+        return (long) (victoryType & 0xFFFF) << 16 | groupKey(boardSize, playerCount);
+    }
+
+    private static long pairKey(int lowGod, int highGod, int boardSize, int playerCount) {
+        return (long) (lowGod & 0xFFFF) << 32 | (long) (highGod & 0xFFFF) << 16 | groupKey(boardSize, playerCount);
+    }
+}
@@ -0,0 +1,196 @@
+package SantoriniGame.analytics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * PositionDatabase class - An append-only file of the positions of archived games, stored as fixed size
+ * binary records of bitboards. Each game's positions are written together, after the game itself is archived,
+ * so they can refer to it by its index in the GameArchive. A partly written record left by a crash is dropped
+ * on open. Positions are searched through a PositionIndex.
+ *
+ * Record layout, little-endian: game index (8), turn (4), board size (1), unused (3), then the own worker,
+ * opponent worker, level 1, level 2, level 3 and dome bitboards (8 each).
+ */
+public class PositionDatabase implements AutoCloseable {
+    /**
+     * Size of the header before the first record.
+     */
+    static final int HEADER_SIZE = 16;
+
+    /**
+     * Size of each record.
+     */
+    static final int RECORD_SIZE = 64;
+
+    // Offsets within a record
+    private static final int GAME_ID = 0;
+    private static final int TURN = 8;
+    private static final int BOARD_SIZE = 12;
+    private static final int OWN = 16;
+    private static final int OPPONENT = 24;
+    private static final int LEVEL_1 = 32;
+    private static final int LEVEL_2 = 40;
+    private static final int LEVEL_3 = 48;
+    private static final int DOMES = 56;
+
+    private static final int MAGIC = 0x53475031; // "SGP1"
+    private static final int VERSION = 1;
+
+    private final FileChannel channel;
+    private long recordCount;
+
+    private PositionDatabase(FileChannel channel, long recordCount) {
+        this.channel = channel;
+        this.recordCount = recordCount;
+    }
+
+    /**
+     * Opens a database for appending, creating it if it does not exist.
+     *
+     * @param file the database file
+     * @return the database
+     * @throws IOException if the file cannot be opened or is not a position database
+     */
+    public static PositionDatabase open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC).putInt(VERSION).position(HEADER_SIZE).flip();
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+            }
+            long recordCount = countRecords(channel, file);
+
+            // A crash can leave part of a record at the end
+            channel.truncate(HEADER_SIZE + recordCount * RECORD_SIZE);
+            return new PositionDatabase(channel, recordCount);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the positions of one game. Safe to call from several threads.
+     *
+     * @param positions the game's positions
+     * @throws IOException if the database cannot be written
+     */
+    public synchronized void appendGame(List<StoredPosition> positions) throws IOException {
+        ByteBuffer records = ByteBuffer.allocate(positions.size() * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < positions.size(); i++) {
+            StoredPosition position = positions.get(i);
+            int offset = i * RECORD_SIZE;
+            records.putLong(offset + GAME_ID, position.gameId())
+                    .putInt(offset + TURN, position.turn())
+                    .put(offset + BOARD_SIZE, (byte) position.boardSize())
+                    .putLong(offset + OWN, position.own())
+                    .putLong(offset + OPPONENT, position.opponent())
+                    .putLong(offset + LEVEL_1, position.level1())
+                    .putLong(offset + LEVEL_2, position.level2())
+                    .putLong(offset + LEVEL_3, position.level3())
+                    .putLong(offset + DOMES, position.domes());
+        }
+        long position = HEADER_SIZE + recordCount * RECORD_SIZE;
+        while (records.hasRemaining()) {
+            position += channel.write(records, position);
+        }
+        recordCount += positions.size();
+    }
+
+    /**
+     * Gets the number of positions in the database.
+     *
+     * @return record count
+     */
+    public synchronized long size() {
+        return recordCount;
+    }
+
+    /**
+     * Writes appended positions to the disk.
+     *
+     * @throws IOException if the database cannot be written
+     */
+    public void force() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Counts the whole records in a database file.
+     *
+     * @param file the database file
+     * @return record count
+     * @throws IOException if the file cannot be read or is not a position database
+     */
+    public static long countRecords(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return countRecords(channel, file);
+        }
+    }
+
+    /**
+     * Maps a range of records for reading.
+     *
+     * @param file the database file
+     * @param first index of the first record
+     * @param count number of records, small enough to map at once
+     * @return the records, little-endian, one every RECORD_SIZE bytes
+     * @throws IOException if the file cannot be read
+     */
+    static MappedByteBuffer mapRecords(Path file, long first, int count) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * RECORD_SIZE,
+                    (long) count * RECORD_SIZE);
+            records.order(ByteOrder.LITTLE_ENDIAN);
+            return records;
+        }
+    }
+
+    /**
+     * Reads one record.
+     *
+     * @param records mapped records
+     * @param offset offset of the record
+     * @return the position
+     */
+    static StoredPosition read(ByteBuffer records, int offset) {
+        return new StoredPosition(
+                records.getLong(offset + GAME_ID),
+                records.getInt(offset + TURN),
+                records.get(offset + BOARD_SIZE),
+                records.getLong(offset + OWN),
+                records.getLong(offset + OPPONENT),
+                records.getLong(offset + LEVEL_1),
+                records.getLong(offset + LEVEL_2),
+                records.getLong(offset + LEVEL_3),
+                records.getLong(offset + DOMES));
+    }
+
+    private static long countRecords(FileChannel channel, Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        if (channel.read(header, 0) != HEADER_SIZE || header.getInt(0) != MAGIC) {
+            throw new IOException(file + " is not a position database.");
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IOException(file + " is position database version " + header.getInt(4) + ", expected "
+                    + VERSION + ".");
+        }
+        return (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+    }
+}
@@ -0,0 +1,75 @@
+package SantoriniGame.analytics;
+
+import java.util.function.Predicate;
+
+/**
+ * PositionFeature enum - Indexed patterns of stored positions, from the point of view of the team to move.
+ * Each is a few bitboard operations, so every feature of a position is found in a handful of nanoseconds.
+ */
+public enum PositionFeature {
+    OWN_ON_LEVEL_1("A worker to move stands on level 1", p -> (p.own() & p.level1()) != 0),
+    OWN_ON_LEVEL_2("A worker to move stands on level 2", p -> (p.own() & p.level2()) != 0),
+    OPPONENT_ON_LEVEL_1("An opponent stands on level 1", p -> (p.opponent() & p.level1()) != 0),
+    OPPONENT_ON_LEVEL_2("An opponent stands on level 2", p -> (p.opponent() & p.level2()) != 0),
+    LEVEL_3_TOWER("A level 3 tower is standing undomed", p -> p.level3() != 0),
+    WORKERS_ADJACENT("A worker to move is next to an opponent",
+            p -> (p.own() & p.neighbours(p.opponent())) != 0),
+    OWN_NEXT_TO_LEVEL_3("A worker to move is next to a level 3 tower",
+            p -> (p.own() & p.neighbours(p.level3())) != 0),
+    OPPONENT_NEXT_TO_LEVEL_3("An opponent is next to a level 3 tower",
+            p -> (p.opponent() & p.neighbours(p.level3())) != 0),
+    OWN_NEXT_TO_LEVEL_3_OPPONENT_ADJACENT("A worker to move is next to a level 3 tower and to an opponent",
+            p -> (p.own() & p.neighbours(p.level3()) & p.neighbours(p.opponent())) != 0),
+    OPPONENT_NEXT_TO_LEVEL_3_OWN_ADJACENT("An opponent is next to a level 3 tower and to a worker to move",
+            p -> (p.opponent() & p.neighbours(p.level3()) & p.neighbours(p.own())) != 0),
+    OWN_CAN_WIN("A worker to move on level 2 is next to a free level 3 tower",
+            p -> (p.own() & p.level2() & p.neighbours(p.level3() & ~(p.own() | p.opponent()))) != 0),
+    OPPONENT_THREATENS_WIN("An opponent on level 2 is next to a free level 3 tower",
+            p -> (p.opponent() & p.level2() & p.neighbours(p.level3() & ~(p.own() | p.opponent()))) != 0);
+
+    // Cached, as values() copies the array on every call
+    private static final PositionFeature[] FEATURES = values();
+
+    private final String description;
+    private final Predicate<StoredPosition> pattern;
+
+    PositionFeature(String description, Predicate<StoredPosition> pattern) {
+        this.description = description;
+        this.pattern = pattern;
+    }
+
+    /**
+     * Gets a description of the feature.
+     *
+     * @return description for reports
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Checks whether a position has this feature.
+     *
+     * @param position the position
+     * @return true if the pattern is present
+     */
+    public boolean test(StoredPosition position) {
+        return pattern.test(position);
+    }
+
+    /**
+     * Finds every feature of a position.
+     *
+     * @param position the position
+     * @return one bit per feature present, at the feature's ordinal
+     */
+    static long featuresOf(StoredPosition position) {
+        long features = 0;
+        for (PositionFeature feature : FEATURES) {
+            if (feature.pattern.test(position)) {
+                features |= 1L << feature.ordinal();
+            }
+        }
+        return features;
+    }
+}
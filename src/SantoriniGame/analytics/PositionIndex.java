@@ -0,0 +1,299 @@
+package SantoriniGame.analytics;
+
+import SantoriniGame.CommandLineOptions;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * PositionIndex class - Finds positions in a PositionDatabase by feature.
+ * The index keeps the features and board size of every position as one word, and for each feature the sorted list
+ * of positions that have it. A query walks the shortest list of the features it asks for and checks the rest
+ * against the words, so the database is only read for the positions returned and for custom patterns.
+ *
+ * The index covers the positions in the database when it was built, and is built in parallel chunks:
+ * each chunk finds its positions' features and counts them, then fills its share of every list.
+ *
+ * Run with: java -cp out SantoriniGame.analytics.PositionIndex --positions=games.archive.positions
+ * --features=NAME,NAME [--board=N] [--limit=N] [--threads=N]
+ */
+public class PositionIndex {
+    // Positions read by one task, 64MB of database
+    private static final int CHUNK_RECORDS = 1 << 20;
+
+    // Each position's word holds its features in the low bits and its board size in the top byte
+    private static final int BOARD_SHIFT = 56;
+    private static final long FEATURE_BITS = (1L << BOARD_SHIFT) - 1;
+
+    private final MappedByteBuffer[] chunks;
+    private final long[] features;
+    private final int[][] postings;
+    private final long buildNanos;
+
+    private PositionIndex(MappedByteBuffer[] chunks, long[] features, int[][] postings, long buildNanos) {
+        this.chunks = chunks;
+        this.features = features;
+        this.postings = postings;
+        this.buildNanos = buildNanos;
+    }
+
+    /**
+     * Builds the index of every position in a database.
+     *
+     * @param file the database file
+     * @param threads chunks indexed at once
+     * @return the index
+     * @throws IOException if the database cannot be read
+     */
+    public static PositionIndex build(Path file, int threads) throws IOException {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed.");
+        }
+        long start = System.nanoTime();
+        long count = PositionDatabase.countRecords(file);
+        if (count > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many positions to index: " + count);
+        }
+        int size = (int) count;
+        int chunkCount = (size + CHUNK_RECORDS - 1) / CHUNK_RECORDS;
+        int featureCount = PositionFeature.values().length;
+
+        MappedByteBuffer[] chunks = new MappedByteBuffer[chunkCount];
+        for (int c = 0; c < chunkCount; c++) {
+            chunks[c] = PositionDatabase.mapRecords(file, (long) c * CHUNK_RECORDS,
+                    Math.min(CHUNK_RECORDS, size - c * CHUNK_RECORDS));
+        }
+        long[] features = new long[size];
+        int[][] chunkCounts = new int[chunkCount][featureCount];
+        int[][] postings = new int[featureCount][];
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            // Find and count every position's features
+            pool.submit(() -> IntStream.range(0, chunkCount).parallel().forEach(c -> {
+                int first = c * CHUNK_RECORDS;
+                int end = Math.min(size, first + CHUNK_RECORDS);
+                for (int i = first; i < end; i++) {
+                    StoredPosition position = PositionDatabase.read(chunks[c],
+                            (i - first) * PositionDatabase.RECORD_SIZE);
+                    long word = PositionFeature.featuresOf(position);
+                    features[i] = word | (long) position.boardSize() << BOARD_SHIFT;
+                    for (long rest = word; rest != 0; rest &= rest - 1) {
+                        chunkCounts[c][Long.numberOfTrailingZeros(rest)]++;
+                    }
+                }
+            })).get();
+
+            // Each chunk's share of a list starts after the earlier chunks' shares, so chunks fill in parallel
+            int[][] offsets = new int[chunkCount][featureCount];
+            for (int f = 0; f < featureCount; f++) {
+                int total = 0;
+                for (int c = 0; c < chunkCount; c++) {
+                    offsets[c][f] = total;
+                    total += chunkCounts[c][f];
+                }
+                postings[f] = new int[total];
+            }
+            pool.submit(() -> IntStream.range(0, chunkCount).parallel().forEach(c -> {
+                int[] next = offsets[c];
+                int end = Math.min(size, (c + 1) * CHUNK_RECORDS);
+                for (int i = c * CHUNK_RECORDS; i < end; i++) {
+                    for (long rest = features[i] & FEATURE_BITS; rest != 0; rest &= rest - 1) {
+                        int f = Long.numberOfTrailingZeros(rest);
+                        postings[f][next[f]++] = i;
+                    }
+                }
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while indexing positions.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Indexing positions failed.", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        return new PositionIndex(chunks, features, postings, System.nanoTime() - start);
+    }
+
+    /**
+     * Finds positions matching a query, in the order they were stored.
+     *
+     * @param query the positions to find
+     * @param limit most positions to return, 0 to return none
+     * @return the matching positions
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public List<StoredPosition> find(PositionQuery query, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("The limit must not be negative, but was " + limit + ".");
+        }
+        List<StoredPosition> matches = new ArrayList<>();
+        if (limit == 0) {
+            return matches;
+        }
+        scan(query, i -> {
+            matches.add(read(i));
+            return matches.size() < limit;
+        });
+        return matches;
+    }
+
+    /**
+     * Counts the positions matching a query.
+     *
+     * @param query the positions to find
+     * @return number of matches
+     */
+    public long count(PositionQuery query) {
+        long[] count = new long[1];
+        scan(query, i -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    /**
+     * Finds the games with a position matching a query.
+     *
+     * @param query the positions to find
+     * @return indexes of the games in their GameArchive, ascending
+     */
+    public long[] findGames(PositionQuery query) {
+        long[][] games = {new long[64]};
+        int[] gameCount = new int[1];
+        scan(query, i -> {
+            // A game's positions are stored together, so repeats of the last game are skipped here
+            long gameId = chunks[i / CHUNK_RECORDS].getLong((i % CHUNK_RECORDS) * PositionDatabase.RECORD_SIZE);
+            if (gameCount[0] == 0 || games[0][gameCount[0] - 1] != gameId) {
+                if (gameCount[0] == games[0].length) {
+                    games[0] = Arrays.copyOf(games[0], gameCount[0] * 2);
+                }
+                games[0][gameCount[0]++] = gameId;
+            }
+            return true;
+        });
+
+        // Games archived by several threads can be stored out of order, so a game can still repeat
+        long[] sorted = Arrays.copyOf(games[0], gameCount[0]);
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (long gameId : sorted) {
+            if (distinct == 0 || sorted[distinct - 1] != gameId) {
+                sorted[distinct++] = gameId;
+            }
+        }
+        return Arrays.copyOf(sorted, distinct);
+    }
+
+    /**
+     * Gets the number of positions indexed.
+     *
+     * @return position count
+     */
+    public int size() {
+        return features.length;
+    }
+
+    /**
+     * Gets the number of indexed positions with a feature.
+     *
+     * @param feature the feature
+     * @return position count
+     */
+    public int getFeatureCount(PositionFeature feature) {
+        return postings[feature.ordinal()].length;
+    }
+
+    /**
+     * Gets the time taken to build the index.
+     *
+     * @return time in nanoseconds
+     */
+    public long getBuildNanos() {
+        return buildNanos;
+    }
+
+    /**
+     * Passes the index of every position matching a query to a handler, in the order they were stored,
+     * until the handler returns false.
+     */
+    private void scan(PositionQuery query, IntPredicate handler) {
+        long mask = 0;
+        int[] candidates = null;
+        for (PositionFeature feature : query.features()) {
+            mask |= 1L << feature.ordinal();
+            int[] list = postings[feature.ordinal()];
+            if (candidates == null || list.length < candidates.length) {
+                candidates = list;
+            }
+        }
+        long expected = mask;
+        if (query.boardSize() != 0) {
+            mask |= ~FEATURE_BITS;
+            expected |= (long) query.boardSize() << BOARD_SHIFT;
+        }
+
+        int candidateCount = candidates != null ? candidates.length : features.length;
+        for (int n = 0; n < candidateCount; n++) {
+            int i = candidates != null ? candidates[n] : n;
+            if ((features[i] & mask) != expected) continue;
+            if (query.pattern() != null && !query.pattern().test(read(i))) continue;
+            if (!handler.test(i)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads an indexed position from the database.
+     */
+    private StoredPosition read(int i) {
+        return PositionDatabase.read(chunks[i / CHUNK_RECORDS], (i % CHUNK_RECORDS) * PositionDatabase.RECORD_SIZE);
+    }
+
+    /**
+     * Runs a query from the command line and prints the matching games and the first few positions.
+     *
+     * @param args options of the form --name=value
+     */
+    public static void main(String[] args) throws IOException {
+        Properties options = CommandLineOptions.parse(args);
+
+        Path file = Path.of(options.getProperty("positions", "games.archive.positions"));
+        int threads = Integer.parseInt(options.getProperty("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        int limit = Integer.parseInt(options.getProperty("limit", "5"));
+        PositionQuery query = PositionQuery.of(Arrays.stream(options.getProperty("features", "").split(","))
+                .filter(name -> !name.isBlank())
+                .map(name -> PositionFeature.valueOf(name.trim()))
+                .toArray(PositionFeature[]::new));
+        if (options.containsKey("board")) {
+            query = query.onBoard(Integer.parseInt(options.getProperty("board")));
+        }
+
+        PositionIndex index = build(file, threads);
+        System.out.printf("Indexed %d positions in %.2fs%n", index.size(), index.getBuildNanos() / 1e9);
+
+        long start = System.nanoTime();
+        long[] games = index.findGames(query);
+        long nanos = System.nanoTime() - start;
+        System.out.printf("%d matching positions in %d games, found in %.1fms%n", index.count(query), games.length,
+                nanos / 1e6);
+        List<StoredPosition> matches = index.find(query, limit);
+        for (StoredPosition position : matches) {
+            System.out.printf("%nGame %d, turn %d:%n%s", position.gameId(), position.turn(),
+                    position.toBoardString());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package SantoriniGame.analytics;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * PositionQuery record - The positions to find in a PositionIndex: those with every given feature,
+ * optionally only on one board size and only where a custom pattern also matches.
+ * Features and board size are answered from the index, so the custom pattern is only checked on positions that
+ * have them.
+ *
+ * @param features features every match must have
+ * @param boardSize board side of every match, or 0 for any
+ * @param pattern further check of each match, or null for none
+ */
+public record PositionQuery(Set<PositionFeature> features, int boardSize, Predicate<StoredPosition> pattern) {
+    /**
+     * Validates the board size and copies the features, so the query cannot change later.
+     */
+    public PositionQuery {
+        if (boardSize < 0 || boardSize > StoredPosition.MAX_SIZE) {
+            throw new IllegalArgumentException("Board size must be 0 for any, or up to " + StoredPosition.MAX_SIZE
+                    + ", not " + boardSize + ".");
+        }
+        features = features.isEmpty() ? Set.of() : Set.copyOf(EnumSet.copyOf(features));
+    }
+
+    /**
+     * Creates a query for positions with every given feature, on any board.
+     *
+     * @param features features every match must have
+     * @return the query
+     */
+    public static PositionQuery of(PositionFeature... features) {
+        Set<PositionFeature> set = EnumSet.noneOf(PositionFeature.class);
+        Collections.addAll(set, features);
+        return new PositionQuery(set, 0, null);
+    }
+
+    /**
+     * Restricts this query to one board size.
+     *
+     * @param size board side
+     * @return the restricted query
+     */
+    public PositionQuery onBoard(int size) {
+        return new PositionQuery(features, size, pattern);
+    }
+
+    /**
+     * Restricts this query to positions matching a custom pattern as well.
+     *
+     * @param extra the pattern, given each candidate position
+     * @return the restricted query
+     */
+    public PositionQuery where(Predicate<StoredPosition> extra) {
+        return new PositionQuery(features, boardSize, pattern == null ? extra : pattern.and(extra));
+    }
+}
@@ -0,0 +1,113 @@
+package SantoriniGame.analytics;
+
+import SantoriniGame.ai.Position;
+
+/**
+ * StoredPosition record - A position from an archived game, as bitboards of up to 8x8 tiles.
+ * Workers are split into those of the team to move and those of every other team,
+ * so patterns can be asked about "own" and "opponent" workers whichever team moved.
+ *
+ * @param gameId index of the game in its GameArchive
+ * @param turn number of turns played before the position
+ * @param boardSize board side
+ * @param own tiles of the workers of the team to move
+ * @param opponent tiles of every other worker
+ * @param level1 tiles built to level 1
+ * @param level2 tiles built to level 2
+ * @param level3 tiles built to level 3 and not domed
+ * @param domes domed tiles
+ */
+public record StoredPosition(long gameId, int turn, int boardSize, long own, long opponent,
+                             long level1, long level2, long level3, long domes) {
+    /**
+     * Largest board side that can be stored.
+     */
+    public static final int MAX_SIZE = Bitboards.MAX_SIZE;
+
+    /**
+     * Validates the board size.
+     */
+    public StoredPosition {
+        if (boardSize < 1 || boardSize > MAX_SIZE) {
+            throw new IllegalArgumentException("Stored positions are at most " + MAX_SIZE + " tiles wide, not "
+                    + boardSize + ".");
+        }
+    }
+
+    /**
+     * Converts a search position.
+     *
+     * @param gameId index of the game in its GameArchive
+     * @param turn number of turns played before the position
+     * @param position the position
+     * @return the stored position
+     */
+    public static StoredPosition of(long gameId, int turn, Position position) {
+        if (!position.getGeometry().isSquare() || position.getWidth() > MAX_SIZE) {
+            throw new IllegalArgumentException("Stored positions are square and at most " + MAX_SIZE
+                    + " tiles wide, not " + position.getGeometry() + ".");
+        }
+        int size = position.getWidth();
+
+        long[] levels = new long[Position.DOME + 1];
+        for (int tile = 0; tile < size * size; tile++) {
+            levels[position.getHeight(tile)] |= 1L << tile;
+        }
+        long own = 0;
+        long opponent = 0;
+        for (int worker = 0; worker < position.getWorkerCount(); worker++) {
+            if (position.getWorkerTeam(worker) == position.getTeamToMove()) {
+                own |= 1L << position.getWorkerTile(worker);
+            } else {
+                opponent |= 1L << position.getWorkerTile(worker);
+            }
+        }
+        return new StoredPosition(gameId, turn, size, own, opponent, levels[1], levels[2], levels[3],
+                levels[Position.DOME]);
+    }
+
+    /**
+     * Gets the height of a tile.
+     *
+     * @param x tile column
+     * @param y tile row
+     * @return height, with Position.DOME for a domed tile
+     */
+    public int getHeight(int x, int y) {
+        long bit = Bitboards.bit(x, y, boardSize);
+        if ((domes & bit) != 0) return Position.DOME;
+        if ((level3 & bit) != 0) return 3;
+        if ((level2 & bit) != 0) return 2;
+        if ((level1 & bit) != 0) return 1;
+        return 0;
+    }
+
+    /**
+     * Gets the tiles next to any of the given tiles, diagonals included, for writing custom patterns.
+     *
+     * @param tiles the tiles
+     * @return the neighbouring tiles
+     */
+    public long neighbours(long tiles) {
+        return Bitboards.neighbours(tiles, boardSize);
+    }
+
+    /**
+     * Draws the position as text, one row per line: heights, with own workers marked * and opponents marked +.
+     *
+     * @return the drawing
+     */
+    public String toBoardString() {
+        StringBuilder text = new StringBuilder();
+        for (int y = 0; y < boardSize; y++) {
+            for (int x = 0; x < boardSize; x++) {
+                long bit = Bitboards.bit(x, y, boardSize);
+                int height = getHeight(x, y);
+                text.append(height == Position.DOME ? 'D' : (char) ('0' + height));
+                text.append((own & bit) != 0 ? '*' : (opponent & bit) != 0 ? '+' : ' ');
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+}
@@ -1,10 +1,12 @@
 package SantoriniGame.controller;
 
 import SantoriniGame.god.God;
+import SantoriniGame.metrics.TileClickEvent;
 import SantoriniGame.model.board.BoardTile;
 import SantoriniGame.model.victory.VictoryCondition;
 import SantoriniGame.model.game.GameModel;
 import SantoriniGame.model.game.TurnPhase;
+import SantoriniGame.model.game.TurnPlan;
 import SantoriniGame.model.game.TurnState;
 import SantoriniGame.model.player.Player;
 import SantoriniGame.model.player.Worker;
@@ -69,6 +71,34 @@ public class GameController {
      * @return Updated TurnState
      */
     public TurnState handleTileClick(int x, int y) {
+        TileClickEvent event = new TileClickEvent();
+        event.begin();
+        TurnState before = model.getTurnState();
+        TurnPhase phase = before.getCurrPhase();
+        int playerId = before.getCurrPlayer().getId();
+
+        try {
+            return processTileClick(x, y);
+        } finally {
+            if (event.shouldCommit()) {
+                event.gameId = model.getGameId();
+                event.playerId = playerId;
+                event.phase = phase.name();
+                event.x = x;
+                event.y = y;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Handles a tile click for the selection the controller is waiting for.
+     *
+     * @param x X-coordinate of the clicked tile
+     * @param y Y-coordinate of the clicked tile
+     * @return Updated TurnState
+     */
+    private TurnState processTileClick(int x, int y) {
         // Check for timeout before processing any game action
         if (timerEnabled) {
             PlayerTimer expiredTimer = checkForTimeout();
@@ -187,6 +217,26 @@ public class GameController {
         return newState;
     }
 
+    /**
+     * Plays a whole turn for the current player and ends it, unless it won the game.
+     * For bots and remote players who know their whole turn up front; the plan is checked in full first,
+     * and an illegal plan is rejected without changing the game.
+     *
+     * @param plan The turn to play
+     * @return Updated TurnState
+     * @throws IllegalStateException if the current turn has already started or the game is over
+     * @throws IllegalArgumentException if any step of the plan is illegal
+     */
+    public TurnState playTurn(TurnPlan plan) {
+        TurnState newState = model.applyTurn(plan);
+        if (checkForWinner() != null) {
+            updateControllerState(newState.getCurrPhase());
+            return newState;
+        }
+        endTurn();
+        return model.getTurnState();
+    }
+
     /**
      * Activates the current player's god power.
      *
@@ -205,42 +255,28 @@ public class GameController {
      * Ends the current turn and advances to the next player.
      */
     public void endTurn() {
-        // Get next player index before ending turn
-        int nextPlayerIndex = (getCurrentPlayerIndex() + 1) % model.getPlayers().length;
-
         model.endTurn();
 
         // Reset controller state for the new player's turn
         resetControllerState();
 
         // Switch timers to next player
+        // - Timers are created one per seat, and seats keep their numbers when other players are removed
         if (timerEnabled && timerManager != null) {
-            timerManager.switchToNextPlayer(nextPlayerIndex);
+            timerManager.switchToNextPlayer(model.getCurrentSeat());
         }
 
-        // Before player input, check if player is trapped
-        if (model.playerIsTrapped()) {
+        // Before player input, check if player is trapped, unless removing the last trapped team already ended the game
+        if (checkForWinner() == null && model.playerIsTrapped()) {
             // If so, remove team then end turn for the next player to play
             model.removeTeam(model.getCurrentPlayer().getTeam());
-            this.endTurn();
-        }
-    }
-
-    /**
-     * Gets the current player index from the model.
-     *
-     * @return Current player index
-     */
-    private int getCurrentPlayerIndex() {
-        Player currentPlayer = model.getCurrentPlayer();
-        Player[] allPlayers = model.getPlayers();
 
-        for (int i = 0; i < allPlayers.length; i++) {
-            if (allPlayers[i].equals(currentPlayer)) {
-                return i;
+            // Removing the second last team wins the game, so no further turn is played or timed
+            if (checkForWinner() != null) {
+                return;
             }
+            this.endTurn();
         }
-        return 0; // Fallback to first player
     }
 
     /**
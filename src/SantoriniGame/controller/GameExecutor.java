@@ -0,0 +1,81 @@
+package SantoriniGame.controller;
+
+import javax.swing.SwingUtilities;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * GameExecutor class - Runs game commands on a dedicated engine thread.
+ * Rule evaluation, god power checks and victory checks happen off the Event Dispatch Thread,
+ * and only the immutable GameViewModel produced by each command is handed back to the UI.
+ * Commands run one at a time in the order they were submitted, so the model is only touched by one thread.
+ */
+public class GameExecutor {
+    private final GameController controller;
+    private final ExecutorService engine;
+
+    /**
+     * Creates an executor for the given controller.
+     *
+     * @param controller The controller whose model is owned by the engine thread
+     */
+    public GameExecutor(GameController controller) {
+        this.controller = controller;
+        this.engine = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-engine");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs a command on the engine thread, then shows a snapshot of the resulting game state on the UI.
+     *
+     * @param command The command to run against the controller
+     * @param onEdt Called on the Event Dispatch Thread with the state after the command
+     */
+    public void execute(Consumer<GameController> command, Consumer<GameViewModel> onEdt) {
+        submit(c -> {
+            command.accept(c);
+            return GameViewModel.capture(c);
+        }, onEdt);
+    }
+
+    /**
+     * Runs a command on the engine thread, then hands its result to the UI.
+     * The result must not be mutated by the engine afterwards, as it is read on the Event Dispatch Thread.
+     *
+     * @param command The command to run against the controller
+     * @param onEdt Called on the Event Dispatch Thread with the command's result
+     * @param <T> Type of the result
+     */
+    public <T> void submit(Function<GameController, T> command, Consumer<T> onEdt) {
+        try {
+            engine.execute(() -> {
+                T result;
+                try {
+                    result = command.apply(controller);
+                } catch (RuntimeException e) {
+                    // Rethrow on the Event Dispatch Thread, where uncaught UI errors are reported
+                    SwingUtilities.invokeLater(() -> {
+                        throw e;
+                    });
+                    return;
+                }
+                SwingUtilities.invokeLater(() -> onEdt.accept(result));
+            });
+        } catch (RejectedExecutionException e) {
+            // The game has ended, so late clicks are ignored
+        }
+    }
+
+    /**
+     * Stops the engine thread. Commands already queued still run, and later ones are ignored.
+     */
+    public void shutdown() {
+        engine.shutdown();
+    }
+}
@@ -0,0 +1,100 @@
+package SantoriniGame.controller;
+
+import SantoriniGame.god.God;
+import SantoriniGame.model.board.BoardTile;
+import SantoriniGame.model.game.GameModel;
+import SantoriniGame.model.game.TurnPhase;
+import SantoriniGame.model.player.Player;
+import SantoriniGame.model.player.Worker;
+import SantoriniGame.model.victory.VictoryCondition;
+
+import java.util.List;
+
+/**
+ * GameViewModel class - Immutable snapshot of everything the game screen shows.
+ * Captured on the engine thread after each command, then read on the Event Dispatch Thread,
+ * so the UI never queries the live model while the engine may be changing it.
+ *
+ * @param phase Current turn phase
+ * @param currentPlayerName Display name of the current player
+ * @param currentTeamId Team ID of the current player
+ * @param godName Name of the current player's god
+ * @param godDescription Description of the current player's god
+ * @param stateDescription What the current player should do next
+ * @param validMoves Tiles the selected worker can move to, empty outside the move phase
+ * @param validBuilds Tiles the selected worker can build on, empty outside the build phase
+ * @param selectedWorkerX X-coordinate of the selected worker, or -1 if none
+ * @param selectedWorkerY Y-coordinate of the selected worker, or -1 if none
+ * @param canActivateGodPower Whether the god power button is enabled
+ * @param moveCount Number of worker moves so far
+ * @param domeCount Number of domes built so far
+ * @param godPowerCount Number of god powers used so far
+ * @param winCondition Satisfied victory condition, or null if the game continues
+ */
+public record GameViewModel(
+        TurnPhase phase,
+        String currentPlayerName,
+        int currentTeamId,
+        String godName,
+        String godDescription,
+        String stateDescription,
+        List<BoardTile> validMoves,
+        List<BoardTile> validBuilds,
+        int selectedWorkerX,
+        int selectedWorkerY,
+        boolean canActivateGodPower,
+        int moveCount,
+        int domeCount,
+        int godPowerCount,
+        VictoryCondition winCondition
+) {
+    /**
+     * Copies the tile lists, so the snapshot cannot change after capture.
+     * Only tile coordinates are read from them, which never change.
+     */
+    public GameViewModel {
+        validMoves = List.copyOf(validMoves);
+        validBuilds = List.copyOf(validBuilds);
+    }
+
+    /**
+     * Captures the current game state. Must be called on the thread that owns the model.
+     *
+     * @param controller The controller to read the state from
+     * @return Snapshot of the game state
+     */
+    public static GameViewModel capture(GameController controller) {
+        GameModel model = controller.getModel();
+        Player currentPlayer = controller.getCurrentPlayer();
+        God god = currentPlayer.getSelectedGod();
+        TurnPhase phase = controller.getCurrentPhase();
+        Worker selectedWorker = controller.getSelectedWorker();
+
+        return new GameViewModel(
+                phase,
+                currentPlayer.getDisplayName(),
+                currentPlayer.getTeam().getTeamId(),
+                god.getName(),
+                god.getDescription(),
+                controller.getStateDescription(),
+                phase == TurnPhase.MOVE ? controller.getValidMoves() : List.of(),
+                phase == TurnPhase.BUILD ? controller.getValidBuilds() : List.of(),
+                selectedWorker != null ? selectedWorker.getX() : -1,
+                selectedWorker != null ? selectedWorker.getY() : -1,
+                controller.canActivateGodPower(),
+                model.getMoveCount(),
+                model.getDomeCount(),
+                model.getGodPowerActivationCount(),
+                controller.checkForWinner()
+        );
+    }
+
+    /**
+     * Checks if a worker is selected.
+     *
+     * @return true if a worker is selected
+     */
+    public boolean hasSelectedWorker() {
+        return selectedWorkerX >= 0;
+    }
+}
@@ -1,7 +1,10 @@
 package SantoriniGame.controller;
 
 import SantoriniGame.god.God;
+import SantoriniGame.god.GodInfo;
+import SantoriniGame.model.board.BoardGeometry;
 import SantoriniGame.model.game.SantoriniGame;
+import SantoriniGame.model.player.TeamLayout;
 import SantoriniGame.ui.GodSelection;
 import SantoriniGame.ui.GodSelectionModel;
 import SantoriniGame.ui.GodSelectionView;
@@ -18,20 +21,35 @@ public class GodSelectionPresenter {
     private final GodSelectionView view;
 
     // Game configuration
-    private God currentlyPreviewedGod;
-    private int boardSize;
+    private GodInfo currentlyPreviewedGod;
+    private final BoardGeometry geometry;
+    private final TeamLayout layout;
 
     /**
      * Constructor for the presenter - uses SantoriniGame's default timer.
      *
      * @param model The data model for god selection
      * @param view The view interface for god selection
-     * @param boardSize The size of the game board
+     * @param geometry The shape of the game board
      */
-    public GodSelectionPresenter(GodSelectionModel model, GodSelectionView view, int boardSize) {
+    public GodSelectionPresenter(GodSelectionModel model, GodSelectionView view, BoardGeometry geometry) {
+        this(model, view, geometry, TeamLayout.standard(model.getPlayers().size()));
+    }
+
+    /**
+     * Constructor for the presenter of a game with the players split into teams by a layout.
+     *
+     * @param model The data model for god selection
+     * @param view The view interface for god selection
+     * @param geometry The shape of the game board
+     * @param layout The team of each player
+     */
+    public GodSelectionPresenter(GodSelectionModel model, GodSelectionView view, BoardGeometry geometry,
+                                 TeamLayout layout) {
         this.model = model;
         this.view = view;
-        this.boardSize = boardSize;
+        this.geometry = geometry;
+        this.layout = layout;
 
         // Connect view to this presenter
         view.setPresenter(this);
@@ -53,7 +71,7 @@ public class GodSelectionPresenter {
      *
      * @param god The god that was clicked
      */
-    public void onGodButtonClicked(God god) {
+    public void onGodButtonClicked(GodInfo god) {
         if (model.isSelectionComplete()) {
             return; // Don't allow changes if selection is complete
         }
@@ -63,7 +81,7 @@ public class GodSelectionPresenter {
         view.displayGodDetails(god);
 
         int currentPlayer = model.getCurrentPlayerIndex();
-        God currentSelection = model.getSelectedGod(currentPlayer);
+        GodInfo currentSelection = model.getSelectedGod(currentPlayer);
 
         // Determine if this is a select or deselect action
         if (god.equals(currentSelection)) {
@@ -119,8 +137,8 @@ public class GodSelectionPresenter {
 
         // Create message with default timer info
         String message = String.format(
-                "God selection complete! Starting the game on a %dx%d board with %d minute timers...",
-                boardSize, boardSize, SantoriniGame.getDefaultTimerLimit()
+                "God selection complete! Starting the game on a %s board with %d minute timers...",
+                geometry, SantoriniGame.getDefaultTimerLimit()
         );
 
         // Show completion message
@@ -132,7 +150,7 @@ public class GodSelectionPresenter {
         }
 
         // Start the main game with default timer - SantoriniGame handles the timer internally
-        SantoriniGame game = new SantoriniGame(selectedGods, boardSize);
+        SantoriniGame game = new SantoriniGame(selectedGods, geometry, layout, SantoriniGame.getDefaultTimerLimit());
         game.setVisible(true);
     }
 
@@ -151,19 +169,29 @@ public class GodSelectionPresenter {
      * @param god The god to check
      * @return The player index or -1 if not selected
      */
-    public int getPlayerWhoSelected(God god) {
+    public int getPlayerWhoSelected(GodInfo god) {
         return model.getPlayerWhoSelected(god);
     }
 
+    /**
+     * Checks if the current player may select a god.
+     *
+     * @param god The god to check
+     * @return Whether the god can be selected
+     */
+    public boolean isGodAvailable(GodInfo god) {
+        return model.isGodAvailable(model.getCurrentPlayerIndex(), god);
+    }
+
     /**
      * Updates the entire view based on the current model state.
      */
     private void updateView() {
         // Update player turn indicators
-        view.displayPlayerTurn(model.getCurrentPlayerIndex(), model.getPlayers());
+        view.displayPlayerTurn(model.getCurrentPlayerIndex(), model.getPlayers(), model.getSelectedGods());
 
         // Update god list with current selection state
-        view.displayGodList(model.getAllGods(), model.getPlayers(), model.getCurrentPlayerIndex());
+        view.displayGodList(model.getAllGods(), model.getSelectedGods(), model.getCurrentPlayerIndex());
 
         // Update confirm button state
         updateConfirmButtonState();
@@ -183,7 +211,7 @@ public class GodSelectionPresenter {
             view.setConfirmEnabled(false);
         } else {
             // Enable confirm button only if current player has selected a god
-            boolean hasSelectedGod = model.getCurrentPlayer().hasSelectedGod();
+            boolean hasSelectedGod = model.getSelectedGod(model.getCurrentPlayerIndex()) != null;
             view.setConfirmEnabled(hasSelectedGod);
         }
     }
@@ -6,7 +6,6 @@ import SantoriniGame.model.game.TurnState;
 import SantoriniGame.model.player.Worker;
 
 import javax.swing.ImageIcon;
-import java.net.URL;
 import java.util.List;
 
 /**
@@ -16,7 +15,7 @@ import java.util.List;
  */
 public abstract class God implements GodPower {
     private final String path;
-    private PowerStatus powerStatus = PowerStatus.INACTIVE;
+    private volatile PowerStatus powerStatus = PowerStatus.INACTIVE;
     private final String name;
     private final String description;
 
@@ -76,13 +75,42 @@ public abstract class God implements GodPower {
     }
 
     /**
-     * Loads and returns the image icon associated with the God.
+     * Gets the path to the God's image.
+     *
+     * @return the path to the image file (relative to the resources folder)
+     */
+    public String getImagePath() {
+        return path;
+    }
+
+    /**
+     * Returns the image icon associated with the God.
+     * The icon is shared through GodPortraitCache, so it is only decoded once.
      *
      * @return the ImageIcon if the path is valid, or null if not found
      */
     public ImageIcon getImageIcon() {
-        URL imgURL = getClass().getResource(path);
-        return new ImageIcon(imgURL);
+        return GodPortraitCache.getInstance().getIcon(path);
+    }
+
+    /**
+     * Returns the image icon associated with the God, scaled to the given size.
+     * Scaled copies are cached too, so repeated calls do not rescale.
+     *
+     * @param width width in pixels
+     * @param height height in pixels
+     * @return the scaled ImageIcon if the path is valid, or null if not found
+     */
+    public ImageIcon getImageIcon(int width, int height) {
+        return GodPortraitCache.getInstance().getIcon(path, width, height);
+    }
+
+    /**
+     * Gets valid move locations for the current power status.
+     */
+    @Override
+    public final List<BoardTile> getValidMoveLocations(Worker worker, Board board, TurnState turnState) {
+        return getValidMoveLocations(worker, board, turnState, getPowerStatus());
     }
 
     /**
@@ -90,19 +118,65 @@ public abstract class God implements GodPower {
      * By default, returns the same locations as the standard rules.
      */
     @Override
-    public List<BoardTile> getValidMoveLocations(Worker worker, Board board, TurnState turnState) {
+    public List<BoardTile> getValidMoveLocations(Worker worker, Board board, TurnState turnState,
+                                                 PowerStatus powerStatus) {
         return board.getValidMoveLocations(worker);
     }
 
+    /**
+     * Gets valid build locations for the current power status.
+     */
+    @Override
+    public final List<BoardTile> getValidBuildLocations(Worker worker, Board board, TurnState turnState) {
+        return getValidBuildLocations(worker, board, turnState, getPowerStatus());
+    }
+
     /**
      * Default implementation for getting valid build locations.
      * By default, returns the same locations as the standard rules.
      */
     @Override
-    public List<BoardTile> getValidBuildLocations(Worker worker, Board board, TurnState turnState) {
+    public List<BoardTile> getValidBuildLocations(Worker worker, Board board, TurnState turnState,
+                                                  PowerStatus powerStatus) {
         return board.getValidBuildLocations(worker);
     }
 
+    /**
+     * Gets the move locations the worker would have if the power were used now.
+     * Does not change the power status.
+     *
+     * @param worker Worker to check moves for
+     * @param board Game board
+     * @param turnState Current turn state
+     * @return List of tiles the worker could move to
+     */
+    public List<BoardTile> getPotentialMoveLocations(Worker worker, Board board, TurnState turnState) {
+        return getValidMoveLocations(worker, board, turnState, getPowerStatusIfUsed());
+    }
+
+    /**
+     * Gets the build locations the worker would have if the power were used now.
+     * Does not change the power status.
+     *
+     * @param worker Worker to check builds for
+     * @param board Game board
+     * @param turnState Current turn state
+     * @return List of tiles the worker could build on
+     */
+    public List<BoardTile> getPotentialBuildLocations(Worker worker, Board board, TurnState turnState) {
+        return getValidBuildLocations(worker, board, turnState, getPowerStatusIfUsed());
+    }
+
+    /**
+     * Gets the power status this god would have if the player chose to use an available power.
+     *
+     * @return ACTIVE if the power can be activated, otherwise the current status
+     */
+    private PowerStatus getPowerStatusIfUsed() {
+        PowerStatus status = getPowerStatus();
+        return status == PowerStatus.CAN_ACTIVATE ? PowerStatus.ACTIVE : status;
+    }
+
     /**
      * Default implementation of getPowerPrompt.
      * Returns a generic prompt message.
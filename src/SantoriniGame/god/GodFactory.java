@@ -1,32 +1,44 @@
 package SantoriniGame.god;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Supplier;
 
 /**
  * Factory class for creating God objects.
  * Follows the Factory pattern to centralize god creation logic.
+ * Gods are discovered from the classpath through ServiceLoader (META-INF/services/SantoriniGame.god.God),
+ * and are only constructed when a game asks for them. Each is registered under its name,
+ * read from its GodMetadata annotation; a god class without one is constructed once to read it.
  */
 public class GodFactory {
-    // Singleton instance
-    private static GodFactory instance;
-
-    // Map to store god creation functions
+    // Info and creation function of each god, ordered by god name
+    private final Map<String, GodInfo> godInfos;
     private final Map<String, Supplier<God>> godCreators;
 
+    /**
+     * Holds the singleton, so it is created on first use and safely published to every thread.
+     */
+    private static final class InstanceHolder {
+        private static final GodFactory INSTANCE = new GodFactory();
+    }
+
     /**
      * Private constructor for the singleton.
      */
     private GodFactory() {
-        godCreators = new HashMap<>();
+        godInfos = new ConcurrentSkipListMap<>();
+        godCreators = new ConcurrentSkipListMap<>();
 
-        // Register available gods
-        registerGod(Artemis.GOD_NAME, Artemis::new);
-        registerGod(Demeter.GOD_NAME, Demeter::new);
-        registerGod(Triton.GOD_NAME, Triton::new);
+        // Register gods found on the classpath. Reading the annotation loads the class without initialising it.
+        ServiceLoader.load(God.class).stream().forEach(provider -> {
+            GodMetadata metadata = provider.type().getAnnotation(GodMetadata.class);
+            GodInfo info = metadata != null ? GodInfo.of(metadata) : GodInfo.of(provider.get());
+            registerGod(info, provider::get);
+        });
     }
 
     /**
@@ -35,33 +47,49 @@ public class GodFactory {
      * @return The GodFactory instance
      */
     public static GodFactory getInstance() {
-        if (instance == null) {
-            instance = new GodFactory();
-        }
-        return instance;
+        return InstanceHolder.INSTANCE;
     }
 
     /**
-     * Registers a god with the factory.
+     * Registers a god with the factory, under its name.
      *
-     * @param godName Name of the god
+     * @param info Name, description and portrait of the god
      * @param creator Supplier that creates the god
      */
-    public void registerGod(String godName, Supplier<God> creator) {
-        godCreators.put(godName, creator);
+    public void registerGod(GodInfo info, Supplier<God> creator) {
+        godInfos.put(info.name(), info);
+        godCreators.put(info.name(), creator);
     }
 
+    /**
+     * Gets the names of all available gods, in alphabetical order.
+     *
+     * @return List of god names
+     */
+    public List<String> getGodNames() {
+        return new ArrayList<>(godInfos.keySet());
+    }
+
+    /**
+     * Gets the info of all available gods, in alphabetical order of name, without constructing them.
+     *
+     * @return List of god info
+     */
+    public List<GodInfo> getGodInfos() {
+        return new ArrayList<>(godInfos.values());
+    }
 
     /**
-     * Creates a list of all available gods.
+     * Creates a new instance of a single god.
      *
-     * @return List of all gods
+     * @param godName Name of the god
+     * @return A new God
      */
-    public List<God> createAllGods() {
-        List<God> gods = new ArrayList<>();
-        for (Supplier<God> creator : godCreators.values()) {
-            gods.add(creator.get());
+    public God createGod(String godName) {
+        Supplier<God> creator = godCreators.get(godName);
+        if (creator == null) {
+            throw new IllegalArgumentException("No god named " + godName + " is registered.");
         }
-        return gods;
+        return creator.get();
     }
 }
@@ -0,0 +1,45 @@
+package SantoriniGame.god;
+
+import javax.swing.ImageIcon;
+
+/**
+ * GodInfo record - What is shown about a god before it is picked: its name, the description of its power
+ * and its portrait. GodFactory lists these without constructing any god.
+ *
+ * @param name the name of the god
+ * @param description the description of the god's power
+ * @param imagePath the path to the image file (relative to the resources folder)
+ */
+public record GodInfo(String name, String description, String imagePath) {
+
+    /**
+     * Reads the metadata of a god class.
+     *
+     * @param metadata the annotation on the god's class
+     * @return the god's info
+     */
+    public static GodInfo of(GodMetadata metadata) {
+        return new GodInfo(metadata.name(), metadata.description(), metadata.imagePath());
+    }
+
+    /**
+     * Reads the info of a constructed god.
+     *
+     * @param god the god
+     * @return the god's info
+     */
+    public static GodInfo of(God god) {
+        return new GodInfo(god.getName(), god.getDescription(), god.getImagePath());
+    }
+
+    /**
+     * Returns the god's portrait scaled to the given size, shared through GodPortraitCache.
+     *
+     * @param width width in pixels
+     * @param height height in pixels
+     * @return the scaled ImageIcon if the path is valid, or null if not found
+     */
+    public ImageIcon getImageIcon(int width, int height) {
+        return GodPortraitCache.getInstance().getIcon(imagePath, width, height);
+    }
+}
@@ -0,0 +1,31 @@
+package SantoriniGame.god;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Describes a god on its class, so GodFactory can list it and the selection screen can show it
+ * without constructing the god. The values must match what the god's constructor passes to God.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface GodMetadata {
+    /**
+     * @return the name of the god
+     */
+    String name();
+
+    /**
+     * @return the description of the god's power
+     */
+    String description();
+
+    /**
+     * @return the path to the image file (relative to the resources folder)
+     */
+    String imagePath();
+}
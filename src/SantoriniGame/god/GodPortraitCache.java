@@ -0,0 +1,190 @@
+package SantoriniGame.god;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Shared cache of god portraits.
+ * Each portrait is decoded once, and scaled copies are kept for every size the UI asks for.
+ * Entries are held by soft reference, so they are dropped under memory pressure and reloaded on next use.
+ * Originals and scaled copies are kept in separate maps, as a scaled copy is made from the original
+ * while its own entry is held, and a ConcurrentHashMap must not be updated again from inside compute.
+ */
+public final class GodPortraitCache {
+    private final Map<String, SoftReference<ImageIcon>> originals = new ConcurrentHashMap<>();
+    private final Map<PortraitKey, SoftReference<ImageIcon>> scaled = new ConcurrentHashMap<>();
+
+    // Background thread for warming up, so decoding never stalls the Event Dispatch Thread
+    private final ExecutorService warmUpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "portrait-warm-up");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Identifies a portrait at a given size.
+     */
+    private record PortraitKey(String path, int width, int height) { }
+
+    /**
+     * Holds the singleton, so it is created on first use and safely published to every thread.
+     */
+    private static final class InstanceHolder {
+        private static final GodPortraitCache INSTANCE = new GodPortraitCache();
+    }
+
+    /**
+     * Private constructor for the singleton.
+     */
+    private GodPortraitCache() { }
+
+    /**
+     * Gets the singleton instance.
+     *
+     * @return The GodPortraitCache instance
+     */
+    public static GodPortraitCache getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Gets a portrait at its original size.
+     *
+     * @param path the path to the image file (relative to the resources folder)
+     * @return the shared ImageIcon, or null if the image could not be loaded
+     */
+    public ImageIcon getIcon(String path) {
+        return getOrLoad(originals, path, this::loadOriginal);
+    }
+
+    /**
+     * Gets a portrait scaled to the given size.
+     *
+     * @param path the path to the image file (relative to the resources folder)
+     * @param width width in pixels
+     * @param height height in pixels
+     * @return the shared ImageIcon, or null if the image could not be loaded
+     */
+    public ImageIcon getIcon(String path, int width, int height) {
+        return getOrLoad(scaled, new PortraitKey(path, width, height), this::loadScaled);
+    }
+
+    /**
+     * Decodes and scales the portraits of the given gods on a background thread.
+     * Later calls to getIcon for these gods and sizes return without decoding.
+     *
+     * @param gods the gods whose portraits will be shown
+     * @param sizes the sizes the portraits will be shown at
+     */
+    public void warmUp(Collection<GodInfo> gods, Dimension... sizes) {
+        List<String> paths = new ArrayList<>();
+        for (GodInfo god : gods) {
+            paths.add(god.imagePath());
+        }
+
+        warmUpExecutor.execute(() -> {
+            for (String path : paths) {
+                getIcon(path);
+                for (Dimension size : sizes) {
+                    getIcon(path, size.width, size.height);
+                }
+            }
+        });
+    }
+
+    /**
+     * Gets a cached portrait, loading it if it was never loaded or was cleared.
+     *
+     * @param portraits the map holding the portrait
+     * @param key portrait to get
+     * @param loader loads the portrait, must not update the same map
+     * @return the ImageIcon, or null if the image could not be loaded
+     */
+    private static <K> ImageIcon getOrLoad(Map<K, SoftReference<ImageIcon>> portraits, K key,
+                                           Function<K, ImageIcon> loader) {
+        SoftReference<ImageIcon> cached = portraits.get(key);
+        ImageIcon icon = cached == null ? null : cached.get();
+        if (icon != null) {
+            return icon;
+        }
+
+        // Load while holding the entry, so two threads never decode the same portrait
+        ImageIcon[] loaded = new ImageIcon[1];
+        portraits.compute(key, (k, ref) -> {
+            ImageIcon existing = ref == null ? null : ref.get();
+            if (existing != null) {
+                loaded[0] = existing;
+                return ref;
+            }
+            loaded[0] = loader.apply(k);
+            return loaded[0] == null ? null : new SoftReference<>(loaded[0]);
+        });
+        return loaded[0];
+    }
+
+    /**
+     * Loads a portrait at its original size.
+     *
+     * @param path the path to the image file (relative to the resources folder)
+     * @return the ImageIcon, or null if the image could not be loaded
+     */
+    private ImageIcon loadOriginal(String path) {
+        BufferedImage original = decode(path);
+        return original == null ? null : new ImageIcon(original);
+    }
+
+    /**
+     * Loads a scaled portrait from the cached original.
+     *
+     * @param key portrait and size to load
+     * @return the ImageIcon, or null if the image could not be loaded
+     */
+    private ImageIcon loadScaled(PortraitKey key) {
+        ImageIcon original = getIcon(key.path());
+        if (original == null) {
+            return null;
+        }
+
+        BufferedImage image = new BufferedImage(key.width(), key.height(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.drawImage(original.getImage(), 0, 0, key.width(), key.height(), null);
+        g2d.dispose();
+        return new ImageIcon(image);
+    }
+
+    /**
+     * Decodes an image from the resources folder.
+     *
+     * @param path the path to the image file (relative to the resources folder)
+     * @return the decoded image, or null if not found or unreadable
+     */
+    private BufferedImage decode(String path) {
+        URL imgURL = GodPortraitCache.class.getResource(path);
+        if (imgURL == null) {
+            return null;
+        }
+
+        try {
+            return ImageIO.read(imgURL);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -24,6 +24,18 @@ public interface GodPower {
      */
     List<BoardTile> getValidMoveLocations(Worker worker, Board board, TurnState turnState);
 
+    /**
+     * Gets valid move locations as if this god's power were in the given state.
+     * Must not change any state, so it is safe to call from several threads on the same game.
+     *
+     * @param worker Worker to check moves for
+     * @param board Game board
+     * @param turnState Current turn state
+     * @param powerStatus Power status to answer for, regardless of the current one
+     * @return List of valid tiles the worker can move to
+     */
+    List<BoardTile> getValidMoveLocations(Worker worker, Board board, TurnState turnState, PowerStatus powerStatus);
+
     /**
      * Gets valid build locations considering this god's power.
      *
@@ -34,6 +46,18 @@ public interface GodPower {
      */
     List<BoardTile> getValidBuildLocations(Worker worker, Board board, TurnState turnState);
 
+    /**
+     * Gets valid build locations as if this god's power were in the given state.
+     * Must not change any state, so it is safe to call from several threads on the same game.
+     *
+     * @param worker Worker to check builds for
+     * @param board Game board
+     * @param turnState Current turn state
+     * @param powerStatus Power status to answer for, regardless of the current one
+     * @return List of valid tiles the worker can build on
+     */
+    List<BoardTile> getValidBuildLocations(Worker worker, Board board, TurnState turnState, PowerStatus powerStatus);
+
     /**
      * Gets a user-friendly message explaining the god power option
      * to display when prompting the player.
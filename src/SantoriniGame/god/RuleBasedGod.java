@@ -0,0 +1,139 @@
+package SantoriniGame.god;
+
+import SantoriniGame.god.rule.CompiledGodRule;
+import SantoriniGame.god.rule.GodRule;
+import SantoriniGame.god.rule.Timing;
+import SantoriniGame.god.rule.TurnMemory;
+import SantoriniGame.model.action.ActionType;
+import SantoriniGame.model.board.Board;
+import SantoriniGame.model.board.BoardTile;
+import SantoriniGame.model.game.TurnState;
+import SantoriniGame.model.player.Worker;
+
+import java.util.List;
+
+/**
+ * A God whose power is described by a declarative GodRule.
+ * Handles offering the power, rewinding the turn phase and filtering the extra step for every rule,
+ * so new gods only need to describe their power.
+ */
+public class RuleBasedGod extends God {
+    private final GodRule rule;
+    private final CompiledGodRule compiledRule;
+    private final String powerPrompt;
+    private final TurnMemory turnMemory = new TurnMemory();
+    private int extraStepsUsed;
+
+    /**
+     * Constructs a god from a rule.
+     *
+     * @param path the path to the image file (relative to the resources folder)
+     * @param name the name of the god
+     * @param description the description of the god's power
+     * @param powerPrompt message shown when offering the power
+     * @param rule the rule describing the power
+     */
+    public RuleBasedGod(String path, String name, String description, String powerPrompt, GodRule rule) {
+        super(path, name, description);
+        this.rule = rule;
+        this.compiledRule = rule.compile();
+        this.powerPrompt = powerPrompt;
+        this.extraStepsUsed = 0;
+    }
+
+    /**
+     * Gets the rule describing this god's power.
+     *
+     * @return the rule
+     */
+    public GodRule getRule() {
+        return rule;
+    }
+
+    /**
+     * Gets the compiled form of this god's rule.
+     *
+     * @return the compiled rule
+     */
+    public CompiledGodRule getCompiledRule() {
+        return compiledRule;
+    }
+
+    /**
+     * Gets what this god remembers about the current turn.
+     *
+     * @return the turn memory
+     */
+    public TurnMemory getTurnMemory() {
+        return turnMemory;
+    }
+
+    @Override
+    public void checkActivation(TurnState currState) {
+        turnMemory.record(currState.getLastAction());
+
+        // Can only activate right after the step the power repeats
+        Timing timing = compiledRule.getTiming();
+        BoardTile stepTile = timing.getStepTile(currState.getLastAction());
+        if (currState.getCurrPhase() == timing.getPhaseAfterStep() &&
+                stepTile != null &&
+                compiledRule.isTriggered(stepTile, extraStepsUsed, turnMemory)) {
+            setPowerStatus(PowerStatus.CAN_ACTIVATE);
+        } else {
+            setPowerStatus(PowerStatus.INACTIVE);
+        }
+    }
+
+    @Override
+    public List<BoardTile> getValidMoveLocations(Worker worker, Board board, TurnState turnState,
+                                                 PowerStatus powerStatus) {
+        List<BoardTile> standardMoves = board.getValidMoveLocations(worker);
+
+        // If this is the extra move, only keep tiles the rule allows
+        if (powerStatus == PowerStatus.ACTIVE && compiledRule.getTiming().getStep() == ActionType.MOVE) {
+            return compiledRule.filter(standardMoves, turnMemory);
+        }
+        return standardMoves;
+    }
+
+    @Override
+    public List<BoardTile> getValidBuildLocations(Worker worker, Board board, TurnState turnState,
+                                                  PowerStatus powerStatus) {
+        List<BoardTile> standardBuilds = board.getValidBuildLocations(worker);
+
+        // If this is the extra build, only keep tiles the rule allows
+        if (powerStatus == PowerStatus.ACTIVE && compiledRule.getTiming().getStep() == ActionType.BUILD) {
+            return compiledRule.filter(standardBuilds, turnMemory);
+        }
+        return standardBuilds;
+    }
+
+    @Override
+    public String getPowerPrompt() {
+        return powerPrompt;
+    }
+
+    /**
+     * Activates the power, sending the turn back to the step it repeats.
+     */
+    @Override
+    public TurnState activatePower(TurnState turnState) {
+        setPowerStatus(PowerStatus.ACTIVE);
+        extraStepsUsed++;
+
+        // Change the phase back to allow the extra step
+        turnState.setCurrPhase(compiledRule.getTiming().getRepeatPhase());
+
+        return turnState;
+    }
+
+    /**
+     * Resets the power state at the end of the turn.
+     */
+    @Override
+    public void resetPowerState() {
+        turnMemory.clear();
+        extraStepsUsed = 0;
+        setPowerStatus(PowerStatus.INACTIVE);
+    }
+}
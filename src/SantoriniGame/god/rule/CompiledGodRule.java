@@ -0,0 +1,83 @@
+package SantoriniGame.god.rule;
+
+import SantoriniGame.model.board.BoardTile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A GodRule compiled into predicates. Evaluating it does not allocate unless filtering is needed.
+ */
+public final class CompiledGodRule {
+    private final Timing timing;
+    private final TilePredicate trigger;
+    private final TilePredicate allowed;
+    private final int maxExtraSteps;
+
+    /**
+     * Creates a compiled rule. Use GodRule.compile() instead.
+     *
+     * @param timing when the power applies
+     * @param trigger test the tile of the step just taken must pass for the power to be offered
+     * @param allowed test a tile must pass to be used by the extra step
+     * @param maxExtraSteps maximum extra steps per turn
+     */
+    CompiledGodRule(Timing timing, TilePredicate trigger, TilePredicate allowed, int maxExtraSteps) {
+        this.timing = timing;
+        this.trigger = trigger;
+        this.allowed = allowed;
+        this.maxExtraSteps = maxExtraSteps;
+    }
+
+    /**
+     * Gets the timing of the power.
+     * @return timing
+     */
+    public Timing getTiming() {
+        return timing;
+    }
+
+    /**
+     * Checks if the power should be offered after a step ending on the given tile.
+     *
+     * @param stepTile the tile the step ended on
+     * @param extraStepsUsed extra steps already taken this turn
+     * @param memory what happened earlier this turn
+     * @return true if the power can be activated
+     */
+    public boolean isTriggered(BoardTile stepTile, int extraStepsUsed, TurnMemory memory) {
+        return extraStepsUsed < maxExtraSteps && trigger.test(stepTile, memory);
+    }
+
+    /**
+     * Checks if the extra step may use the given tile.
+     *
+     * @param tile the candidate tile
+     * @param memory what happened earlier this turn
+     * @return true if the tile is allowed
+     */
+    public boolean isAllowed(BoardTile tile, TurnMemory memory) {
+        return allowed.test(tile, memory);
+    }
+
+    /**
+     * Removes tiles the extra step may not use. Returns the list itself if the rule has no restrictions.
+     *
+     * @param tiles tiles allowed by the standard rules
+     * @param memory what happened earlier this turn
+     * @return allowed tiles
+     */
+    public List<BoardTile> filter(List<BoardTile> tiles, TurnMemory memory) {
+        if (allowed == TilePredicate.ALWAYS) {
+            return tiles;
+        }
+
+        List<BoardTile> filtered = new ArrayList<>(tiles.size());
+        for (BoardTile tile : tiles) {
+            if (allowed.test(tile, memory)) {
+                filtered.add(tile);
+            }
+        }
+        return filtered;
+    }
+}
@@ -0,0 +1,144 @@
+package SantoriniGame.god.rule;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Declarative description of a god power that grants extra steps.
+ * Rules are immutable and read like the god cards, for example:
+ * <pre>
+ *     GodRule.extraMove().restrict(Restriction.NOT_INITIAL_SPACE)
+ *     GodRule.extraMove().when(Trigger.ON_PERIMETER).unlimited()
+ * </pre>
+ * Use {@link #compile()} to turn a rule into predicates RuleBasedGod can evaluate quickly.
+ */
+public final class GodRule {
+    /**
+     * Extra step limit for powers that can repeat as long as they are triggered.
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final Timing timing;
+    private final Trigger trigger;
+    private final Set<Restriction> restrictions;
+    private final int maxExtraSteps;
+
+    /**
+     * Creates a rule. Use the static factories and the DSL methods instead.
+     */
+    private GodRule(Timing timing, Trigger trigger, Set<Restriction> restrictions, int maxExtraSteps) {
+        this.timing = timing;
+        this.trigger = trigger;
+        this.restrictions = restrictions;
+        this.maxExtraSteps = maxExtraSteps;
+    }
+
+    /**
+     * Starts a rule granting one additional move after a move.
+     * @return new rule
+     */
+    public static GodRule extraMove() {
+        return new GodRule(Timing.YOUR_MOVE, Trigger.ALWAYS, EnumSet.noneOf(Restriction.class), 1);
+    }
+
+    /**
+     * Starts a rule granting one additional build after a build.
+     * @return new rule
+     */
+    public static GodRule extraBuild() {
+        return new GodRule(Timing.YOUR_BUILD, Trigger.ALWAYS, EnumSet.noneOf(Restriction.class), 1);
+    }
+
+    /**
+     * Only offers the power when the trigger holds for the step that was just taken.
+     * @param newTrigger the trigger
+     * @return copy of this rule with the trigger
+     */
+    public GodRule when(Trigger newTrigger) {
+        return new GodRule(timing, newTrigger, restrictions, maxExtraSteps);
+    }
+
+    /**
+     * Adds a restriction on the tiles the extra step may use.
+     * @param restriction the restriction
+     * @return copy of this rule with the restriction added
+     */
+    public GodRule restrict(Restriction restriction) {
+        if (restriction == Restriction.NOT_INITIAL_SPACE && timing != Timing.YOUR_MOVE) {
+            throw new IllegalArgumentException("The initial space restriction only applies to extra moves.");
+        }
+        if (restriction == Restriction.NOT_SAME_SPACE && timing != Timing.YOUR_BUILD) {
+            throw new IllegalArgumentException("The same space restriction only applies to extra builds.");
+        }
+
+        Set<Restriction> newRestrictions = EnumSet.noneOf(Restriction.class);
+        newRestrictions.addAll(restrictions);
+        newRestrictions.add(restriction);
+        return new GodRule(timing, trigger, newRestrictions, maxExtraSteps);
+    }
+
+    /**
+     * Limits how many extra steps the power grants per turn.
+     * @param times maximum number of extra steps, at least 1
+     * @return copy of this rule with the limit
+     */
+    public GodRule limit(int times) {
+        if (times < 1) {
+            throw new IllegalArgumentException("A god power must grant at least one extra step.");
+        }
+        return new GodRule(timing, trigger, restrictions, times);
+    }
+
+    /**
+     * Lets the power repeat for as long as it keeps being triggered.
+     * @return copy of this rule without a limit
+     */
+    public GodRule unlimited() {
+        return new GodRule(timing, trigger, restrictions, UNLIMITED);
+    }
+
+    /**
+     * Compiles this rule into predicates over the board.
+     * @return compiled rule
+     */
+    public CompiledGodRule compile() {
+        TilePredicate allowed = TilePredicate.ALWAYS;
+        for (Restriction restriction : restrictions) {
+            allowed = allowed.and(restriction.getPredicate());
+        }
+        return new CompiledGodRule(timing, trigger.getPredicate(), allowed, maxExtraSteps);
+    }
+
+    /**
+     * Gets the timing of the power.
+     * @return timing
+     */
+    public Timing getTiming() {
+        return timing;
+    }
+
+    /**
+     * Gets the trigger of the power.
+     * @return trigger
+     */
+    public Trigger getTrigger() {
+        return trigger;
+    }
+
+    /**
+     * Gets the restrictions on the extra step.
+     * @return unmodifiable set of restrictions
+     */
+    public Set<Restriction> getRestrictions() {
+        return Collections.unmodifiableSet(restrictions);
+    }
+
+    /**
+     * Gets the maximum number of extra steps per turn.
+     * @return limit, or UNLIMITED
+     */
+    public int getMaxExtraSteps() {
+        return maxExtraSteps;
+    }
+}
@@ -0,0 +1,44 @@
+package SantoriniGame.god.rule;
+
+import SantoriniGame.model.board.BoardTile;
+
+/**
+ * Restriction enumeration. Limits which tiles the extra step of a god power may use.
+ *
+ * NOT_INITIAL_SPACE: The extra move may not go back to where the worker started the turn
+ * NOT_SAME_SPACE: The extra build may not be on the tile of the first build
+ * PERIMETER_ONLY: The extra step must use a perimeter tile
+ */
+public enum Restriction {
+    NOT_INITIAL_SPACE((tile, memory) -> tile != memory.getInitialSpace()),
+    NOT_SAME_SPACE((tile, memory) -> tile != memory.getFirstBuildLocation()),
+    PERIMETER_ONLY((tile, memory) -> isPerimeter(tile)),
+    ;
+
+    private final TilePredicate predicate;
+
+    /**
+     * Creates a Restriction.
+     * @param predicate test a tile must pass to be allowed
+     */
+    Restriction(TilePredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    /**
+     * Gets the compiled test for this restriction.
+     * @return predicate a tile must pass
+     */
+    public TilePredicate getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Checks if a tile is on the perimeter of its board.
+     * @param tile the tile to check
+     * @return true if the tile is on an edge of the board
+     */
+    public static boolean isPerimeter(BoardTile tile) {
+        return tile.getBoard().getGeometry().isPerimeter(tile.getX(), tile.getY());
+    }
+}
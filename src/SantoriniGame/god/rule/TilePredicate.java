@@ -0,0 +1,35 @@
+package SantoriniGame.god.rule;
+
+import SantoriniGame.model.board.BoardTile;
+
+/**
+ * Compiled test of a tile against a god rule.
+ */
+@FunctionalInterface
+public interface TilePredicate {
+    /**
+     * Always passes. Lets compiled rules skip filtering entirely.
+     */
+    TilePredicate ALWAYS = (tile, memory) -> true;
+
+    /**
+     * Tests a tile.
+     *
+     * @param tile the tile to test
+     * @param memory what happened earlier this turn
+     * @return true if the tile passes
+     */
+    boolean test(BoardTile tile, TurnMemory memory);
+
+    /**
+     * Combines this predicate with another, skipping ALWAYS so it adds no cost.
+     *
+     * @param other predicate that must also pass
+     * @return combined predicate
+     */
+    default TilePredicate and(TilePredicate other) {
+        if (this == ALWAYS) return other;
+        if (other == ALWAYS) return this;
+        return (tile, memory) -> test(tile, memory) && other.test(tile, memory);
+    }
+}
@@ -0,0 +1,75 @@
+package SantoriniGame.god.rule;
+
+import SantoriniGame.model.action.Action;
+import SantoriniGame.model.action.ActionType;
+import SantoriniGame.model.action.BuildAction;
+import SantoriniGame.model.action.MoveAction;
+import SantoriniGame.model.board.BoardTile;
+import SantoriniGame.model.game.TurnPhase;
+
+/**
+ * Timing enumeration. Stores when in the turn a god power applies, and the step it repeats.
+ *
+ * YOUR_MOVE: Power is offered after a move, and gives another move
+ * YOUR_BUILD: Power is offered after a build, and gives another build
+ */
+public enum Timing {
+    YOUR_MOVE(ActionType.MOVE, TurnPhase.BUILD, TurnPhase.MOVE),
+    YOUR_BUILD(ActionType.BUILD, TurnPhase.END_TURN, TurnPhase.BUILD),
+    ;
+
+    private final ActionType step;
+    private final TurnPhase phaseAfterStep;
+    private final TurnPhase repeatPhase;
+
+    /**
+     * Creates a Timing.
+     * @param step the type of action the power repeats
+     * @param phaseAfterStep the phase the turn is in right after that action
+     * @param repeatPhase the phase the turn goes back to when the power is used
+     */
+    Timing(ActionType step, TurnPhase phaseAfterStep, TurnPhase repeatPhase) {
+        this.step = step;
+        this.phaseAfterStep = phaseAfterStep;
+        this.repeatPhase = repeatPhase;
+    }
+
+    /**
+     * Gets the type of action the power repeats.
+     * @return MOVE or BUILD
+     */
+    public ActionType getStep() {
+        return step;
+    }
+
+    /**
+     * Gets the phase the turn is in right after the repeated action.
+     * @return phase in which the power can be offered
+     */
+    public TurnPhase getPhaseAfterStep() {
+        return phaseAfterStep;
+    }
+
+    /**
+     * Gets the phase the turn goes back to when the power is used.
+     * @return phase to rewind to
+     */
+    public TurnPhase getRepeatPhase() {
+        return repeatPhase;
+    }
+
+    /**
+     * Gets the tile an action ended on, if it is the step this timing repeats.
+     * @param action the action to check (can be null)
+     * @return move destination or build location, or null if the action is not this step
+     */
+    public BoardTile getStepTile(Action action) {
+        if (step == ActionType.MOVE && action instanceof MoveAction) {
+            return ((MoveAction) action).getDestination();
+        }
+        if (step == ActionType.BUILD && action instanceof BuildAction) {
+            return ((BuildAction) action).getBuildLocation();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,31 @@
+package SantoriniGame.god.rule;
+
+/**
+ * Trigger enumeration. Decides if a god power is offered after the step it repeats.
+ *
+ * ALWAYS: Offered after every matching step
+ * ON_PERIMETER: Offered only if the step ended on a perimeter tile
+ */
+public enum Trigger {
+    ALWAYS(TilePredicate.ALWAYS),
+    ON_PERIMETER((tile, memory) -> Restriction.isPerimeter(tile)),
+    ;
+
+    private final TilePredicate predicate;
+
+    /**
+     * Creates a Trigger.
+     * @param predicate test the tile the step ended on must pass
+     */
+    Trigger(TilePredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    /**
+     * Gets the compiled test for this trigger.
+     * @return predicate the step's tile must pass
+     */
+    public TilePredicate getPredicate() {
+        return predicate;
+    }
+}
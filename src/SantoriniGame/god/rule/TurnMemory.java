@@ -0,0 +1,52 @@
+package SantoriniGame.god.rule;
+
+import SantoriniGame.model.action.Action;
+import SantoriniGame.model.action.BuildAction;
+import SantoriniGame.model.action.MoveAction;
+import SantoriniGame.model.board.BoardTile;
+
+/**
+ * TurnMemory class. Remembers the tiles of the current turn that god restrictions refer to.
+ * Fields are volatile so legality queries from other threads see the latest turn.
+ */
+public class TurnMemory {
+    private volatile BoardTile initialSpace;
+    private volatile BoardTile firstBuildLocation;
+
+    /**
+     * Records an action if it is the first move or first build of the turn.
+     * Recording the same action again has no effect.
+     * @param action the last applied action (can be null)
+     */
+    public void record(Action action) {
+        if (action instanceof MoveAction && initialSpace == null) {
+            initialSpace = ((MoveAction) action).getStart();
+        } else if (action instanceof BuildAction && firstBuildLocation == null) {
+            firstBuildLocation = ((BuildAction) action).getBuildLocation();
+        }
+    }
+
+    /**
+     * Gets the tile the worker started the turn on.
+     * @return initial space, or null if no move was made this turn
+     */
+    public BoardTile getInitialSpace() {
+        return initialSpace;
+    }
+
+    /**
+     * Gets the tile of the first build this turn.
+     * @return first build location, or null if nothing was built this turn
+     */
+    public BoardTile getFirstBuildLocation() {
+        return firstBuildLocation;
+    }
+
+    /**
+     * Forgets the current turn.
+     */
+    public void clear() {
+        initialSpace = null;
+        firstBuildLocation = null;
+    }
+}
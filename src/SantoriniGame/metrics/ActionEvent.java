@@ -0,0 +1,31 @@
+package SantoriniGame.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * ActionEvent class - Flight recorder event for one action applied through TurnState, including the god power and
+ * victory checks and listeners it triggers.
+ * Like every event here, it is only recorded when enabled in a recording, and costs close to nothing otherwise.
+ */
+@Name("santorini.Action")
+@Label("Action")
+@Category({"Santorini", "Game"})
+@Description("An action applied to the board, with the checks and listeners it triggered")
+public class ActionEvent extends Event {
+    @Label("Game Id")
+    public long gameId;
+
+    @Label("Action Type")
+    public String actionType;
+
+    @Label("Player Id")
+    public int playerId;
+
+    @Label("Applied")
+    @Description("False if the action was rejected by the board")
+    public boolean applied;
+}
@@ -0,0 +1,36 @@
+package SantoriniGame.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter class - A count that many threads can add to without contending.
+ * Backed by a striped LongAdder, so adding is cheap and reading sums the stripes.
+ */
+public class Counter {
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Adds one.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Adds an amount.
+     *
+     * @param amount amount to add
+     */
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    /**
+     * Gets the current count.
+     *
+     * @return sum of everything added
+     */
+    public long get() {
+        return count.sum();
+    }
+}
@@ -0,0 +1,25 @@
+package SantoriniGame.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * GodPowerCheckEvent class - Flight recorder event for every god checking whether its power can activate.
+ */
+@Name("santorini.GodPowerCheck")
+@Label("God Power Check")
+@Category({"Santorini", "Game"})
+@Description("Every god in the game checking whether its power can activate")
+public class GodPowerCheckEvent extends Event {
+    @Label("Game Id")
+    public long gameId;
+
+    @Label("Player Id")
+    public int playerId;
+
+    @Label("Gods Checked")
+    public int godCount;
+}
@@ -0,0 +1,83 @@
+package SantoriniGame.metrics;
+
+/**
+ * HistogramSnapshot class - An immutable copy of a Histogram's distribution.
+ */
+public final class HistogramSnapshot {
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    HistogramSnapshot(long[] counts, long count, long sum, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * Gets the number of values recorded.
+     *
+     * @return value count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the sum of the values recorded.
+     *
+     * @return value sum
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * Gets the largest value recorded.
+     *
+     * @return maximum, or 0 if nothing was recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the mean of the values recorded.
+     *
+     * @return mean, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Gets a value at or below which the given share of values fall, rounded up to its bucket's upper bound.
+     *
+     * @param percentile share of values, from 0 to 100
+     * @return the value, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(max, Histogram.highestValueIn(bucket));
+            }
+        }
+        return max;
+    }
+}
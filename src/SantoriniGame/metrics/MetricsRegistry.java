@@ -0,0 +1,103 @@
+package SantoriniGame.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * MetricsRegistry class - Named counters, gauges and histograms, read by taking a snapshot.
+ * Each metric has a name and optional labels given as name-value pairs, such as "god", "Artemis".
+ * Looking a metric up creates it on first use, so callers should keep the metric rather than look it up each time.
+ * Safe to use from any thread.
+ */
+public class MetricsRegistry {
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final Map<MetricKey, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<MetricKey, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private final Map<MetricKey, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Identifies a metric by name and formatted labels.
+     */
+    record MetricKey(String name, String labels) {
+    }
+
+    /**
+     * Gets the registry shared by the whole process.
+     *
+     * @return the global registry
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Gets a counter, creating it if needed.
+     *
+     * @param name metric name
+     * @param labels label names and values, alternating
+     * @return the counter
+     */
+    public Counter counter(String name, String... labels) {
+        return counters.computeIfAbsent(key(name, labels), k -> new Counter());
+    }
+
+    /**
+     * Registers a gauge, read whenever a snapshot is taken, replacing any gauge of the same name and labels.
+     *
+     * @param value reads the current value
+     * @param name metric name
+     * @param labels label names and values, alternating
+     */
+    public void gauge(LongSupplier value, String name, String... labels) {
+        gauges.put(key(name, labels), value);
+    }
+
+    /**
+     * Gets a histogram, creating it if needed.
+     *
+     * @param name metric name
+     * @param labels label names and values, alternating
+     * @return the histogram
+     */
+    public Histogram histogram(String name, String... labels) {
+        return histograms.computeIfAbsent(key(name, labels), k -> new Histogram());
+    }
+
+    /**
+     * Reads every metric.
+     *
+     * @return the values, sorted by name then labels
+     */
+    public MetricsSnapshot snapshot() {
+        Map<MetricKey, Long> counterValues = new TreeMap<>(MetricsSnapshot.KEY_ORDER);
+        counters.forEach((key, counter) -> counterValues.put(key, counter.get()));
+        Map<MetricKey, Long> gaugeValues = new TreeMap<>(MetricsSnapshot.KEY_ORDER);
+        gauges.forEach((key, gauge) -> gaugeValues.put(key, gauge.getAsLong()));
+        Map<MetricKey, HistogramSnapshot> histogramValues = new TreeMap<>(MetricsSnapshot.KEY_ORDER);
+        histograms.forEach((key, histogram) -> histogramValues.put(key, histogram.snapshot()));
+        return new MetricsSnapshot(System.currentTimeMillis(), counterValues, gaugeValues, histogramValues);
+    }
+
+    /**
+     * Builds a key, formatting the labels as they are shown in the text exposition.
+     */
+    private static MetricKey key(String name, String... labels) {
+        if (!name.matches("[a-zA-Z_][a-zA-Z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid metric name: " + name);
+        }
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be given as name-value pairs.");
+        }
+        StringBuilder formatted = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) formatted.append(',');
+            formatted.append(labels[i]).append("=\"")
+                    .append(labels[i + 1].replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"))
+                    .append('"');
+        }
+        return new MetricKey(name, formatted.toString());
+    }
+}
@@ -0,0 +1,63 @@
+package SantoriniGame.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * MetricsServer class - Serves a registry's metrics as text at /metrics, for scraping on the local machine.
+ * Binds to the loopback address only, so the metrics are never exposed to the network.
+ */
+public class MetricsServer implements AutoCloseable {
+    private final HttpServer server;
+
+    /**
+     * Starts serving metrics.
+     *
+     * @param registry the metrics to serve
+     * @param port port to listen on, or 0 for any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public MetricsServer(MetricsRegistry registry, int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", exchange -> respond(exchange, registry));
+        server.start();
+    }
+
+    /**
+     * Gets the port being listened on.
+     *
+     * @return port number
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops serving metrics.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, MetricsRegistry registry) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = registry.snapshot().toText().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
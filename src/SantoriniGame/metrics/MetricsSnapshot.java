@@ -0,0 +1,126 @@
+package SantoriniGame.metrics;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * MetricsSnapshot class - The values of every metric in a registry at one moment.
+ * Can be read by name or written out in the Prometheus text format, with histograms shown as summaries.
+ */
+public final class MetricsSnapshot {
+    /**
+     * Orders metrics by name, then by labels.
+     */
+    static final Comparator<MetricsRegistry.MetricKey> KEY_ORDER =
+            Comparator.comparing(MetricsRegistry.MetricKey::name).thenComparing(MetricsRegistry.MetricKey::labels);
+
+    // Percentiles shown for each histogram
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final long takenAtMillis;
+    private final Map<MetricsRegistry.MetricKey, Long> counters;
+    private final Map<MetricsRegistry.MetricKey, Long> gauges;
+    private final Map<MetricsRegistry.MetricKey, HistogramSnapshot> histograms;
+
+    MetricsSnapshot(long takenAtMillis, Map<MetricsRegistry.MetricKey, Long> counters,
+                    Map<MetricsRegistry.MetricKey, Long> gauges,
+                    Map<MetricsRegistry.MetricKey, HistogramSnapshot> histograms) {
+        this.takenAtMillis = takenAtMillis;
+        this.counters = Collections.unmodifiableMap(counters);
+        this.gauges = Collections.unmodifiableMap(gauges);
+        this.histograms = Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * Gets when the snapshot was taken.
+     *
+     * @return time in milliseconds since the epoch
+     */
+    public long getTakenAtMillis() {
+        return takenAtMillis;
+    }
+
+    /**
+     * Gets a counter's value.
+     *
+     * @param name metric name
+     * @param labels formatted labels, such as god="Artemis", or empty for none
+     * @return the value, or 0 if there is no such counter
+     */
+    public long getCounter(String name, String labels) {
+        return counters.getOrDefault(new MetricsRegistry.MetricKey(name, labels), 0L);
+    }
+
+    /**
+     * Gets a gauge's value.
+     *
+     * @param name metric name
+     * @param labels formatted labels, or empty for none
+     * @return the value, or 0 if there is no such gauge
+     */
+    public long getGauge(String name, String labels) {
+        return gauges.getOrDefault(new MetricsRegistry.MetricKey(name, labels), 0L);
+    }
+
+    /**
+     * Gets a histogram's distribution.
+     *
+     * @param name metric name
+     * @param labels formatted labels, or empty for none
+     * @return the distribution, or null if there is no such histogram
+     */
+    public HistogramSnapshot getHistogram(String name, String labels) {
+        return histograms.get(new MetricsRegistry.MetricKey(name, labels));
+    }
+
+    /**
+     * Writes every metric in the Prometheus text exposition format.
+     *
+     * @return the text
+     */
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        appendValues(text, counters, "counter");
+        appendValues(text, gauges, "gauge");
+
+        String lastName = null;
+        for (Map.Entry<MetricsRegistry.MetricKey, HistogramSnapshot> entry : histograms.entrySet()) {
+            MetricsRegistry.MetricKey key = entry.getKey();
+            HistogramSnapshot histogram = entry.getValue();
+            if (!key.name().equals(lastName)) {
+                text.append("# TYPE ").append(key.name()).append(" summary\n");
+                lastName = key.name();
+            }
+            String separator = key.labels().isEmpty() ? "" : ",";
+            for (double quantile : QUANTILES) {
+                text.append(key.name()).append('{').append(key.labels()).append(separator)
+                        .append("quantile=\"").append(quantile).append("\"} ")
+                        .append(histogram.getValueAtPercentile(quantile * 100)).append('\n');
+            }
+            appendLine(text, key.name() + "_sum", key.labels(), histogram.getSum());
+            appendLine(text, key.name() + "_count", key.labels(), histogram.getCount());
+            appendLine(text, key.name() + "_max", key.labels(), histogram.getMax());
+        }
+        return text.toString();
+    }
+
+    private static void appendValues(StringBuilder text, Map<MetricsRegistry.MetricKey, Long> values, String type) {
+        String lastName = null;
+        for (Map.Entry<MetricsRegistry.MetricKey, Long> entry : values.entrySet()) {
+            if (!entry.getKey().name().equals(lastName)) {
+                text.append("# TYPE ").append(entry.getKey().name()).append(' ').append(type).append('\n');
+                lastName = entry.getKey().name();
+            }
+            appendLine(text, entry.getKey().name(), entry.getKey().labels(), entry.getValue());
+        }
+    }
+
+    private static void appendLine(StringBuilder text, String name, String labels, long value) {
+        text.append(name);
+        if (!labels.isEmpty()) {
+            text.append('{').append(labels).append('}');
+        }
+        text.append(' ').append(value).append('\n');
+    }
+}
@@ -0,0 +1,36 @@
+package SantoriniGame.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * SearchDepthEvent class - Flight recorder event for one iteration of the iterative deepening search.
+ */
+@Name("santorini.SearchDepth")
+@Label("Search Depth")
+@Category({"Santorini", "Search"})
+@Description("One depth of an iterative deepening search, whether it completed or was cancelled")
+public class SearchDepthEvent extends Event {
+    @Label("Game Id")
+    @Description("Game being searched, or 0 if not known")
+    public long gameId;
+
+    @Label("Depth")
+    public int depth;
+
+    @Label("Root Turns")
+    public int rootTurns;
+
+    @Label("Nodes")
+    @Description("Positions searched in this depth")
+    public long nodes;
+
+    @Label("Best Score")
+    public int bestScore;
+
+    @Label("Completed")
+    public boolean completed;
+}
@@ -0,0 +1,32 @@
+package SantoriniGame.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * TileClickEvent class - Flight recorder event for the controller handling a tile click.
+ */
+@Name("santorini.TileClick")
+@Label("Tile Click")
+@Category({"Santorini", "Controller"})
+@Description("A tile click handled by the game controller")
+public class TileClickEvent extends Event {
+    @Label("Game Id")
+    public long gameId;
+
+    @Label("Player Id")
+    public int playerId;
+
+    @Label("Phase")
+    @Description("Turn phase when the tile was clicked")
+    public String phase;
+
+    @Label("X")
+    public int x;
+
+    @Label("Y")
+    public int y;
+}
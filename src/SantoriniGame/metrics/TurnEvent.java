@@ -0,0 +1,26 @@
+package SantoriniGame.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * TurnEvent class - Flight recorder event spanning a whole turn, from its start until the turn passes,
+ * including the time the player spent thinking.
+ */
+@Name("santorini.Turn")
+@Label("Turn")
+@Category({"Santorini", "Game"})
+@Description("A player's turn, from its start until it passed to the next player")
+public class TurnEvent extends Event {
+    @Label("Game Id")
+    public long gameId;
+
+    @Label("Player Id")
+    public int playerId;
+
+    @Label("Actions")
+    public int actionCount;
+}
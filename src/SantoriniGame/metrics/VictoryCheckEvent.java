@@ -0,0 +1,33 @@
+package SantoriniGame.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * VictoryCheckEvent class - Flight recorder event for checking the victory conditions an action can trigger.
+ */
+@Name("santorini.VictoryCheck")
+@Label("Victory Check")
+@Category({"Santorini", "Game"})
+@Description("Victory conditions checked after an action or a change outside the action flow")
+public class VictoryCheckEvent extends Event {
+    @Label("Game Id")
+    public long gameId;
+
+    @Label("Trigger")
+    @Description("Action type that triggered the check, or ALL when every condition was checked")
+    public String trigger;
+
+    @Label("Player Id")
+    public int playerId;
+
+    @Label("Conditions Checked")
+    public int conditionCount;
+
+    @Label("Satisfied Condition")
+    @Description("Victory condition found satisfied, if any")
+    public String satisfied;
+}
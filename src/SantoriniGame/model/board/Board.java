@@ -6,18 +6,27 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class Board {
-    private int boardSize;
+    private final BoardGeometry geometry;
     private BoardTile[][] tiles;
 
     public Board(int boardSize) {
-        this.boardSize = boardSize;
+        this(BoardGeometry.square(boardSize));
+    }
+
+    /**
+     * Creates a board of any supported shape.
+     *
+     * @param geometry the board's shape
+     */
+    public Board(BoardGeometry geometry) {
+        this.geometry = geometry;
         initializeTiles();
     }
 
     private void initializeTiles() {
-        tiles = new BoardTile[boardSize][boardSize];
-        for (int x = 0; x < boardSize; x++) {
-            for (int y = 0; y < boardSize; y++) {
+        tiles = new BoardTile[geometry.getWidth()][geometry.getHeight()];
+        for (int x = 0; x < geometry.getWidth(); x++) {
+            for (int y = 0; y < geometry.getHeight(); y++) {
                 tiles[x][y] = new BoardTile(x, y, this);
             }
         }
@@ -31,7 +40,7 @@ public class Board {
     }
 
     public boolean isValidCoordinate(int x, int y) {
-        return x >= 0 && x < boardSize && y >= 0 && y < boardSize;
+        return geometry.contains(x, y);
     }
 
     public boolean areAdjacent(int x1, int y1, int x2, int y2) {
@@ -39,25 +48,16 @@ public class Board {
             return false;
         }
 
-        int xDiff = Math.abs(x1 - x2);
-        int yDiff = Math.abs(y1 - y2);
-
-        return (xDiff <= 1 && yDiff <= 1) && !(xDiff == 0 && yDiff == 0);
+        return geometry.areAdjacent(geometry.index(x1, y1), geometry.index(x2, y2));
     }
 
     public List<BoardTile> getAdjacentTiles(int x, int y) {
         List<BoardTile> adjacentTiles = new ArrayList<>();
+        if (!isValidCoordinate(x, y)) return adjacentTiles;
 
-        for (int dx = -1; dx <= 1; dx++) {
-            for (int dy = -1; dy <= 1; dy++) {
-                if (dx == 0 && dy == 0) continue;
-
-                int newX = x + dx;
-                int newY = y + dy;
-
-                if (isValidCoordinate(newX, newY)) {
-                    adjacentTiles.add(tiles[newX][newY]);
-                }
+        for (int neighbour : geometry.getNeighbours(geometry.index(x, y))) {
+            if (neighbour >= 0) {
+                adjacentTiles.add(tiles[geometry.getX(neighbour)][geometry.getY(neighbour)]);
             }
         }
 
@@ -115,8 +115,44 @@ public class Board {
         return targetTile.canWorkerBuild();
     }
 
+    /**
+     * Gets the side of a square board.
+     *
+     * @return board size
+     * @throws IllegalStateException if the board is not square; use getGeometry() for any shape
+     */
     public int getBoardSize() {
-        return boardSize;
+        if (!geometry.isSquare()) {
+            throw new IllegalStateException("A " + geometry + " board has no single size.");
+        }
+        return geometry.getWidth();
+    }
+
+    /**
+     * Gets the shape of the board.
+     *
+     * @return the board's geometry
+     */
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return board width
+     */
+    public int getWidth() {
+        return geometry.getWidth();
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return board height
+     */
+    public int getHeight() {
+        return geometry.getHeight();
     }
 
     /**
@@ -0,0 +1,290 @@
+package SantoriniGame.model.board;
+
+/**
+ * BoardGeometry class - The shape of a rectangular board of up to 12x12 tiles,
+ * shared by the board, the god rules and the search so they all agree on edges and neighbours.
+ * Tiles are numbered y * width + x. Neighbour tables and the perimeter are worked out once per shape,
+ * and each shape has a single instance, so geometries can be compared with ==.
+ *
+ * Tile sets are bit masks: boards of up to 64 tiles, which include the standard 5x5 and 7x7 boards,
+ * keep each set in a single long, and larger boards fall back to an array of longs.
+ */
+public final class BoardGeometry {
+    /**
+     * Smallest board side.
+     */
+    public static final int MIN_SIDE = 2;
+
+    /**
+     * Largest board side.
+     */
+    public static final int MAX_SIDE = 12;
+
+    // One instance per shape, created when first asked for
+    private static final BoardGeometry[][] SHAPES = new BoardGeometry[MAX_SIDE + 1][MAX_SIDE + 1];
+
+    /**
+     * The standard 5x5 board.
+     */
+    public static final BoardGeometry STANDARD = square(5);
+
+    // Tiles a single long can hold
+    private static final int WORD_TILES = Long.SIZE;
+
+    private final int width;
+    private final int height;
+    private final int tileCount;
+
+    // Neighbours of each tile, eight to a tile in row order, -1 past the edge
+    private final int[][] neighbours;
+
+    // Boards of up to 64 tiles: one word per set
+    private final long perimeter;
+    private final long[] neighbourMasks;
+
+    // Larger boards: several words per set
+    private final long[] perimeterWords;
+    private final long[][] neighbourWords;
+
+    private BoardGeometry(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.tileCount = width * height;
+        this.neighbours = new int[tileCount][8];
+
+        int words = (tileCount + WORD_TILES - 1) / WORD_TILES;
+        long[] perimeterSet = new long[words];
+        long[][] neighbourSets = new long[tileCount][words];
+        for (int tile = 0; tile < tileCount; tile++) {
+            int x = tile % width;
+            int y = tile / width;
+            if (x == 0 || y == 0 || x == width - 1 || y == height - 1) {
+                perimeterSet[tile / WORD_TILES] |= 1L << tile;
+            }
+
+            int n = 0;
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    if (dx == 0 && dy == 0) continue;
+                    int nx = x + dx;
+                    int ny = y + dy;
+                    int neighbour = contains(nx, ny) ? ny * width + nx : -1;
+                    neighbours[tile][n++] = neighbour;
+                    if (neighbour >= 0) {
+                        neighbourSets[tile][neighbour / WORD_TILES] |= 1L << neighbour;
+                    }
+                }
+            }
+        }
+
+        if (words == 1) {
+            this.perimeter = perimeterSet[0];
+            this.neighbourMasks = new long[tileCount];
+            for (int tile = 0; tile < tileCount; tile++) {
+                neighbourMasks[tile] = neighbourSets[tile][0];
+            }
+            this.perimeterWords = null;
+            this.neighbourWords = null;
+        } else {
+            this.perimeter = 0;
+            this.neighbourMasks = null;
+            this.perimeterWords = perimeterSet;
+            this.neighbourWords = neighbourSets;
+        }
+    }
+
+    /**
+     * Gets the geometry of a rectangular board.
+     *
+     * @param width number of columns
+     * @param height number of rows
+     * @return the geometry
+     */
+    public static BoardGeometry of(int width, int height) {
+        if (width < MIN_SIDE || width > MAX_SIDE || height < MIN_SIDE || height > MAX_SIDE) {
+            throw new IllegalArgumentException("Board sides must be between " + MIN_SIDE + " and " + MAX_SIDE
+                    + ", not " + width + "x" + height + ".");
+        }
+        synchronized (SHAPES) {
+            BoardGeometry shape = SHAPES[width][height];
+            if (shape == null) {
+                shape = new BoardGeometry(width, height);
+                SHAPES[width][height] = shape;
+            }
+            return shape;
+        }
+    }
+
+    /**
+     * Gets the geometry of a square board.
+     *
+     * @param size board side
+     * @return the geometry
+     */
+    public static BoardGeometry square(int size) {
+        return of(size, size);
+    }
+
+    /**
+     * Gets the geometry named by text such as "7x5", width first.
+     *
+     * @param text the board size
+     * @return the geometry
+     */
+    public static BoardGeometry parse(String text) {
+        String[] sides = text.trim().toLowerCase().split("x");
+        try {
+            if (sides.length == 2) {
+                return of(Integer.parseInt(sides[0].trim()), Integer.parseInt(sides[1].trim()));
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Expected a board size such as 5x5 but got " + text);
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return board width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return board height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the number of tiles.
+     *
+     * @return width * height
+     */
+    public int getTileCount() {
+        return tileCount;
+    }
+
+    /**
+     * Checks if the board is square.
+     *
+     * @return true if width and height are equal
+     */
+    public boolean isSquare() {
+        return width == height;
+    }
+
+    /**
+     * Checks if tile sets of this board fit in a single long.
+     *
+     * @return true for boards of up to 64 tiles
+     */
+    public boolean isSingleWord() {
+        return neighbourMasks != null;
+    }
+
+    /**
+     * Checks if coordinates are on the board.
+     *
+     * @param x column
+     * @param y row
+     * @return true if the tile exists
+     */
+    public boolean contains(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Gets the number of a tile.
+     *
+     * @param x column
+     * @param y row
+     * @return y * width + x
+     */
+    public int index(int x, int y) {
+        return y * width + x;
+    }
+
+    /**
+     * Gets the column of a tile.
+     *
+     * @param tile tile number
+     * @return column
+     */
+    public int getX(int tile) {
+        return tile % width;
+    }
+
+    /**
+     * Gets the row of a tile.
+     *
+     * @param tile tile number
+     * @return row
+     */
+    public int getY(int tile) {
+        return tile / width;
+    }
+
+    /**
+     * Gets the neighbours of a tile, diagonals included. The array is shared and must not be changed.
+     *
+     * @param tile tile number
+     * @return eight tile numbers in row order, -1 where the neighbour would be off the board
+     */
+    public int[] getNeighbours(int tile) {
+        return neighbours[tile];
+    }
+
+    /**
+     * Checks if a tile is on an edge of the board.
+     *
+     * @param tile tile number
+     * @return true for perimeter tiles
+     */
+    public boolean isPerimeter(int tile) {
+        if (perimeterWords == null) {
+            return (perimeter >>> tile & 1) != 0;
+        }
+        return (perimeterWords[tile / WORD_TILES] >>> tile & 1) != 0;
+    }
+
+    /**
+     * Checks if a tile is on an edge of the board.
+     *
+     * @param x column
+     * @param y row
+     * @return true for perimeter tiles, false for tiles off the board
+     */
+    public boolean isPerimeter(int x, int y) {
+        return contains(x, y) && isPerimeter(index(x, y));
+    }
+
+    /**
+     * Checks if two tiles are next to each other, diagonals included.
+     *
+     * @param a first tile number
+     * @param b second tile number
+     * @return true if the tiles are neighbours, false if they are the same tile
+     */
+    public boolean areAdjacent(int a, int b) {
+        if (neighbourWords == null) {
+            return (neighbourMasks[a] >>> b & 1) != 0;
+        }
+        return (neighbourWords[a][b / WORD_TILES] >>> b & 1) != 0;
+    }
+
+    /**
+     * Gets the board size, width first.
+     *
+     * @return text such as "7x5"
+     */
+    @Override
+    public String toString() {
+        return width + "x" + height;
+    }
+}
@@ -0,0 +1,177 @@
+package SantoriniGame.model.board;
+
+import SantoriniGame.model.player.Worker;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * MobilityCache class. Tracks how many legal moves and builds each worker has under the standard rules.
+ * Counts are only recomputed for workers next to a tile that changed, so asking if a worker is trapped is O(1).
+ */
+public class MobilityCache {
+    private final Board board;
+    private final Map<Worker, Mobility> mobilities = new IdentityHashMap<>();
+
+    /**
+     * Legal move and build counts for a single worker.
+     */
+    private static final class Mobility {
+        private int moveCount;
+        private int buildCount;
+    }
+
+    /**
+     * Creates an empty cache for the given board.
+     *
+     * @param board the board the workers are placed on
+     */
+    public MobilityCache(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * Starts tracking a worker already placed on the board.
+     * Its neighbours are refreshed too, as the worker now blocks its own tile.
+     *
+     * @param worker the worker to track
+     */
+    public void track(Worker worker) {
+        mobilities.put(worker, new Mobility());
+        refreshAround(board.getTile(worker.getX(), worker.getY()));
+    }
+
+    /**
+     * Stops tracking a worker that is being removed from the board.
+     * Call after the worker's tile has been emptied, so its neighbours see the free tile.
+     *
+     * @param worker the worker to stop tracking
+     * @param vacatedTile the tile the worker stood on
+     */
+    public void untrack(Worker worker, BoardTile vacatedTile) {
+        mobilities.remove(worker);
+        refreshAround(vacatedTile);
+    }
+
+    /**
+     * Updates the cache after a worker moved.
+     *
+     * @param start tile the worker left
+     * @param destination tile the worker moved to
+     */
+    public void onMove(BoardTile start, BoardTile destination) {
+        refreshAround(start);
+        refreshAround(destination);
+    }
+
+    /**
+     * Updates the cache after a build.
+     *
+     * @param buildLocation tile that was built on
+     */
+    public void onBuild(BoardTile buildLocation) {
+        refreshAround(buildLocation);
+    }
+
+    /**
+     * Gets the number of tiles the worker could move to under the standard rules.
+     *
+     * @param worker a tracked worker
+     * @return legal move count
+     */
+    public int getMoveCount(Worker worker) {
+        return getMobility(worker).moveCount;
+    }
+
+    /**
+     * Gets the number of tiles the worker could build on under the standard rules.
+     *
+     * @param worker a tracked worker
+     * @return legal build count
+     */
+    public int getBuildCount(Worker worker) {
+        return getMobility(worker).buildCount;
+    }
+
+    /**
+     * Returns if the worker has at least one legal move under the standard rules.
+     *
+     * @param worker a tracked worker
+     * @return true if the worker can move
+     */
+    public boolean canMove(Worker worker) {
+        return getMobility(worker).moveCount > 0;
+    }
+
+    /**
+     * Returns if the worker has at least one legal build under the standard rules.
+     *
+     * @param worker a tracked worker
+     * @return true if the worker can build
+     */
+    public boolean canBuild(Worker worker) {
+        return getMobility(worker).buildCount > 0;
+    }
+
+    /**
+     * Gets a tracked worker's counts.
+     *
+     * Throws an IllegalArgumentException if the worker is not tracked.
+     */
+    private Mobility getMobility(Worker worker) {
+        Mobility mobility = mobilities.get(worker);
+        if (mobility == null) {
+            throw new IllegalArgumentException("Mobility was requested for a worker that is not on the board.");
+        }
+        return mobility;
+    }
+
+    /**
+     * Recomputes the counts of every tracked worker on or next to the given tile.
+     *
+     * @param centre the tile that changed
+     */
+    private void refreshAround(BoardTile centre) {
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                BoardTile tile = board.getTile(centre.getX() + dx, centre.getY() + dy);
+                if (tile == null || tile.isEmpty()) continue;
+
+                Mobility mobility = mobilities.get(tile.getOccupant());
+                if (mobility != null) {
+                    recompute(tile, mobility);
+                }
+            }
+        }
+    }
+
+    /**
+     * Recomputes a worker's counts from its eight neighbouring tiles.
+     *
+     * @param workerTile the tile the worker stands on
+     * @param mobility the counts to update
+     */
+    private void recompute(BoardTile workerTile, Mobility mobility) {
+        int moveCount = 0;
+        int buildCount = 0;
+
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                if (dx == 0 && dy == 0) continue;
+
+                BoardTile tile = board.getTile(workerTile.getX() + dx, workerTile.getY() + dy);
+                if (tile == null) continue;
+
+                if (tile.canWorkerMove(workerTile)) {
+                    moveCount++;
+                }
+                if (tile.isEmpty() && tile.canWorkerBuild()) {
+                    buildCount++;
+                }
+            }
+        }
+
+        mobility.moveCount = moveCount;
+        mobility.buildCount = buildCount;
+    }
+}
@@ -1,15 +1,18 @@
 package SantoriniGame.model.game;
 
+import SantoriniGame.metrics.HistogramSnapshot;
 import SantoriniGame.model.action.BuildAction;
 import SantoriniGame.model.action.GodPowerAction;
 import SantoriniGame.model.action.MoveAction;
 import SantoriniGame.god.God;
-import SantoriniGame.god.PowerStatus;
 import SantoriniGame.model.board.Board;
+import SantoriniGame.model.board.BoardGeometry;
 import SantoriniGame.model.board.BoardTile;
 import SantoriniGame.model.board.Building;
+import SantoriniGame.model.board.MobilityCache;
 import SantoriniGame.model.player.Player;
 import SantoriniGame.model.player.Team;
+import SantoriniGame.model.player.TeamLayout;
 import SantoriniGame.model.player.Worker;
 import SantoriniGame.model.player.WorkerGender;
 import SantoriniGame.model.victory.DefaultVictoryCondition;
@@ -17,6 +20,7 @@ import SantoriniGame.model.victory.StandardVictoryCondition;
 import SantoriniGame.model.victory.TimeoutVictoryCondition;
 import SantoriniGame.model.victory.VictoryCondition;
 
+import java.lang.ref.Cleaner;
 import java.util.*;
 
 /**
@@ -25,11 +29,24 @@ import java.util.*;
  * Uses the Command pattern via Action objects.
  */
 public class GameModel {
+    // Counts games that are dropped without a winner as abandoned
+    private static final Cleaner CLEANER = Cleaner.create();
+
     private TurnState turnState;
     private final Board board;
-    private Player[] players;
-    private int currentPlayerIndex;
-    private Team[] teams = new Team[2];
+    private final TeamLayout layout;
+
+    // Every player by seat (turn order at the start), and every team by ID, removed or not
+    private final Player[] players;
+    private final Team[] teams;
+
+    // Seats and teams still in the game
+    private final TurnOrder turnOrder;
+    private final boolean[] teamRemaining;
+    private int teamCount;
+
+    // Legal move/build counts per worker, kept up to date after each move and build
+    private final MobilityCache mobility;
 
     // Statistics tracking
     private final GameStatistics gameStats;
@@ -40,36 +57,58 @@ public class GameModel {
      * @param playerGods Array of gods for each player
      */
     public GameModel(God[] playerGods, int boardSize) {
-        this.board = new Board(boardSize);
+        this(playerGods, BoardGeometry.square(boardSize));
+    }
+
+    /**
+     * Constructs a new GameModel on a board of any supported shape, with the usual teams for the player count.
+     *
+     * @param playerGods Array of gods for each player
+     * @param geometry Shape of the board
+     */
+    public GameModel(God[] playerGods, BoardGeometry geometry) {
+        this(playerGods, geometry, TeamLayout.standard(playerGods.length));
+    }
+
+    /**
+     * Constructs a new GameModel with players split into teams by a layout.
+     *
+     * @param playerGods Array of gods for each player, in turn order
+     * @param geometry Shape of the board
+     * @param layout Team of each player
+     */
+    public GameModel(God[] playerGods, BoardGeometry geometry, TeamLayout layout) {
+        if (layout.getPlayerCount() != playerGods.length) {
+            throw new IllegalArgumentException("Team layout " + layout + " is for " + layout.getPlayerCount()
+                    + " players, but " + playerGods.length + " gods were given.");
+        }
+        if (layout.getTeamCount() * 2 > geometry.getTileCount()) {
+            throw new IllegalArgumentException("A " + geometry + " board has no room for the workers of "
+                    + layout.getTeamCount() + " teams.");
+        }
+        this.board = new Board(geometry);
+        this.mobility = new MobilityCache(board);
+        this.layout = layout;
         this.players = new Player[playerGods.length];
-        this.currentPlayerIndex = 0;
+        this.turnOrder = new TurnOrder(playerGods.length);
         this.gameStats = new GameStatistics();
 
         // Create teams with explicit IDs
-        Team team1 = new Team(0);
-        Team team2 = new Team(1);
-        teams[0] = team1;
-        teams[1] = team2;
-
-        List<Integer> team1ids = new ArrayList<>();
-        List<Integer> team2ids = new ArrayList<>();
-        switch (playerGods.length) {
-            case 2 -> { team1ids.add(1); team2ids.add(2); }
-            case 3 -> { team1ids.add(1); team2ids.add(2); team2ids.add(3); }
-            case 4 -> { team1ids.add(1); team2ids.add(2); team1ids.add(3); team2ids.add(4); }
-            default -> throw new IllegalStateException("Game was not given 2, 3, or 4 players (and their gods).");
+        this.teams = new Team[layout.getTeamCount()];
+        this.teamRemaining = new boolean[teams.length];
+        this.teamCount = teams.length;
+        Arrays.fill(teamRemaining, true);
+        for (int i = 0; i < teams.length; i++) {
+            teams[i] = new Team(i);
         }
 
         // Initialize players and their gods
         for (int i = 0; i < playerGods.length; i++) {
+            // Seat i is player i + 1
             players[i] = new Player(i + 1);
             players[i].setSelectedGod(playerGods[i]);
             // Add player to team (and let player know their team)
-            if (team1ids.contains(i + 1)) {
-                team1.addTeamPlayer(players[i]);
-            } else {
-                team2.addTeamPlayer(players[i]);
-            }
+            teams[layout.getTeam(i)].addTeamPlayer(players[i]);
         }
 
         // Place initial workers
@@ -77,25 +116,27 @@ public class GameModel {
 
         // Set up initial turn state
         initializeTurnState();
+        turnState.setStatistics(gameStats);
+        CLEANER.register(this, gameStats::recordAbandonedIfUnfinished);
     }
 
     /**
-     * Randomises a worker placement given a board size.
+     * Randomises a worker placement given a board shape.
      * @param team      team to assign this worker to
      * @param random    Random
-     * @param boardSize int
+     * @param geometry  shape of the board
      * @param gender    gender of worker
      */
-    private void randomiseWorker(Team team, Random random, int boardSize, WorkerGender gender) {
+    private void randomiseWorker(Team team, Random random, BoardGeometry geometry, WorkerGender gender) {
         // --- Place Worker ---
         Worker worker;
         BoardTile tile;
         int attempts = 0; // Prevent potential infinite loop on very small/full boards
-        final int maxAttempts = boardSize * boardSize * 2; // Generous limit
+        final int maxAttempts = geometry.getTileCount() * 2; // Generous limit
 
         do {
-            int x = random.nextInt(boardSize);
-            int y = random.nextInt(boardSize);
+            int x = random.nextInt(geometry.getWidth());
+            int y = random.nextInt(geometry.getHeight());
             tile = board.getTile(x, y);
             attempts++;
             if (attempts > maxAttempts) {
@@ -111,6 +152,7 @@ public class GameModel {
             default -> throw new IllegalStateException("When randomising worker placement, a gender case was missing (not MALE or FEMALE).");
         }
         tile.setOccupant(worker); // Place worker on board tile
+        mobility.track(worker);
     }
 
     /**
@@ -119,14 +161,14 @@ public class GameModel {
      */
     private void initializeWorkers() {
         Random random = new Random();
-        int boardSize = board.getBoardSize();
+        BoardGeometry geometry = board.getGeometry();
 
         for (Team team : teams) {
             // --- Place Male Worker ---
-            randomiseWorker(team, random, boardSize, WorkerGender.MALE);
+            randomiseWorker(team, random, geometry, WorkerGender.MALE);
 
             // --- Place Female Worker ---
-            randomiseWorker(team, random, boardSize, WorkerGender.FEMALE);
+            randomiseWorker(team, random, geometry, WorkerGender.FEMALE);
         }
     }
 
@@ -150,7 +192,7 @@ public class GameModel {
 
         // Create initial turn state
         turnState = new TurnState(
-                players[currentPlayerIndex],
+                players[turnOrder.getCurrent()],
                 TurnPhase.SELECT_WORKER,
                 board,
                 null, // No worker selected initially
@@ -169,39 +211,41 @@ public class GameModel {
      */
     public VictoryCondition handlePlayerTimeout(int playerId) {
         // Find the player who timed out
-        Player timedOutPlayer = null;
-        for (Player player : players) {
-            if (player.getId() == playerId) {
-                timedOutPlayer = player;
-                break;
-            }
-        }
-
-        if (timedOutPlayer == null) {
+        if (playerId < 1 || playerId > players.length || !turnOrder.contains(playerId - 1)) {
             throw new IllegalArgumentException("Player with ID " + playerId + " not found");
         }
+        Player timedOutPlayer = players[playerId - 1];
+        boolean timedOutOnTurn = timedOutPlayer == getCurrentPlayer();
 
         Team timedOutTeam = timedOutPlayer.getTeam();
+        gameStats.recordTimeout();
+
+        // If only one team is left once this one goes, they win on time
+        // - The timeout is declared before the team is removed, so the default win for the last team left
+        //   that the removal triggers does not take its place
+        TimeoutVictoryCondition timeoutVictory = null;
+        if (teamCount == 2) {
+            Team winningTeam = null;
+            for (Team team : getTeams()) {
+                if (team != timedOutTeam) {
+                    winningTeam = team;
+                }
+            }
+            timeoutVictory = new TimeoutVictoryCondition(winningTeam);
+            turnState.addWinCondition(timeoutVictory);
+            turnState.declareVictory(timeoutVictory);
+        }
 
         // Remove the timed-out player's team
         removeTeam(timedOutTeam);
-
-        // Check if game is over (only one team left)
-        if (teams.length == 1) {
-            // Game over - create and return timeout victory condition for winning team
-            Team winningTeam = teams[0];
-            TimeoutVictoryCondition timeoutVictory = new TimeoutVictoryCondition(winningTeam);
-
-            // Add the timeout victory condition to the turn state
-            turnState.getAllWinConditions().add(timeoutVictory);
-
-            // Mark this victory condition as satisfied in the turn state
-            turnState.victoryCheck(); // This will detect the timeout victory
-
+        if (timeoutVictory != null) {
             return timeoutVictory;
         }
 
-        // Game continues with remaining players
+        // Game continues with remaining players, from the one after the player who timed out
+        if (timedOutOnTurn) {
+            endTurn();
+        }
         return null;
     }
 
@@ -224,12 +268,19 @@ public class GameModel {
     }
 
     /**
-     * Gets the array of players.
+     * Gets the players still in the game.
      *
-     * @return Array of Players
+     * @return Array of Players, in turn order
      */
     public Player[] getPlayers() {
-        return players;
+        Player[] remaining = new Player[turnOrder.size()];
+        int count = 0;
+        for (int seat = 0; seat < players.length; seat++) {
+            if (turnOrder.contains(seat)) {
+                remaining[count++] = players[seat];
+            }
+        }
+        return remaining;
     }
 
     /**
@@ -238,16 +289,42 @@ public class GameModel {
      * @return Current Player
      */
     public Player getCurrentPlayer() {
-        return players[currentPlayerIndex];
+        return players[turnOrder.getCurrent()];
     }
 
     /**
-     * Gets the array of teams.
+     * Gets the teams still in the game.
      *
-     * @return Array of Teams
+     * @return Array of Teams, in ID order
      */
     public Team[] getTeams() {
-        return teams;
+        Team[] remaining = new Team[teamCount];
+        int count = 0;
+        for (int id = 0; id < teams.length; id++) {
+            if (teamRemaining[id]) {
+                remaining[count++] = teams[id];
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Gets the seat of the current player, their place in the turn order the game started with.
+     * Seats do not change when other players are removed.
+     *
+     * @return seat, from 0
+     */
+    public int getCurrentSeat() {
+        return turnOrder.getCurrent();
+    }
+
+    /**
+     * Gets the team each player started the game on.
+     *
+     * @return the team layout
+     */
+    public TeamLayout getTeamLayout() {
+        return layout;
     }
 
     /**
@@ -310,6 +387,17 @@ public class GameModel {
             return turnState; // Invalid move
         }
 
+        performMove(worker, targetTile);
+        return turnState;
+    }
+
+    /**
+     * Moves a worker to a tile already known to be a legal move.
+     *
+     * @param worker Worker to move
+     * @param targetTile Tile to move to
+     */
+    private void performMove(Worker worker, BoardTile targetTile) {
         // Get starting position before move
         int oldX = worker.getX();
         int oldY = worker.getY();
@@ -324,18 +412,11 @@ public class GameModel {
         if (success) {
             // Track statistic
             gameStats.incrementMoveCount();
+            mobility.onMove(startTile, targetTile);
 
             // Let gods check their statuses
             turnState.godPowerCheck();
-
-            // Check for victory after applying the move
-            VictoryCondition winCondition = turnState.getSatisfiedCondition();
-            if (winCondition != null) {
-                return turnState;
-            }
         }
-
-        return turnState;
     }
 
     /**
@@ -376,6 +457,17 @@ public class GameModel {
             return turnState; // Invalid build
         }
 
+        performBuild(worker, targetTile);
+        return turnState;
+    }
+
+    /**
+     * Builds on a tile already known to be a legal build.
+     *
+     * @param worker Worker building
+     * @param targetTile Tile to build on
+     */
+    private void performBuild(Worker worker, BoardTile targetTile) {
         // Record the level before building
         int previousLevel = targetTile.getLevel();
         boolean hadDome = targetTile.hasDome();
@@ -395,6 +487,7 @@ public class GameModel {
         if (success) {
             // Track statistics
             gameStats.incrementBuildCount();
+            mobility.onBuild(targetTile);
 
             // If a dome was built, update dome count
             if (buildAction.wasDomeBuilt()) {
@@ -402,12 +495,110 @@ public class GameModel {
             }
 
             // Let god powers that trigger after build check their status
-            playerGod.checkActivation(turnState);
+            turnState.getCurrPlayer().getSelectedGod().checkActivation(turnState);
+        }
+    }
+
+    /**
+     * Plays a whole turn for the current player: selects the worker, makes every move and build,
+     * and activates the god power before each extra step. Every step is checked before anything changes,
+     * so an illegal plan leaves the game as it was. The turn is not ended.
+     *
+     * @param plan The turn to play
+     * @return Updated TurnState
+     * @throws IllegalStateException if the current turn has already started or the game is over
+     * @throws IllegalArgumentException if any step of the plan is illegal
+     */
+    public TurnState applyTurn(TurnPlan plan) {
+        if (turnState.getCurrPhase() != TurnPhase.SELECT_WORKER || turnState.getSatisfiedCondition() != null) {
+            throw new IllegalStateException("A whole turn can only be played before the current turn has started.");
         }
+        Worker worker = checkTurn(plan);
+        God playerGod = turnState.getCurrPlayer().getSelectedGod();
+        BoardGeometry geometry = board.getGeometry();
 
+        selectWorker(worker);
+        for (int i = 0; i < plan.getMoveCount(); i++) {
+            if (i > 0) {
+                activateExtraStep(playerGod);
+            }
+            performMove(worker, board.getTile(geometry.getX(plan.getMove(i)), geometry.getY(plan.getMove(i))));
+        }
+        for (int i = 0; i < plan.getBuildCount(); i++) {
+            if (i > 0) {
+                activateExtraStep(playerGod);
+            }
+            performBuild(worker, board.getTile(geometry.getX(plan.getBuild(i)), geometry.getY(plan.getBuild(i))));
+        }
         return turnState;
     }
 
+    /**
+     * Checks every step of a plan for the current player without changing the game.
+     *
+     * @return the worker the plan plays
+     */
+    private Worker checkTurn(TurnPlan plan) {
+        BoardGeometry geometry = board.getGeometry();
+        checkTile(plan.getWorkerTile(), "Worker");
+        BoardTile workerTile = board.getTile(geometry.getX(plan.getWorkerTile()), geometry.getY(plan.getWorkerTile()));
+        Worker worker = workerTile.getOccupant();
+        if (worker == null || worker.getTeam() != turnState.getCurrPlayer().getTeam()) {
+            throw new IllegalArgumentException("Tile " + plan.getWorkerTile() + " does not hold a worker of "
+                    + turnState.getCurrPlayer().getDisplayName() + ".");
+        }
+
+        TurnSimulator simulator = new TurnSimulator(board, worker, turnState.getCurrPlayer().getSelectedGod());
+        for (int i = 0; i < plan.getMoveCount(); i++) {
+            int tile = plan.getMove(i);
+            checkTile(tile, "Move");
+            if (simulator.isWon()) {
+                throw new IllegalArgumentException("Turn " + plan + " carries on after a winning move.");
+            }
+            if (!simulator.canMove(tile)) {
+                throw new IllegalArgumentException("Move " + (i + 1) + " of turn " + plan + " is not legal.");
+            }
+            simulator.move(tile);
+        }
+
+        if (simulator.isWon() && plan.getBuildCount() > 0) {
+            throw new IllegalArgumentException("Turn " + plan + " carries on after a winning move.");
+        }
+        if (!simulator.isWon() && plan.getBuildCount() == 0 && simulator.canBuildAnywhere()) {
+            throw new IllegalArgumentException("Turn " + plan + " has no build.");
+        }
+        for (int i = 0; i < plan.getBuildCount(); i++) {
+            int tile = plan.getBuild(i);
+            checkTile(tile, "Build");
+            if (!simulator.canBuild(tile)) {
+                throw new IllegalArgumentException("Build " + (i + 1) + " of turn " + plan + " is not legal.");
+            }
+            simulator.build(tile);
+        }
+        return worker;
+    }
+
+    private void checkTile(int tile, String step) {
+        if (tile < 0 || tile >= board.getGeometry().getTileCount()) {
+            throw new IllegalArgumentException(step + " tile " + tile + " is not on the " + board.getGeometry()
+                    + " board.");
+        }
+    }
+
+    /**
+     * Activates the god power for an extra step of a checked plan.
+     * checkTurn only allows an extra step right after the step it repeats, never after a win, and asks the same
+     * compiled rule the god does, with the same step tile, extra step count and turn memory. So the god always
+     * offers the step here and the exception only guards against the two drifting apart, which
+     * GameModelTest.everyCheckedExtraStepIsOffered checks over random games.
+     */
+    private void activateExtraStep(God playerGod) {
+        if (!playerGod.canActivatePower(turnState)) {
+            throw new IllegalStateException(playerGod.getName() + " did not offer an extra step the turn check allowed.");
+        }
+        activateGodPower();
+    }
+
     /**
      * Activates the current player's god power.
      *
@@ -425,7 +616,7 @@ public class GameModel {
             TurnState updatedState = playerGod.activatePower(turnState);
 
             // Track god power usage
-            gameStats.incrementGodPowerActivationCount();
+            gameStats.incrementGodPowerActivationCount(playerGod.getName());
 
             return updatedState;
         }
@@ -478,36 +669,17 @@ public class GameModel {
                     "aren't on the same team");
         }
 
-        God currGod = player.getSelectedGod();
-        PowerStatus prevStatus = currGod.getPowerStatus();
-        if (prevStatus == PowerStatus.CAN_ACTIVATE) {
-            currGod.setPowerStatus(PowerStatus.ACTIVE);
+        // If the worker can move normally, it isn't trapped
+        if (mobility.canMove(worker)) {
+            return false;
         }
 
-        // Get current tile, neighbours, and possible moves given by the god
-        BoardTile currTile = board.getTile(worker.getX(), worker.getY());
-        List<BoardTile> neighbours = board.getAdjacentTiles(worker.getX(), worker.getY());
-        List<BoardTile> godAccessibleTiles = currGod.getValidMoveLocations(worker, board, turnState);
-
-        // For each neighbour, check if worker can move
-        for (BoardTile neighbour : neighbours) {
-            // Check if worker can move normally to tile
-            if (neighbour.canWorkerMove(currTile)) {
-                currGod.setPowerStatus(prevStatus);
-                return false;
-            }
-
-            // Check if worker can move to tile with god power
-            if (godAccessibleTiles.contains(neighbour)) {
-                currGod.setPowerStatus(prevStatus);
-                return false;
-            }
-        }
-        // Revert god power status
-        currGod.setPowerStatus(prevStatus);
+        // Check if worker could move anywhere if it used its god power
+        God currGod = player.getSelectedGod();
+        boolean trapped = currGod.getPotentialMoveLocations(worker, board, turnState).isEmpty();
 
         // Have now checked that workers are trapped, even if they activated god powers
-        return true;
+        return trapped;
     }
 
     /**
@@ -524,35 +696,17 @@ public class GameModel {
                     "aren't on the same team");
         }
 
-        God currGod = player.getSelectedGod();
-        PowerStatus prevStatus = currGod.getPowerStatus();
-        if (prevStatus == PowerStatus.CAN_ACTIVATE) {
-            currGod.setPowerStatus(PowerStatus.ACTIVE);
+        // If the worker can build normally, all good
+        if (mobility.canBuild(worker)) {
+            return false;
         }
 
-        // Get current tile, neighbours, and possible moves given by the god
-        List<BoardTile> neighbours = board.getAdjacentTiles(worker.getX(), worker.getY());
-        List<BoardTile> godAccessibleTiles = currGod.getValidBuildLocations(worker, board, turnState);
-
-        // For each neighbour, check if worker can move
-        for (BoardTile neighbour : neighbours) {
-            // Check if worker can build normally on tile
-            if (neighbour.canWorkerBuild()) {
-                currGod.setPowerStatus(prevStatus);
-                return false;
-            }
-
-            // Check if worker can build on with god power
-            if (godAccessibleTiles.contains(neighbour)) {
-                currGod.setPowerStatus(prevStatus);
-                return false;
-            }
-        }
-        // Revert god power status
-        currGod.setPowerStatus(prevStatus);
+        // Check if worker could build anywhere if it used its god power
+        God currGod = player.getSelectedGod();
+        boolean cantBuild = currGod.getPotentialBuildLocations(worker, board, turnState).isEmpty();
 
         // Have now checked that workers can't build, even if they activated god powers
-        return true;
+        return cantBuild;
     }
 
     /**
@@ -560,10 +714,16 @@ public class GameModel {
      * Removes players, gods, victory conditions, and workers.
      */
     public void removeTeam(Team badTeam) {
-        // Removes team from teams
-        List<Team> remainingTeams = new ArrayList<>(Arrays.stream(this.teams).toList());
-        remainingTeams.removeIf(t -> t == badTeam);
-        this.teams = remainingTeams.toArray(new Team[0]);
+        int teamId = badTeam.getTeamId();
+        if (teamId < 0 || teamId >= teams.length || teams[teamId] != badTeam || !teamRemaining[teamId]) {
+            throw new IllegalArgumentException("Model tried to remove team " + teamId
+                    + ", but they are not in the game.");
+        }
+        if (teamCount == 1) {
+            throw new IllegalStateException("Model tried to remove a team, but they were already the last ones alive.");
+        }
+        teamRemaining[teamId] = false;
+        teamCount--;
 
         // Remove gods and victory conditions
         turnState.removeTeam(badTeam);
@@ -571,58 +731,18 @@ public class GameModel {
         // Remove workers from board
         for (Worker worker : badTeam.getWorkers()) {
             board.emptyTile(worker.getX(), worker.getY());
+            mobility.untrack(worker, board.getTile(worker.getX(), worker.getY()));
         }
 
         // Remove workers
         badTeam.removeWorkers();
 
-        // Find next player to play
-        List<Player> allPlayers = Arrays.stream(this.players).toList();
-        Player nextPlayer;
-
-        // To help get index of next player by a bad circular search
-        class Pair<T, U> {
-            private final T first;
-            private final U second;
-
-            public Pair(T first, U second) {
-                this.first = first;
-                this.second = second;
-            }
-
-            public T getFirst() {
-                return first;
-            }
-
-            public U getSecond() {
-                return second;
-            }
+        // Take the team's seats out of the turn order
+        // - If the current player was removed, the turn order is left on the seat before them,
+        //   so endTurn passes to whoever would have played next
+        for (Player player : badTeam.getTeamPlayers()) {
+            turnOrder.remove(player.getId() - 1);
         }
-
-        // Get first player after if they exist
-        Optional<Player> afterFirst = allPlayers.subList(currentPlayerIndex+1, allPlayers.size())
-                .stream()
-                .filter(p -> p.getTeam() != badTeam)
-                .findFirst();
-        if (afterFirst.isPresent()) { nextPlayer = afterFirst.get(); }
-        // If not after in the list, check before
-        else {
-            Optional<Player> beforeFirst = allPlayers.subList(0, currentPlayerIndex)
-                    .stream()
-                    .filter(p -> p.getTeam() != badTeam)
-                    .findFirst();
-            if (beforeFirst.isPresent()) { nextPlayer = beforeFirst.get(); }
-            // If not before in the list, we just tried removing the only team in play
-            else { throw new IllegalStateException("Model tried to remove a team, but they were already the last ones alive."); }
-        }
-
-        // Removes players in badTeam
-        List<Player> remainingPlayers = new ArrayList<Player>(Arrays.stream(this.players).toList());
-        remainingPlayers.removeIf(p -> p.getTeam() == badTeam);
-        this.players = remainingPlayers.toArray(new Player[0]);
-
-        // Update the current player index by finding intended next player
-        this.currentPlayerIndex = Arrays.asList(this.players).indexOf(nextPlayer) - 1 % (this.players.length);
     }
 
     /**
@@ -631,22 +751,38 @@ public class GameModel {
      * @return Updated TurnState
      */
     public void endTurn() {
+        gameStats.recordTurnEnded();
+
         // Reset power statuses for next turn
         for (God god : turnState.getAllGods()) {
             god.resetPowerState();
         }
 
-        // Determine next player
-        int nextPlayerIndex = (currentPlayerIndex + 1) % players.length;
-        Player nextPlayer = players[nextPlayerIndex];
-
-        // Update current player index
-        currentPlayerIndex = nextPlayerIndex;
+        // Pass to the next player still in the game
+        Player nextPlayer = players[turnOrder.advance()];
 
         // Create end turn action (this is handled inside TurnState.gotoNextTurn)
         turnState.gotoNextTurn(nextPlayer);
     }
 
+    /**
+     * Gets the mobility cache tracking each worker's legal move and build counts.
+     *
+     * @return MobilityCache for this game
+     */
+    public MobilityCache getMobility() {
+        return mobility;
+    }
+
+    /**
+     * Gets the id of this game, unique within the process, as shown in metrics and flight recordings.
+     *
+     * @return Game id
+     */
+    public long getGameId() {
+        return gameStats.getGameId();
+    }
+
     /**
      * Gets the move count.
      *
@@ -657,6 +793,24 @@ public class GameModel {
     }
 
 
+    /**
+     * Gets the build count.
+     *
+     * @return Number of builds performed, including domes
+     */
+    public int getBuildCount() {
+        return gameStats.getBuildCount();
+    }
+
+    /**
+     * Gets the number of turns played.
+     *
+     * @return Number of turns that have ended
+     */
+    public int getTurnCount() {
+        return gameStats.getTurnCount();
+    }
+
     /**
      * Gets the dome count.
      *
@@ -674,4 +828,14 @@ public class GameModel {
     public int getGodPowerActivationCount() {
         return gameStats.getGodPowerActivationCount();
     }
+
+    /**
+     * Gets the distribution of time taken to apply this game's actions.
+     * Safe to call from any thread.
+     *
+     * @return latencies in nanoseconds
+     */
+    public HistogramSnapshot getActionLatency() {
+        return gameStats.getActionLatency();
+    }
 }
\ No newline at end of file
@@ -1,41 +1,158 @@
 package SantoriniGame.model.game;
 
+import SantoriniGame.metrics.Counter;
+import SantoriniGame.metrics.Histogram;
+import SantoriniGame.metrics.HistogramSnapshot;
+import SantoriniGame.metrics.MetricsRegistry;
+import SantoriniGame.model.action.ActionType;
+import SantoriniGame.model.victory.VictoryCondition;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * Class to track game statistics.
  * Follows SRP by separating statistics tracking from game logic.
+ * Counts are kept for this game and added to the process-wide metrics in MetricsRegistry.global(),
+ * and can be read from any thread while the game is played.
  */
 class GameStatistics {
-    private int moveCount = 0;
-    private int buildCount = 0;
-    private int domeCount = 0;
-    private int godPowerActivationCount = 0;
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final Counter GAMES_STARTED = METRICS.counter("santorini_games_started_total");
+    private static final Counter GAMES_ABANDONED = METRICS.counter("santorini_games_abandoned_total");
+    private static final Counter MOVES = METRICS.counter("santorini_moves_total");
+    private static final Counter BUILDS = METRICS.counter("santorini_builds_total");
+    private static final Counter DOMES = METRICS.counter("santorini_domes_total");
+    private static final Counter TIMEOUTS = METRICS.counter("santorini_timeouts_total");
+    private static final Histogram MOVES_PER_TURN = METRICS.histogram("santorini_moves_per_turn");
+    private static final Histogram[] ACTION_LATENCY = new Histogram[ActionType.values().length];
+    // Looked up in the registry once per god, since activations are counted on every use of a power
+    private static final Map<String, Counter> GOD_POWER_ACTIVATIONS = new ConcurrentHashMap<>();
+    private static final LongAdder GAMES_FINISHED = new LongAdder();
+    private static final AtomicLong NEXT_GAME_ID = new AtomicLong(1);
+
+    static {
+        for (ActionType type : ActionType.values()) {
+            ACTION_LATENCY[type.ordinal()] = METRICS.histogram("santorini_action_latency_nanos", "type", type.name());
+        }
+        METRICS.gauge(() -> GAMES_STARTED.get() - GAMES_FINISHED.sum() - GAMES_ABANDONED.get(),
+                "santorini_games_in_flight");
+    }
+
+    private final long gameId = NEXT_GAME_ID.getAndIncrement();
+    private final LongAdder moveCount = new LongAdder();
+    private final LongAdder buildCount = new LongAdder();
+    private final LongAdder domeCount = new LongAdder();
+    private final LongAdder godPowerActivationCount = new LongAdder();
+    private final LongAdder turnCount = new LongAdder();
+    private final Histogram actionLatency = new Histogram();
+    private final AtomicBoolean finished = new AtomicBoolean();
+
+    // Only changed by the thread playing the game
+    private int movesThisTurn = 0;
+
+    /**
+     * Starts tracking a new game.
+     */
+    GameStatistics() {
+        GAMES_STARTED.increment();
+    }
 
     /**
      * Increments the move count.
      */
     public void incrementMoveCount() {
-        moveCount++;
+        moveCount.increment();
+        MOVES.increment();
+        movesThisTurn++;
     }
 
     /**
      * Increments the build count.
      */
     public void incrementBuildCount() {
-        buildCount++;
+        buildCount.increment();
+        BUILDS.increment();
     }
 
     /**
      * Increments the dome count.
      */
     public void incrementDomeCount() {
-        domeCount++;
+        domeCount.increment();
+        DOMES.increment();
     }
 
     /**
      * Increments the god power activation count.
+     *
+     * @param godName name of the god whose power was used
+     */
+    public void incrementGodPowerActivationCount(String godName) {
+        godPowerActivationCount.increment();
+        GOD_POWER_ACTIVATIONS.computeIfAbsent(godName,
+                name -> METRICS.counter("santorini_god_power_activations_total", "god", name)).increment();
+    }
+
+    /**
+     * Records a player running out of time.
+     */
+    public void recordTimeout() {
+        TIMEOUTS.increment();
+    }
+
+    /**
+     * Records the end of a turn, with the number of moves made in it.
+     */
+    public void recordTurnEnded() {
+        turnCount.increment();
+        MOVES_PER_TURN.record(movesThisTurn);
+        movesThisTurn = 0;
+    }
+
+    /**
+     * Records the time taken to apply an action, including checking god powers and victory and notifying listeners.
+     *
+     * @param type type of the action
+     * @param nanos time taken in nanoseconds
+     */
+    public void recordAction(ActionType type, long nanos) {
+        actionLatency.record(nanos);
+        ACTION_LATENCY[type.ordinal()].record(nanos);
+    }
+
+    /**
+     * Records the game being won. Only the first call counts.
+     *
+     * @param winCondition the satisfied victory condition
+     */
+    public void recordGameFinished(VictoryCondition winCondition) {
+        if (finished.compareAndSet(false, true)) {
+            METRICS.counter("santorini_games_finished_total", "victory", winCondition.getClass().getSimpleName())
+                    .increment();
+            GAMES_FINISHED.increment();
+        }
+    }
+
+    /**
+     * Records a game that was dropped without being won, if it had not been.
+     * Must not refer to the game itself, as it is run once the game is unreachable.
+     */
+    public void recordAbandonedIfUnfinished() {
+        if (finished.compareAndSet(false, true)) {
+            GAMES_ABANDONED.increment();
+        }
+    }
+
+    /**
+     * Gets the id of the game, unique within the process.
+     * @return game id, from 1
      */
-    public void incrementGodPowerActivationCount() {
-        godPowerActivationCount++;
+    public long getGameId() {
+        return gameId;
     }
 
     /**
@@ -43,7 +160,23 @@ class GameStatistics {
      * @return number of moves performed
      */
     public int getMoveCount() {
-        return moveCount;
+        return moveCount.intValue();
+    }
+
+    /**
+     * Gets the build count.
+     * @return number of builds performed, including domes
+     */
+    public int getBuildCount() {
+        return buildCount.intValue();
+    }
+
+    /**
+     * Gets the number of turns ended.
+     * @return number of completed turns
+     */
+    public int getTurnCount() {
+        return turnCount.intValue();
     }
 
     /**
@@ -51,7 +184,7 @@ class GameStatistics {
      * @return number of domes built
      */
     public int getDomeCount() {
-        return domeCount;
+        return domeCount.intValue();
     }
 
     /**
@@ -59,6 +192,14 @@ class GameStatistics {
      * @return number of times god powers were activated
      */
     public int getGodPowerActivationCount() {
-        return godPowerActivationCount;
+        return godPowerActivationCount.intValue();
+    }
+
+    /**
+     * Gets the distribution of this game's action latencies.
+     * @return latencies in nanoseconds
+     */
+    public HistogramSnapshot getActionLatency() {
+        return actionLatency.snapshot();
     }
-}
\ No newline at end of file
+}
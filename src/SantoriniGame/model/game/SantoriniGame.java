@@ -1,13 +1,21 @@
 package SantoriniGame.model.game;
 
+import SantoriniGame.ai.EndgameTablebase;
+import SantoriniGame.ai.EvaluationWeights;
+import SantoriniGame.ai.FeatureEvaluator;
+import SantoriniGame.ai.GameEvaluation;
+import SantoriniGame.ai.HintRequest;
+import SantoriniGame.ai.HintService;
 import SantoriniGame.god.God;
+import SantoriniGame.model.board.BoardGeometry;
 import SantoriniGame.model.player.Player;
 import SantoriniGame.model.player.Team;
-import SantoriniGame.model.player.Worker;
+import SantoriniGame.model.player.TeamLayout;
 import SantoriniGame.ui.VictoryScreen;
-import SantoriniGame.model.victory.VictoryCondition;
 import SantoriniGame.ui.BoardUI;
 import SantoriniGame.controller.GameController;
+import SantoriniGame.controller.GameExecutor;
+import SantoriniGame.controller.GameViewModel;
 import SantoriniGame.ui.TimerUIPanel;
 import SantoriniGame.model.timer.PlayerTimer;
 import SantoriniGame.model.timer.TimerListener;
@@ -20,16 +28,30 @@ import java.awt.event.ActionEvent;
 /**
  * Main Santorini game UI implementation.
  * Updated to match the clean UI theme from setup screens.
+ * Game commands run on the GameExecutor's engine thread, and the UI is updated from the GameViewModel they produce.
+ * Hints, when shown, are searched by the HintService in the background and cancelled by the player's next command.
+ * A GameEvaluation follows the game on the engine thread, and its score for the team to move is shown with the
+ * game statistics.
  */
 public class SantoriniGame extends JFrame {
 
     // Game timing configuration
     public static final int DEFAULT_TIMER_MINUTES = 1;
 
+    // Deepest hint search, in turns
+    private static final int MAX_HINT_DEPTH = 8;
+
     // Game components
     private final GameModel model;
     private final GameController controller;
+    private final GameExecutor executor;
     private final BoardUI boardUI;
+    private final HintService hintService;
+    private final GameEvaluation evaluation;
+
+    // Hint state, only used on the Event Dispatch Thread
+    private boolean hintsEnabled;
+    private int hintRequestId;
 
     // Timer components
     private TimerUIPanel timerPanel;
@@ -44,26 +66,54 @@ public class SantoriniGame extends JFrame {
     private JLabel movesLabel;
     private JLabel domesLabel;
     private JLabel powersLabel;
+    private JLabel evaluationLabel;
     private JLabel statusLabel;
     private JButton godPowerButton;
     private JButton endTurnButton;
     private JButton deselectWorkerButton;
+    private JButton hintsButton;
 
     /**
      * Constructor that initializes a game with the specified gods for players.
      * Uses the default 15-minute timer for all games.
      */
     public SantoriniGame(God[] playerGods, int boardSize) {
-        this(playerGods, boardSize, DEFAULT_TIMER_MINUTES);
+        this(playerGods, BoardGeometry.square(boardSize), DEFAULT_TIMER_MINUTES);
+    }
+
+    /**
+     * Constructor that initializes a game with the specified gods for players on a board of any supported shape.
+     * Uses the default 15-minute timer for all games.
+     */
+    public SantoriniGame(God[] playerGods, BoardGeometry geometry) {
+        this(playerGods, geometry, DEFAULT_TIMER_MINUTES);
     }
 
     /**
      * Constructor that initializes a game with the specified gods for players.
      */
     public SantoriniGame(God[] playerGods, int boardSize, int timeLimitMinutes) {
+        this(playerGods, BoardGeometry.square(boardSize), timeLimitMinutes);
+    }
+
+    /**
+     * Constructor that initializes a game with the specified gods for players on a board of any supported shape.
+     */
+    public SantoriniGame(God[] playerGods, BoardGeometry geometry, int timeLimitMinutes) {
+        this(playerGods, geometry, TeamLayout.standard(playerGods.length), timeLimitMinutes);
+    }
+
+    /**
+     * Constructor that initializes a game with the players split into teams by a layout.
+     */
+    public SantoriniGame(God[] playerGods, BoardGeometry geometry, TeamLayout layout, int timeLimitMinutes) {
         // Initialize model and controller
-        model = new GameModel(playerGods, boardSize);
+        model = new GameModel(playerGods, geometry, layout);
         controller = new GameController(model);
+        executor = new GameExecutor(controller);
+        hintService = new HintService(new FeatureEvaluator(EvaluationWeights.loadDefault()), MAX_HINT_DEPTH,
+                EndgameTablebase.openDefault());
+        evaluation = new GameEvaluation(model, new FeatureEvaluator(EvaluationWeights.loadDefault()));
 
         // Initialize timers if time limit is set
         if (timeLimitMinutes > 0) {
@@ -77,14 +127,17 @@ public class SantoriniGame extends JFrame {
         getContentPane().setBackground(Color.WHITE);
 
         // Create board UI with tile click handler
-        boardUI = new BoardUI(boardSize, model.getBoard(), this::handleTileClick);
+        boardUI = new BoardUI(model.getBoard(), this::handleTileClick);
+        model.getTurnState().addListener(boardUI);
 
         // Set up UI components
         setupUI();
 
-        // Initial UI update
-        updateStatusLabel("Game started! " + model.getCurrentPlayer().getDisplayName() + ", select one of your workers.");
-        updateUI();
+        // Initial UI update, before the engine thread has been given any work
+        GameViewModel initialView = GameViewModel.capture(controller);
+        render(initialView);
+        updateEvaluation(initialView);
+        updateStatusLabel("Game started! " + initialView.currentPlayerName() + ", select one of your workers.");
 
         // Set window properties
         setSize(1600, 1000);
@@ -289,6 +342,12 @@ public class SantoriniGame extends JFrame {
         powersLabel.setFont(new Font("SansSerif", Font.PLAIN, 16));
         powersLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         panel.add(powersLabel);
+        panel.add(Box.createVerticalStrut(8));
+
+        evaluationLabel = new JLabel("Evaluation: 0");
+        evaluationLabel.setFont(new Font("SansSerif", Font.PLAIN, 16));
+        evaluationLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        panel.add(evaluationLabel);
 
         panel.add(Box.createVerticalGlue());
         return panel;
@@ -316,12 +375,17 @@ public class SantoriniGame extends JFrame {
         endTurnButton.addActionListener(e -> endTurn());
         endTurnButton.setEnabled(false);
 
+        hintsButton = createStyledButton("Show Hints");
+        hintsButton.addActionListener(e -> toggleHints());
+
         // Add buttons with spacing
         panel.add(godPowerButton);
         panel.add(Box.createVerticalStrut(10));
         panel.add(deselectWorkerButton);
         panel.add(Box.createVerticalStrut(10));
         panel.add(endTurnButton);
+        panel.add(Box.createVerticalStrut(10));
+        panel.add(hintsButton);
 
         return panel;
     }
@@ -376,46 +440,28 @@ public class SantoriniGame extends JFrame {
      * Handles a click on a board tile.
      */
     private void handleTileClick(ActionEvent e) {
-        // Check for timeout before processing the click
-        if (controller.isTimerEnabled()) {
-            PlayerTimer expiredTimer = controller.checkForTimeout();
-            if (expiredTimer != null) {
-                handlePlayerTimeout(expiredTimer);
-                return; // Don't process the tile click
-            }
-        }
-
         // Parse coordinates from action command
         String[] coords = e.getActionCommand().split(",");
         int x = Integer.parseInt(coords[0]);
         int y = Integer.parseInt(coords[1]);
 
-        // Let controller handle the click
-        TurnState newState = controller.handleTileClick(x, y);
-
-        // Check for victory after the action
-        VictoryCondition winCondition = controller.checkForWinner();
-        if (winCondition != null) {
-            handleVictory(winCondition);
-            return;
-        }
-
-        // Update UI based on current state
-        TurnPhase phase = controller.getCurrentPhase();
-        updateUIForPhase(phase);
-
-        // Update status message
-        updateStatusLabel(controller.getStateDescription());
-
-        // Update the entire UI
-        updateUI();
+        cancelHints();
+        executor.execute(c -> {
+            // Check for timeout before processing the click
+            // - An expired timer notifies the timer listener, which removes the team, so the click is skipped
+            if (c.checkForTimeout() == null) {
+                // Let controller handle the click
+                c.handleTileClick(x, y);
+            }
+        }, view -> showState(view, view.stateDescription()));
     }
 
     /**
      * Updates UI elements based on the current game phase.
      */
-    private void updateUIForPhase(TurnPhase phase) {
+    private void updateUIForPhase(GameViewModel view) {
         // Update phase label
+        TurnPhase phase = view.phase();
         currentPhaseLabel.setText("Phase: " + getPhaseDisplayName(phase));
 
         // Clear previous highlights
@@ -425,7 +471,7 @@ public class SantoriniGame extends JFrame {
         switch (phase) {
             case SELECT_WORKER:
                 // Highlight current player's workers
-                boardUI.highlightPlayerWorkers(controller.getCurrentPlayer().getTeam().getTeamId());
+                boardUI.highlightPlayerWorkers(view.currentTeamId());
                 godPowerButton.setEnabled(false);
                 deselectWorkerButton.setEnabled(false);
                 endTurnButton.setEnabled(false);
@@ -433,32 +479,31 @@ public class SantoriniGame extends JFrame {
 
             case MOVE:
                 // Highlight valid moves
-                boardUI.highlightValidMoves(controller.getValidMoves());
-                godPowerButton.setEnabled(controller.canActivateGodPower());
+                boardUI.highlightValidMoves(view.validMoves());
+                godPowerButton.setEnabled(view.canActivateGodPower());
                 deselectWorkerButton.setEnabled(true);
                 endTurnButton.setEnabled(false);
                 break;
 
             case BUILD:
                 // Highlight valid builds
-                boardUI.highlightValidBuilds(controller.getValidBuilds());
-                godPowerButton.setEnabled(controller.canActivateGodPower());
+                boardUI.highlightValidBuilds(view.validBuilds());
+                godPowerButton.setEnabled(view.canActivateGodPower());
                 deselectWorkerButton.setEnabled(false);
                 endTurnButton.setEnabled(false);
                 break;
 
             case END_TURN:
                 // No highlights, just enable end turn
-                godPowerButton.setEnabled(controller.canActivateGodPower());
+                godPowerButton.setEnabled(view.canActivateGodPower());
                 deselectWorkerButton.setEnabled(false);
                 endTurnButton.setEnabled(true);
                 break;
         }
 
         // Always highlight selected worker if there is one
-        Worker selectedWorker = controller.getSelectedWorker();
-        if (selectedWorker != null) {
-            boardUI.highlightSelectedWorker(selectedWorker);
+        if (view.hasSelectedWorker()) {
+            boardUI.highlightSelectedTile(view.selectedWorkerX(), view.selectedWorkerY());
         }
     }
 
@@ -467,12 +512,9 @@ public class SantoriniGame extends JFrame {
      */
     private void activateGodPower() {
         // Let controller handle power activation
-        TurnState newState = controller.activateGodPower();
-
-        // Update UI for the new state
-        updateUIForPhase(newState.getCurrPhase());
-        updateStatusLabel(controller.getStateDescription());
-        updateUI();
+        cancelHints();
+        executor.execute(GameController::activateGodPower,
+                view -> showState(view, view.stateDescription()));
     }
 
     /**
@@ -480,12 +522,9 @@ public class SantoriniGame extends JFrame {
      */
     private void endTurn() {
         // Let controller handle turn end
-        controller.endTurn();
-
-        // Update UI for new player
-        updateUIForPhase(controller.getCurrentPhase());
-        updateStatusLabel(controller.getCurrentPlayer().getDisplayName() + "'s turn. " + controller.getStateDescription());
-        updateUI();
+        cancelHints();
+        executor.execute(GameController::endTurn,
+                view -> showState(view, view.currentPlayerName() + "'s turn. " + view.stateDescription()));
     }
 
     /**
@@ -493,57 +532,119 @@ public class SantoriniGame extends JFrame {
      */
     private void deselectWorker() {
         // Let controller handle deselection
-        TurnState newState = controller.deselectWorker();
+        cancelHints();
+        executor.execute(GameController::deselectWorker,
+                view -> showState(view, view.currentPlayerName() + ", select one of your workers."));
+    }
+
+    /**
+     * Shows a game state, or the victory screen if the game has been won.
+     *
+     * @param view the state to show
+     * @param status message for the status label
+     */
+    private void showState(GameViewModel view, String status) {
+        if (view.winCondition() != null) {
+            handleVictory(view);
+            return;
+        }
+
+        updateStatusLabel(status);
+        render(view);
+        updateEvaluation(view);
+        requestHints();
+    }
+
+    /**
+     * Shows the evaluation of the current position for the team to move.
+     * The score is read on the engine thread, where the evaluation follows the game.
+     */
+    private void updateEvaluation(GameViewModel view) {
+        int teamId = view.currentTeamId();
+        executor.submit(c -> evaluation.getScore(teamId), score -> evaluationLabel.setText(
+                String.format("Evaluation: %+d for Team %d", score, teamId + 1)));
+    }
+
+    /**
+     * Turns hints on or off.
+     */
+    private void toggleHints() {
+        hintsEnabled = !hintsEnabled;
+        hintsButton.setText(hintsEnabled ? "Hide Hints" : "Show Hints");
+        if (hintsEnabled) {
+            requestHints();
+        } else {
+            cancelHints();
+        }
+    }
+
+    /**
+     * Starts searching for hints on the current position, if hints are on.
+     * The position is captured on the engine thread, then searched on the hint thread.
+     */
+    private void requestHints() {
+        if (!hintsEnabled) {
+            return;
+        }
+        cancelHints();
+        int requestId = hintRequestId;
+        executor.submit(c -> HintRequest.capture(c.getModel()), request -> {
+            // Skip the search if the player acted while the position was being captured
+            if (requestId == hintRequestId) {
+                hintService.request(request, boardUI::showHints);
+            }
+        });
+    }
 
-        // Update UI for worker selection phase
-        updateUIForPhase(TurnPhase.SELECT_WORKER);
-        updateStatusLabel(controller.getCurrentPlayer().getDisplayName() + ", select one of your workers.");
-        updateUI();
+    /**
+     * Stops any hint search and removes the hints shown, as the player is about to change the position.
+     */
+    private void cancelHints() {
+        hintRequestId++;
+        hintService.cancel();
+        boardUI.clearHints();
     }
 
     /**
-     * Updates the entire UI to reflect the current game state.
+     * Updates the entire UI to reflect a game state.
+     * Board tiles are repainted by boardUI as actions are applied.
      */
-    private void updateUI() {
-        // Update board
-        boardUI.updateBoardUI();
+    private void render(GameViewModel view) {
+        updateUIForPhase(view);
 
         // Update player information
-        Player currentPlayer = controller.getCurrentPlayer();
-        currentPlayerLabel.setText(currentPlayer.getDisplayName());
-        selectedGodLabel.setText("God Power: " + currentPlayer.getSelectedGod().getName());
-        godDescriptionArea.setText(currentPlayer.getSelectedGod().getDescription());
+        currentPlayerLabel.setText(view.currentPlayerName());
+        selectedGodLabel.setText("God Power: " + view.godName());
+        godDescriptionArea.setText(view.godDescription());
 
         // Update game statistics
-        GameModel model = controller.getModel();
-        movesLabel.setText("Worker Moves: " + model.getMoveCount());
-        domesLabel.setText("Domes Built: " + model.getDomeCount());
-        powersLabel.setText("God Powers Used: " + model.getGodPowerActivationCount());
-
-        // Update UI for the phase as relevant
-        updateUIForPhase(controller.getCurrentPhase());
+        movesLabel.setText("Worker Moves: " + view.moveCount());
+        domesLabel.setText("Domes Built: " + view.domeCount());
+        powersLabel.setText("God Powers Used: " + view.godPowerCount());
     }
 
     /**
      * Handles a team winning the game.
      */
-    private void handleVictory(VictoryCondition winCondition) {
-        Team winningTeam = winCondition.getTeam();
+    private void handleVictory(GameViewModel view) {
+        Team winningTeam = view.winCondition().getTeam();
 
         updateStatusLabel("TEAM " + (winningTeam.getTeamId() + 1) + " WINS!");
 
-        // Stop all timers
+        // Stop all timers and the engine
         if (controller.isTimerEnabled()) {
             controller.stopAllTimers();
         }
+        executor.shutdown();
+        hintService.shutdown();
 
         // Show victory screen and dispose of current game window
         SwingUtilities.invokeLater(() -> {
             VictoryScreen victoryScreen = new VictoryScreen(
                     winningTeam,
-                    model.getDomeCount(),
-                    model.getMoveCount(),
-                    model.getGodPowerActivationCount()
+                    view.domeCount(),
+                    view.moveCount(),
+                    view.godPowerCount()
             );
             victoryScreen.setVisible(true);
             this.dispose();
@@ -568,17 +669,11 @@ public class SantoriniGame extends JFrame {
      */
     private void handlePlayerTimeout(PlayerTimer expiredTimer) {
         // Delegate timeout handling to the model
-        VictoryCondition timeoutVictory = model.handlePlayerTimeout(expiredTimer.getPlayerId());
-
-        if (timeoutVictory != null) {
-            // Game over due to timeout - show victory screen
-            handleVictory(timeoutVictory);
-        } else {
-            // Game continues with remaining players
-            updateStatusLabel("Player " + expiredTimer.getPlayerId() + " timed out! " +
-                    controller.getCurrentPlayer().getDisplayName() + "'s turn.");
-            updateUI();
-        }
+        // - Game over due to timeout shows the victory screen, otherwise the game continues with remaining players
+        cancelHints();
+        executor.execute(c -> c.getModel().handlePlayerTimeout(expiredTimer.getPlayerId()),
+                view -> showState(view, "Player " + expiredTimer.getPlayerId() + " timed out! " +
+                        view.currentPlayerName() + "'s turn."));
     }
 
     /**
@@ -589,6 +684,8 @@ public class SantoriniGame extends JFrame {
         if (timerPanel != null) {
             timerPanel.dispose();
         }
+        executor.shutdown();
+        hintService.shutdown();
         super.dispose();
     }
 }
\ No newline at end of file
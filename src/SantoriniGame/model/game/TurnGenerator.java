@@ -0,0 +1,277 @@
+package SantoriniGame.model.game;
+
+import SantoriniGame.model.board.Board;
+import SantoriniGame.model.board.BoardGeometry;
+import SantoriniGame.model.player.Player;
+import SantoriniGame.model.player.Worker;
+
+import java.util.Arrays;
+
+/**
+ * TurnGenerator class - Lists every complete legal turn of the current player, god powers included:
+ * Artemis' second move, Demeter's second build and Triton's moves along the perimeter.
+ * Each turn is packed into a long (start tile, end tile, up to two builds and whether it wins)
+ * and written into a buffer the caller reuses, so generating allocates next to nothing.
+ *
+ * Moves do not change the board, so turns that end on the same tile with the same builds are the same turn
+ * and are listed once, however the worker got there. toPlan finds a route again when the turn is played.
+ * A move after which no build is possible is listed with no builds, as GameModel.applyTurn accepts it.
+ */
+public final class TurnGenerator {
+    /**
+     * Most builds a packed turn holds.
+     */
+    public static final int MAX_BUILDS = 2;
+
+    // Turn encoding: start tile, end tile and two build tiles, 8 bits each, then the build count and win flag
+    private static final int TILE_MASK = 0xFF;
+    private static final int BUILD_COUNT_SHIFT = 32;
+    private static final long WINNING = 1L << 34;
+
+    // Fewest moves found so far that reach each tile, or UNREACHED
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    private final GameModel model;
+    private final BoardGeometry geometry;
+    private final int[] fewestMoves;
+    private final boolean[] winReached;
+
+    /**
+     * Creates a generator for a game.
+     *
+     * @param model the game
+     */
+    public TurnGenerator(GameModel model) {
+        this.model = model;
+        this.geometry = model.getBoard().getGeometry();
+        this.fewestMoves = new int[geometry.getTileCount()];
+        this.winReached = new boolean[geometry.getTileCount()];
+    }
+
+    /**
+     * Encodes a turn.
+     *
+     * @param from tile the worker starts on
+     * @param to tile the worker ends on
+     * @param builds tiles built on, in order, at most MAX_BUILDS
+     * @param winning true if the last move wins
+     * @return the encoded turn
+     */
+    public static long encodeTurn(int from, int to, int[] builds, boolean winning) {
+        if (builds.length > MAX_BUILDS) {
+            throw new IllegalArgumentException("A packed turn holds at most " + MAX_BUILDS + " builds.");
+        }
+        long turn = from | to << 8 | (long) builds.length << BUILD_COUNT_SHIFT | (winning ? WINNING : 0);
+        for (int i = 0; i < builds.length; i++) {
+            turn |= (long) builds[i] << 16 + 8 * i;
+        }
+        return turn;
+    }
+
+    /**
+     * Gets the start tile of a turn.
+     *
+     * @param turn an encoded turn
+     * @return tile number
+     */
+    public static int turnFrom(long turn) {
+        return (int) turn & TILE_MASK;
+    }
+
+    /**
+     * Gets the tile the worker ends the turn on.
+     *
+     * @param turn an encoded turn
+     * @return tile number
+     */
+    public static int turnTo(long turn) {
+        return (int) (turn >>> 8) & TILE_MASK;
+    }
+
+    /**
+     * Gets the number of builds of a turn.
+     *
+     * @param turn an encoded turn
+     * @return build count, 0 for a winning turn or a turn where no build was possible
+     */
+    public static int turnBuildCount(long turn) {
+        return (int) (turn >>> BUILD_COUNT_SHIFT) & 0x3;
+    }
+
+    /**
+     * Gets the tile of a build of a turn.
+     *
+     * @param turn an encoded turn
+     * @param i build number, from 0
+     * @return tile number
+     */
+    public static int turnBuild(long turn, int i) {
+        return (int) (turn >>> 16 + 8 * i) & TILE_MASK;
+    }
+
+    /**
+     * Checks if a turn ends with a winning move.
+     *
+     * @param turn an encoded turn
+     * @return true if the worker climbs onto the victory level
+     */
+    public static boolean isWinningTurn(long turn) {
+        return (turn & WINNING) != 0;
+    }
+
+    /**
+     * Gets the most turns generateTurns can write, the size its buffer must have.
+     *
+     * @return turn count
+     */
+    public int getMaxTurns() {
+        // For each of the two workers and each end tile: a win, no builds, or one or two builds on its neighbours
+        int neighbours = geometry.getNeighbours(0).length;
+        return 2 * geometry.getTileCount() * (2 + neighbours + neighbours * neighbours);
+    }
+
+    /**
+     * Generates every complete legal turn of the current player. Must be called before the turn has started.
+     *
+     * @param out array to write turns into, at least getMaxTurns() long
+     * @return number of turns written
+     * @throws IllegalStateException if the current turn has already started or the game is over
+     */
+    public int generateTurns(long[] out) {
+        TurnState turnState = model.getTurnState();
+        if (turnState.getCurrPhase() != TurnPhase.SELECT_WORKER || turnState.getSatisfiedCondition() != null) {
+            throw new IllegalStateException("Turns can only be generated before the current turn has started.");
+        }
+        Player player = model.getCurrentPlayer();
+        int count = 0;
+        for (Worker worker : player.getWorkers()) {
+            if (worker == null) continue;
+            TurnSimulator simulator = new TurnSimulator(model.getBoard(), worker, player.getSelectedGod());
+            Arrays.fill(fewestMoves, UNREACHED);
+            Arrays.fill(winReached, false);
+            count = generateMoves(simulator, simulator.getWorkerTile(), out, count);
+        }
+        return count;
+    }
+
+    /**
+     * Converts a generated turn to a plan that GameModel.applyTurn can play, finding a route for its moves.
+     *
+     * @param turn a turn generated for the current position
+     * @return the plan
+     * @throws IllegalArgumentException if the turn is not legal for the current player
+     */
+    public TurnPlan toPlan(long turn) {
+        Board board = model.getBoard();
+        Player player = model.getCurrentPlayer();
+        int from = turnFrom(turn);
+        Worker worker = from < geometry.getTileCount()
+                ? board.getTile(geometry.getX(from), geometry.getY(from)).getOccupant() : null;
+        if (worker == null || worker.getTeam() != player.getTeam()) {
+            throw new IllegalArgumentException("Tile " + from + " does not hold a worker of "
+                    + player.getDisplayName() + ".");
+        }
+
+        TurnSimulator simulator = new TurnSimulator(board, worker, player.getSelectedGod());
+        Arrays.fill(fewestMoves, UNREACHED);
+        int[] moves = new int[geometry.getTileCount() + 1];
+        int moveCount = findRoute(simulator, turnTo(turn), isWinningTurn(turn), moves, 0);
+        if (moveCount == 0) {
+            throw new IllegalArgumentException("No legal route from tile " + from + " to tile " + turnTo(turn) + ".");
+        }
+
+        int[] builds = new int[turnBuildCount(turn)];
+        for (int i = 0; i < builds.length; i++) {
+            builds[i] = turnBuild(turn, i);
+        }
+        return TurnPlan.of(from, Arrays.copyOf(moves, moveCount), builds);
+    }
+
+    /**
+     * Tries every move from the worker's tile, listing the turns that end on each tile the first time it is reached.
+     * A tile is searched again only if it is reached in fewer moves, as that can leave more extra moves to use.
+     */
+    private int generateMoves(TurnSimulator simulator, int from, long[] out, int count) {
+        int tile = simulator.getWorkerTile();
+        for (int to : geometry.getNeighbours(tile)) {
+            if (to < 0 || !simulator.canMove(to)) continue;
+
+            simulator.move(to);
+            if (simulator.isWon()) {
+                if (!winReached[to]) {
+                    winReached[to] = true;
+                    out[count++] = from | to << 8 | WINNING;
+                }
+            } else if (simulator.getMoveCount() < fewestMoves[to]) {
+                if (fewestMoves[to] == UNREACHED) {
+                    count = generateBuilds(simulator, from, out, count);
+                }
+                fewestMoves[to] = simulator.getMoveCount();
+                count = generateMoves(simulator, from, out, count);
+            }
+            simulator.undoMove(tile);
+        }
+        return count;
+    }
+
+    /**
+     * Lists the turns ending on the worker's tile: each legal build, and each legal second build after it.
+     */
+    private int generateBuilds(TurnSimulator simulator, int from, long[] out, int count) {
+        int to = simulator.getWorkerTile();
+        long moves = from | to << 8;
+        int[] neighbours = geometry.getNeighbours(to);
+        boolean built = false;
+
+        for (int first : neighbours) {
+            if (first < 0 || !simulator.canBuild(first)) continue;
+            built = true;
+            simulator.build(first);
+            out[count++] = moves | (long) first << 16 | 1L << BUILD_COUNT_SHIFT;
+
+            for (int second : neighbours) {
+                if (second < 0 || !simulator.canBuild(second)) continue;
+                simulator.build(second);
+                if (simulator.canBuildAnywhere()) {
+                    throw new IllegalStateException("The god power allows more than " + MAX_BUILDS
+                            + " builds, which a packed turn cannot hold.");
+                }
+                out[count++] = moves | (long) first << 16 | (long) second << 24 | 2L << BUILD_COUNT_SHIFT;
+                simulator.undoBuild(second, first);
+            }
+            simulator.undoBuild(first, -1);
+        }
+
+        if (!built) {
+            out[count++] = moves;
+        }
+        return count;
+    }
+
+    /**
+     * Searches for moves that reach a tile, winning on the last one or not, as generateMoves would find them.
+     *
+     * @return number of moves in the route, or 0 if there is none
+     */
+    private int findRoute(TurnSimulator simulator, int target, boolean winning, int[] moves, int length) {
+        int tile = simulator.getWorkerTile();
+        for (int to : geometry.getNeighbours(tile)) {
+            if (to < 0 || !simulator.canMove(to)) continue;
+
+            simulator.move(to);
+            moves[length] = to;
+            if (to == target && simulator.isWon() == winning) {
+                return length + 1;
+            }
+            if (!simulator.isWon() && simulator.getMoveCount() < fewestMoves[to]) {
+                fewestMoves[to] = simulator.getMoveCount();
+                int found = findRoute(simulator, target, winning, moves, length + 1);
+                if (found > 0) {
+                    return found;
+                }
+            }
+            simulator.undoMove(tile);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,141 @@
+package SantoriniGame.model.game;
+
+/**
+ * TurnOrder class - The order players take turns in, as a ring of seats numbered from 0.
+ * Each seat links to the seats before and after it that are still playing, so finding the next player,
+ * passing the turn and eliminating a player all take constant time however many players there are.
+ *
+ * A removed seat keeps its own links, so removals can be taken back with restore, latest first,
+ * which lets a search eliminate players and unmake the elimination without copying the order.
+ */
+public final class TurnOrder {
+    private final int[] next;
+    private final int[] previous;
+    private final boolean[] playing;
+    private int current;
+    private int size;
+
+    /**
+     * Creates a turn order where every seat plays, starting with seat 0.
+     *
+     * @param seats number of seats
+     */
+    public TurnOrder(int seats) {
+        if (seats < 1) {
+            throw new IllegalArgumentException("A turn order needs at least one seat.");
+        }
+        this.next = new int[seats];
+        this.previous = new int[seats];
+        this.playing = new boolean[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            next[seat] = (seat + 1) % seats;
+            previous[seat] = (seat - 1 + seats) % seats;
+            playing[seat] = true;
+        }
+        this.current = 0;
+        this.size = seats;
+    }
+
+    /**
+     * Gets the seat whose turn it is.
+     *
+     * @return current seat
+     */
+    public int getCurrent() {
+        return current;
+    }
+
+    /**
+     * Gets the seat that plays after the current one.
+     *
+     * @return next seat, which is the current seat if it is the only one left
+     */
+    public int peekNext() {
+        return next[current];
+    }
+
+    /**
+     * Passes the turn to the next seat.
+     *
+     * @return the new current seat
+     */
+    public int advance() {
+        current = next[current];
+        return current;
+    }
+
+    /**
+     * Passes the turn back to the seat before, undoing advance.
+     *
+     * @return the new current seat
+     */
+    public int rewind() {
+        current = previous[current];
+        return current;
+    }
+
+    /**
+     * Removes a seat from the ring. If it was the current seat, the turn moves back to the seat before it,
+     * so the next advance goes to the seat that would have followed it.
+     *
+     * @param seat seat to remove
+     */
+    public void remove(int seat) {
+        if (!playing[seat]) {
+            throw new IllegalArgumentException("Seat " + seat + " has already been removed.");
+        }
+        if (size == 1) {
+            throw new IllegalStateException("Tried to remove seat " + seat + ", but it is the last one playing.");
+        }
+        next[previous[seat]] = next[seat];
+        previous[next[seat]] = previous[seat];
+        playing[seat] = false;
+        size--;
+        if (current == seat) {
+            current = previous[seat];
+        }
+    }
+
+    /**
+     * Puts back the seat removed most recently of those still out. The current seat does not change.
+     *
+     * @param seat seat to restore
+     */
+    public void restore(int seat) {
+        if (playing[seat] || next[previous[seat]] != next[seat] || previous[next[seat]] != previous[seat]) {
+            throw new IllegalArgumentException("Seat " + seat + " is not the latest removal still out.");
+        }
+        next[previous[seat]] = seat;
+        previous[next[seat]] = seat;
+        playing[seat] = true;
+        size++;
+    }
+
+    /**
+     * Checks if a seat is still playing.
+     *
+     * @param seat seat to check
+     * @return true if the seat has not been removed
+     */
+    public boolean contains(int seat) {
+        return playing[seat];
+    }
+
+    /**
+     * Gets the number of seats still playing.
+     *
+     * @return seat count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of seats the order was created with.
+     *
+     * @return seats, playing or not
+     */
+    public int getSeatCount() {
+        return playing.length;
+    }
+}
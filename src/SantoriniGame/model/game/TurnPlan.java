@@ -0,0 +1,136 @@
+package SantoriniGame.model.game;
+
+import java.util.Arrays;
+
+/**
+ * TurnPlan class - A whole turn, known up front: the worker, every move it makes and every build it makes,
+ * in order. Moves after the first and builds after the first are extra steps given by the player's god power.
+ * Tiles are numbered as by BoardGeometry, y * width + x.
+ *
+ * A plan is played in one go with GameModel.applyTurn or GameController.playTurn,
+ * which check every step before changing anything.
+ */
+public final class TurnPlan {
+    private final int workerTile;
+    private final int[] moves;
+    private final int[] builds;
+
+    private TurnPlan(int workerTile, int[] moves, int[] builds) {
+        this.workerTile = workerTile;
+        this.moves = moves;
+        this.builds = builds;
+    }
+
+    /**
+     * Creates a plan.
+     *
+     * @param workerTile tile of the worker to play
+     * @param moves tiles the worker moves to, at least one
+     * @param builds tiles the worker builds on, none only if the last move wins or no build is possible
+     * @return the plan
+     */
+    public static TurnPlan of(int workerTile, int[] moves, int[] builds) {
+        if (moves.length == 0) {
+            throw new IllegalArgumentException("A turn needs at least one move.");
+        }
+        return new TurnPlan(workerTile, moves.clone(), builds.clone());
+    }
+
+    /**
+     * Creates the plan of a turn without god powers: one move, then one build.
+     *
+     * @param workerTile tile of the worker to play
+     * @param move tile the worker moves to
+     * @param build tile the worker builds on
+     * @return the plan
+     */
+    public static TurnPlan standard(int workerTile, int move, int build) {
+        return new TurnPlan(workerTile, new int[] {move}, new int[] {build});
+    }
+
+    /**
+     * Creates the plan of a turn that ends with a winning move, so has no build.
+     *
+     * @param workerTile tile of the worker to play
+     * @param move tile the worker wins by moving to
+     * @return the plan
+     */
+    public static TurnPlan winning(int workerTile, int move) {
+        return new TurnPlan(workerTile, new int[] {move}, new int[0]);
+    }
+
+    /**
+     * Gets the tile of the worker played.
+     *
+     * @return tile number
+     */
+    public int getWorkerTile() {
+        return workerTile;
+    }
+
+    /**
+     * Gets the number of moves, including extra moves.
+     *
+     * @return move count
+     */
+    public int getMoveCount() {
+        return moves.length;
+    }
+
+    /**
+     * Gets the tile of a move.
+     *
+     * @param i move number, from 0
+     * @return tile number
+     */
+    public int getMove(int i) {
+        return moves[i];
+    }
+
+    /**
+     * Gets the number of builds, including extra builds.
+     *
+     * @return build count
+     */
+    public int getBuildCount() {
+        return builds.length;
+    }
+
+    /**
+     * Gets the tile of a build.
+     *
+     * @param i build number, from 0
+     * @return tile number
+     */
+    public int getBuild(int i) {
+        return builds[i];
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof TurnPlan other && workerTile == other.workerTile
+                && Arrays.equals(moves, other.moves) && Arrays.equals(builds, other.builds);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * workerTile + Arrays.hashCode(moves)) + Arrays.hashCode(builds);
+    }
+
+    /**
+     * Gets the plan as text.
+     *
+     * @return text such as "12 -> 13 -> 8, build 7"
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder().append(workerTile);
+        for (int move : moves) {
+            text.append(" -> ").append(move);
+        }
+        for (int i = 0; i < builds.length; i++) {
+            text.append(i == 0 ? ", build " : " and ").append(builds[i]);
+        }
+        return text.toString();
+    }
+}
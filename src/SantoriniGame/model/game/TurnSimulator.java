@@ -0,0 +1,224 @@
+package SantoriniGame.model.game;
+
+import SantoriniGame.god.God;
+import SantoriniGame.god.RuleBasedGod;
+import SantoriniGame.god.rule.CompiledGodRule;
+import SantoriniGame.god.rule.TurnMemory;
+import SantoriniGame.model.action.ActionType;
+import SantoriniGame.model.action.BuildAction;
+import SantoriniGame.model.action.MoveAction;
+import SantoriniGame.model.board.Board;
+import SantoriniGame.model.board.BoardGeometry;
+import SantoriniGame.model.board.BoardTile;
+import SantoriniGame.model.board.Building;
+import SantoriniGame.model.player.Worker;
+
+/**
+ * TurnSimulator class - Plays the steps of one worker's turn on scratch state, leaving the board untouched,
+ * so a whole turn can be checked before any of it is applied.
+ * Steps follow the same rules as the step by step path: standard moves and builds from the board,
+ * and extra steps offered and limited by the god's compiled rule, with its own turn memory.
+ * Gods without a GodRule only get standard turns.
+ * Steps can be taken back, latest first, so one simulator can walk every turn of a worker.
+ */
+final class TurnSimulator {
+    private final Board board;
+    private final BoardGeometry geometry;
+    private final Worker worker;
+    private final CompiledGodRule rule;
+    private final TurnMemory memory = new TurnMemory();
+
+    // Builds made on each tile so far this turn
+    private final byte[] built;
+
+    private final int startTile;
+    private int workerTile;
+    private int moveCount;
+    private int buildCount;
+    private int lastBuild = -1;
+    private boolean won;
+
+    /**
+     * Starts a turn for a worker.
+     *
+     * @param board the game board
+     * @param worker the worker playing the turn
+     * @param god the god of the player
+     */
+    TurnSimulator(Board board, Worker worker, God god) {
+        this.board = board;
+        this.geometry = board.getGeometry();
+        this.worker = worker;
+        this.rule = god instanceof RuleBasedGod ruleBased ? ruleBased.getCompiledRule() : null;
+        this.built = new byte[geometry.getTileCount()];
+        this.startTile = geometry.index(worker.getX(), worker.getY());
+        this.workerTile = startTile;
+    }
+
+    /**
+     * Checks if the worker can move to a tile next, as its first move or an extra one.
+     *
+     * @param tile tile number
+     * @return true if the move is legal
+     */
+    boolean canMove(int tile) {
+        if (won || buildCount > 0 || !isStandardMove(tile)) {
+            return false;
+        }
+        if (moveCount == 0) {
+            return true;
+        }
+        return isExtraStepOffered(ActionType.MOVE, workerTile, moveCount - 1) && rule.isAllowed(tileAt(tile), memory);
+    }
+
+    /**
+     * Moves the worker. The move must be legal.
+     *
+     * @param tile tile number
+     */
+    void move(int tile) {
+        memory.record(new MoveAction(worker, tileAt(workerTile), tileAt(tile)));
+        won = getLevel(tile) == Building.MAX_LEVEL && getLevel(workerTile) < Building.MAX_LEVEL;
+        workerTile = tile;
+        moveCount++;
+    }
+
+    /**
+     * Takes back the last move, so a search can try another one.
+     *
+     * @param previousTile tile the worker moved from
+     */
+    void undoMove(int previousTile) {
+        workerTile = previousTile;
+        moveCount--;
+        won = false;
+        if (moveCount == 0) {
+            memory.clear();
+        }
+    }
+
+    /**
+     * Checks if the worker can build on a tile next, as its first build or an extra one.
+     *
+     * @param tile tile number
+     * @return true if the build is legal
+     */
+    boolean canBuild(int tile) {
+        if (won || moveCount == 0 || !isStandardBuild(tile)) {
+            return false;
+        }
+        if (buildCount == 0) {
+            return true;
+        }
+        return isExtraStepOffered(ActionType.BUILD, lastBuild, buildCount - 1) && rule.isAllowed(tileAt(tile), memory);
+    }
+
+    /**
+     * Builds on a tile. The build must be legal.
+     *
+     * @param tile tile number
+     */
+    void build(int tile) {
+        int level = getLevel(tile);
+        memory.record(new BuildAction(worker, tileAt(tile), level, level + 1, level == Building.MAX_LEVEL));
+        built[tile]++;
+        lastBuild = tile;
+        buildCount++;
+    }
+
+    /**
+     * Takes back the last build, so a search can try another one.
+     *
+     * @param tile tile built on
+     * @param previousBuild tile of the build before it, or -1 if it was the first
+     */
+    void undoBuild(int tile, int previousBuild) {
+        built[tile]--;
+        lastBuild = previousBuild;
+        buildCount--;
+        if (buildCount == 0) {
+            // The memory only forgets whole turns, so the first move is recorded again
+            memory.clear();
+            memory.record(new MoveAction(worker, tileAt(startTile), tileAt(workerTile)));
+        }
+    }
+
+    /**
+     * Checks if the worker could build anywhere next.
+     *
+     * @return true if some build is legal
+     */
+    boolean canBuildAnywhere() {
+        for (int tile : geometry.getNeighbours(workerTile)) {
+            if (tile >= 0 && canBuild(tile)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the last move won the game.
+     *
+     * @return true if the worker climbed onto the victory level
+     */
+    boolean isWon() {
+        return won;
+    }
+
+    /**
+     * Gets the number of moves made so far.
+     *
+     * @return move count, including extra moves
+     */
+    int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * Gets the tile the worker is on.
+     *
+     * @return tile number
+     */
+    int getWorkerTile() {
+        return workerTile;
+    }
+
+    private boolean isStandardMove(int tile) {
+        return geometry.areAdjacent(workerTile, tile) && !hasDome(tile) && !isOccupied(tile)
+                && getLevel(tile) <= getLevel(workerTile) + 1;
+    }
+
+    private boolean isStandardBuild(int tile) {
+        return geometry.areAdjacent(workerTile, tile) && !hasDome(tile) && !isOccupied(tile);
+    }
+
+    /**
+     * Checks if the god offers another step of a kind after the last one, as checkActivation would.
+     */
+    private boolean isExtraStepOffered(ActionType step, int stepTile, int extraStepsUsed) {
+        return rule != null && rule.getTiming().getStep() == step
+                && rule.isTriggered(tileAt(stepTile), extraStepsUsed, memory);
+    }
+
+    private boolean isOccupied(int tile) {
+        if (tile == workerTile) {
+            return true;
+        }
+        Worker occupant = tileAt(tile).getOccupant();
+        return occupant != null && occupant != worker;
+    }
+
+    private int getLevel(int tile) {
+        return Math.min(tileAt(tile).getLevel() + built[tile], Building.MAX_LEVEL);
+    }
+
+    private boolean hasDome(int tile) {
+        BoardTile boardTile = tileAt(tile);
+        return boardTile.hasDome() || boardTile.getLevel() + built[tile] > Building.MAX_LEVEL;
+    }
+
+    private BoardTile tileAt(int tile) {
+        return board.getTile(geometry.getX(tile), geometry.getY(tile));
+    }
+}
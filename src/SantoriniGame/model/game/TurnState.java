@@ -1,5 +1,9 @@
 package SantoriniGame.model.game;
 
+import SantoriniGame.metrics.ActionEvent;
+import SantoriniGame.metrics.GodPowerCheckEvent;
+import SantoriniGame.metrics.TurnEvent;
+import SantoriniGame.metrics.VictoryCheckEvent;
 import SantoriniGame.model.action.Action;
 import SantoriniGame.model.action.ActionType;
 import SantoriniGame.model.action.EndTurnAction;
@@ -12,13 +16,19 @@ import SantoriniGame.model.victory.VictoryCondition;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Improved TurnState class following SOLID principles.
  * Encapsulates the current state of the game, including player, turn phase, etc.
  * Supports action history for undo functionality.
+ * Emits flight recorder events for turns, actions, god power checks and victory checks.
  */
 public class TurnState {
     private Player currPlayer;
@@ -30,9 +40,22 @@ public class TurnState {
     private Action lastAction; // Can be null
     private VictoryCondition satisfiedCondition; // Can be null
 
+    // Victory conditions indexed by what can trigger them
+    private final Map<ActionType, List<VictoryCondition>> conditionsByAction;
+    private final List<VictoryCondition> removalConditions;
+    private final Set<Team> remainingTeams;
+
     // New field to support action history
     private final Stack<Action> actionHistory;
 
+    // Observers notified of applied actions and removed teams
+    private final List<TurnStateListener> listeners = new CopyOnWriteArrayList<>();
+    private GameStatistics statistics; // Can be null
+
+    // Flight recorder event spanning the current turn
+    private TurnEvent turnEvent;
+    private int turnActionCount;
+
     /**
      * Constructor for TurnState.
      *
@@ -52,14 +75,25 @@ public class TurnState {
         this.currWorker = currWorker;
         this.lastAction = lastAction;
         this.allGods = new ArrayList<>(allGods);
-        this.allWinConditions = new ArrayList<>(allWinConditions);
+        this.allWinConditions = new ArrayList<>();
         this.satisfiedCondition = null;
         this.actionHistory = new Stack<>();
 
+        this.conditionsByAction = new EnumMap<>(ActionType.class);
+        for (ActionType type : ActionType.values()) {
+            conditionsByAction.put(type, new ArrayList<>());
+        }
+        this.removalConditions = new ArrayList<>();
+        this.remainingTeams = new LinkedHashSet<>();
+        for (VictoryCondition victCondn : allWinConditions) {
+            addWinCondition(victCondn);
+        }
+
         // Add the initial action to history if provided
         if (lastAction != null) {
             actionHistory.push(lastAction);
         }
+        beginTurnEvent();
     }
 
     /**
@@ -73,10 +107,17 @@ public class TurnState {
             return false;
         }
 
+        ActionEvent event = new ActionEvent();
+        event.begin();
+        int playerId = currPlayer.getId();
+
         // Apply the action to the board
+        long start = System.nanoTime();
         boolean success = action.apply(board);
 
         if (success) {
+            turnActionCount++;
+
             // Record the action
             lastAction = action;
             actionHistory.push(action);
@@ -84,14 +125,56 @@ public class TurnState {
             // Update the phase based on action type
             updatePhaseAfterAction(action);
 
-            // Check for god power activations and victory conditions
+            // Check for god power activations and victory conditions this action can trigger
             godPowerCheck();
-            victoryCheck();
+            victoryCheck(action.getType());
+
+            for (TurnStateListener listener : listeners) {
+                listener.onActionApplied(action);
+            }
+
+            if (statistics != null) {
+                statistics.recordAction(action.getType(), System.nanoTime() - start);
+            }
         }
 
+        if (event.shouldCommit()) {
+            event.gameId = getGameId();
+            event.actionType = action.getType().name();
+            event.playerId = playerId;
+            event.applied = success;
+            event.commit();
+        }
         return success;
     }
 
+    /**
+     * Sets the statistics that applied actions and the end of the game are recorded in.
+     *
+     * @param statistics The game's statistics
+     */
+    void setStatistics(GameStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Adds a listener notified of applied actions and removed teams.
+     *
+     * @param listener The listener to add
+     */
+    public void addListener(TurnStateListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener The listener to remove
+     */
+    public void removeListener(TurnStateListener listener) {
+        listeners.remove(listener);
+    }
+
     /**
      * Updates the turn phase based on the action type.
      *
@@ -130,41 +213,161 @@ public class TurnState {
         EndTurnAction endTurnAction = new EndTurnAction(currPlayer, nextPlayer);
 
         // Apply the end turn action
+        int playerId = currPlayer.getId();
         applyAction(endTurnAction);
+        commitTurnEvent(playerId);
 
         // Reset for next turn
+        // - A satisfied condition is kept, as a team removal may have ended the game before this turn passed
         this.currPlayer = nextPlayer;
         this.currPhase = TurnPhase.SELECT_WORKER;
         this.currWorker = null;
-        this.satisfiedCondition = null;
+        beginTurnEvent();
 
         // Let gods check their statuses for the new turn
         godPowerCheck();
-        victoryCheck();
+        victoryCheck(ActionType.END_TURN);
     }
 
     /**
      * Acts as the notification to god subscribers to update their statuses.
      */
     public void godPowerCheck() {
+        GodPowerCheckEvent event = new GodPowerCheckEvent();
+        event.begin();
+
         for (God god : allGods) {
             // For each god power, check if they're activated
             god.checkActivation(this);
         }
+
+        if (event.shouldCommit()) {
+            event.gameId = getGameId();
+            event.playerId = currPlayer.getId();
+            event.godCount = allGods.size();
+            event.commit();
+        }
     }
 
     /**
      * Acts as the notification to victory conditions to check if they're satisfied.
+     * Checks every condition, so only use this when something outside the action flow happened.
      * Updates satisfiedCondition if needed.
      */
     public void victoryCheck() {
-        for (VictoryCondition victCondn : allWinConditions) {
-            // For each victory condition, check and return if they're satisfied
+        checkConditions(allWinConditions, "ALL");
+    }
+
+    /**
+     * Notifies only the victory conditions that the given action type can trigger.
+     * Updates satisfiedCondition if needed.
+     *
+     * @param actionType Type of the action that just happened
+     */
+    public void victoryCheck(ActionType actionType) {
+        checkConditions(conditionsByAction.get(actionType), actionType.name());
+    }
+
+    /**
+     * Ends the game with a condition satisfied outside the action flow, such as a timeout,
+     * before any other condition is checked. Does nothing if the game is already over.
+     *
+     * @param victCondn The victory condition to mark as satisfied, already added to this turn state
+     */
+    public void declareVictory(VictoryCondition victCondn) {
+        if (satisfiedCondition != null) {
+            return;
+        }
+        this.satisfiedCondition = victCondn;
+        if (statistics != null) {
+            statistics.recordGameFinished(victCondn);
+        }
+    }
+
+    /**
+     * Checks the given victory conditions in order, stopping at the first satisfied one.
+     *
+     * @param conditions Victory conditions to check
+     * @param trigger What caused the check, for profiling
+     */
+    private void checkConditions(List<VictoryCondition> conditions, String trigger) {
+        // The first condition satisfied ends the game, and later checks must not replace it
+        if (satisfiedCondition != null) {
+            return;
+        }
+
+        VictoryCheckEvent event = new VictoryCheckEvent();
+        event.begin();
+
+        VictoryCondition satisfied = null;
+        for (VictoryCondition victCondn : conditions) {
+            // For each victory condition, check and stop if they're satisfied
             if (victCondn.isSatisfied(this)) {
+                satisfied = victCondn;
                 this.satisfiedCondition = victCondn;
-                return;
+                if (statistics != null) {
+                    statistics.recordGameFinished(victCondn);
+                }
+                break;
             }
         }
+
+        if (event.shouldCommit()) {
+            event.gameId = getGameId();
+            event.trigger = trigger;
+            event.playerId = currPlayer.getId();
+            event.conditionCount = conditions.size();
+            event.satisfied = satisfied == null ? null : satisfied.getClass().getSimpleName();
+            event.commit();
+        }
+    }
+
+    /**
+     * Starts timing a turn for the flight recorder.
+     */
+    private void beginTurnEvent() {
+        turnEvent = new TurnEvent();
+        turnEvent.begin();
+        turnActionCount = 0;
+    }
+
+    /**
+     * Records the turn that just passed, if the flight recorder wants it.
+     *
+     * @param playerId Id of the player whose turn it was
+     */
+    private void commitTurnEvent(int playerId) {
+        if (turnEvent.shouldCommit()) {
+            turnEvent.gameId = getGameId();
+            turnEvent.playerId = playerId;
+            turnEvent.actionCount = turnActionCount;
+            turnEvent.commit();
+        }
+    }
+
+    /**
+     * Gets the id of the game this turn state belongs to, for profiling.
+     *
+     * @return the game id, or 0 if the state has no statistics
+     */
+    private long getGameId() {
+        return statistics == null ? 0 : statistics.getGameId();
+    }
+
+    /**
+     * Adds a victory condition, indexing it by what can trigger it.
+     *
+     * @param victCondn The victory condition to add
+     */
+    public void addWinCondition(VictoryCondition victCondn) {
+        allWinConditions.add(victCondn);
+        for (ActionType type : victCondn.getTriggeringActions()) {
+            conditionsByAction.get(type).add(victCondn);
+        }
+        if (victCondn.isTriggeredByTeamRemoval()) {
+            removalConditions.add(victCondn);
+        }
+        remainingTeams.add(victCondn.getTeam());
     }
 
     /**
@@ -175,8 +378,17 @@ public class TurnState {
         for (Player player : badTeam.getTeamPlayers()) {
             God removedGod = player.getSelectedGod();
 
+            // Gods are equal by name and players may pick the same one, so the player's own instance is removed
+            boolean removed = false;
+            for (int i = 0; i < allGods.size() && !removed; i++) {
+                if (allGods.get(i) == removedGod) {
+                    allGods.remove(i);
+                    removed = true;
+                }
+            }
+
             // If already not here, something weird is happening, oh no
-            if (!allGods.remove(removedGod)) {
+            if (!removed) {
                 throw new IllegalStateException("Tried to remove a team, and thus their gods, but a player's god" +
                         "is already not included.");
             }
@@ -184,6 +396,18 @@ public class TurnState {
 
         // Remove victory conditions
         this.allWinConditions.removeIf(v -> v.getTeam() == badTeam);
+        for (List<VictoryCondition> indexed : conditionsByAction.values()) {
+            indexed.removeIf(v -> v.getTeam() == badTeam);
+        }
+        this.removalConditions.removeIf(v -> v.getTeam() == badTeam);
+        this.remainingTeams.remove(badTeam);
+
+        // Let conditions triggered by a team leaving check if they're satisfied
+        checkConditions(removalConditions, "TEAM_REMOVED");
+
+        for (TurnStateListener listener : listeners) {
+            listener.onTeamRemoved(badTeam);
+        }
     }
 
     /**
@@ -269,6 +493,25 @@ public class TurnState {
         return new ArrayList<>(allGods);
     }
 
+    /**
+     * Gets the number of teams still in the game.
+     *
+     * @return Number of remaining teams
+     */
+    public int getRemainingTeamCount() {
+        return remainingTeams.size();
+    }
+
+    /**
+     * Checks if a team is still in the game.
+     *
+     * @param team Team to check
+     * @return True if the team has not been removed
+     */
+    public boolean isTeamRemaining(Team team) {
+        return remainingTeams.contains(team);
+    }
+
     /**
      * Gets all victory conditions.
      *
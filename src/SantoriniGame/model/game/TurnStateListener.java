@@ -0,0 +1,23 @@
+package SantoriniGame.model.game;
+
+import SantoriniGame.model.action.Action;
+import SantoriniGame.model.player.Team;
+
+/**
+ * Interface for listening to changes applied through TurnState.
+ * Follows the Observer pattern so views can update only what an action changed.
+ */
+public interface TurnStateListener {
+
+    /**
+     * Called after an action was successfully applied to the board.
+     * @param action the action that was applied
+     */
+    void onActionApplied(Action action);
+
+    /**
+     * Called when a team is removed from the game, before its workers leave the board.
+     * @param team the team that was removed
+     */
+    void onTeamRemoved(Team team);
+}
@@ -0,0 +1,161 @@
+package SantoriniGame.model.player;
+
+import java.util.Arrays;
+
+/**
+ * TeamLayout class - Which team each player of a game is on, for games of 2 to 8 players.
+ * Players are listed in turn order and teams are numbered from 0, so the layout 0,1,0,1 is the standard
+ * four player game of two teams taking alternate turns, and 0,1,2,3,4 is a five player free-for-all.
+ * Every team gets its own pair of workers, however many players share it.
+ */
+public final class TeamLayout {
+    /**
+     * Fewest players in a game.
+     */
+    public static final int MIN_PLAYERS = 2;
+
+    /**
+     * Most players in a game.
+     */
+    public static final int MAX_PLAYERS = 8;
+
+    private final int[] teamOfPlayer;
+    private final int teamCount;
+
+    private TeamLayout(int[] teamOfPlayer, int teamCount) {
+        this.teamOfPlayer = teamOfPlayer;
+        this.teamCount = teamCount;
+    }
+
+    /**
+     * Gets a layout from the team of each player.
+     * Every team from 0 up to the highest one listed must have a player, and there must be at least two teams.
+     *
+     * @param teamOfPlayer team ID of each player, in turn order
+     * @return the layout
+     */
+    public static TeamLayout of(int... teamOfPlayer) {
+        if (teamOfPlayer.length < MIN_PLAYERS || teamOfPlayer.length > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Games have between " + MIN_PLAYERS + " and " + MAX_PLAYERS
+                    + " players, not " + teamOfPlayer.length + ".");
+        }
+        int teamCount = 0;
+        for (int team : teamOfPlayer) {
+            if (team < 0 || team >= teamOfPlayer.length) {
+                throw new IllegalArgumentException("Team IDs must be between 0 and " + (teamOfPlayer.length - 1)
+                        + ", not " + team + ".");
+            }
+            teamCount = Math.max(teamCount, team + 1);
+        }
+
+        boolean[] used = new boolean[teamCount];
+        for (int team : teamOfPlayer) {
+            used[team] = true;
+        }
+        for (int team = 0; team < teamCount; team++) {
+            if (!used[team]) {
+                throw new IllegalArgumentException("Team " + team + " has no players in " + Arrays.toString(teamOfPlayer));
+            }
+        }
+        if (teamCount < 2) {
+            throw new IllegalArgumentException("A game needs at least two teams.");
+        }
+        return new TeamLayout(teamOfPlayer.clone(), teamCount);
+    }
+
+    /**
+     * Gets the usual layout for a number of players: one against one, one against two, two against two,
+     * and a free-for-all for larger games.
+     *
+     * @param playerCount number of players
+     * @return the layout
+     */
+    public static TeamLayout standard(int playerCount) {
+        return switch (playerCount) {
+            case 2 -> of(0, 1);
+            case 3 -> of(0, 1, 1);
+            case 4 -> of(0, 1, 0, 1);
+            default -> freeForAll(playerCount);
+        };
+    }
+
+    /**
+     * Gets the layout where every player is a team of their own.
+     *
+     * @param playerCount number of players
+     * @return the layout
+     */
+    public static TeamLayout freeForAll(int playerCount) {
+        if (playerCount < MIN_PLAYERS || playerCount > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Games have between " + MIN_PLAYERS + " and " + MAX_PLAYERS
+                    + " players, not " + playerCount + ".");
+        }
+        int[] teamOfPlayer = new int[playerCount];
+        for (int player = 0; player < playerCount; player++) {
+            teamOfPlayer[player] = player;
+        }
+        return new TeamLayout(teamOfPlayer, playerCount);
+    }
+
+    /**
+     * Gets the number of players.
+     *
+     * @return player count
+     */
+    public int getPlayerCount() {
+        return teamOfPlayer.length;
+    }
+
+    /**
+     * Gets the number of teams.
+     *
+     * @return team count
+     */
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    /**
+     * Gets the team of a player.
+     *
+     * @param player index of the player in turn order
+     * @return team ID
+     */
+    public int getTeam(int player) {
+        return teamOfPlayer[player];
+    }
+
+    /**
+     * Checks if every player is a team of their own.
+     *
+     * @return true for a free-for-all
+     */
+    public boolean isFreeForAll() {
+        return teamCount == teamOfPlayer.length;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof TeamLayout other && Arrays.equals(teamOfPlayer, other.teamOfPlayer);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(teamOfPlayer);
+    }
+
+    /**
+     * Gets the layout as the team of each player.
+     *
+     * @return text such as "0,1,0,1"
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (int player = 0; player < teamOfPlayer.length; player++) {
+            if (player > 0) text.append(',');
+            text.append(teamOfPlayer[player]);
+        }
+        return text.toString();
+    }
+}
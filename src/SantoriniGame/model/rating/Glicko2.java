@@ -0,0 +1,133 @@
+package SantoriniGame.model.rating;
+
+/**
+ * Glicko2 class - The Glicko-2 rating update, following Glickman's description of the system.
+ * A player's games in a rating period are summed into an Accumulator, then applied in one update,
+ * so the work per period is proportional to the games in it rather than to the number of players.
+ */
+final class Glicko2 {
+    /**
+     * Ratio between the displayed scale and the Glicko-2 scale.
+     */
+    static final double SCALE = 173.7178;
+
+    // Constraint on volatility changes, from the 0.3 to 1.2 range the system suggests
+    private static final double TAU = 0.5;
+
+    // Convergence tolerance of the volatility iteration
+    private static final double EPSILON = 1e-6;
+
+    /**
+     * Sums of one player's games within a rating period.
+     */
+    static final class Accumulator {
+        private double information;
+        private double improvement;
+        private int games;
+
+        /**
+         * Adds a game against an opponent, or the composite of an opposing team.
+         *
+         * @param mu the player's rating on the Glicko-2 scale
+         * @param opponentMu the opponent's rating on the Glicko-2 scale
+         * @param opponentPhi the opponent's deviation on the Glicko-2 scale
+         * @param score 1 for a win, 0 for a loss, or in between
+         */
+        void addGame(double mu, double opponentMu, double opponentPhi, double score) {
+            double g = g(opponentPhi);
+            double expected = 1 / (1 + Math.exp(-g * (mu - opponentMu)));
+            information += g * g * expected * (1 - expected);
+            improvement += g * (score - expected);
+            games++;
+        }
+    }
+
+    private Glicko2() {
+    }
+
+    /**
+     * Converts a rating to the Glicko-2 scale.
+     */
+    static double mu(Rating rating) {
+        return (rating.rating() - Rating.INITIAL_RATING) / SCALE;
+    }
+
+    /**
+     * Converts a deviation to the Glicko-2 scale.
+     */
+    static double phi(Rating rating) {
+        return rating.deviation() / SCALE;
+    }
+
+    /**
+     * Applies a rating period's games to a rating, which must already be viewed in that period.
+     *
+     * @param rating the rating at the start of the period
+     * @param games the player's games in the period
+     * @param period the period
+     * @return the rating at the end of the period
+     */
+    static Rating update(Rating rating, Accumulator games, long period) {
+        double mu = mu(rating);
+        double phi = phi(rating);
+        double variance = 1 / games.information;
+        double delta = variance * games.improvement;
+        double sigma = volatility(phi, rating.volatility(), delta, variance);
+
+        double phiStar = Math.sqrt(phi * phi + sigma * sigma);
+        double newPhi = 1 / Math.sqrt(1 / (phiStar * phiStar) + games.information);
+        double newMu = mu + newPhi * newPhi * games.improvement;
+        return new Rating(rating.player(), newMu * SCALE + Rating.INITIAL_RATING,
+                Math.min(Rating.INITIAL_DEVIATION, newPhi * SCALE), sigma, rating.games() + games.games, period);
+    }
+
+    /**
+     * Finds the new volatility by the Illinois variant of regula falsi.
+     */
+    private static double volatility(double phi, double sigma, double delta, double variance) {
+        double a = Math.log(sigma * sigma);
+        double phi2 = phi * phi;
+        double delta2 = delta * delta;
+
+        double low = a;
+        double high;
+        if (delta2 > phi2 + variance) {
+            high = Math.log(delta2 - phi2 - variance);
+        } else {
+            int k = 1;
+            while (volatilityFunction(a - k * TAU, a, phi2, delta2, variance) < 0) {
+                k++;
+            }
+            high = a - k * TAU;
+        }
+
+        double fLow = volatilityFunction(low, a, phi2, delta2, variance);
+        double fHigh = volatilityFunction(high, a, phi2, delta2, variance);
+        while (Math.abs(high - low) > EPSILON) {
+            double next = low + (low - high) * fLow / (fHigh - fLow);
+            double fNext = volatilityFunction(next, a, phi2, delta2, variance);
+            if (fNext * fHigh <= 0) {
+                low = high;
+                fLow = fHigh;
+            } else {
+                fLow /= 2;
+            }
+            high = next;
+            fHigh = fNext;
+        }
+        return Math.exp(low / 2);
+    }
+
+    private static double volatilityFunction(double x, double a, double phi2, double delta2, double variance) {
+        double ex = Math.exp(x);
+        double denominator = phi2 + variance + ex;
+        return ex * (delta2 - phi2 - variance - ex) / (2 * denominator * denominator) - (x - a) / (TAU * TAU);
+    }
+
+    /**
+     * Reduces the weight of a game by the opponent's uncertainty.
+     */
+    private static double g(double phi) {
+        return 1 / Math.sqrt(1 + 3 * phi * phi / (Math.PI * Math.PI));
+    }
+}
@@ -0,0 +1,108 @@
+package SantoriniGame.model.rating;
+
+import SantoriniGame.model.player.Player;
+import SantoriniGame.model.player.Team;
+import SantoriniGame.model.victory.VictoryCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * MatchResult record - The outcome of one finished game, as consumed by the RatingService.
+ * Players are identified by their ladder names, and each side may have one player or several.
+ *
+ * @param winners ladder names of the winning team's players
+ * @param losers ladder names of the losing team's players
+ * @param victoryType simple class name of the satisfied victory condition, or DRAW
+ */
+public record MatchResult(List<String> winners, List<String> losers, String victoryType) {
+    /**
+     * Victory type of a game neither team won, where both teams score a half.
+     */
+    public static final String DRAW = "Draw";
+
+    /**
+     * Creates a match result, checking the names can be stored.
+     */
+    public MatchResult {
+        winners = List.copyOf(winners);
+        losers = List.copyOf(losers);
+        if (winners.isEmpty() || losers.isEmpty()) {
+            throw new IllegalArgumentException("Both teams need at least one player.");
+        }
+        for (String name : winners) checkName(name);
+        for (String name : losers) checkName(name);
+        if (victoryType == null || victoryType.isBlank()) {
+            throw new IllegalArgumentException("A match result needs a victory type.");
+        }
+    }
+
+    /**
+     * Creates the results of a finished game, one for each pair of teams the game decided between.
+     * A two team game gives one result. With more teams, as in a free-for-all, the winner beats each other team
+     * in a result of its own, and a game nobody won is a draw between every pair of teams.
+     * Teams must be taken before the game starts, as the game drops removed teams.
+     *
+     * @param teams the game's teams as they started
+     * @param winner the satisfied victory condition, or null for a draw
+     * @param nameOf ladder name of each player
+     * @return the results
+     */
+    public static List<MatchResult> of(Team[] teams, VictoryCondition winner, Function<Player, String> nameOf) {
+        if (teams.length < 2) {
+            throw new IllegalArgumentException("Ratings need a game between at least two teams.");
+        }
+        List<MatchResult> results = new ArrayList<>();
+        if (winner == null) {
+            for (int i = 0; i < teams.length; i++) {
+                for (int j = i + 1; j < teams.length; j++) {
+                    results.add(new MatchResult(names(teams[i], nameOf), names(teams[j], nameOf), DRAW));
+                }
+            }
+            return results;
+        }
+
+        int winningTeamId = winner.getTeam().getTeamId();
+        Team winningTeam = null;
+        for (Team team : teams) {
+            if (team.getTeamId() == winningTeamId) {
+                winningTeam = team;
+            }
+        }
+        if (winningTeam == null) {
+            throw new IllegalArgumentException("The winning team " + winningTeamId + " is not one of the teams.");
+        }
+        for (Team team : teams) {
+            if (team != winningTeam) {
+                results.add(new MatchResult(names(winningTeam, nameOf), names(team, nameOf),
+                        winner.getClass().getSimpleName()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Checks if neither team won.
+     *
+     * @return true for a draw
+     */
+    public boolean isDraw() {
+        return DRAW.equals(victoryType);
+    }
+
+    private static List<String> names(Team team, Function<Player, String> nameOf) {
+        List<String> names = new ArrayList<>();
+        for (Player player : team.getTeamPlayers()) {
+            names.add(nameOf.apply(player));
+        }
+        return names;
+    }
+
+    private static void checkName(String name) {
+        if (name == null || name.isBlank() || name.indexOf('\t') >= 0 || name.indexOf('\n') >= 0
+                || name.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("Invalid ladder name: " + name);
+        }
+    }
+}
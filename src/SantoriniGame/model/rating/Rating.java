@@ -0,0 +1,63 @@
+package SantoriniGame.model.rating;
+
+/**
+ * Rating record - A player's Glicko-2 rating at the end of a rating period, shown on the usual 1500 scale.
+ * Immutable, so readers can hold one while the RatingService publishes newer ones.
+ *
+ * @param player ladder name
+ * @param rating rating, 1500 for a new player
+ * @param deviation uncertainty of the rating, 350 for a new player
+ * @param volatility expected fluctuation of the rating
+ * @param games games rated so far
+ * @param period rating period the rating was last updated in
+ */
+public record Rating(String player, double rating, double deviation, double volatility, int games, long period) {
+    /**
+     * Rating of a player who has not played.
+     */
+    public static final double INITIAL_RATING = 1500;
+
+    /**
+     * Deviation of a player who has not played, and the most any deviation grows to.
+     */
+    public static final double INITIAL_DEVIATION = 350;
+
+    /**
+     * Volatility of a player who has not played.
+     */
+    public static final double INITIAL_VOLATILITY = 0.06;
+
+    /**
+     * Creates the rating of a new player.
+     *
+     * @param player ladder name
+     * @return the initial rating
+     */
+    public static Rating initial(String player) {
+        return new Rating(player, INITIAL_RATING, INITIAL_DEVIATION, INITIAL_VOLATILITY, 0, 0);
+    }
+
+    /**
+     * Gets the rating as it stands in a later period, with the deviation grown for each period without games.
+     *
+     * @param currentPeriod the period to view the rating in
+     * @return this rating, or a copy with the larger deviation
+     */
+    public Rating inPeriod(long currentPeriod) {
+        if (currentPeriod <= period || deviation >= INITIAL_DEVIATION) {
+            return this;
+        }
+        double phi = deviation / Glicko2.SCALE;
+        double grown = Math.sqrt(phi * phi + (currentPeriod - period) * volatility * volatility) * Glicko2.SCALE;
+        return new Rating(player, rating, Math.min(INITIAL_DEVIATION, grown), volatility, games, period);
+    }
+
+    /**
+     * Gets a conservative estimate of the rating, two deviations below it, for ranking players.
+     *
+     * @return rating less twice the deviation
+     */
+    public double conservativeRating() {
+        return rating - 2 * deviation;
+    }
+}
@@ -0,0 +1,368 @@
+package SantoriniGame.model.rating;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RatingService class - Keeps Glicko-2 ladder ratings, updated from a stream of match results.
+ * Results are queued and applied by a single update thread, each batch of results forming one rating period.
+ * Only the ratings are kept, never the results, and the queue is bounded, so submitting blocks rather than
+ * growing memory when results arrive faster than they are rated.
+ * Ratings are immutable and published one at a time, so any thread can read them while updates run.
+ * Team games rate each player against the composite of the opposing team, the average of its players' ratings.
+ * A game between more than two teams is submitted as one result for each pair of teams, see MatchResult.of.
+ */
+public class RatingService implements AutoCloseable {
+    /**
+     * Default number of results in a rating period.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    // Time between saves while results are being rated
+    private static final long SAVE_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private static final String FILE_HEADER = "# Santorini ladder ratings: player, rating, deviation, volatility, games, "
+            + "period";
+
+    private final Path file;
+    private final int batchSize;
+    private final Map<String, Double> winnerScores;
+    private final BlockingQueue<MatchResult> queue;
+    private final Map<String, Rating> ratings = new ConcurrentHashMap<>();
+    private final Thread updateThread;
+
+    // Written only by the update thread
+    private volatile long period;
+    private volatile long resultsRated;
+    private volatile boolean closed;
+    private long resultsSubmitted;
+    private long lastSaveNanos = System.nanoTime();
+    private IOException saveFailure;
+
+    /**
+     * Creates a rating service where every victory type counts as a full win.
+     *
+     * @param file file ratings are loaded from, if it exists, and saved to
+     * @throws IOException if the file exists but cannot be read
+     */
+    public RatingService(Path file) throws IOException {
+        this(file, DEFAULT_BATCH_SIZE, Map.of());
+    }
+
+    /**
+     * Creates a rating service.
+     *
+     * @param file file ratings are loaded from, if it exists, and saved to
+     * @param batchSize results in each rating period
+     * @param winnerScores score of the winning team by victory type, such as 0.75 for TimeoutVictoryCondition,
+     *                     with 1 for any type not given; the losing team scores the rest
+     * @throws IOException if the file exists but cannot be read
+     */
+    public RatingService(Path file, int batchSize, Map<String, Double> winnerScores) throws IOException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1.");
+        }
+        for (Map.Entry<String, Double> score : winnerScores.entrySet()) {
+            if (!(score.getValue() >= 0.5 && score.getValue() <= 1)) {
+                throw new IllegalArgumentException("Winner score for " + score.getKey() + " must be between 0.5 and 1.");
+            }
+        }
+        this.file = file;
+        this.batchSize = batchSize;
+        this.winnerScores = Map.copyOf(winnerScores);
+        this.queue = new ArrayBlockingQueue<>(batchSize * 4);
+        load();
+
+        updateThread = new Thread(this::runUpdates, "rating-updates");
+        updateThread.setDaemon(true);
+        updateThread.start();
+    }
+
+    /**
+     * Queues a result to be rated, waiting if the queue is full.
+     *
+     * @param result the result of a finished game
+     */
+    public void submit(MatchResult result) {
+        if (closed) {
+            throw new IllegalStateException("The rating service has been closed.");
+        }
+        try {
+            queue.put(result);
+            synchronized (this) {
+                resultsSubmitted++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while submitting a match result.", e);
+        }
+    }
+
+    /**
+     * Queues the results of one game to be rated, waiting if the queue is full.
+     *
+     * @param results the results of a finished game, from MatchResult.of
+     */
+    public void submitAll(List<MatchResult> results) {
+        for (MatchResult result : results) {
+            submit(result);
+        }
+    }
+
+    /**
+     * Waits until every result submitted so far has been rated.
+     */
+    public void flush() {
+        long target;
+        synchronized (this) {
+            target = resultsSubmitted;
+            try {
+                while (resultsRated < target && updateThread.isAlive()) {
+                    wait(100);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for ratings.", e);
+            }
+        }
+    }
+
+    /**
+     * Gets a player's current rating, with the deviation grown for the periods since they last played.
+     *
+     * @param player ladder name
+     * @return the rating, or the initial rating if the player has not played
+     */
+    public Rating getRating(String player) {
+        Rating rating = ratings.get(player);
+        return rating == null ? Rating.initial(player) : rating.inPeriod(period);
+    }
+
+    /**
+     * Gets the best rated players, ranked by conservative rating so players with few games don't top the ladder.
+     *
+     * @param count most players to return
+     * @return ratings, best first
+     */
+    public List<Rating> getTopRatings(int count) {
+        long current = period;
+        return ratings.values().stream()
+                .map(rating -> rating.inPeriod(current))
+                .sorted(Comparator.comparingDouble(Rating::conservativeRating).reversed())
+                .limit(count)
+                .toList();
+    }
+
+    /**
+     * Gets the number of rated players.
+     *
+     * @return player count
+     */
+    public int getPlayerCount() {
+        return ratings.size();
+    }
+
+    /**
+     * Gets the number of rating periods completed.
+     *
+     * @return period count
+     */
+    public long getPeriod() {
+        return period;
+    }
+
+    /**
+     * Gets the number of results rated.
+     *
+     * @return result count
+     */
+    public long getResultsRated() {
+        return resultsRated;
+    }
+
+    /**
+     * Saves the ratings, after rating every result submitted so far.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void save() throws IOException {
+        flush();
+        synchronized (this) {
+            if (saveFailure != null) {
+                IOException failure = saveFailure;
+                saveFailure = null;
+                throw failure;
+            }
+            writeRatings();
+        }
+    }
+
+    /**
+     * Rates every queued result, saves the ratings and stops the update thread.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        save();
+        closed = true;
+        updateThread.interrupt();
+    }
+
+    /**
+     * Takes results from the queue in batches, rating each batch as one period.
+     */
+    private void runUpdates() {
+        List<MatchResult> batch = new ArrayList<>(batchSize);
+        while (!closed) {
+            try {
+                MatchResult first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    ratePeriod(batch);
+                    batch.clear();
+                }
+                // Saved on the interval even while results keep arriving, so a busy ladder is never left unsaved
+                if (System.nanoTime() - lastSaveNanos > SAVE_INTERVAL_NANOS) {
+                    synchronized (this) {
+                        try {
+                            writeRatings();
+                        } catch (IOException e) {
+                            saveFailure = e;
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Rates one period: every game is scored against ratings from the start of the period,
+     * then each player who played is updated once.
+     */
+    private void ratePeriod(List<MatchResult> batch) {
+        long next = period + 1;
+        Map<String, Rating> before = new HashMap<>();
+        Map<String, Glicko2.Accumulator> games = new HashMap<>();
+
+        for (MatchResult result : batch) {
+            double winnerScore = result.isDraw() ? 0.5 : winnerScores.getOrDefault(result.victoryType(), 1.0);
+            addTeamGames(result.winners(), result.losers(), winnerScore, next, before, games);
+            addTeamGames(result.losers(), result.winners(), 1 - winnerScore, next, before, games);
+        }
+
+        for (Map.Entry<String, Glicko2.Accumulator> entry : games.entrySet()) {
+            ratings.put(entry.getKey(), Glicko2.update(before.get(entry.getKey()), entry.getValue(), next));
+        }
+
+        synchronized (this) {
+            period = next;
+            resultsRated += batch.size();
+            notifyAll();
+        }
+    }
+
+    /**
+     * Adds one team's side of a game, each player playing the opposing team's composite.
+     */
+    private void addTeamGames(List<String> team, List<String> opponents, double score, long next,
+                              Map<String, Rating> before, Map<String, Glicko2.Accumulator> games) {
+        double opponentMu = 0;
+        double opponentVariance = 0;
+        for (String opponent : opponents) {
+            Rating rating = ratingAtStart(opponent, next, before);
+            opponentMu += Glicko2.mu(rating);
+            opponentVariance += Glicko2.phi(rating) * Glicko2.phi(rating);
+        }
+        opponentMu /= opponents.size();
+        double opponentPhi = Math.sqrt(opponentVariance / opponents.size());
+
+        for (String player : team) {
+            double mu = Glicko2.mu(ratingAtStart(player, next, before));
+            games.computeIfAbsent(player, name -> new Glicko2.Accumulator()).addGame(mu, opponentMu, opponentPhi, score);
+        }
+    }
+
+    /**
+     * Gets a player's rating as it stood at the start of the period being rated.
+     */
+    private Rating ratingAtStart(String player, long next, Map<String, Rating> before) {
+        return before.computeIfAbsent(player, name -> {
+            Rating rating = ratings.get(name);
+            // The deviation grows for each period without games, and the update adds the period being rated
+            return rating == null ? Rating.initial(name) : rating.inPeriod(next - 1);
+        });
+    }
+
+    /**
+     * Loads the ratings file, if there is one.
+     */
+    private void load() throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        long lastPeriod = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                String[] fields = line.split("\t");
+                if (fields.length != 6) {
+                    throw new IOException("Malformed rating line in " + file + ": " + line);
+                }
+                try {
+                    Rating rating = new Rating(fields[0], Double.parseDouble(fields[1]), Double.parseDouble(fields[2]),
+                            Double.parseDouble(fields[3]), Integer.parseInt(fields[4]), Long.parseLong(fields[5]));
+                    ratings.put(rating.player(), rating);
+                    lastPeriod = Math.max(lastPeriod, rating.period());
+                } catch (NumberFormatException e) {
+                    throw new IOException("Malformed rating line in " + file + ": " + line, e);
+                }
+            }
+        }
+        period = lastPeriod;
+    }
+
+    /**
+     * Writes every rating to a temporary file and moves it over the ratings file, so a crash never leaves it
+     * half written. Ratings may still be changing, but each one written is a complete rating.
+     */
+    private void writeRatings() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(FILE_HEADER);
+            writer.newLine();
+            for (Rating rating : ratings.values()) {
+                writer.write(rating.player() + "\t" + rating.rating() + "\t" + rating.deviation() + "\t"
+                        + rating.volatility() + "\t" + rating.games() + "\t" + rating.period());
+                writer.newLine();
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        lastSaveNanos = System.nanoTime();
+    }
+}
@@ -4,6 +4,7 @@ package SantoriniGame.model.timer;
  * Represents a timer for an individual player in the Santorini game.
  * Tracks remaining time and provides methods to start, pause, and check timer status.
  * Follows SRP by focusing only on individual player timer functionality.
+ * Synchronized, as it is updated by the game engine thread and read by the UI.
  */
 public class PlayerTimer {
     private long remainingTimeMs; // Remaining time in milliseconds
@@ -29,7 +30,7 @@ public class PlayerTimer {
     /**
      * Starts the timer countdown.
      */
-    public void start() {
+    public synchronized void start() {
         if (!isRunning && remainingTimeMs > 0) {
             isRunning = true;
             startTime = System.currentTimeMillis();
@@ -39,7 +40,7 @@ public class PlayerTimer {
     /**
      * Pauses the timer, preserving remaining time.
      */
-    public void pause() {
+    public synchronized void pause() {
         if (isRunning) {
             updateRemainingTime();
             isRunning = false;
@@ -49,7 +50,7 @@ public class PlayerTimer {
     /**
      * Updates the remaining time based on elapsed time since start.
      */
-    private void updateRemainingTime() {
+    private synchronized void updateRemainingTime() {
         if (isRunning) {
             long elapsedTime = System.currentTimeMillis() - startTime;
             remainingTimeMs = Math.max(0, remainingTimeMs - elapsedTime);
@@ -63,7 +64,7 @@ public class PlayerTimer {
      *
      * @return Remaining time in milliseconds
      */
-    public long getRemainingTimeMs() {
+    public synchronized long getRemainingTimeMs() {
         updateRemainingTime();
         return remainingTimeMs;
     }
@@ -95,7 +96,7 @@ public class PlayerTimer {
      *
      * @return true if running, false if paused
      */
-    public boolean isRunning() {
+    public synchronized boolean isRunning() {
         return isRunning;
     }
 
@@ -121,7 +122,7 @@ public class PlayerTimer {
     /**
      * Resets the timer to its initial time limit.
      */
-    public void reset() {
+    public synchronized void reset() {
         pause();
         remainingTimeMs = initialTimeMs;
     }
@@ -4,10 +4,12 @@ import SantoriniGame.model.player.Player;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Manages all player timers in the Santorini game.
  * Handles timer coordination, turn transitions, and timeout detection.
+ * Synchronized, as it is updated by the game engine thread and read by the UI.
  */
 public class TimerManager {
     private final List<PlayerTimer> playerTimers;
@@ -22,7 +24,7 @@ public class TimerManager {
      */
     public TimerManager(Player[] players, int timeLimitMinutes) {
         this.playerTimers = new ArrayList<>();
-        this.listeners = new ArrayList<>();
+        this.listeners = new CopyOnWriteArrayList<>();
         this.currentPlayerIndex = 0;
         this.gameActive = true;
 
@@ -35,7 +37,7 @@ public class TimerManager {
     /**
      * Starts the timer for the current player.
      */
-    public void startCurrentPlayerTimer() {
+    public synchronized void startCurrentPlayerTimer() {
         if (gameActive && currentPlayerIndex < playerTimers.size()) {
             PlayerTimer currentTimer = playerTimers.get(currentPlayerIndex);
             currentTimer.start();
@@ -45,9 +47,9 @@ public class TimerManager {
 
     /**
      * Switches to the next player.
-     * @param nextPlayerIndex index of the next player
+     * @param nextPlayerIndex index of the next player in the players array the manager was created with
      */
-    public void switchToNextPlayer(int nextPlayerIndex) {
+    public synchronized void switchToNextPlayer(int nextPlayerIndex) {
         if (!gameActive) return;
 
         // Pause current player's timer
@@ -68,7 +70,7 @@ public class TimerManager {
      * Checks all timers for expiration.
      * @return PlayerTimer that expired, or null if no timeout
      */
-    public PlayerTimer checkForTimeout() {
+    public synchronized PlayerTimer checkForTimeout() {
         if (!gameActive) return null;
 
         for (PlayerTimer timer : playerTimers) {
@@ -85,7 +87,7 @@ public class TimerManager {
      * Gets the timer for the current player.
      * @return current player's timer
      */
-    public PlayerTimer getCurrentPlayerTimer() {
+    public synchronized PlayerTimer getCurrentPlayerTimer() {
         if (currentPlayerIndex < playerTimers.size()) {
             return playerTimers.get(currentPlayerIndex);
         }
@@ -103,7 +105,7 @@ public class TimerManager {
     /**
      * Pauses all timers.
      */
-    public void pauseAllTimers() {
+    public synchronized void pauseAllTimers() {
         for (PlayerTimer timer : playerTimers) {
             timer.pause();
         }
@@ -113,7 +115,7 @@ public class TimerManager {
     /**
      * Stops all timers and deactivates the timer system.
      */
-    public void stopAllTimers() {
+    public synchronized void stopAllTimers() {
         gameActive = false;
         pauseAllTimers();
         notifyTimersStop();
@@ -123,7 +125,7 @@ public class TimerManager {
      * Checks if the timer system is active.
      * @return true if timers are active, false otherwise
      */
-    public boolean isActive() {
+    public synchronized boolean isActive() {
         return gameActive;
     }
 
@@ -1,9 +1,11 @@
 package SantoriniGame.model.victory;
 
+import SantoriniGame.model.action.ActionType;
 import SantoriniGame.model.player.Team;
 import SantoriniGame.model.game.TurnState;
 
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * DefaultVictoryCondition class. Team wins if they're the last surviving.
@@ -26,17 +28,25 @@ public class DefaultVictoryCondition extends VictoryCondition {
      */
     @Override
     public boolean isSatisfied(TurnState turnState) {
-        // If not our team's turn currently, ignore
-        if (turnState.getCurrPlayer().getTeam() != getTeam()) {
-            return false;
-        }
+        // Only the last remaining team can win by default
+        return turnState.getRemainingTeamCount() == 1 && turnState.isTeamRemaining(getTeam());
+    }
 
-        // If no other team is still playing, our team has won
-        // - Using VictoryCondition as a proxy (is removed when team removed)
-        // - Code smell yup
-        List<VictoryCondition> winConditions = turnState.getAllWinConditions();
+    /**
+     * No action can make a team the last one standing, only a team removal can.
+     * @return empty set
+     */
+    @Override
+    public Set<ActionType> getTriggeringActions() {
+        return EnumSet.noneOf(ActionType.class);
+    }
 
-        Team thisTeam = getTeam();
-        return winConditions.stream().allMatch(v -> v.getTeam() == thisTeam);
+    /**
+     * Checked whenever a team is removed from the game.
+     * @return true
+     */
+    @Override
+    public boolean isTriggeredByTeamRemoval() {
+        return true;
     }
-}
\ No newline at end of file
+}
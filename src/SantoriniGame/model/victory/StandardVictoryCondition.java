@@ -1,11 +1,15 @@
 package SantoriniGame.model.victory;
 
 import SantoriniGame.model.action.Action;
+import SantoriniGame.model.action.ActionType;
 import SantoriniGame.model.action.MoveAction;
 import SantoriniGame.model.board.BoardTile;
 import SantoriniGame.model.player.Team;
 import SantoriniGame.model.game.TurnState;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * The standard victory condition for Santorini.
  * A player wins by moving one of their workers to the third level of a building.
@@ -37,4 +41,13 @@ public class StandardVictoryCondition extends VictoryCondition {
 
         return false;
     }
+
+    /**
+     * Only a move can take a worker up to the third level.
+     * @return set containing only MOVE
+     */
+    @Override
+    public Set<ActionType> getTriggeringActions() {
+        return EnumSet.of(ActionType.MOVE);
+    }
 }
\ No newline at end of file
@@ -1,8 +1,12 @@
 package SantoriniGame.model.victory;
 
+import SantoriniGame.model.action.ActionType;
 import SantoriniGame.model.player.Team;
 import SantoriniGame.model.game.TurnState;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Victory condition triggered when a player times out.
  * The remaining teams win when an opponent runs out of time.
@@ -30,4 +34,13 @@ public class TimeoutVictoryCondition extends VictoryCondition {
         // It's not checked during normal game flow
         return false;
     }
+
+    /**
+     * Timeouts happen outside of the action flow, so no action triggers this condition.
+     * @return empty set
+     */
+    @Override
+    public Set<ActionType> getTriggeringActions() {
+        return EnumSet.noneOf(ActionType.class);
+    }
 }
\ No newline at end of file
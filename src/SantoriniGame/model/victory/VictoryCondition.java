@@ -1,8 +1,12 @@
 package SantoriniGame.model.victory;
 
+import SantoriniGame.model.action.ActionType;
 import SantoriniGame.model.player.Team;
 import SantoriniGame.model.game.TurnState;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * VictoryCondition abstract class. Checks if the given team has won.
  */
@@ -27,6 +31,24 @@ abstract public class VictoryCondition {
      */
     abstract public boolean isSatisfied(TurnState turnState);
 
+    /**
+     * Gets the action types that can cause this condition to become satisfied.
+     * TurnState only checks this condition after an action of one of these types.
+     * By default, every action type may trigger the condition.
+     * @return set of triggering action types
+     */
+    public Set<ActionType> getTriggeringActions() {
+        return EnumSet.allOf(ActionType.class);
+    }
+
+    /**
+     * Returns if removing a team from the game can cause this condition to become satisfied.
+     * @return true if this condition should be checked after a team is removed
+     */
+    public boolean isTriggeredByTeamRemoval() {
+        return false;
+    }
+
     /**
      * Gets the team this condition applies to.
      * @return the team
@@ -6,6 +6,7 @@ import SantoriniGame.god.God;
 import SantoriniGame.model.game.GameModel;
 import SantoriniGame.model.game.TurnPhase;
 import SantoriniGame.model.game.TurnState;
+import SantoriniGame.model.board.BoardGeometry;
 import SantoriniGame.model.board.BoardTile;
 
 import java.util.List;
@@ -49,7 +50,7 @@ public class TutorialController extends GameController {
      */
     private static GameModel createTutorialGameModel() {
         God[] gods = {new Artemis(), new Artemis()};
-        return new GameModel(gods, 5); // 5x5 board
+        return new GameModel(gods, BoardGeometry.STANDARD);
     }
 
     /**
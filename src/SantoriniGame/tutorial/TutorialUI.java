@@ -41,7 +41,8 @@ public class TutorialUI extends JFrame implements TutorialController.TutorialEve
         this.tutorialController = new TutorialController();
         this.tutorialController.setTutorialEventListener(this);
 
-        this.boardUI = new BoardUI(5, tutorialController.getModel().getBoard(), this::handleBoardClick);
+        this.boardUI = new BoardUI(tutorialController.getModel().getBoard(), this::handleBoardClick);
+        tutorialController.getModel().getTurnState().addListener(boardUI);
 
         setupUI();
         updateDisplay();
@@ -344,9 +345,6 @@ public class TutorialUI extends JFrame implements TutorialController.TutorialEve
      * Updates board highlights based on current tutorial step.
      */
     private void updateBoardHighlights() {
-        // Update board display first
-        boardUI.updateBoardUI();
-
         TutorialStep currentStep = tutorialController.getCurrentTutorialStep();
 
         // Clear existing highlights
@@ -0,0 +1,586 @@
+package SantoriniGame.ui;
+
+import SantoriniGame.model.board.BoardTile;
+import SantoriniGame.model.player.Worker;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BoardCanvas class - Paints the whole board as a single component.
+ * Tiles, buildings and workers are drawn with Java2D from cached sprites, and clicks are mapped to tiles by coordinate.
+ * Paints from its own copy of the board, updated through TileChanges, so it never reads the live model.
+ * Worker moves and new buildings are animated with a 60 fps Swing timer that only runs while something is moving.
+ */
+class BoardCanvas extends JComponent {
+    private static final int PREF_TILE_SIZE = 80;
+    private static final int FRAME_INTERVAL_MS = 16; // About 60 frames per second
+    private static final int ANIMATION_DURATION_MS = 200;
+
+    private static final Color DEFAULT_BG_COLOUR = new Color(200, 200, 220);
+    private static final Color MOVE_HIGHLIGHT_COLOUR = Color.GREEN;
+    private static final Color BUILD_HIGHLIGHT_COLOUR = Color.YELLOW;
+    private static final Color SELECTED_WORKER_COLOUR = Color.RED;
+    private static final Color WORKER_HIGHLIGHT_COLOUR = Color.BLUE;
+    private static final Color GRID_COLOUR = Color.BLACK;
+    private static final Color BEST_HINT_COLOUR = new Color(255, 215, 0);
+    private static final int HINT_ALPHA = 120;
+
+    private static final BasicStroke GRID_STROKE = new BasicStroke(1);
+    private static final BasicStroke HIGHLIGHT_STROKE = new BasicStroke(4);
+    private static final BasicStroke SELECTED_STROKE = new BasicStroke(3);
+
+    /**
+     * Highlight shown on a tile.
+     */
+    enum Highlight {
+        NONE,
+        MOVE,
+        BUILD,
+        WORKER
+    }
+
+    /**
+     * New contents of a tile, captured on the thread that changed the board.
+     *
+     * @param x X-coordinate of the tile
+     * @param y Y-coordinate of the tile
+     * @param buildingState building encoded by BoardSprites.buildingState
+     * @param occupant worker on the tile, or null if empty
+     */
+    record TileChange(int x, int y, int buildingState, Worker occupant) {
+        /**
+         * Captures a tile's current contents.
+         *
+         * @param tile the tile to capture
+         * @return the tile's contents
+         */
+        static TileChange of(BoardTile tile) {
+            return new TileChange(tile.getX(), tile.getY(), BoardSprites.buildingState(tile), tile.getOccupant());
+        }
+
+        /**
+         * Captures a tile's contents with its worker removed.
+         *
+         * @param tile the tile being vacated
+         * @return the tile's contents without a worker
+         */
+        static TileChange vacated(BoardTile tile) {
+            return new TileChange(tile.getX(), tile.getY(), BoardSprites.buildingState(tile), null);
+        }
+    }
+
+    /**
+     * A worker sliding from one tile to another.
+     */
+    private static final class WorkerSlide {
+        private final Point from;
+        private final Point to;
+        private final long startTime;
+
+        private WorkerSlide(Point from, Point to, long startTime) {
+            this.from = from;
+            this.to = to;
+            this.startTime = startTime;
+        }
+    }
+
+    /**
+     * A building fading from its old sprite to its new one.
+     */
+    private static final class BuildingFade {
+        private final int fromState;
+        private final long startTime;
+
+        private BuildingFade(int fromState, long startTime) {
+            this.fromState = fromState;
+            this.startTime = startTime;
+        }
+    }
+
+    private final int columns;
+    private final int rows;
+    private final BoardSprites sprites = new BoardSprites();
+    private final BoardRenderStats stats;
+
+    // Rendering state
+    private final Highlight[][] highlights;
+    private Point selectedTile;
+
+    // Hint heat of each tile from 0 to 1, NaN for no hint
+    private final float[][] hints;
+    private Point bestHintTile;
+
+    // Board contents as last shown, used to start animations when they change
+    private final int[][] buildingStates;
+    private final Worker[][] occupants;
+    private final Map<Worker, Point> workerPositions = new IdentityHashMap<>();
+
+    // Running animations
+    private final Map<Worker, WorkerSlide> workerSlides = new IdentityHashMap<>();
+    private final BuildingFade[][] buildingFades;
+    private final Timer animationTimer;
+
+    // Tile under the mouse when it was pressed
+    private Point pressedTile;
+
+    /**
+     * Creates a canvas for the given board.
+     *
+     * @param columns Number of columns of the board
+     * @param rows Number of rows of the board
+     * @param tileClickListener Listener for tile click events, given the tile as an "x,y" action command
+     * @param stats Statistics to record painting in
+     */
+    BoardCanvas(int columns, int rows, ActionListener tileClickListener, BoardRenderStats stats) {
+        this.columns = columns;
+        this.rows = rows;
+        this.stats = stats;
+        this.highlights = new Highlight[columns][rows];
+        this.hints = new float[columns][rows];
+        this.buildingStates = new int[columns][rows];
+        this.occupants = new Worker[columns][rows];
+        this.buildingFades = new BuildingFade[columns][rows];
+        this.animationTimer = new Timer(FRAME_INTERVAL_MS, e -> stepAnimations());
+
+        for (Highlight[] column : highlights) {
+            Arrays.fill(column, Highlight.NONE);
+        }
+        for (float[] column : hints) {
+            Arrays.fill(column, Float.NaN);
+        }
+
+        setOpaque(true);
+        setPreferredSize(new Dimension(columns * PREF_TILE_SIZE, rows * PREF_TILE_SIZE));
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                pressedTile = tileAt(e.getPoint());
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                // Behave like a button: only click if released on the tile that was pressed
+                Point releasedTile = tileAt(e.getPoint());
+                if (releasedTile != null && releasedTile.equals(pressedTile) && tileClickListener != null) {
+                    tileClickListener.actionPerformed(new ActionEvent(
+                            BoardCanvas.this,
+                            ActionEvent.ACTION_PERFORMED,
+                            releasedTile.x + "," + releasedTile.y
+                    ));
+                }
+                pressedTile = null;
+            }
+        });
+
+    }
+
+    /**
+     * Applies changed tiles, repainting only those tiles.
+     * A worker that appears on a new tile slides there, and a changed building fades in.
+     *
+     * @param changes the changed tiles
+     * @param animate true to animate the changes, false to show them immediately
+     */
+    void applyChanges(List<TileChange> changes, boolean animate) {
+        long now = System.currentTimeMillis();
+        List<Worker> displaced = new ArrayList<>();
+
+        for (TileChange change : changes) {
+            updateBuilding(change.x(), change.y(), change.buildingState(), animate, now);
+
+            Worker previous = occupants[change.x()][change.y()];
+            if (previous != change.occupant()) {
+                if (previous != null) {
+                    displaced.add(previous);
+                }
+                occupants[change.x()][change.y()] = change.occupant();
+                repaintTile(change.x(), change.y());
+            }
+        }
+
+        // Workers that appeared on a tile have moved there
+        for (TileChange change : changes) {
+            Worker occupant = change.occupant();
+            if (occupant == null) continue;
+
+            Point to = new Point(change.x(), change.y());
+            Point from = workerPositions.put(occupant, to);
+            if (animate && from != null && !from.equals(to)) {
+                startSlide(occupant, from, to, now);
+            }
+            displaced.removeIf(worker -> worker == occupant);
+        }
+
+        // Workers that left a tile without appearing elsewhere have left the board
+        for (Worker worker : displaced) {
+            workerPositions.remove(worker);
+            workerSlides.remove(worker);
+        }
+
+        startAnimationTimer();
+    }
+
+    /**
+     * Gets the worker shown on a tile.
+     *
+     * @param x X-coordinate of the tile
+     * @param y Y-coordinate of the tile
+     * @return the worker, or null if the tile is shown empty
+     */
+    Worker getOccupant(int x, int y) {
+        return occupants[x][y];
+    }
+
+    /**
+     * Sets the highlight shown on a tile.
+     *
+     * @param x X-coordinate of the tile
+     * @param y Y-coordinate of the tile
+     * @param highlight the highlight to show
+     */
+    void setHighlight(int x, int y, Highlight highlight) {
+        if (highlights[x][y] != highlight) {
+            highlights[x][y] = highlight;
+            repaintTile(x, y);
+        }
+    }
+
+    /**
+     * Sets the tile outlined as the selected worker.
+     *
+     * @param tile the tile, or null to clear the selection
+     */
+    void setSelectedTile(Point tile) {
+        if (selectedTile != null) {
+            repaintTile(selectedTile.x, selectedTile.y);
+        }
+        selectedTile = tile;
+        if (selectedTile != null) {
+            repaintTile(selectedTile.x, selectedTile.y);
+        }
+    }
+
+    /**
+     * Sets the hint heat shown on a tile, repainting it if it changed.
+     *
+     * @param x X-coordinate of the tile
+     * @param y Y-coordinate of the tile
+     * @param heat heat from 0 for the worst choice to 1 for the best, or NaN to show no hint
+     */
+    void setHint(int x, int y, float heat) {
+        if (Float.compare(hints[x][y], heat) != 0) {
+            hints[x][y] = heat;
+            repaintTile(x, y);
+        }
+    }
+
+    /**
+     * Sets the tile marked as the best hint.
+     *
+     * @param tile the tile, or null to clear the mark
+     */
+    void setBestHintTile(Point tile) {
+        if (bestHintTile != null) {
+            repaintTile(bestHintTile.x, bestHintTile.y);
+        }
+        bestHintTile = tile;
+        if (bestHintTile != null) {
+            repaintTile(bestHintTile.x, bestHintTile.y);
+        }
+    }
+
+    /**
+     * Gets the tile at a point on the canvas.
+     *
+     * @param point point in canvas coordinates
+     * @return the tile coordinates, or null if the point is off the board
+     */
+    Point tileAt(Point point) {
+        int tileSize = getTileSize();
+        if (tileSize <= 0) {
+            return null;
+        }
+        int x = Math.floorDiv(point.x - getOriginX(), tileSize);
+        int y = Math.floorDiv(point.y - getOriginY(), tileSize);
+        if (x < 0 || y < 0 || x >= columns || y >= rows) {
+            return null;
+        }
+        return new Point(x, y);
+    }
+
+    /**
+     * Gets the area of the canvas covered by a tile.
+     *
+     * @param x X-coordinate of the tile
+     * @param y Y-coordinate of the tile
+     * @return the tile bounds in canvas coordinates
+     */
+    Rectangle getTileBounds(int x, int y) {
+        int tileSize = getTileSize();
+        return new Rectangle(getOriginX() + x * tileSize, getOriginY() + y * tileSize, tileSize, tileSize);
+    }
+
+    /**
+     * Requests a repaint of a single tile.
+     *
+     * @param x X-coordinate of the tile
+     * @param y Y-coordinate of the tile
+     */
+    void repaintTile(int x, int y) {
+        repaint(getTileBounds(x, y));
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        long paintStart = System.nanoTime();
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        int tileSize = getTileSize();
+        sprites.setTileSize(tileSize);
+
+        Rectangle clip = g2d.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+
+        g2d.setColor(getParent() != null ? getParent().getBackground() : DEFAULT_BG_COLOUR);
+        g2d.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        long now = System.currentTimeMillis();
+
+        // Only tiles inside the clip are painted, so small repaints stay cheap
+        int tileCount = 0;
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < columns; x++) {
+                Rectangle bounds = getTileBounds(x, y);
+                if (bounds.intersects(clip)) {
+                    paintTile(g2d, x, y, bounds, now);
+                    tileCount++;
+                }
+            }
+        }
+
+        // Sliding workers are drawn last, above the tiles they cross
+        for (Map.Entry<Worker, WorkerSlide> entry : workerSlides.entrySet()) {
+            WorkerSlide slide = entry.getValue();
+            float progress = getProgress(slide.startTime, now);
+            Rectangle from = getTileBounds(slide.from.x, slide.from.y);
+            Rectangle to = getTileBounds(slide.to.x, slide.to.y);
+            int drawX = Math.round(from.x + (to.x - from.x) * progress);
+            int drawY = Math.round(from.y + (to.y - from.y) * progress);
+            g2d.drawImage(sprites.getWorker(entry.getKey()), drawX, drawY, null);
+        }
+
+        g2d.dispose();
+        stats.recordPaint(tileCount, System.nanoTime() - paintStart);
+    }
+
+    /**
+     * Paints one tile: background, building, worker and border.
+     */
+    private void paintTile(Graphics2D g2d, int x, int y, Rectangle bounds, long now) {
+        Highlight highlight = highlights[x][y];
+
+        g2d.setColor(switch (highlight) {
+            case MOVE -> MOVE_HIGHLIGHT_COLOUR;
+            case BUILD -> BUILD_HIGHLIGHT_COLOUR;
+            default -> DEFAULT_BG_COLOUR;
+        });
+        g2d.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
+
+        // Building, blending from the previous building while it fades in
+        BuildingFade fade = buildingFades[x][y];
+        BufferedImage building = sprites.getBuilding(buildingStates[x][y]);
+        if (fade != null) {
+            float progress = getProgress(fade.startTime, now);
+            drawFaded(g2d, sprites.getBuilding(fade.fromState), bounds, 1f - progress);
+            drawFaded(g2d, building, bounds, progress);
+        } else if (building != null) {
+            g2d.drawImage(building, bounds.x, bounds.y, null);
+        }
+
+        // Hint heat over the building, from red for the worst choice to green for the best
+        float heat = hints[x][y];
+        if (!Float.isNaN(heat)) {
+            g2d.setColor(getHintColour(heat));
+            g2d.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
+            if (bestHintTile != null && bestHintTile.x == x && bestHintTile.y == y) {
+                int size = Math.max(6, bounds.width / 6);
+                g2d.setColor(BEST_HINT_COLOUR);
+                g2d.fillOval(bounds.x + bounds.width - size - 4, bounds.y + 4, size, size);
+                g2d.setColor(GRID_COLOUR);
+                g2d.setStroke(GRID_STROKE);
+                g2d.drawOval(bounds.x + bounds.width - size - 4, bounds.y + 4, size, size);
+            }
+        }
+
+        // Worker, unless it is sliding and drawn separately
+        Worker occupant = occupants[x][y];
+        if (occupant != null && !workerSlides.containsKey(occupant)) {
+            g2d.drawImage(sprites.getWorker(occupant), bounds.x, bounds.y, null);
+        }
+
+        // Border, the selected worker taking priority over highlights
+        if (selectedTile != null && selectedTile.x == x && selectedTile.y == y) {
+            drawBorder(g2d, bounds, SELECTED_WORKER_COLOUR, SELECTED_STROKE);
+        } else {
+            switch (highlight) {
+                case MOVE -> drawBorder(g2d, bounds, MOVE_HIGHLIGHT_COLOUR, HIGHLIGHT_STROKE);
+                case BUILD -> drawBorder(g2d, bounds, BUILD_HIGHLIGHT_COLOUR, HIGHLIGHT_STROKE);
+                case WORKER -> drawBorder(g2d, bounds, WORKER_HIGHLIGHT_COLOUR, HIGHLIGHT_STROKE);
+                case NONE -> drawBorder(g2d, bounds, GRID_COLOUR, GRID_STROKE);
+            }
+        }
+    }
+
+    /**
+     * Draws a border inside a tile's bounds.
+     */
+    private void drawBorder(Graphics2D g2d, Rectangle bounds, Color colour, BasicStroke stroke) {
+        int inset = (int) stroke.getLineWidth() / 2;
+        g2d.setColor(colour);
+        g2d.setStroke(stroke);
+        g2d.drawRect(bounds.x + inset, bounds.y + inset,
+                bounds.width - 1 - inset * 2, bounds.height - 1 - inset * 2);
+    }
+
+    /**
+     * Gets the translucent colour for a hint's heat.
+     */
+    private static Color getHintColour(float heat) {
+        float clamped = Math.max(0f, Math.min(1f, heat));
+        return new Color(Math.round(255 * (1f - clamped)), Math.round(200 * clamped), 0, HINT_ALPHA);
+    }
+
+    /**
+     * Draws a sprite with the given opacity.
+     */
+    private void drawFaded(Graphics2D g2d, BufferedImage sprite, Rectangle bounds, float alpha) {
+        if (sprite == null) {
+            return;
+        }
+        Composite previous = g2d.getComposite();
+        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, Math.max(0f, Math.min(1f, alpha))));
+        g2d.drawImage(sprite, bounds.x, bounds.y, null);
+        g2d.setComposite(previous);
+    }
+
+    /**
+     * Updates the building shown on a tile if it changed, optionally fading it in.
+     */
+    private void updateBuilding(int x, int y, int state, boolean animate, long now) {
+        if (state != buildingStates[x][y]) {
+            if (animate) {
+                buildingFades[x][y] = new BuildingFade(buildingStates[x][y], now);
+            }
+            buildingStates[x][y] = state;
+            repaintTile(x, y);
+        }
+    }
+
+    /**
+     * Starts sliding a worker between two tiles.
+     */
+    private void startSlide(Worker worker, Point from, Point to, long now) {
+        workerSlides.put(worker, new WorkerSlide(from, to, now));
+        repaintTile(from.x, from.y);
+        repaintTile(to.x, to.y);
+    }
+
+    /**
+     * Starts the animation timer if anything is animating.
+     */
+    private void startAnimationTimer() {
+        if (!workerSlides.isEmpty() || hasBuildingFades()) {
+            animationTimer.start();
+        }
+    }
+
+    /**
+     * Advances running animations by one frame, stopping the timer once none are left.
+     */
+    private void stepAnimations() {
+        long now = System.currentTimeMillis();
+
+        Iterator<Map.Entry<Worker, WorkerSlide>> slides = workerSlides.entrySet().iterator();
+        while (slides.hasNext()) {
+            WorkerSlide slide = slides.next().getValue();
+            repaint(getTileBounds(slide.from.x, slide.from.y).union(getTileBounds(slide.to.x, slide.to.y)));
+            if (getProgress(slide.startTime, now) >= 1f) {
+                slides.remove();
+            }
+        }
+
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < columns; x++) {
+                BuildingFade fade = buildingFades[x][y];
+                if (fade != null) {
+                    repaintTile(x, y);
+                    if (getProgress(fade.startTime, now) >= 1f) {
+                        buildingFades[x][y] = null;
+                    }
+                }
+            }
+        }
+
+        if (workerSlides.isEmpty() && !hasBuildingFades()) {
+            animationTimer.stop();
+        }
+    }
+
+    /**
+     * Checks if any building is still fading in.
+     */
+    private boolean hasBuildingFades() {
+        for (BuildingFade[] column : buildingFades) {
+            for (BuildingFade fade : column) {
+                if (fade != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets how far through an animation is, from 0 to 1.
+     */
+    private float getProgress(long startTime, long now) {
+        return Math.min(1f, (now - startTime) / (float) ANIMATION_DURATION_MS);
+    }
+
+    /**
+     * Gets the size of a tile, fitting the whole board in the canvas.
+     */
+    private int getTileSize() {
+        return Math.min(getWidth() / columns, getHeight() / rows);
+    }
+
+    /**
+     * Gets the left edge of the board, centring it horizontally.
+     */
+    private int getOriginX() {
+        return (getWidth() - getTileSize() * columns) / 2;
+    }
+
+    /**
+     * Gets the top edge of the board, centring it vertically.
+     */
+    private int getOriginY() {
+        return (getHeight() - getTileSize() * rows) / 2;
+    }
+}
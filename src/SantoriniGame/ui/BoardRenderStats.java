@@ -0,0 +1,119 @@
+package SantoriniGame.ui;
+
+/**
+ * BoardRenderStats class - Counts how much painting the board does for each applied action.
+ * Time spent handling an action and painting until the next action is attributed to that action.
+ * Only updated and read on the Event Dispatch Thread.
+ */
+public class BoardRenderStats {
+    private int actionCount;
+    private long paintCount;
+    private long tilesPainted;
+    private long edtNanos;
+
+    private int lastActionTilesPainted;
+    private long lastActionEdtNanos;
+
+    /**
+     * Starts attributing painting to a newly applied action.
+     */
+    void beginAction() {
+        actionCount++;
+        lastActionTilesPainted = 0;
+        lastActionEdtNanos = 0;
+    }
+
+    /**
+     * Records time spent on the Event Dispatch Thread handling an action.
+     *
+     * @param nanos time taken in nanoseconds
+     */
+    void recordHandling(long nanos) {
+        edtNanos += nanos;
+        lastActionEdtNanos += nanos;
+    }
+
+    /**
+     * Records one paint of the board.
+     *
+     * @param tileCount number of tiles painted
+     * @param nanos time taken in nanoseconds
+     */
+    void recordPaint(int tileCount, long nanos) {
+        paintCount++;
+        tilesPainted += tileCount;
+        edtNanos += nanos;
+        lastActionTilesPainted += tileCount;
+        lastActionEdtNanos += nanos;
+    }
+
+    /**
+     * Gets the number of actions the board has handled.
+     *
+     * @return action count
+     */
+    public int getActionCount() {
+        return actionCount;
+    }
+
+    /**
+     * Gets the number of times the board was painted.
+     *
+     * @return paint count
+     */
+    public long getPaintCount() {
+        return paintCount;
+    }
+
+    /**
+     * Gets the total number of tiles painted.
+     *
+     * @return tiles painted
+     */
+    public long getTilesPainted() {
+        return tilesPainted;
+    }
+
+    /**
+     * Gets the total time the board spent on the Event Dispatch Thread.
+     *
+     * @return time in nanoseconds
+     */
+    public long getEdtNanos() {
+        return edtNanos;
+    }
+
+    /**
+     * Gets the number of tiles painted since the last action.
+     *
+     * @return tiles painted
+     */
+    public int getLastActionTilesPainted() {
+        return lastActionTilesPainted;
+    }
+
+    /**
+     * Gets the time spent on the Event Dispatch Thread since the last action.
+     *
+     * @return time in nanoseconds
+     */
+    public long getLastActionEdtNanos() {
+        return lastActionEdtNanos;
+    }
+
+    /**
+     * Gets the average time spent on the Event Dispatch Thread per action.
+     *
+     * @return time in nanoseconds, or 0 if no actions were handled
+     */
+    public long getAverageEdtNanosPerAction() {
+        return actionCount == 0 ? 0 : edtNanos / actionCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("actions=%d paints=%d tiles=%d lastActionTiles=%d lastActionEdt=%.3fms avgEdt=%.3fms",
+                actionCount, paintCount, tilesPainted, lastActionTilesPainted,
+                lastActionEdtNanos / 1e6, getAverageEdtNanosPerAction() / 1e6);
+    }
+}
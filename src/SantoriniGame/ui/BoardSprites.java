@@ -0,0 +1,174 @@
+package SantoriniGame.ui;
+
+import SantoriniGame.model.board.BoardTile;
+import SantoriniGame.model.player.Worker;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * BoardSprites class - Pre-renders buildings and workers at the current tile size.
+ * Sprites are drawn once per tile size and reused on every frame, so painting the board is just image blits.
+ */
+class BoardSprites {
+    // Building colours, from the ground level up
+    private static final Color[] LEVEL_COLOURS = new Color[] {
+            new Color(245, 245, 240),
+            new Color(225, 225, 215),
+            new Color(205, 205, 195),
+    };
+    private static final Color LEVEL_OUTLINE_COLOUR = new Color(90, 90, 90);
+    private static final Color DOME_COLOUR = new Color(30, 70, 170);
+
+    // Team colours for worker display
+    private static final Color[] TEAM_COLOURS = new Color[] {
+            new Color(255, 0, 0),     // Red
+            new Color(0, 0, 255),     // Blue
+            new Color(0, 255, 0),     // Lime
+            new Color(192, 192, 192), // Silver
+            new Color(255, 140, 0),   // Orange
+            new Color(128, 0, 128),   // Purple
+            new Color(0, 160, 160),   // Teal
+            new Color(139, 69, 19),   // Brown
+    };
+    private static final Color WORKER_TEXT_COLOUR = Color.WHITE;
+
+    // Building state flag for a dome, combined with the level
+    private static final int DOME_FLAG = 1 << 8;
+
+    private final Map<Integer, BufferedImage> buildingSprites = new HashMap<>();
+    private final Map<Integer, BufferedImage> workerSprites = new HashMap<>();
+    private int tileSize;
+
+    /**
+     * Encodes a tile's building as a single int, so it can be compared and used as a sprite key.
+     *
+     * @param tile the tile to encode
+     * @return level, with the dome flag set if the tile has a dome
+     */
+    static int buildingState(BoardTile tile) {
+        return tile.getLevel() | (tile.hasDome() ? DOME_FLAG : 0);
+    }
+
+    /**
+     * Sets the tile size sprites are drawn at, dropping sprites drawn at the old size.
+     *
+     * @param tileSize tile size in pixels
+     */
+    void setTileSize(int tileSize) {
+        if (tileSize == this.tileSize) {
+            return;
+        }
+        this.tileSize = tileSize;
+        buildingSprites.clear();
+        workerSprites.clear();
+    }
+
+    /**
+     * Gets the sprite for a building.
+     *
+     * @param buildingState building encoded by buildingState
+     * @return the sprite, or null for an empty tile
+     */
+    BufferedImage getBuilding(int buildingState) {
+        if (buildingState == 0 || tileSize <= 0) {
+            return null;
+        }
+        return buildingSprites.computeIfAbsent(buildingState, this::drawBuilding);
+    }
+
+    /**
+     * Gets the sprite for a worker.
+     *
+     * @param worker the worker to draw
+     * @return the sprite
+     */
+    BufferedImage getWorker(Worker worker) {
+        if (tileSize <= 0) {
+            return null;
+        }
+        int teamId = worker.getTeam().getTeamId();
+        int key = teamId * 2 + worker.getGender().ordinal();
+        return workerSprites.computeIfAbsent(key, k -> drawWorker(teamId, worker.getGender().getDisplayString()));
+    }
+
+    /**
+     * Draws a building as nested blocks, one per level, with an optional dome on top.
+     */
+    private BufferedImage drawBuilding(int buildingState) {
+        int level = buildingState & ~DOME_FLAG;
+        boolean dome = (buildingState & DOME_FLAG) != 0;
+
+        BufferedImage sprite = createSprite();
+        Graphics2D g2d = createGraphics(sprite);
+
+        int step = Math.max(1, tileSize / 9);
+        for (int i = 0; i < Math.min(level, LEVEL_COLOURS.length); i++) {
+            int inset = step * (i + 1);
+            int size = tileSize - inset * 2;
+            g2d.setColor(LEVEL_COLOURS[i]);
+            g2d.fillRect(inset, inset, size, size);
+            g2d.setColor(LEVEL_OUTLINE_COLOUR);
+            g2d.drawRect(inset, inset, size, size);
+        }
+
+        if (dome) {
+            int inset = step * 3;
+            int size = tileSize - inset * 2;
+            g2d.setColor(DOME_COLOUR);
+            g2d.fillOval(inset, inset, size, size);
+        }
+
+        // Level number in the corner, as the old tile buttons showed it
+        g2d.setColor(Color.BLACK);
+        g2d.setFont(new Font("SansSerif", Font.BOLD, Math.max(8, tileSize / 6)));
+        g2d.drawString(dome ? "D" : String.valueOf(level), 3, g2d.getFontMetrics().getAscent());
+
+        g2d.dispose();
+        return sprite;
+    }
+
+    /**
+     * Draws a worker as a team coloured disc with its gender letter.
+     */
+    private BufferedImage drawWorker(int teamId, String label) {
+        BufferedImage sprite = createSprite();
+        Graphics2D g2d = createGraphics(sprite);
+
+        int size = tileSize * 2 / 5;
+        int offset = (tileSize - size) / 2;
+        g2d.setColor(TEAM_COLOURS[teamId % TEAM_COLOURS.length]);
+        g2d.fillOval(offset, offset, size, size);
+        g2d.setColor(Color.BLACK);
+        g2d.drawOval(offset, offset, size, size);
+
+        g2d.setColor(WORKER_TEXT_COLOUR);
+        g2d.setFont(new Font("SansSerif", Font.BOLD, Math.max(8, size / 2)));
+        FontMetrics metrics = g2d.getFontMetrics();
+        int textX = (tileSize - metrics.stringWidth(label)) / 2;
+        int textY = (tileSize - metrics.getHeight()) / 2 + metrics.getAscent();
+        g2d.drawString(label, textX, textY);
+
+        g2d.dispose();
+        return sprite;
+    }
+
+    /**
+     * Creates a transparent image one tile in size.
+     */
+    private BufferedImage createSprite() {
+        return new BufferedImage(tileSize, tileSize, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Creates antialiased graphics for drawing a sprite.
+     */
+    private Graphics2D createGraphics(BufferedImage sprite) {
+        Graphics2D g2d = sprite.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        return g2d;
+    }
+}
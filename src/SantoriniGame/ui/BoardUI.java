@@ -1,13 +1,17 @@
 package SantoriniGame.ui;
 
+import SantoriniGame.ai.HintMap;
+import SantoriniGame.model.action.Action;
+import SantoriniGame.model.action.BuildAction;
+import SantoriniGame.model.action.MoveAction;
 import SantoriniGame.model.board.Board;
 import SantoriniGame.model.board.BoardTile;
+import SantoriniGame.model.game.TurnStateListener;
+import SantoriniGame.model.player.Team;
 import SantoriniGame.model.player.Worker;
-import SantoriniGame.model.board.TileUI;
 
 import javax.swing.*;
 import java.awt.*;
-import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.ArrayList;
 import java.util.List;
@@ -15,28 +19,23 @@ import java.util.List;
 /**
  * BoardUI class - Responsible for rendering the game board and handling visual interactions.
  * Following the Single Responsibility Principle, this class handles only UI-related aspects of the board.
+ * The board is painted by a single BoardCanvas rather than one button per tile.
+ * Listens to applied actions so only the tiles an action changed are repainted.
+ * Changes are captured on the thread that applied them and shown on the Event Dispatch Thread,
+ * so the game engine may run on its own thread.
+ * Can show a heat map of search hints over the highlighted tiles.
  */
-public class BoardUI {
+public class BoardUI implements TurnStateListener {
     // UI Constants
     private static final Color DEFAULT_BG_COLOR = new Color(200, 200, 220);
-    private static final Color MOVE_HIGHLIGHT_COLOR = Color.GREEN;
-    private static final Color BUILD_HIGHLIGHT_COLOR = Color.YELLOW;
-    private static final Color SELECTED_WORKER_COLOR = Color.RED;
-    private static final Color WORKER_HIGHLIGHT_COLOR = Color.BLUE;
-
-    // Team colors for worker display
-    private static final String[] TEAM_COLORS = new String[] {
-            "#FF0000", // Red
-            "#0000FF", // Blue
-            "#00FF00", // Lime (unused)
-            "#C0C0C0", // Silver (unused)
-    };
 
     // UI Components
     private final JPanel boardPanel;
-    private final TileUI[][] tileBtns;
-    private final int boardSize;
+    private final BoardCanvas canvas;
+    private final int columns;
+    private final int rows;
     private final Board board;
+    private final BoardRenderStats renderStats = new BoardRenderStats();
 
     // Tracking highlighted tiles
     private final List<Point> highlightedTiles = new ArrayList<>();
@@ -44,44 +43,22 @@ public class BoardUI {
     /**
      * Creates a new BoardUI instance.
      *
-     * @param boardSize Size of the board
-     * @param board Reference to the game board model
+     * @param board Reference to the game board model, of any shape
      * @param tileClickListener Listener for tile click events
      */
-    public BoardUI(int boardSize, Board board, ActionListener tileClickListener) {
-        this.boardSize = boardSize;
+    public BoardUI(Board board, ActionListener tileClickListener) {
+        this.columns = board.getWidth();
+        this.rows = board.getHeight();
         this.board = board;
 
+        // Canvas reports clicks with the tile coordinates as action command
+        canvas = new BoardCanvas(columns, rows, tileClickListener, renderStats);
+        canvas.applyChanges(captureAllTiles(), false);
+
         // Initialize board panel
-        boardPanel = new JPanel(new GridLayout(boardSize, boardSize));
+        boardPanel = new JPanel(new BorderLayout());
         boardPanel.setBackground(DEFAULT_BG_COLOR);
-
-        // Initialize tile buttons
-        tileBtns = new TileUI[boardSize][boardSize];
-
-        // Create tile views
-        for (int y = 0; y < boardSize; y++) {
-            for (int x = 0; x < boardSize; x++) {
-                final int finalX = x;
-                final int finalY = y;
-
-                // Create tile view with click handler that passes coordinates to the listener
-                TileUI tileBtn = new TileUI(e -> {
-                    if (tileClickListener != null) {
-                        // Create a new ActionEvent with coordinates as action command
-                        ActionEvent newEvent = new ActionEvent(
-                                e.getSource(),
-                                ActionEvent.ACTION_PERFORMED,
-                                finalX + "," + finalY
-                        );
-                        tileClickListener.actionPerformed(newEvent);
-                    }
-                });
-
-                tileBtns[x][y] = tileBtn;
-                boardPanel.add(tileBtn);
-            }
-        }
+        boardPanel.add(canvas, BorderLayout.CENTER);
     }
 
     /**
@@ -94,40 +71,69 @@ public class BoardUI {
     }
 
     /**
-     * Updates the entire board UI to reflect the current game state.
+     * Gets the painting statistics of this board.
+     *
+     * @return repaint counts and Event Dispatch Thread time per action
      */
-    public void updateBoardUI() {
-        for (int y = 0; y < boardSize; y++) {
-            for (int x = 0; x < boardSize; x++) {
-                BoardTile tile = board.getTile(x, y);
-                TileUI btn = tileBtns[x][y];
+    public BoardRenderStats getRenderStats() {
+        return renderStats;
+    }
 
-                // Reset tile to default state first
-                if (!isHighlighted(x, y)) {
-                    btn.resetBgColour();
-                    btn.resetBorder();
-                }
+    /**
+     * Updates the board UI to reflect the current game state by checking every tile.
+     * Only needed if the board changed without going through TurnState, as applied actions are shown as they happen.
+     * Must be called on the thread that owns the model.
+     */
+    public void updateBoardUI() {
+        List<BoardCanvas.TileChange> changes = captureAllTiles();
+        runOnEdt(() -> canvas.applyChanges(changes, true));
+    }
 
-                // Show worker if present
-                if (tile.getOccupant() != null) {
-                    Worker worker = tile.getOccupant();
+    /**
+     * Repaints the tiles changed by an applied action.
+     *
+     * @param action the action that was applied
+     */
+    @Override
+    public void onActionApplied(Action action) {
+        List<BoardCanvas.TileChange> changes;
+        if (action instanceof MoveAction moveAction) {
+            changes = List.of(
+                    BoardCanvas.TileChange.of(moveAction.getStart()),
+                    BoardCanvas.TileChange.of(moveAction.getDestination())
+            );
+        } else if (action instanceof BuildAction buildAction) {
+            changes = List.of(BoardCanvas.TileChange.of(buildAction.getBuildLocation()));
+        } else {
+            changes = List.of();
+        }
 
-                    // Determine worker color based on team
-                    String teamColor = TEAM_COLORS[worker.getTeam().getTeamId()];
-                    String textColor = "#FFFFFF";
+        runOnEdt(() -> {
+            long start = System.nanoTime();
+            renderStats.beginAction();
+            canvas.applyChanges(changes, true);
+            renderStats.recordHandling(System.nanoTime() - start);
+        });
+    }
 
-                    // Display worker
-                    btn.showWorker(worker, teamColor, textColor);
-                } else {
-                    // Show building level
-                    btn.showBuilding(tile);
-                }
-            }
+    /**
+     * Repaints the tiles of a removed team's workers.
+     *
+     * @param team the team that was removed
+     */
+    @Override
+    public void onTeamRemoved(Team team) {
+        // Workers are still on the board at this point, so their tiles are captured as vacated
+        List<BoardCanvas.TileChange> changes = new ArrayList<>();
+        for (Worker worker : team.getWorkers()) {
+            changes.add(BoardCanvas.TileChange.vacated(board.getTile(worker.getX(), worker.getY())));
         }
 
-        // Force repaint
-        boardPanel.revalidate();
-        boardPanel.repaint();
+        runOnEdt(() -> {
+            long start = System.nanoTime();
+            canvas.applyChanges(changes, true);
+            renderStats.recordHandling(System.nanoTime() - start);
+        });
     }
 
     /**
@@ -139,24 +145,15 @@ public class BoardUI {
         // Clear any existing highlights first
         clearHighlights();
 
-        for (int y = 0; y < boardSize; y++) {
-            for (int x = 0; x < boardSize; x++) {
-                BoardTile tile = board.getTile(x, y);
-                if (tile.getOccupant() != null && tile.getOccupant().getTeam().getTeamId() == currentTeamId) {
-                    // Apply worker highlight
-                    tileBtns[x][y].highlightPlayerWorkers();
-
-                    // Add a thicker border to make it more visible (similar to move/build highlights)
-                    tileBtns[x][y].setBorder(BorderFactory.createLineBorder(WORKER_HIGHLIGHT_COLOR, 4));
-
-                    // Track the highlighted tile
-                    highlightedTiles.add(new Point(x, y));
+        // Read the workers as shown, not the live board, which the engine may be changing
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < columns; x++) {
+                Worker occupant = canvas.getOccupant(x, y);
+                if (occupant != null && occupant.getTeam().getTeamId() == currentTeamId) {
+                    highlightTile(x, y, BoardCanvas.Highlight.WORKER);
                 }
             }
         }
-
-        // Force UI update
-        refreshHighlights();
     }
 
     /**
@@ -168,27 +165,9 @@ public class BoardUI {
         // Clear any existing highlights first
         clearHighlights();
 
-        if (validMoves.isEmpty()) {
-            return;
-        }
-
-        // Highlight valid move tiles
         for (BoardTile tile : validMoves) {
-            int x = tile.getX();
-            int y = tile.getY();
-
-            // Apply green background for move highlights
-            tileBtns[x][y].highlightMove();
-
-            // Add a thicker border to make it more visible
-            tileBtns[x][y].setBorder(BorderFactory.createLineBorder(MOVE_HIGHLIGHT_COLOR, 4));
-
-            // Track the highlighted tile
-            highlightedTiles.add(new Point(x, y));
+            highlightTile(tile.getX(), tile.getY(), BoardCanvas.Highlight.MOVE);
         }
-
-        // Force UI update
-        refreshHighlights();
     }
 
     /**
@@ -200,27 +179,9 @@ public class BoardUI {
         // Clear any existing highlights first
         clearHighlights();
 
-        if (validBuilds.isEmpty()) {
-            return;
-        }
-
-        // Highlight valid build tiles
         for (BoardTile tile : validBuilds) {
-            int x = tile.getX();
-            int y = tile.getY();
-
-            // Apply yellow background for build highlights
-            tileBtns[x][y].highlightBuild();
-
-            // Add a thicker border to make it more visible
-            tileBtns[x][y].setBorder(BorderFactory.createLineBorder(BUILD_HIGHLIGHT_COLOR, 4));
-
-            // Track the highlighted tile
-            highlightedTiles.add(new Point(x, y));
+            highlightTile(tile.getX(), tile.getY(), BoardCanvas.Highlight.BUILD);
         }
-
-        // Force UI update
-        refreshHighlights();
     }
 
     /**
@@ -231,22 +192,56 @@ public class BoardUI {
     public void highlightSelectedWorker(Worker worker) {
         if (worker == null) return;
 
-        // Highlight the worker's tile
-        tileBtns[worker.getX()][worker.getY()].highlightSelected();
+        // Outline the worker's tile
+        highlightSelectedTile(worker.getX(), worker.getY());
+    }
+
+    /**
+     * Highlights the tile of the currently selected worker.
+     *
+     * @param x X-coordinate of the selected worker
+     * @param y Y-coordinate of the selected worker
+     */
+    public void highlightSelectedTile(int x, int y) {
+        canvas.setSelectedTile(new Point(x, y));
     }
 
     /**
-     * Clears all highlighted tiles.
+     * Clears all highlighted tiles and the selected worker outline.
      */
     public void clearHighlights() {
         for (Point p : highlightedTiles) {
-            // Reset both background and border
-            tileBtns[p.x][p.y].resetBgColour();
-            tileBtns[p.x][p.y].resetBorder();
-            tileBtns[p.x][p.y].repaint();
+            canvas.setHighlight(p.x, p.y, BoardCanvas.Highlight.NONE);
         }
         highlightedTiles.clear();
-        boardPanel.repaint();
+        canvas.setSelectedTile(null);
+    }
+
+    /**
+     * Shows a hint heat map over the candidate tiles, replacing any hints already shown.
+     * Only tiles whose heat changed are repainted, so refining hints is cheap.
+     *
+     * @param hints the heat map to show
+     */
+    public void showHints(HintMap hints) {
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < columns; x++) {
+                canvas.setHint(x, y, hints.getHeat(x, y));
+            }
+        }
+        canvas.setBestHintTile(new Point(hints.getBestX(), hints.getBestY()));
+    }
+
+    /**
+     * Removes any hints shown.
+     */
+    public void clearHints() {
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < columns; x++) {
+                canvas.setHint(x, y, Float.NaN);
+            }
+        }
+        canvas.setBestHintTile(null);
     }
 
     /**
@@ -266,16 +261,42 @@ public class BoardUI {
     }
 
     /**
-     * Forces a refresh of the highlighted tiles.
+     * Highlights a tile and tracks it so it can be cleared later.
+     *
+     * @param x X-coordinate of the tile
+     * @param y Y-coordinate of the tile
+     * @param highlight the highlight to show
      */
-    private void refreshHighlights() {
-        SwingUtilities.invokeLater(() -> {
-            for (Point p : highlightedTiles) {
-                tileBtns[p.x][p.y].invalidate();
-                tileBtns[p.x][p.y].repaint();
+    private void highlightTile(int x, int y, BoardCanvas.Highlight highlight) {
+        canvas.setHighlight(x, y, highlight);
+        highlightedTiles.add(new Point(x, y));
+    }
+
+    /**
+     * Captures every tile of the board.
+     *
+     * @return the contents of every tile
+     */
+    private List<BoardCanvas.TileChange> captureAllTiles() {
+        List<BoardCanvas.TileChange> changes = new ArrayList<>();
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < columns; x++) {
+                changes.add(BoardCanvas.TileChange.of(board.getTile(x, y)));
             }
-            boardPanel.revalidate();
-            boardPanel.repaint();
-        });
+        }
+        return changes;
+    }
+
+    /**
+     * Runs a task on the Event Dispatch Thread, immediately if already on it.
+     *
+     * @param task the task to run
+     */
+    private void runOnEdt(Runnable task) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            task.run();
+        } else {
+            SwingUtilities.invokeLater(task);
+        }
     }
 }
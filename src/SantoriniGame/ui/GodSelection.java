@@ -1,5 +1,5 @@
 package SantoriniGame.ui;
-import SantoriniGame.god.God;
+import SantoriniGame.god.GodInfo;
 import SantoriniGame.model.player.Player;
 import SantoriniGame.controller.GodSelectionPresenter;
 
@@ -22,7 +22,7 @@ public class GodSelection extends JFrame implements GodSelectionView {
     private static final Color ACTIVE_PLAYER_COLOR = new Color(220, 240, 220); // Light green
     private static final Color SELECTED_GOD_COLOR = new Color(220, 240, 220);
     private static final int BORDER_THICKNESS = 4; // Thicker borders like PlayerBoardSelection
-    private static final Dimension GOD_IMAGE_SIZE = new Dimension(300, 300);
+    public static final Dimension GOD_IMAGE_SIZE = new Dimension(300, 300);
 
     // UI Components
     private final List<JLabel> playerLabels;
@@ -31,7 +31,7 @@ public class GodSelection extends JFrame implements GodSelectionView {
     private JTextArea godDescriptionArea;
     private JLabel godImageLabel;
     private JPanel godListPanel;
-    private final Map<God, JButton> godButtons;
+    private final Map<GodInfo, JButton> godButtons;
     private JButton confirmButton;
     private final JPanel mainPanel;
     private JButton backButton;
@@ -99,10 +99,11 @@ public class GodSelection extends JFrame implements GodSelectionView {
     /**
      * Updates the player turn indicators in the UI.
      * @param currentPlayerIndex index of the current player
-     * @param players list of players with their selected gods
+     * @param players list of players
+     * @param selections god selected by each player, null where none is selected yet
      */
     @Override
-    public void displayPlayerTurn(int currentPlayerIndex, List<Player> players) {
+    public void displayPlayerTurn(int currentPlayerIndex, List<Player> players, List<GodInfo> selections) {
         // Update all player labels to reflect current state
         for (int i = 0; i < playerLabels.size() && i < players.size(); i++) {
             JLabel label = playerLabels.get(i);
@@ -121,8 +122,8 @@ public class GodSelection extends JFrame implements GodSelectionView {
             }
 
             // Show selected god name if applicable
-            if (player.hasSelectedGod()) {
-                labelText += ": " + player.getSelectedGod().getName();
+            if (selections.get(i) != null) {
+                labelText += ": " + selections.get(i).name();
             }
             label.setText(labelText);
         }
@@ -136,7 +137,7 @@ public class GodSelection extends JFrame implements GodSelectionView {
      * @param god god to display details for
      */
     @Override
-    public void displayGodDetails(God god) {
+    public void displayGodDetails(GodInfo god) {
         if (god == null) {
             godNameLabel.setText("Select a God");
             godDescriptionArea.setText("Choose your god from the list.");
@@ -145,20 +146,14 @@ public class GodSelection extends JFrame implements GodSelectionView {
             return;
         }
 
-        godNameLabel.setText(god.getName());
-        godDescriptionArea.setText(god.getDescription());
+        godNameLabel.setText(god.name());
+        godDescriptionArea.setText(god.description());
         godDescriptionArea.setCaretPosition(0); // Scroll to top
 
-        // Resize icon to fit the display area
-        ImageIcon originalIcon = god.getImageIcon();
-        if (originalIcon != null) {
-            Image img = originalIcon.getImage();
-            Image resizedImg = img.getScaledInstance(
-                    GOD_IMAGE_SIZE.width,
-                    GOD_IMAGE_SIZE.height,
-                    Image.SCALE_SMOOTH
-            );
-            godImageLabel.setIcon(new ImageIcon(resizedImg));
+        // Icon already scaled to fit the display area
+        ImageIcon resizedIcon = god.getImageIcon(GOD_IMAGE_SIZE.width, GOD_IMAGE_SIZE.height);
+        if (resizedIcon != null) {
+            godImageLabel.setIcon(resizedIcon);
             godImageLabel.setText(null);
         } else {
             godImageLabel.setIcon(null);
@@ -169,11 +164,11 @@ public class GodSelection extends JFrame implements GodSelectionView {
     /**
      * Updates the list of available gods with selection status.
      * @param availableGods list of all gods in the game
-     * @param players list of players with their selected gods
+     * @param selections god selected by each player, null where none is selected yet
      * @param currentPlayerIndex index of the current player
      */
     @Override
-    public void displayGodList(List<God> availableGods, List<Player> players, int currentPlayerIndex) {
+    public void displayGodList(List<GodInfo> availableGods, List<GodInfo> selections, int currentPlayerIndex) {
         // First clear the existing buttons from the panel
         godListPanel.removeAll();
         godButtons.clear();
@@ -182,27 +177,28 @@ public class GodSelection extends JFrame implements GodSelectionView {
         godListPanel.setLayout(new GridLayout(0, 1, 0, 15)); // Increased spacing
 
         // Add buttons for each god
-        for (God god : availableGods) {
+        for (GodInfo god : availableGods) {
             JButton godButton = createGodButton(god);
             godButtons.put(god, godButton);
             godListPanel.add(godButton);
         }
 
         // Update the visual state of each button
-        for (God god : godButtons.keySet()) {
+        for (GodInfo god : godButtons.keySet()) {
             JButton button = godButtons.get(god);
 
             // Check if this god is already selected
             int selectedByPlayer = presenter.getPlayerWhoSelected(god);
             boolean isSelected = selectedByPlayer != -1;
+            boolean isOwnSelection = god.equals(selections.get(currentPlayerIndex));
 
-            // Enable only if not already selected by anyone else
-            boolean enableButton = !isSelected || selectedByPlayer == currentPlayerIndex;
+            // Enable only if not already selected by anyone else, unless gods are shared
+            boolean enableButton = isOwnSelection || presenter.isGodAvailable(god);
             button.setEnabled(enableButton && !presenter.isSelectionComplete());
 
             // Visual styling - match PlayerBoardSelection button styling
             if (isSelected) {
-                if (selectedByPlayer == currentPlayerIndex) {
+                if (isOwnSelection) {
                     // This is the current player's selection
                     button.setBackground(SELECTED_GOD_COLOR);
                     button.setBorder(BorderFactory.createLineBorder(Color.BLACK, BORDER_THICKNESS));
@@ -379,8 +375,8 @@ public class GodSelection extends JFrame implements GodSelectionView {
      * @param god god to create button for
      * @return configured JButton
      */
-    private JButton createGodButton(God god) {
-        JButton godButton = new JButton(god.getName());
+    private JButton createGodButton(GodInfo god) {
+        JButton godButton = new JButton(god.name());
         godButton.setBorder(BorderFactory.createLineBorder(Color.BLACK, 2));
         godButton.setFocusable(true);
         godButton.setBackground(Color.WHITE);
@@ -1,8 +1,11 @@
 package SantoriniGame.ui;
 import SantoriniGame.god.God;
+import SantoriniGame.god.GodFactory;
+import SantoriniGame.god.GodInfo;
 import SantoriniGame.model.player.Player;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -10,10 +13,12 @@ import java.util.List;
  * Model for God Selection.
  * Holds the application's data and business logic related to god selection.
  * Knows nothing about the UI (Swing).
+ * Players choose from the info of each god, and gods are only constructed for the picks once selection is complete.
  */
 public class GodSelectionModel {
-    private final List<God> availableGods;
+    private final List<GodInfo> availableGods;
     private final List<Player> players;
+    private final GodInfo[] selections;
     private int currentPlayerIndex;
     private boolean selectionComplete;
 
@@ -21,11 +26,12 @@ public class GodSelectionModel {
      * Constructor for the model.
      *
      * @param numPlayers Number of players in the game
-     * @param availableGods List of all available gods
+     * @param availableGods Info of all available gods
      */
-    public GodSelectionModel(int numPlayers, List<God> availableGods) {
+    public GodSelectionModel(int numPlayers, List<GodInfo> availableGods) {
         this.availableGods = new ArrayList<>(availableGods);
         this.players = initializePlayers(numPlayers);
+        this.selections = new GodInfo[numPlayers];
         this.currentPlayerIndex = 0;
         this.selectionComplete = false;
     }
@@ -51,19 +57,37 @@ public class GodSelectionModel {
      * @param god God to select
      * @return true if selection was successful, false otherwise
      */
-    public boolean selectGod(int playerIndex, God god) {
+    public boolean selectGod(int playerIndex, GodInfo god) {
         if (playerIndex < 0 || playerIndex >= players.size() || isSelectionComplete()) {
             return false;
         }
 
         // If the god is already selected by another player, don't allow selection
+        if (!isGodAvailable(playerIndex, god)) {
+            return false;
+        }
+
+        selections[playerIndex] = god;
+        return true;
+    }
+
+    /**
+     * Checks if a player may select a god.
+     * Gods are picked once each, unless there are more players than gods, when they are shared.
+     *
+     * @param playerIndex Player trying to select the god
+     * @param god God to select
+     * @return true if no other player has the god, or gods are shared
+     */
+    public boolean isGodAvailable(int playerIndex, GodInfo god) {
+        if (players.size() > availableGods.size()) {
+            return true;
+        }
         for (int i = 0; i < players.size(); i++) {
-            if (i != playerIndex && god.equals(players.get(i).getSelectedGod())) {
+            if (i != playerIndex && god.equals(selections[i])) {
                 return false;
             }
         }
-
-        players.get(playerIndex).setSelectedGod(god);
         return true;
     }
 
@@ -74,7 +98,7 @@ public class GodSelectionModel {
      */
     public void deselectGod(int playerIndex) {
         if (playerIndex >= 0 && playerIndex < players.size()) {
-            players.get(playerIndex).setSelectedGod(null);
+            selections[playerIndex] = null;
         }
     }
 
@@ -100,9 +124,9 @@ public class GodSelectionModel {
     }
 
     /**
-     * @return List of all available gods
+     * @return Info of all available gods
      */
-    public List<God> getAllGods() {
+    public List<GodInfo> getAllGods() {
         return Collections.unmodifiableList(availableGods);
     }
 
@@ -132,13 +156,20 @@ public class GodSelectionModel {
      * @param playerIndex Player index
      * @return Selected god or null if none selected
      */
-    public God getSelectedGod(int playerIndex) {
+    public GodInfo getSelectedGod(int playerIndex) {
         if (playerIndex >= 0 && playerIndex < players.size()) {
-            return players.get(playerIndex).getSelectedGod();
+            return selections[playerIndex];
         }
         return null;
     }
 
+    /**
+     * @return The god selected by each player, null where none is selected yet
+     */
+    public List<GodInfo> getSelectedGods() {
+        return Collections.unmodifiableList(Arrays.asList(selections.clone()));
+    }
+
     /**
      * @return List of all players
      */
@@ -147,14 +178,17 @@ public class GodSelectionModel {
     }
 
     /**
-     * Creates an array of selected gods.
+     * Creates the selected gods. Only the picked gods are constructed, and as gods keep per-turn power state,
+     * players sharing a god each get their own instance.
      *
      * @return Array of selected gods, where each index corresponds to a player
      */
     public God[] getSelectedGodsArray() {
         God[] result = new God[players.size()];
         for (int i = 0; i < players.size(); i++) {
-            result[i] = players.get(i).getSelectedGod();
+            if (selections[i] != null) {
+                result[i] = GodFactory.getInstance().createGod(selections[i].name());
+            }
         }
         return result;
     }
@@ -165,11 +199,11 @@ public class GodSelectionModel {
      * @param god God to check
      * @return Player index or -1 if not selected
      */
-    public int getPlayerWhoSelected(God god) {
+    public int getPlayerWhoSelected(GodInfo god) {
         if (god == null) return -1;
 
         for (int i = 0; i < players.size(); i++) {
-            if (god.equals(players.get(i).getSelectedGod())) {
+            if (god.equals(selections[i])) {
                 return i;
             }
         }
@@ -1,5 +1,5 @@
 package SantoriniGame.ui;
-import SantoriniGame.god.God;
+import SantoriniGame.god.GodInfo;
 import SantoriniGame.model.player.Player;
 import SantoriniGame.controller.GodSelectionPresenter;
 
@@ -22,25 +22,26 @@ public interface GodSelectionView {
      * Updates the player turn indicators in the UI.
      *
      * @param currentPlayerIndex Index of the current player
-     * @param players List of players with their selected gods
+     * @param players List of players
+     * @param selections God selected by each player, null where none is selected yet
      */
-    void displayPlayerTurn(int currentPlayerIndex, List<Player> players);
+    void displayPlayerTurn(int currentPlayerIndex, List<Player> players, List<GodInfo> selections);
 
     /**
      * Shows details for the specified god.
      *
      * @param god God to display details for
      */
-    void displayGodDetails(God god);
+    void displayGodDetails(GodInfo god);
 
     /**
      * Updates the list of available gods with selection status.
      *
      * @param availableGods List of all gods in the game
-     * @param players List of players with their selected gods
+     * @param selections God selected by each player, null where none is selected yet
      * @param currentPlayerIndex Index of the current player
      */
-    void displayGodList(List<God> availableGods, List<Player> players, int currentPlayerIndex);
+    void displayGodList(List<GodInfo> availableGods, List<GodInfo> selections, int currentPlayerIndex);
 
     /**
      * Enables or disables the confirm button.
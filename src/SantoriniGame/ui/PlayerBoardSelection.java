@@ -1,8 +1,11 @@
 package SantoriniGame.ui;
 
-import SantoriniGame.god.God;
+import SantoriniGame.god.GodInfo;
 import SantoriniGame.god.GodFactory;
+import SantoriniGame.god.GodPortraitCache;
 import SantoriniGame.controller.GodSelectionPresenter;
+import SantoriniGame.model.board.BoardGeometry;
+import SantoriniGame.model.player.TeamLayout;
 
 import javax.swing.*;
 import java.awt.*;
@@ -16,13 +19,18 @@ import java.util.Map;
  */
 public class PlayerBoardSelection extends JFrame {
 
+    // Board sizes offered, width first, including the larger and rectangular variant boards
+    private static final String[] BOARD_SIZES = {"5x5", "7x7", "6x5", "8x6", "9x9", "12x12"};
+
     // Selection state
     private int selectedPlayers = 2;
+    private boolean freeForAll = false;
     private String selectedBoardSize = "5x5";
 
     // Button tracking maps
     private Map<Integer, JButton> playerButtons = new HashMap<>();
     private Map<String, JButton> boardButtons = new HashMap<>();
+    private JButton freeForAllButton;
 
     /**
      * Constructor that creates the player and board selection screen.
@@ -59,6 +67,12 @@ public class PlayerBoardSelection extends JFrame {
         JPanel bottomPanel = createBottomPanel();
         add(bottomPanel, BorderLayout.SOUTH);
 
+        // Decode god portraits in the background while the players choose
+        GodPortraitCache.getInstance().warmUp(
+                GodFactory.getInstance().getGodInfos(),
+                GodSelection.GOD_IMAGE_SIZE
+        );
+
         // Initialize button selection state
         updatePlayerButtonSelection();
         updateBoardButtonSelection();
@@ -82,11 +96,11 @@ public class PlayerBoardSelection extends JFrame {
         playerPanel.add(playerLabel);
         playerPanel.add(Box.createRigidArea(new Dimension(0, 30)));
 
-        JPanel playerButtonsPanel = new JPanel(new GridLayout(2, 2, 30, 30));
+        JPanel playerButtonsPanel = new JPanel(new GridLayout(4, 2, 30, 30));
         playerButtonsPanel.setOpaque(false);
 
-        // Create player number buttons (2-4 players)
-        for (int i = 2; i <= 4; i++) {
+        // Create player number buttons (2-8 players)
+        for (int i = TeamLayout.MIN_PLAYERS; i <= TeamLayout.MAX_PLAYERS; i++) {
             JButton btn = createStyledButton(String.valueOf(i), 100, 80);
             btn.setFont(new Font("SansSerif", Font.BOLD, 40));
             int playerCount = i;
@@ -100,8 +114,14 @@ public class PlayerBoardSelection extends JFrame {
             playerButtonsPanel.add(btn);
         }
 
-        // Add empty slot for visual balance (2x2 grid)
-        playerButtonsPanel.add(Box.createGlue());
+        // Last slot toggles free-for-all, where 3 and 4 player games have no teams (larger games never do)
+        freeForAllButton = createStyledButton("FFA", 100, 80);
+        freeForAllButton.setFont(new Font("SansSerif", Font.BOLD, 40));
+        freeForAllButton.addActionListener(e -> {
+            freeForAll = !freeForAll;
+            updatePlayerButtonSelection();
+        });
+        playerButtonsPanel.add(freeForAllButton);
 
         playerPanel.add(playerButtonsPanel);
         return playerPanel;
@@ -123,14 +143,13 @@ public class PlayerBoardSelection extends JFrame {
         boardPanel.add(boardLabel);
         boardPanel.add(Box.createRigidArea(new Dimension(0, 30)));
 
-        JPanel boardButtonsPanel = new JPanel(new GridLayout(2, 1, 30, 30));
+        JPanel boardButtonsPanel = new JPanel(new GridLayout(BOARD_SIZES.length / 2, 2, 30, 30));
         boardButtonsPanel.setOpaque(false);
 
         // Create board size buttons
-        String[] boardSizes = {"5x5", "7x7"};
-        for (String size : boardSizes) {
+        for (String size : BOARD_SIZES) {
             JButton btn = createStyledButton(size, 120, 80);
-            btn.setFont(new Font("SansSerif", Font.BOLD, 40));
+            btn.setFont(new Font("SansSerif", Font.BOLD, 32));
 
             btn.addActionListener(e -> {
                 selectedBoardSize = size;
@@ -165,8 +184,8 @@ public class PlayerBoardSelection extends JFrame {
         });
 
         confirmButton.addActionListener(e -> {
-            // Get all available gods using the GodFactory
-            List<God> allGods = GodFactory.getInstance().createAllGods();
+            // List the available gods without constructing them; only the picked ones are created
+            List<GodInfo> allGods = GodFactory.getInstance().getGodInfos();
 
             // Setup the God Selection screen - no timer parameter needed
             GodSelectionModel model = new GodSelectionModel(selectedPlayers, allGods);
@@ -174,7 +193,8 @@ public class PlayerBoardSelection extends JFrame {
             new GodSelectionPresenter(
                     model,
                     view,
-                    Integer.parseInt(selectedBoardSize.split("x")[0])
+                    BoardGeometry.parse(selectedBoardSize),
+                    freeForAll ? TeamLayout.freeForAll(selectedPlayers) : TeamLayout.standard(selectedPlayers)
                     // No timer parameter - GodSelectionPresenter will use SantoriniGame's default
             );
 
@@ -221,6 +241,8 @@ public class PlayerBoardSelection extends JFrame {
                 entry.getValue().setBackground(Color.WHITE);
             }
         }
+        freeForAllButton.setBorder(BorderFactory.createLineBorder(Color.BLACK, freeForAll ? 4 : 2));
+        freeForAllButton.setBackground(freeForAll ? new Color(220, 240, 220) : Color.WHITE);
     }
 
     /**
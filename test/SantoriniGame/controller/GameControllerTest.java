@@ -0,0 +1,34 @@
+package SantoriniGame.controller;
+
+import SantoriniGame.god.Demeter;
+import SantoriniGame.god.Triton;
+import SantoriniGame.model.game.GameModel;
+import SantoriniGame.model.game.TestGames;
+import SantoriniGame.model.victory.DefaultVictoryCondition;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * GameControllerTest class - Checks how GameController ends turns when the next player is trapped.
+ */
+public class GameControllerTest {
+
+    @Test
+    public void trappingTheLastOpponentWinsWithoutAnotherTurn() {
+        // Team 1's workers are in the corner, walled in by domes
+        GameModel model = TestGames.game(new int[] {4, 4, 3, 4, 0, 0, 1, 0}, new Demeter(), new Triton());
+        TestGames.build(model, 0, 1, 4);
+        TestGames.build(model, 1, 1, 4);
+        TestGames.build(model, 2, 1, 4);
+        TestGames.build(model, 2, 0, 4);
+        GameController controller = new GameController(model);
+
+        controller.endTurn();
+
+        assertTrue(controller.checkForWinner() instanceof DefaultVictoryCondition);
+        assertEquals("Only team 0's turn was played", 1, model.getTurnCount());
+        assertEquals(1, model.getTeams().length);
+    }
+}
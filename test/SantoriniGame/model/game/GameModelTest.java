@@ -0,0 +1,177 @@
+package SantoriniGame.model.game;
+
+import SantoriniGame.god.Artemis;
+import SantoriniGame.god.Demeter;
+import SantoriniGame.god.God;
+import SantoriniGame.god.GodFactory;
+import SantoriniGame.model.board.BoardGeometry;
+import SantoriniGame.model.player.Team;
+import SantoriniGame.model.player.Worker;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * GameModelTest class - Checks that GameModel.applyTurn refuses illegal plans before changing anything,
+ * and that the extra steps of a checked plan are always offered by the god while it is played.
+ *
+ * Positions are on a 5x5 board, where tile y * 5 + x is at column x and row y.
+ * Artemis plays first with workers on tiles 6 and 8, Demeter second with workers on tiles 16 and 18.
+ */
+public class GameModelTest {
+    private static final long SEED = 20240702L;
+    private static final int GAMES = 20;
+    private static final int MAX_TURNS = 200;
+
+    @Test
+    public void refusesAnIllegalSecondMove() {
+        // Artemis may not move back to the tile she started on
+        assertRefused(TurnPlan.of(6, new int[] {7, 6}, new int[] {12}));
+    }
+
+    @Test
+    public void refusesASecondMoveTheGodDoesNotGive() {
+        GameModel model = newGame();
+        model.endTurn();
+        assertRefused(model, TurnPlan.of(16, new int[] {15, 10}, new int[] {11}));
+    }
+
+    @Test
+    public void refusesAnExtraBuildTheGodDoesNotGive() {
+        assertRefused(TurnPlan.of(6, new int[] {7}, new int[] {12, 13}));
+    }
+
+    @Test
+    public void refusesAnExtraBuildOnTheSameTile() {
+        // Demeter's second build must be on another tile
+        GameModel model = newGame();
+        model.endTurn();
+        assertRefused(model, TurnPlan.of(16, new int[] {15}, new int[] {10, 10}));
+    }
+
+    @Test
+    public void refusesMovesAfterAWinningMove() {
+        GameModel model = newGame();
+        TestGames.build(model, 0, 0, 3);
+        TestGames.build(model, 1, 0, 2);
+        TestGames.placeWorkers(model, 1, 0, 3, 1, 1, 3, 3, 3);
+        assertRefused(model, TurnPlan.of(1, new int[] {0, 5}, new int[] {6}));
+        assertRefused(model, TurnPlan.of(1, new int[] {0}, new int[] {5}));
+    }
+
+    @Test
+    public void refusesAMissingBuild() {
+        assertRefused(TurnPlan.of(6, new int[] {7}, new int[0]));
+    }
+
+    @Test
+    public void refusesTilesOffTheBoard() {
+        assertRefused(TurnPlan.standard(25, 7, 12));
+        assertRefused(TurnPlan.standard(6, -1, 12));
+        assertRefused(TurnPlan.standard(6, 7, 25));
+        assertRefused(TurnPlan.of(6, new int[] {7, 30}, new int[] {12}));
+    }
+
+    @Test
+    public void refusesAnotherPlayersWorker() {
+        assertRefused(TurnPlan.standard(16, 15, 10));
+    }
+
+    @Test
+    public void playsALegalPlan() {
+        GameModel model = newGame();
+        model.applyTurn(TurnPlan.of(6, new int[] {7, 2}, new int[] {3}));
+
+        Worker worker = model.getBoard().getTile(2, 0).getOccupant();
+        assertNotNull(worker);
+        assertEquals(model.getTeams()[0], worker.getTeam());
+        assertEquals(1, model.getBoard().getTile(3, 0).getLevel());
+        assertEquals(TurnPhase.END_TURN, model.getTurnState().getCurrPhase());
+    }
+
+    /**
+     * The plan check and the god decide on extra steps with the same compiled rule, so applyTurn never finds
+     * an extra step it checked missing part way through a turn. Plays every turn with an extra step in
+     * random games, on a copy each time, to show it.
+     */
+    @Test
+    public void everyCheckedExtraStepIsOffered() {
+        Random random = new Random(SEED);
+        List<String> godNames = GodFactory.getInstance().getGodNames();
+        int extraStepTurns = 0;
+        for (int game = 0; game < GAMES; game++) {
+            God[] gods = new God[2];
+            for (int i = 0; i < gods.length; i++) {
+                gods[i] = GodFactory.getInstance().createGod(godNames.get(random.nextInt(godNames.size())));
+            }
+            GameModel model = new GameModel(gods, BoardGeometry.STANDARD);
+            TurnGenerator generator = new TurnGenerator(model);
+            long[] turns = new long[generator.getMaxTurns()];
+
+            for (int turn = 0; turn < MAX_TURNS && model.getTurnState().getSatisfiedCondition() == null; turn++) {
+                int count = generator.generateTurns(turns);
+                if (count == 0) {
+                    break;
+                }
+                for (int i = 0; i < count; i++) {
+                    TurnPlan plan = generator.toPlan(turns[i]);
+                    if (plan.getMoveCount() > 1 || plan.getBuildCount() > 1) {
+                        GameModel copy = TestGames.copy(model);
+                        copy.applyTurn(plan);
+                        extraStepTurns++;
+                    }
+                }
+                model.applyTurn(generator.toPlan(turns[random.nextInt(count)]));
+                model.endTurn();
+            }
+        }
+        assertTrue("Too few turns with extra steps were played", extraStepTurns > 1000);
+    }
+
+    private static GameModel newGame() {
+        return TestGames.game(new int[] {1, 1, 3, 1, 1, 3, 3, 3}, new Artemis(), new Demeter());
+    }
+
+    private static void assertRefused(TurnPlan plan) {
+        assertRefused(newGame(), plan);
+    }
+
+    /**
+     * Checks that a plan is refused and that the board, the workers, the phase and every god's power
+     * are as they were.
+     */
+    private static void assertRefused(GameModel model, TurnPlan plan) {
+        String before = describe(model);
+        try {
+            model.applyTurn(plan);
+            fail("Turn " + plan + " was played");
+        } catch (IllegalArgumentException expected) {
+            // Refused before anything changed
+        }
+        assertEquals("Game after refusing " + plan, before, describe(model));
+    }
+
+    private static String describe(GameModel model) {
+        StringBuilder description = new StringBuilder(TestGames.describeBoard(model));
+        for (Team team : model.getTeams()) {
+            for (Worker worker : team.getWorkers()) {
+                description.append(worker.getGender()).append(" of team ").append(team.getTeamId())
+                        .append(" at ").append(worker.getX()).append(',').append(worker.getY())
+                        .append(worker.isSelected() ? ", selected\n" : "\n");
+            }
+        }
+        for (God god : model.getTurnState().getAllGods()) {
+            description.append(god.getName()).append(' ').append(god.getPowerStatus()).append('\n');
+        }
+        return description.append(model.getTurnState().getCurrPhase()).append(", worker ")
+                .append(model.getTurnState().getCurrWorker()).append(", ")
+                .append(model.getMoveCount()).append(" moves, ").append(model.getBuildCount()).append(" builds")
+                .toString();
+    }
+}
@@ -0,0 +1,157 @@
+package SantoriniGame.model.game;
+
+import SantoriniGame.god.God;
+import SantoriniGame.god.GodFactory;
+import SantoriniGame.model.board.Board;
+import SantoriniGame.model.board.BoardGeometry;
+import SantoriniGame.model.board.BoardTile;
+import SantoriniGame.model.player.Team;
+import SantoriniGame.model.player.Worker;
+
+/**
+ * TestGames class - Sets up game positions for tests: workers where a test wants them and buildings of a given height.
+ * The model's mobility cache is kept up to date, so trapped players are found as in a real game.
+ */
+public final class TestGames {
+
+    /**
+     * Not instantiable.
+     */
+    private TestGames() { }
+
+    /**
+     * Creates a game on a 5x5 board, one player per god, with the workers placed by placeWorkers.
+     *
+     * @param coordinates x and y of each worker, team by team, as for placeWorkers
+     * @param gods the god of each player
+     * @return the game, at the start of the first player's turn
+     */
+    public static GameModel game(int[] coordinates, God... gods) {
+        GameModel model = new GameModel(gods, BoardGeometry.of(5, 5));
+        placeWorkers(model, coordinates);
+        return model;
+    }
+
+    /**
+     * Copies a game at the start of a turn, with new gods so no power state is shared.
+     *
+     * @param source the game to copy
+     * @return the copy, at the start of the same seat's turn
+     */
+    public static GameModel copy(GameModel source) {
+        God[] gods = new God[source.getPlayers().length];
+        for (int i = 0; i < gods.length; i++) {
+            gods[i] = GodFactory.getInstance().createGod(source.getPlayers()[i].getSelectedGod().getName());
+        }
+        BoardGeometry geometry = source.getBoard().getGeometry();
+        GameModel copy = new GameModel(gods, geometry);
+
+        Board board = copy.getBoard();
+        Board sourceBoard = source.getBoard();
+        for (int tile = 0; tile < geometry.getTileCount(); tile++) {
+            board.getTile(geometry.getX(tile), geometry.getY(tile)).setOccupant(null);
+        }
+        for (int tile = 0; tile < geometry.getTileCount(); tile++) {
+            BoardTile from = sourceBoard.getTile(geometry.getX(tile), geometry.getY(tile));
+            BoardTile to = board.getTile(geometry.getX(tile), geometry.getY(tile));
+            for (int level = 0; level < from.getLevel(); level++) {
+                to.buildOnTile();
+            }
+            while (from.hasDome() && !to.hasDome()) {
+                to.buildOnTile();
+            }
+        }
+
+        Team[] sourceTeams = source.getTeams();
+        Team[] teams = copy.getTeams();
+        for (int t = 0; t < sourceTeams.length; t++) {
+            Worker[] sourceWorkers = sourceTeams[t].getWorkers();
+            Worker[] workers = teams[t].getWorkers();
+            for (int w = 0; w < sourceWorkers.length; w++) {
+                workers[w].moveTo(sourceWorkers[w].getX(), sourceWorkers[w].getY());
+                board.getTile(sourceWorkers[w].getX(), sourceWorkers[w].getY()).setOccupant(workers[w]);
+            }
+        }
+
+        for (Team team : teams) {
+            for (Worker worker : team.getWorkers()) {
+                copy.getMobility().track(worker);
+            }
+        }
+
+        while (copy.getCurrentSeat() != source.getCurrentSeat()) {
+            copy.endTurn();
+        }
+        return copy;
+    }
+
+    /**
+     * Moves every worker to a given tile.
+     *
+     * @param model the game
+     * @param coordinates x and y of each worker, both workers of team 0 first, then team 1 and so on
+     */
+    public static void placeWorkers(GameModel model, int... coordinates) {
+        Board board = model.getBoard();
+        BoardGeometry geometry = board.getGeometry();
+        for (int tile = 0; tile < geometry.getTileCount(); tile++) {
+            board.getTile(geometry.getX(tile), geometry.getY(tile)).setOccupant(null);
+        }
+
+        int next = 0;
+        for (Team team : model.getTeams()) {
+            for (Worker worker : team.getWorkers()) {
+                worker.moveTo(coordinates[next], coordinates[next + 1]);
+                board.getTile(coordinates[next], coordinates[next + 1]).setOccupant(worker);
+                next += 2;
+            }
+        }
+        if (next != coordinates.length) {
+            throw new IllegalArgumentException("Expected " + next / 2 + " workers but got " + coordinates.length / 2);
+        }
+        for (Team team : model.getTeams()) {
+            for (Worker worker : team.getWorkers()) {
+                model.getMobility().track(worker);
+            }
+        }
+    }
+
+    /**
+     * Builds on a tile.
+     *
+     * @param model the game
+     * @param x tile column
+     * @param y tile row
+     * @param levels number of builds, 4 for a dome on the ground
+     */
+    public static void build(GameModel model, int x, int y, int levels) {
+        BoardTile tile = model.getBoard().getTile(x, y);
+        for (int i = 0; i < levels; i++) {
+            tile.buildOnTile();
+        }
+        model.getMobility().onBuild(tile);
+    }
+
+    /**
+     * Describes every tile's height, dome and occupant, to compare a board before and after a change.
+     *
+     * @param model the game
+     * @return one line per row
+     */
+    public static String describeBoard(GameModel model) {
+        Board board = model.getBoard();
+        BoardGeometry geometry = board.getGeometry();
+        StringBuilder description = new StringBuilder();
+        for (int y = 0; y < geometry.getHeight(); y++) {
+            for (int x = 0; x < geometry.getWidth(); x++) {
+                BoardTile tile = board.getTile(x, y);
+                Worker occupant = tile.getOccupant();
+                description.append(tile.hasDome() ? 'D' : (char) ('0' + tile.getLevel()))
+                        .append(occupant == null ? '.' : (char) ('a' + occupant.getTeam().getTeamId()))
+                        .append(' ');
+            }
+            description.append('\n');
+        }
+        return description.toString();
+    }
+}
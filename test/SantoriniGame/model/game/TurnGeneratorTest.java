@@ -0,0 +1,231 @@
+package SantoriniGame.model.game;
+
+import SantoriniGame.controller.GameController;
+import SantoriniGame.god.God;
+import SantoriniGame.god.GodFactory;
+import SantoriniGame.model.board.BoardGeometry;
+import SantoriniGame.model.board.BoardTile;
+import SantoriniGame.model.player.Worker;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * TurnGeneratorTest class - Checks TurnGenerator against the click-by-click path through GameController.
+ * Every click the controller accepts is tried on copies of random games, and the turns found must be exactly
+ * the turns generated. Every generated turn must then play through GameModel.applyTurn, winning exactly when
+ * it is marked as winning.
+ *
+ * Run with: javac -cp lib/junit-4.13.2.jar:out -d test-out test/SantoriniGame/model/game/TurnGeneratorTest.java
+ * then java -cp lib/junit-4.13.2.jar:lib/hamcrest-core-1.3.jar:out:test-out org.junit.runner.JUnitCore
+ * SantoriniGame.model.game.TurnGeneratorTest
+ */
+public class TurnGeneratorTest {
+    private static final long SEED = 20240611L;
+    private static final int GAMES = 12;
+    private static final int MAX_TURNS = 200;
+
+    // Above this many turns in a position, only a sample of them is played on a copy
+    private static final int PLAYED_PER_POSITION = 60;
+
+    /**
+     * A click on a tile, made while moving or while building, or the god power button.
+     */
+    private record Click(int x, int y, boolean build) {
+        static final Click GOD_POWER = new Click(-1, -1, false);
+    }
+
+    @Test
+    public void generatesEveryTurnTheControllerAllows() {
+        Random random = new Random(SEED);
+        int positions = 0;
+        for (int game = 0; game < GAMES; game++) {
+            GameModel model = randomGame(random);
+            GameController controller = new GameController(model);
+            TurnGenerator generator = new TurnGenerator(model);
+            long[] turns = new long[generator.getMaxTurns()];
+
+            for (int turn = 0; turn < MAX_TURNS && controller.checkForWinner() == null; turn++) {
+                int count = generator.generateTurns(turns);
+                Set<String> generated = new TreeSet<>();
+                for (int i = 0; i < count; i++) {
+                    assertTrue("Turn " + key(turns[i]) + " was generated twice", generated.add(key(turns[i])));
+                }
+
+                Set<String> clicked = new TreeSet<>();
+                explore(model, new ArrayList<>(), clicked);
+                assertEquals("Turns of " + model.getCurrentPlayer().getSelectedGod().getName() + " in game " + game
+                        + ", turn " + turn, clicked, generated);
+                positions++;
+
+                if (count == 0) {
+                    controller.endTurn();
+                } else {
+                    controller.playTurn(generator.toPlan(turns[random.nextInt(count)]));
+                }
+            }
+        }
+        assertTrue("Too few positions were checked", positions > GAMES);
+    }
+
+    @Test
+    public void generatedTurnsPlayAndWinAsMarked() {
+        Random random = new Random(SEED + 1);
+        for (int game = 0; game < GAMES; game++) {
+            GameModel model = randomGame(random);
+            GameController controller = new GameController(model);
+            TurnGenerator generator = new TurnGenerator(model);
+            long[] turns = new long[generator.getMaxTurns()];
+
+            for (int turn = 0; turn < MAX_TURNS && controller.checkForWinner() == null; turn++) {
+                int count = generator.generateTurns(turns);
+                for (int i = 0; i < count; i++) {
+                    if (count > PLAYED_PER_POSITION && random.nextInt(count) >= PLAYED_PER_POSITION) continue;
+                    GameModel copy = TestGames.copy(model);
+                    copy.applyTurn(new TurnGenerator(copy).toPlan(turns[i]));
+                    assertEquals("Win flag of " + key(turns[i]), TurnGenerator.isWinningTurn(turns[i]),
+                            copy.getTurnState().getSatisfiedCondition() != null);
+                }
+
+                if (count == 0) {
+                    controller.endTurn();
+                } else {
+                    controller.playTurn(generator.toPlan(turns[random.nextInt(count)]));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void encodedTurnsDecode() {
+        long turn = TurnGenerator.encodeTurn(3, 17, new int[] {12, 24}, false);
+        assertEquals(3, TurnGenerator.turnFrom(turn));
+        assertEquals(17, TurnGenerator.turnTo(turn));
+        assertEquals(2, TurnGenerator.turnBuildCount(turn));
+        assertEquals(12, TurnGenerator.turnBuild(turn, 0));
+        assertEquals(24, TurnGenerator.turnBuild(turn, 1));
+        assertTrue(TurnGenerator.isWinningTurn(TurnGenerator.encodeTurn(3, 17, new int[0], true)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void refusesToGenerateOnceTheTurnHasStarted() {
+        GameModel model = randomGame(new Random(SEED));
+        GameController controller = new GameController(model);
+        Worker worker = model.getCurrentPlayer().getTeam().getWorkers()[0];
+        controller.handleTileClick(worker.getX(), worker.getY());
+
+        TurnGenerator generator = new TurnGenerator(model);
+        generator.generateTurns(new long[generator.getMaxTurns()]);
+    }
+
+    /**
+     * Creates a game of 2 to 4 players with random gods, on a board of 4 to 6 tiles a side.
+     */
+    private static GameModel randomGame(Random random) {
+        List<String> godNames = GodFactory.getInstance().getGodNames();
+        God[] gods = new God[2 + random.nextInt(3)];
+        for (int i = 0; i < gods.length; i++) {
+            gods[i] = GodFactory.getInstance().createGod(godNames.get(random.nextInt(godNames.size())));
+        }
+        return new GameModel(gods, BoardGeometry.of(4 + random.nextInt(3), 4 + random.nextInt(3)));
+    }
+
+    /**
+     * Tries every click the controller accepts after the given clicks, on a fresh copy each time,
+     * and adds the key of every turn that can end there.
+     */
+    private static void explore(GameModel source, List<Click> clicks, Set<String> turns) {
+        GameController controller = new GameController(TestGames.copy(source));
+        for (Click click : clicks) {
+            if (click == Click.GOD_POWER) {
+                controller.activateGodPower();
+            } else {
+                controller.handleTileClick(click.x(), click.y());
+            }
+        }
+
+        BoardGeometry geometry = source.getBoard().getGeometry();
+        TurnPhase phase = controller.getCurrentPhase();
+        if (phase == TurnPhase.SELECT_WORKER) {
+            for (Worker worker : controller.getCurrentPlayer().getTeam().getWorkers()) {
+                explore(source, append(clicks, new Click(worker.getX(), worker.getY(), false)), turns);
+            }
+            return;
+        }
+
+        int from = -1;
+        List<Integer> moves = new ArrayList<>();
+        List<Integer> builds = new ArrayList<>();
+        for (Click click : clicks) {
+            if (click == Click.GOD_POWER) continue;
+            int tile = geometry.index(click.x(), click.y());
+            if (from < 0) {
+                from = tile;
+            } else if (click.build()) {
+                builds.add(tile);
+            } else {
+                moves.add(tile);
+            }
+        }
+        int at = moves.isEmpty() ? from : moves.get(moves.size() - 1);
+
+        if (controller.checkForWinner() != null) {
+            turns.add(from + ">" + at + "|W");
+        } else if (phase == TurnPhase.MOVE) {
+            for (BoardTile tile : controller.getValidMoves()) {
+                // Routes that revisit a tile reach no tile a simpler route does not
+                if (moves.contains(geometry.index(tile.getX(), tile.getY()))) continue;
+                explore(source, append(clicks, new Click(tile.getX(), tile.getY(), false)), turns);
+            }
+        } else if (phase == TurnPhase.BUILD) {
+            List<BoardTile> validBuilds = controller.getValidBuilds();
+            if (builds.isEmpty() && validBuilds.isEmpty()) {
+                turns.add(from + ">" + at + "|");
+            }
+            if (builds.isEmpty() && controller.canActivateGodPower()) {
+                explore(source, append(clicks, Click.GOD_POWER), turns);
+            }
+            for (BoardTile tile : validBuilds) {
+                explore(source, append(clicks, new Click(tile.getX(), tile.getY(), true)), turns);
+            }
+        } else {
+            // The turn can end here, after a build, or go on with the god power
+            StringBuilder key = new StringBuilder().append(from).append('>').append(at).append('|');
+            for (int build : builds) {
+                key.append(build).append(',');
+            }
+            turns.add(key.toString());
+            if (controller.canActivateGodPower()) {
+                explore(source, append(clicks, Click.GOD_POWER), turns);
+            }
+        }
+    }
+
+    private static List<Click> append(List<Click> clicks, Click click) {
+        List<Click> next = new ArrayList<>(clicks);
+        next.add(click);
+        return next;
+    }
+
+    /**
+     * Describes a turn the same way explore does.
+     */
+    private static String key(long turn) {
+        StringBuilder key = new StringBuilder().append(TurnGenerator.turnFrom(turn)).append('>')
+                .append(TurnGenerator.turnTo(turn)).append('|');
+        for (int i = 0; i < TurnGenerator.turnBuildCount(turn); i++) {
+            key.append(TurnGenerator.turnBuild(turn, i)).append(',');
+        }
+        if (TurnGenerator.isWinningTurn(turn)) {
+            key.append('W');
+        }
+        return key.toString();
+    }
+}
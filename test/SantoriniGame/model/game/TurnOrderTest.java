@@ -0,0 +1,131 @@
+package SantoriniGame.model.game;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * TurnOrderTest class - Checks removing seats from a TurnOrder, passing the turn around them, and restoring them.
+ */
+public class TurnOrderTest {
+
+    @Test
+    public void removingTheCurrentSeatPassesToTheSeatAfterIt() {
+        TurnOrder order = orderAt(5, 2);
+        order.remove(2);
+
+        assertEquals("The turn goes back to the seat before", 1, order.getCurrent());
+        assertEquals(3, order.advance());
+        assertEquals(4, order.advance());
+        assertEquals(0, order.advance());
+        assertEquals(1, order.advance());
+        assertEquals(3, order.advance());
+    }
+
+    @Test
+    public void removingTheSeatBeforeTheCurrentOneSkipsItBothWays() {
+        TurnOrder order = orderAt(5, 2);
+        order.remove(1);
+
+        assertEquals(2, order.getCurrent());
+        assertEquals(0, order.rewind());
+        assertEquals(2, order.advance());
+        assertEquals(3, order.advance());
+    }
+
+    @Test
+    public void removingTheSeatAfterTheCurrentOneSkipsIt() {
+        TurnOrder order = orderAt(5, 2);
+        order.remove(3);
+
+        assertEquals(2, order.getCurrent());
+        assertEquals(4, order.peekNext());
+        assertEquals(4, order.advance());
+        assertEquals(2, order.rewind());
+        assertEquals(4, order.size());
+        assertFalse(order.contains(3));
+    }
+
+    @Test
+    public void restoresSeveralRemovalsLatestFirst() {
+        TurnOrder order = orderAt(5, 0);
+        order.remove(1);
+        order.remove(2);
+        order.remove(4);
+        assertEquals(3, order.advance());
+        assertEquals(0, order.advance());
+
+        order.restore(4);
+        order.restore(2);
+        order.restore(1);
+
+        assertEquals(5, order.size());
+        for (int seat = 1; seat <= 5; seat++) {
+            assertEquals(seat % 5, order.advance());
+            assertTrue(order.contains(seat % 5));
+        }
+    }
+
+    @Test
+    public void refusesToRestoreOutOfOrder() {
+        TurnOrder order = orderAt(5, 0);
+        order.remove(1);
+        order.remove(2);
+        try {
+            order.restore(1);
+            fail("Seat 1 was restored while seat 2 was still out");
+        } catch (IllegalArgumentException expected) {
+            // Seat 2 must come back first
+        }
+        assertEquals(3, order.size());
+        assertEquals(3, order.advance());
+    }
+
+    @Test
+    public void refusesToRestoreASeatStillPlaying() {
+        TurnOrder order = new TurnOrder(3);
+        try {
+            order.restore(1);
+            fail("A seat still playing was restored");
+        } catch (IllegalArgumentException expected) {
+            // Nothing to restore
+        }
+        assertEquals(3, order.size());
+    }
+
+    @Test
+    public void refusesToRemoveTheLastSeat() {
+        TurnOrder order = new TurnOrder(2);
+        order.remove(0);
+        try {
+            order.remove(1);
+            fail("The last seat was removed");
+        } catch (IllegalStateException expected) {
+            // Someone has to be left to win
+        }
+        assertEquals(1, order.size());
+        assertEquals(1, order.getCurrent());
+        assertEquals(1, order.advance());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesToRemoveASeatTwice() {
+        TurnOrder order = new TurnOrder(3);
+        order.remove(1);
+        order.remove(1);
+    }
+
+    /**
+     * Creates a turn order with the turn passed to a seat.
+     */
+    private static TurnOrder orderAt(int seats, int current) {
+        TurnOrder order = new TurnOrder(seats);
+        while (order.getCurrent() != current) {
+            order.advance();
+        }
+        return order;
+    }
+}
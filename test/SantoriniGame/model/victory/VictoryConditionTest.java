@@ -0,0 +1,158 @@
+package SantoriniGame.model.victory;
+
+import SantoriniGame.god.Artemis;
+import SantoriniGame.god.Demeter;
+import SantoriniGame.god.God;
+import SantoriniGame.god.Triton;
+import SantoriniGame.model.action.ActionType;
+import SantoriniGame.model.action.MoveAction;
+import SantoriniGame.model.board.BoardGeometry;
+import SantoriniGame.model.board.BoardTile;
+import SantoriniGame.model.game.GameModel;
+import SantoriniGame.model.game.TestGames;
+import SantoriniGame.model.game.TurnPhase;
+import SantoriniGame.model.game.TurnPlan;
+import SantoriniGame.model.game.TurnState;
+import SantoriniGame.model.player.Team;
+import SantoriniGame.model.player.TeamLayout;
+import SantoriniGame.model.player.Worker;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * VictoryConditionTest class - Checks that TurnState reaches each built-in victory condition through the actions
+ * it declares, and that team removals and timeouts end the game with the right condition.
+ *
+ * Games are on a 5x5 board. The first team's workers start on (0,0) and (4,0), the second's on (0,4) and (4,4)
+ * and, in a free-for-all of three, the third's on (2,4) and (2,2).
+ */
+public class VictoryConditionTest {
+
+    @Test
+    public void standardVictoryIsOnlyCheckedAfterAMove() {
+        GameModel model = twoTeamGame();
+        TestGames.build(model, 0, 0, 2);
+        TestGames.build(model, 1, 0, 3);
+        Team team = model.getTeams()[0];
+        Worker worker = team.getWorkers()[0];
+        BoardTile start = model.getBoard().getTile(0, 0);
+        BoardTile top = model.getBoard().getTile(1, 0);
+        StandardVictoryCondition condition = new StandardVictoryCondition(team);
+
+        // The climb has already happened, so only the check is left to do
+        for (ActionType type : ActionType.values()) {
+            TurnState state = new TurnState(model.getPlayers()[0], TurnPhase.BUILD, model.getBoard(), worker,
+                    new MoveAction(worker, start, top), model.getTurnState().getAllGods(), List.of(condition));
+            state.victoryCheck(type);
+            assertEquals("Checked after " + type, condition.getTriggeringActions().contains(type) ? condition : null,
+                    state.getSatisfiedCondition());
+        }
+        assertEquals(List.of(ActionType.MOVE), List.copyOf(condition.getTriggeringActions()));
+    }
+
+    @Test
+    public void climbingToTheThirdLevelWinsTheStandardVictory() {
+        GameModel model = twoTeamGame();
+        TestGames.build(model, 0, 0, 2);
+        TestGames.build(model, 1, 0, 3);
+
+        model.applyTurn(TurnPlan.winning(0, 1));
+
+        VictoryCondition satisfied = model.getTurnState().getSatisfiedCondition();
+        assertTrue(satisfied instanceof StandardVictoryCondition);
+        assertSame(model.getTeams()[0], satisfied.getTeam());
+    }
+
+    @Test
+    public void defaultVictoryIsOnlyCheckedAfterARemoval() {
+        GameModel model = twoTeamGame();
+        Team winner = model.getTeams()[0];
+        DefaultVictoryCondition condition = new DefaultVictoryCondition(winner);
+        assertTrue(condition.getTriggeringActions().isEmpty());
+        assertTrue(condition.isTriggeredByTeamRemoval());
+
+        // Only the winning team's condition is added, so it already is the last team left
+        TurnState state = new TurnState(model.getPlayers()[0], TurnPhase.SELECT_WORKER, model.getBoard(), null, null,
+                model.getTurnState().getAllGods(), List.of(condition));
+        for (ActionType type : ActionType.values()) {
+            state.victoryCheck(type);
+            assertNull("Checked after " + type, state.getSatisfiedCondition());
+        }
+        state.victoryCheck();
+        assertSame(condition, state.getSatisfiedCondition());
+    }
+
+    @Test
+    public void removingTheSecondLastTeamWinsTheDefaultVictory() {
+        GameModel model = threeTeamGame();
+        Team[] teams = model.getTeams();
+
+        model.removeTeam(teams[1]);
+        assertNull("Two teams are still playing", model.getTurnState().getSatisfiedCondition());
+
+        model.removeTeam(teams[0]);
+        VictoryCondition satisfied = model.getTurnState().getSatisfiedCondition();
+        assertTrue(satisfied instanceof DefaultVictoryCondition);
+        assertSame(teams[2], satisfied.getTeam());
+    }
+
+    @Test
+    public void timeoutVictoryIsNeverCheckedByAnAction() {
+        GameModel model = twoTeamGame();
+        TimeoutVictoryCondition condition = new TimeoutVictoryCondition(model.getTeams()[0]);
+        assertTrue(condition.getTriggeringActions().isEmpty());
+
+        TurnState state = new TurnState(model.getPlayers()[0], TurnPhase.SELECT_WORKER, model.getBoard(), null, null,
+                model.getTurnState().getAllGods(), List.of(condition));
+        for (ActionType type : ActionType.values()) {
+            state.victoryCheck(type);
+        }
+        state.victoryCheck();
+        assertNull(state.getSatisfiedCondition());
+    }
+
+    @Test
+    public void timingOutAgainstTheLastOpponentWinsOnTime() {
+        GameModel model = twoTeamGame();
+        Team winner = model.getTeams()[1];
+
+        VictoryCondition returned = model.handlePlayerTimeout(1);
+
+        assertTrue(returned instanceof TimeoutVictoryCondition);
+        assertSame(winner, returned.getTeam());
+        assertSame("The removal's default victory does not replace the timeout", returned,
+                model.getTurnState().getSatisfiedCondition());
+    }
+
+    @Test
+    public void timingOutWithTwoOpponentsLeftCarriesOn() {
+        GameModel model = threeTeamGame();
+        Team[] teams = model.getTeams();
+
+        assertNull(model.handlePlayerTimeout(1));
+        assertNull(model.getTurnState().getSatisfiedCondition());
+        assertEquals("The turn passes to the player after the one who timed out", 1, model.getCurrentSeat());
+
+        model.removeTeam(teams[1]);
+        VictoryCondition satisfied = model.getTurnState().getSatisfiedCondition();
+        assertTrue(satisfied instanceof DefaultVictoryCondition);
+        assertSame(teams[2], satisfied.getTeam());
+    }
+
+    private static GameModel twoTeamGame() {
+        return TestGames.game(new int[] {0, 0, 4, 0, 0, 4, 4, 4}, new Artemis(), new Demeter());
+    }
+
+    private static GameModel threeTeamGame() {
+        GameModel model = new GameModel(new God[] {new Artemis(), new Demeter(), new Triton()}, BoardGeometry.of(5, 5),
+                TeamLayout.freeForAll(3));
+        TestGames.placeWorkers(model, 0, 0, 4, 0, 0, 4, 4, 4, 2, 4, 2, 2);
+        return model;
+    }
+}